@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.gridsuite.securityanalysis.server.repositories.ReadReplicaRoutingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces the auto-configured data source by a data source routing the read-only transactions to a read replica, see {@link ReadReplicaRoutingDataSource}.
+ * The primary pool is configured as the auto-configured one, the replica pool by the security-analysis.read-replica.hikari properties.
+ */
+@Configuration
+@ConditionalOnProperty(name = "security-analysis.read-replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                                     Environment environment,
+                                                                     @Value("${security-analysis.read-replica.url}") String replicaUrl,
+                                                                     @Value("${security-analysis.read-replica.username:}") String replicaUsername,
+                                                                     @Value("${security-analysis.read-replica.password:}") String replicaPassword) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primaryDataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primaryDataSource));
+
+        // the replica is accessed with the credentials of the primary unless others are given
+        HikariDataSource replicaDataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(dataSourceProperties.determineDriverClassName())
+            .url(replicaUrl)
+            .username(StringUtils.hasText(replicaUsername) ? replicaUsername : dataSourceProperties.determineUsername())
+            .password(StringUtils.hasText(replicaPassword) ? replicaPassword : dataSourceProperties.determinePassword())
+            .build();
+        binder.bind("security-analysis.read-replica.hikari", Bindable.ofInstance(replicaDataSource));
+        replicaDataSource.setReadOnly(true);
+        return new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        // the connection of a transaction is acquired on its first statement, once its read-only flag is set
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+}
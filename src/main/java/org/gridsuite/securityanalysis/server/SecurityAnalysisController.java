@@ -17,12 +17,17 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import org.gridsuite.computation.dto.ReportInfos;
 import org.gridsuite.securityanalysis.server.dto.*;
+import org.gridsuite.securityanalysis.server.service.CsvExportJobService;
 import org.gridsuite.securityanalysis.server.service.SecurityAnalysisParametersService;
 import org.gridsuite.securityanalysis.server.service.SecurityAnalysisResultService;
 import org.gridsuite.securityanalysis.server.service.SecurityAnalysisService;
 import org.gridsuite.securityanalysis.server.service.SecurityAnalysisWorkerService;
+import org.gridsuite.securityanalysis.server.util.ArrowResultWriter;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -30,6 +35,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -52,12 +58,15 @@ public class SecurityAnalysisController {
 
     private final SecurityAnalysisWorkerService workerService;
 
+    private final CsvExportJobService csvExportJobService;
+
     public SecurityAnalysisController(SecurityAnalysisService securityAnalysisService, SecurityAnalysisWorkerService workerService, SecurityAnalysisResultService securityAnalysisResultService,
-            SecurityAnalysisParametersService securityAnalysisParametersService) {
+            SecurityAnalysisParametersService securityAnalysisParametersService, CsvExportJobService csvExportJobService) {
         this.securityAnalysisService = securityAnalysisService;
         this.workerService = workerService;
         this.securityAnalysisResultService = securityAnalysisResultService;
         this.securityAnalysisParametersService = securityAnalysisParametersService;
+        this.csvExportJobService = csvExportJobService;
     }
 
     @PostMapping(value = "/networks/{networkUuid}/run", produces = APPLICATION_JSON_VALUE, consumes = APPLICATION_JSON_VALUE)
@@ -144,24 +153,16 @@ public class SecurityAnalysisController {
     @Operation(summary = "Get a security analysis result from the database - N result - CSV export")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The security analysis result csv export"),
         @ApiResponse(responseCode = "404", description = "Security analysis result has not been found")})
-    public ResponseEntity<byte[]> getNResultZippedCsv(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
-                                                      @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
-                                                      @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
-                                                      @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
-                                                      @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
-                                                      @Parameter(description = "Translation properties") @RequestBody CsvTranslationDTO csvTranslations,
-                                                      @Parameter(description = "Sort parameters") Sort sort) {
-        return ResponseEntity.ok()
-            .contentType(APPLICATION_OCTET_STREAM)
-            .body(securityAnalysisResultService.findNResultZippedCsv(
-                    resultUuid,
-                    networkUuid,
-                    variantId,
-                    filters,
-                    globalFilters,
-                    sort,
-                    csvTranslations
-            ));
+    public void getNResultZippedCsv(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+                                    @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
+                                    @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                    @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
+                                    @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
+                                    @Parameter(description = "Translation properties") @RequestBody CsvTranslationDTO csvTranslations,
+                                    @Parameter(description = "Sort parameters") Sort sort,
+                                    HttpServletResponse response) throws IOException {
+        response.setContentType(APPLICATION_OCTET_STREAM_VALUE);
+        securityAnalysisResultService.writeNResultZippedCsv(resultUuid, networkUuid, variantId, filters, globalFilters, sort, csvTranslations, response.getOutputStream());
     }
 
     @GetMapping(value = "/results/{resultUuid}/nmk-contingencies-result/paged", produces = APPLICATION_JSON_VALUE)
@@ -174,14 +175,34 @@ public class SecurityAnalysisController {
                                                                                      @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
                                                                                      @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters",
                                                                                              required = false) String globalFilters,
+                                                                                     @Parameter(description = "Approximate the total of a huge unfiltered result") @RequestParam(name = "approximateCount",
+                                                                                             defaultValue = "false") boolean approximateCount,
                                                                                      @Parameter(description = "Pagination parameters") Pageable pageable) {
-        Page<ContingencyResultDTO> result = securityAnalysisResultService.findNmKContingenciesPaged(resultUuid, networkUuid, variantId, filters, globalFilters, pageable);
+        Page<ContingencyResultDTO> result = securityAnalysisResultService.findNmKContingenciesPaged(resultUuid, networkUuid, variantId, filters, globalFilters, pageable, approximateCount);
 
         return result != null
             ? ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(result)
             : ResponseEntity.notFound().build();
     }
 
+    @GetMapping(value = "/results/{resultUuid}/nmk-contingencies-result/keyset-paged", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a page of security analysis result from the database after a cursor, without total count - NMK contingencies result")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The security analysis result page and the cursor of the next page"),
+        @ApiResponse(responseCode = "404", description = "Security analysis result has not been found")})
+    public ResponseEntity<KeysetPageDTO<ContingencyResultDTO>> getKeysetPagedNmKContingenciesResult(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+                                                                                                   @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
+                                                                                                   @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                                                                                   @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
+                                                                                                   @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters",
+                                                                                                           required = false) String globalFilters,
+                                                                                                   @Parameter(description = "Page size") @RequestParam(name = "size", defaultValue = "20") int size,
+                                                                                                   @Parameter(description = "Cursor of the page, returned with the previous page") @RequestParam(name = "cursor",
+                                                                                                           required = false) String cursor,
+                                                                                                   @Parameter(description = "Sort parameters") Sort sort) {
+        KeysetPageDTO<ContingencyResultDTO> result = securityAnalysisResultService.findNmKContingenciesKeysetPage(resultUuid, networkUuid, variantId, filters, globalFilters, sort, size, cursor);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(result);
+    }
+
     @GetMapping(value = "/results/{resultUuid}/nmk-contingencies-result", produces = APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a full security analysis result from the database - NMK contingencies result")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The security analysis result"),
@@ -198,24 +219,16 @@ public class SecurityAnalysisController {
     @Operation(summary = "Get a security analysis result from the database - NMK contingencies result - CSV export")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The security analysis result csv export"),
         @ApiResponse(responseCode = "404", description = "Security analysis result has not been found")})
-    public ResponseEntity<byte[]> getNmKContingenciesResultZippedCsv(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
-                                                                     @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
-                                                                     @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
-                                                                     @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
-                                                                     @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
-                                                                     @Parameter(description = "Translation properties") @RequestBody CsvTranslationDTO csvTranslations,
-                                                                     @Parameter(description = "Sort parameters") Sort sort) {
-        return ResponseEntity.ok()
-            .contentType(MediaType.APPLICATION_OCTET_STREAM)
-            .body(securityAnalysisResultService.findNmKContingenciesResultZippedCsv(
-                    resultUuid,
-                    networkUuid,
-                    variantId,
-                    filters,
-                    globalFilters,
-                    sort,
-                    csvTranslations
-            ));
+    public void getNmKContingenciesResultZippedCsv(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+                                                   @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
+                                                   @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                                   @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
+                                                   @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
+                                                   @Parameter(description = "Translation properties") @RequestBody CsvTranslationDTO csvTranslations,
+                                                   @Parameter(description = "Sort parameters") Sort sort,
+                                                   HttpServletResponse response) throws IOException {
+        response.setContentType(APPLICATION_OCTET_STREAM_VALUE);
+        securityAnalysisResultService.writeNmKContingenciesResultZippedCsv(resultUuid, networkUuid, variantId, filters, globalFilters, sort, csvTranslations, response.getOutputStream());
     }
 
     @GetMapping(value = "/results/{resultUuid}/nmk-constraints-result/paged", produces = APPLICATION_JSON_VALUE)
@@ -228,13 +241,90 @@ public class SecurityAnalysisController {
                                                                                         @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
                                                                                         @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters",
                                                                                                 required = false) String globalFilters,
+                                                                                        @Parameter(description = "Approximate the total of a huge unfiltered result") @RequestParam(name = "approximateCount",
+                                                                                                defaultValue = "false") boolean approximateCount,
                                                                                         @Parameter(description = "Pagination parameters") Pageable pageable) {
-        Page<SubjectLimitViolationResultDTO> result = securityAnalysisResultService.findNmKConstraintsResultPaged(resultUuid, networkUuid, variantId, filters, globalFilters, pageable);
+        Page<SubjectLimitViolationResultDTO> result = securityAnalysisResultService.findNmKConstraintsResultPaged(resultUuid, networkUuid, variantId, filters, globalFilters, pageable,
+            approximateCount);
         return result != null
             ? ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(result)
             : ResponseEntity.notFound().build();
     }
 
+    @GetMapping(value = "/results/{resultUuid}/nmk-constraints-result/keyset-paged", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a page of security analysis result from the database after a cursor, without total count - NMK constraints result")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The security analysis result page and the cursor of the next page"),
+        @ApiResponse(responseCode = "404", description = "Security analysis result has not been found")})
+    public ResponseEntity<KeysetPageDTO<SubjectLimitViolationResultDTO>> getKeysetPagedNmKConstraintsResult(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+                                                                                                           @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
+                                                                                                           @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                                                                                           @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
+                                                                                                           @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters",
+                                                                                                                   required = false) String globalFilters,
+                                                                                                           @Parameter(description = "Page size") @RequestParam(name = "size", defaultValue = "20") int size,
+                                                                                                           @Parameter(description = "Cursor of the page, returned with the previous page") @RequestParam(name = "cursor",
+                                                                                                                   required = false) String cursor,
+                                                                                                           @Parameter(description = "Sort parameters") Sort sort) {
+        KeysetPageDTO<SubjectLimitViolationResultDTO> result = securityAnalysisResultService.findNmKConstraintsKeysetPage(resultUuid, networkUuid, variantId, filters, globalFilters, sort, size, cursor);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(result);
+    }
+
+    @GetMapping(value = "/results/{resultUuid}/nmk-worst-constraints", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the worst contingency limit violations of a security analysis result, by loading, permanent limit loading or acceptable duration")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The worst contingency limit violations, the worst first"),
+        @ApiResponse(responseCode = "404", description = "Security analysis result has not been found")})
+    public ResponseEntity<List<WorstLimitViolationDTO>> getNmKWorstConstraints(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+                                                                               @Parameter(description = "Ranking criterion") @RequestParam(name = "criterion",
+                                                                                   defaultValue = "LOADING") LimitViolationCriterion criterion,
+                                                                               @Parameter(description = "Number of limit violations, at most 1000") @RequestParam(name = "count",
+                                                                                   defaultValue = "100") int count,
+                                                                               @Parameter(description = "Only the limit violations of the worst side") @RequestParam(name = "worstSideOnly",
+                                                                                   defaultValue = "false") boolean worstSideOnly,
+                                                                               @Parameter(description = "Limit types, all if empty") @RequestParam(name = "limitType",
+                                                                                   required = false) List<LimitViolationType> limitTypes) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+            .body(securityAnalysisResultService.findNmKWorstLimitViolations(resultUuid, criterion, count, worstSideOnly, limitTypes));
+    }
+
+    @GetMapping(value = "/results/{resultUuid}/nmk-constraints-diff", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a page of the new, resolved, worsened and improved NMK limit violations of a compared result with respect to a security analysis result")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The differences of the NMK limit violations"),
+        @ApiResponse(responseCode = "400", description = "A filter or the sort is not supported"),
+        @ApiResponse(responseCode = "404", description = "A security analysis result has not been found")})
+    public ResponseEntity<Page<LimitViolationDiffDTO>> getNmKConstraintsDiff(@Parameter(description = "Base result UUID") @PathVariable("resultUuid") UUID resultUuid,
+                                                                             @Parameter(description = "Compared result UUID") @RequestParam(name = "comparedResultUuid") UUID comparedResultUuid,
+                                                                             @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
+                                                                             @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                                                             @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
+                                                                             @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
+                                                                             @Parameter(description = "Pagination parameters") Pageable pageable,
+                                                                             @Parameter(description = "Count the differences, otherwise the total only tells whether there is a next page")
+                                                                             @RequestParam(name = "withCount", defaultValue = "true") boolean withCount) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+            .body(securityAnalysisResultService.findNmKConstraintsDiff(resultUuid, comparedResultUuid, networkUuid, variantId, filters, globalFilters, pageable, withCount));
+    }
+
+    @GetMapping(value = "/results/{resultUuid}/nmk-aggregations", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the histograms and the counts of the filtered NMK contingencies and of their limit violations")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The aggregations of the security analysis result"),
+        @ApiResponse(responseCode = "400", description = "A bucket width is not positive"),
+        @ApiResponse(responseCode = "404", description = "Security analysis result has not been found")})
+    public ResponseEntity<NmKAggregationsDTO> getNmKAggregations(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+                                                                 @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
+                                                                 @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                                                 @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
+                                                                 @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
+                                                                 @Parameter(description = "Width of the loading buckets, in %") @RequestParam(name = "loadingBucketWidth",
+                                                                     defaultValue = "10") double loadingBucketWidth,
+                                                                 @Parameter(description = "Width of the acceptable duration buckets, in s") @RequestParam(name = "acceptableDurationBucketWidth",
+                                                                     defaultValue = "60") double acceptableDurationBucketWidth,
+                                                                 @Parameter(description = "Number of the most frequent values counted by group, at most 1000") @RequestParam(name = "maxValueCounts",
+                                                                     defaultValue = "100") int maxValueCounts) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+            .body(securityAnalysisResultService.findNmKAggregations(resultUuid, networkUuid, variantId, filters, globalFilters, loadingBucketWidth,
+                acceptableDurationBucketWidth, maxValueCounts));
+    }
+
     @GetMapping(value = "/results/{resultUuid}/nmk-cut-off-power-result/paged", produces = APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a paged security analysis result from the database - NMK contingencies cut off power result")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The security analysis result"),
@@ -245,8 +335,10 @@ public class SecurityAnalysisController {
                                                                                    @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
                                                                                    @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false)
                                                                                        String globalFilters,
+                                                                                   @Parameter(description = "Approximate the total of a huge unfiltered result") @RequestParam(name = "approximateCount",
+                                                                                       defaultValue = "false") boolean approximateCount,
                                                                                    @Parameter(description = "Pagination parameters") Pageable pageable) {
-        Page<ContingencyCutOffPowerDTO> result = securityAnalysisResultService.findNmKConnectivityResult(resultUuid, networkUuid, variantId, filters, globalFilters, pageable);
+        Page<ContingencyCutOffPowerDTO> result = securityAnalysisResultService.findNmKConnectivityResult(resultUuid, networkUuid, variantId, filters, globalFilters, pageable, approximateCount);
 
         return result != null
                 ? ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(result)
@@ -257,49 +349,141 @@ public class SecurityAnalysisController {
     @Operation(summary = "Get a security analysis result from the database - NMK cut off power result - CSV export")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The security analysis result csv export"),
         @ApiResponse(responseCode = "404", description = "Security analysis result has not been found")})
-    public ResponseEntity<byte[]> getNmKCutOffPowerResultZippedCsv(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
-                                                                   @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
-                                                                   @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
-                                                                   @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
-                                                                   @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
-                                                                   @Parameter(description = "Translation properties") @RequestBody CsvTranslationDTO csvTranslations,
-                                                                   @Parameter(description = "Sort parameters") Sort sort) {
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(securityAnalysisResultService.findNmKConnectivityResultResultZippedCsv(
-                        resultUuid,
-                        networkUuid,
-                        variantId,
-                        filters,
-                        globalFilters,
-                        sort,
-                        csvTranslations
-                ));
+    public void getNmKCutOffPowerResultZippedCsv(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+                                                 @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
+                                                 @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                                 @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
+                                                 @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
+                                                 @Parameter(description = "Translation properties") @RequestBody CsvTranslationDTO csvTranslations,
+                                                 @Parameter(description = "Sort parameters") Sort sort,
+                                                 HttpServletResponse response) throws IOException {
+        response.setContentType(APPLICATION_OCTET_STREAM_VALUE);
+        securityAnalysisResultService.writeNmKConnectivityResultZippedCsv(resultUuid, networkUuid, variantId, filters, globalFilters, sort, csvTranslations, response.getOutputStream());
     }
 
     @PostMapping(value = "/results/{resultUuid}/nmk-constraints-result/csv", produces = APPLICATION_OCTET_STREAM_VALUE, consumes = APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a security analysis result from the database - NMK constraints result - CSV export")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The security analysis result csv export"),
         @ApiResponse(responseCode = "404", description = "Security analysis result has not been found")})
-    public ResponseEntity<byte[]> getNmKContraintsResultZippedCsv(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
-                                                                  @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
-                                                                  @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
-                                                                  @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
-                                                                  @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
-                                                                  @Parameter(description = "Translation properties") @RequestBody CsvTranslationDTO csvTranslations,
-                                                                  @Parameter(description = "Sort parameters") Sort sort) {
-
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(securityAnalysisResultService.findNmKConstraintsResultZippedCsv(
-                        resultUuid,
-                        networkUuid,
-                        variantId,
-                        filters,
-                        globalFilters,
-                        sort,
-                        csvTranslations
-                ));
+    public void getNmKContraintsResultZippedCsv(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+                                                @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
+                                                @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                                @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
+                                                @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
+                                                @Parameter(description = "Translation properties") @RequestBody CsvTranslationDTO csvTranslations,
+                                                @Parameter(description = "Sort parameters") Sort sort,
+                                                HttpServletResponse response) throws IOException {
+        response.setContentType(APPLICATION_OCTET_STREAM_VALUE);
+        securityAnalysisResultService.writeNmKConstraintsResultZippedCsv(resultUuid, networkUuid, variantId, filters, globalFilters, sort, csvTranslations, response.getOutputStream());
+    }
+
+    @GetMapping(value = "/results/{resultUuid}/n-result/arrow", produces = ArrowResultWriter.MEDIA_TYPE)
+    @Operation(summary = "Get a security analysis result from the database - N result - Arrow IPC stream export")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The security analysis result Arrow IPC stream export"),
+        @ApiResponse(responseCode = "404", description = "Security analysis result has not been found")})
+    public void getNResultArrow(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+                                @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
+                                @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
+                                @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
+                                @Parameter(description = "Sort parameters") Sort sort,
+                                HttpServletResponse response) throws IOException {
+        response.setContentType(ArrowResultWriter.MEDIA_TYPE);
+        securityAnalysisResultService.writeNResultArrow(resultUuid, networkUuid, variantId, filters, globalFilters, sort, response.getOutputStream());
+    }
+
+    @GetMapping(value = "/results/{resultUuid}/nmk-contingencies-result/arrow", produces = ArrowResultWriter.MEDIA_TYPE)
+    @Operation(summary = "Get a security analysis result from the database - NMK contingencies result - Arrow IPC stream export")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The security analysis result Arrow IPC stream export"),
+        @ApiResponse(responseCode = "404", description = "Security analysis result has not been found")})
+    public void getNmKContingenciesResultArrow(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+                                               @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
+                                               @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                               @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
+                                               @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
+                                               @Parameter(description = "Sort parameters") Sort sort,
+                                               HttpServletResponse response) throws IOException {
+        response.setContentType(ArrowResultWriter.MEDIA_TYPE);
+        securityAnalysisResultService.writeNmKContingenciesResultArrow(resultUuid, networkUuid, variantId, filters, globalFilters, sort, response.getOutputStream());
+    }
+
+    @GetMapping(value = "/results/{resultUuid}/nmk-constraints-result/arrow", produces = ArrowResultWriter.MEDIA_TYPE)
+    @Operation(summary = "Get a security analysis result from the database - NMK constraints result - Arrow IPC stream export")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The security analysis result Arrow IPC stream export"),
+        @ApiResponse(responseCode = "404", description = "Security analysis result has not been found")})
+    public void getNmKConstraintsResultArrow(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+                                             @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
+                                             @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                             @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
+                                             @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
+                                             @Parameter(description = "Sort parameters") Sort sort,
+                                             HttpServletResponse response) throws IOException {
+        response.setContentType(ArrowResultWriter.MEDIA_TYPE);
+        securityAnalysisResultService.writeNmKConstraintsResultArrow(resultUuid, networkUuid, variantId, filters, globalFilters, sort, response.getOutputStream());
+    }
+
+    @GetMapping(value = "/results/{resultUuid}/nmk-cut-off-power-result/arrow", produces = ArrowResultWriter.MEDIA_TYPE)
+    @Operation(summary = "Get a security analysis result from the database - NMK cut off power result - Arrow IPC stream export")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The security analysis result Arrow IPC stream export"),
+        @ApiResponse(responseCode = "404", description = "Security analysis result has not been found")})
+    public void getNmKCutOffPowerResultArrow(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+                                             @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
+                                             @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                             @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
+                                             @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
+                                             @Parameter(description = "Sort parameters") Sort sort,
+                                             HttpServletResponse response) throws IOException {
+        response.setContentType(ArrowResultWriter.MEDIA_TYPE);
+        securityAnalysisResultService.writeNmKConnectivityResultArrow(resultUuid, networkUuid, variantId, filters, globalFilters, sort, response.getOutputStream());
+    }
+
+    @PostMapping(value = "/results/{resultUuid}/csv-export-jobs", produces = APPLICATION_JSON_VALUE, consumes = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Submit an asynchronous CSV export of a security analysis result")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The export job, the one of an identical running export if any"),
+        @ApiResponse(responseCode = "404", description = "Security analysis result has not been found"),
+        @ApiResponse(responseCode = "503", description = "Too many exports are waiting")})
+    public ResponseEntity<ExportJobInfos> submitCsvExportJob(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+                                                             @Parameter(description = "Exported result") @RequestParam(name = "type") ExportType type,
+                                                             @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
+                                                             @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                                             @Parameter(description = "Filters") @RequestParam(name = "filters", required = false) String filters,
+                                                             @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
+                                                             @Parameter(description = "Translation properties") @RequestBody CsvTranslationDTO csvTranslations,
+                                                             @Parameter(description = "Sort parameters") Sort sort) {
+        ExportJobInfos job = csvExportJobService.submit(resultUuid, type, networkUuid, variantId, filters, globalFilters, sort, csvTranslations);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(job);
+    }
+
+    @GetMapping(value = "/csv-export-jobs/{jobId}", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the status of an asynchronous CSV export")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The export job"),
+        @ApiResponse(responseCode = "404", description = "The export job is unknown or expired")})
+    public ResponseEntity<ExportJobInfos> getCsvExportJob(@Parameter(description = "Export job UUID") @PathVariable("jobId") UUID jobId) {
+        return csvExportJobService.getJob(jobId)
+            .map(job -> ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(job))
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/csv-export-jobs/{jobId}/content", produces = APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Download the zipped CSV of a completed asynchronous export, byte ranges being supported")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The security analysis result csv export"),
+        @ApiResponse(responseCode = "206", description = "The requested ranges of the security analysis result csv export"),
+        @ApiResponse(responseCode = "404", description = "The export job is unknown, expired or not completed")})
+    public ResponseEntity<Resource> getCsvExportJobContent(@Parameter(description = "Export job UUID") @PathVariable("jobId") UUID jobId) {
+        // the Range header is handled by Spring MVC for the resources
+        return csvExportJobService.getFile(jobId)
+            .map(file -> ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM).<Resource>body(new FileSystemResource(file)))
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping(value = "/csv-export-jobs/{jobId}", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Cancel an asynchronous CSV export, an ended export is left unchanged")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The export job"),
+        @ApiResponse(responseCode = "404", description = "The export job is unknown or expired")})
+    public ResponseEntity<ExportJobInfos> cancelCsvExportJob(@Parameter(description = "Export job UUID") @PathVariable("jobId") UUID jobId) {
+        return csvExportJobService.cancel(jobId)
+            .map(job -> ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(job))
+            .orElse(ResponseEntity.notFound().build());
     }
 
     @DeleteMapping(value = "/results", produces = APPLICATION_JSON_VALUE)
@@ -398,7 +582,7 @@ public class SecurityAnalysisController {
     @GetMapping(value = "/results/{resultUuid}/nmk-computation-status", produces = APPLICATION_JSON_VALUE)
     @Operation(summary = "Get the list of computation status values - NmK results")
     @ApiResponses(@ApiResponse(responseCode = "200", description = "List of computation status values by result - NmK results"))
-    public ResponseEntity<List<com.powsybl.loadflow.LoadFlowResult.ComponentResult.Status>> getNmKResultComputationStatus(
+    public ResponseEntity<List<String>> getNmKResultComputationStatus(
             @Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid) {
         return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(securityAnalysisService.getNmKComputationStatus(resultUuid));
     }
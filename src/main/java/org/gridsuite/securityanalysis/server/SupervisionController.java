@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.gridsuite.securityanalysis.server.dto.ResultRetentionInfos;
 import org.gridsuite.securityanalysis.server.service.SupervisionService;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -36,4 +37,11 @@ public class SupervisionController {
     public ResponseEntity<Integer> getResultsCount() {
         return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(supervisionService.getResultsCount());
     }
+
+    @GetMapping(value = "/results-retention")
+    @Operation(summary = "Get the results evicted by the retention policy")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The evicted results and reclaimed rows counts")})
+    public ResponseEntity<ResultRetentionInfos> getResultsRetention() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(supervisionService.getResultRetentionInfos());
+    }
 }
@@ -29,6 +29,8 @@ public class ContingencyResultDTO {
 
     private List<SubjectLimitViolationDTO> subjectLimitViolations;
 
+    private LimitViolationsAggregatesDTO limitViolationsAggregates;
+
     public static ContingencyResultDTO toDto(ContingencyEntity contingency) {
         List<SubjectLimitViolationDTO> subjectLimitViolations = contingency.getContingencyLimitViolations().stream()
             .map(SubjectLimitViolationDTO::toDto)
@@ -37,6 +39,7 @@ public class ContingencyResultDTO {
         return ContingencyResultDTO.builder()
             .contingency(ContingencyDTO.toDto(contingency))
             .subjectLimitViolations(subjectLimitViolations)
+            .limitViolationsAggregates(LimitViolationsAggregatesDTO.toDto(contingency.getLimitViolationsAggregates()))
             .build();
     }
 
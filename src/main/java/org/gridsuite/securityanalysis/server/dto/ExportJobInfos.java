@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+/**
+ * An asynchronous csv export of a result.
+ * @param size size in bytes of the zipped csv, null until the export is completed
+ */
+@Schema(description = "Asynchronous csv export")
+public record ExportJobInfos(
+    UUID id,
+    ExportJobStatus status,
+    Long size
+) {
+    public enum ExportJobStatus {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        CANCELLED
+    }
+}
@@ -0,0 +1,17 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.dto;
+
+/**
+ * The exported result tables, as the csv export endpoints.
+ */
+public enum ExportType {
+    N_RESULT,
+    NMK_CONTINGENCIES,
+    NMK_CONSTRAINTS,
+    NMK_CUT_OFF_POWER
+}
@@ -0,0 +1,21 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * A page read after a cursor, without total count.
+ * @param nextCursor opaque cursor of the next page, null for the last page
+ */
+@Schema(description = "Page read after a cursor")
+public record KeysetPageDTO<T>(
+    List<T> content,
+    String nextCursor
+) { }
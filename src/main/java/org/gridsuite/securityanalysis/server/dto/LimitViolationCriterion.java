@@ -0,0 +1,16 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.dto;
+
+/**
+ * The criteria ranking the worst limit violations : the highest loadings, or the shortest acceptable durations.
+ */
+public enum LimitViolationCriterion {
+    LOADING,
+    PATL_LOADING,
+    ACCEPTABLE_DURATION
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.dto;
+
+import com.powsybl.contingency.violations.LimitViolationType;
+import com.powsybl.iidm.network.ThreeSides;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldNameConstants;
+
+/**
+ * A contingency limit violation of a base result and of a compared result, identified by its contingency, its subject, its side and its limit name.
+ * The values of the result without this limit violation are null.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@FieldNameConstants
+public class LimitViolationDiffDTO {
+    private String contingencyId;
+
+    private String subjectId;
+
+    private ThreeSides side;
+
+    private String limitName;
+
+    private LimitViolationType limitType;
+
+    private LimitViolationDiffStatus status;
+
+    private Double baseLimit;
+
+    private Double baseValue;
+
+    private Double baseLoading;
+
+    private Integer baseAcceptableDuration;
+
+    private Double comparedLimit;
+
+    private Double comparedValue;
+
+    private Double comparedLoading;
+
+    private Integer comparedAcceptableDuration;
+}
@@ -0,0 +1,19 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.dto;
+
+/**
+ * The change of a contingency limit violation from a base result to a compared result : a limit violation is worse if its loading,
+ * or without loading the overrun of its limit, is higher.
+ */
+public enum LimitViolationDiffStatus {
+    NEW,
+    RESOLVED,
+    WORSENED,
+    IMPROVED,
+    UNCHANGED
+}
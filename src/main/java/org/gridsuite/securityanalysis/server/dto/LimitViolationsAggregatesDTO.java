@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.dto;
+
+import com.powsybl.contingency.violations.LimitViolationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.gridsuite.securityanalysis.server.entities.LimitViolationsAggregatesEmbeddable;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+public class LimitViolationsAggregatesDTO {
+    private Double maxLoading;
+    private Integer minAcceptableDuration;
+    private int violationCount;
+    private LimitViolationType worstLimitType;
+
+    public static LimitViolationsAggregatesDTO toDto(LimitViolationsAggregatesEmbeddable limitViolationsAggregates) {
+        if (limitViolationsAggregates == null) {
+            return null;
+        }
+        return LimitViolationsAggregatesDTO.builder()
+            .maxLoading(limitViolationsAggregates.getMaxLoading())
+            .minAcceptableDuration(limitViolationsAggregates.getMinAcceptableDuration())
+            .violationCount(limitViolationsAggregates.getViolationCount())
+            .worstLimitType(limitViolationsAggregates.getWorstLimitType())
+            .build();
+    }
+}
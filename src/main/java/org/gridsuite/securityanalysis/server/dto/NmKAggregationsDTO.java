@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Histograms and counts of the filtered N-K contingencies and of their filtered limit violations, as returned by the pages.
+ * The counted values are sorted by decreasing count and limited to the most frequent ones, the totals counting all of them.
+ * @param contingencyCount number of contingencies
+ * @param limitViolationCount number of limit violations
+ * @param loadingHistogram limit violations by loading bucket, without the violations without loading
+ * @param acceptableDurationHistogram limit violations by acceptable duration bucket, without the violations without acceptable duration
+ * @param statusCounts contingencies by status
+ */
+@Schema(description = "Aggregations of the N-K results")
+public record NmKAggregationsDTO(
+    long contingencyCount,
+    long limitViolationCount,
+    List<HistogramBucket> loadingHistogram,
+    List<HistogramBucket> acceptableDurationHistogram,
+    List<ValueCount> statusCounts,
+    List<ValueCount> limitTypeCounts,
+    List<ValueCount> sideCounts,
+    List<ValueCount> locationIdCounts
+) {
+    /**
+     * @param lowerBound included lower bound of the bucket
+     * @param upperBound excluded upper bound of the bucket
+     */
+    public record HistogramBucket(double lowerBound, double upperBound, long count) { }
+
+    /**
+     * @param value the counted value, null for the rows without value
+     */
+    public record ValueCount(String value, long count) { }
+}
@@ -0,0 +1,33 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Results evicted by the retention policy, during its last run and since the server start.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Results evicted by the retention policy")
+public class ResultRetentionInfos {
+    private Instant lastRunDate;
+
+    private long lastRunEvictedResults;
+
+    private long lastRunReclaimedRows;
+
+    private long totalEvictedResults;
+
+    private long totalReclaimedRows;
+}
@@ -28,6 +28,7 @@ import java.util.Map;
 public class SubjectLimitViolationResultDTO {
     private String subjectId;
     private List<ContingencyLimitViolationDTO> contingencies;
+    private LimitViolationsAggregatesDTO limitViolationsAggregates;
 
     public static SubjectLimitViolationResultDTO toDto(SubjectLimitViolationEntity subjectLimitViolation) {
         List<ContingencyLimitViolationDTO> contingencies = subjectLimitViolation.getContingencyLimitViolations().stream()
@@ -37,6 +38,7 @@ public class SubjectLimitViolationResultDTO {
         return SubjectLimitViolationResultDTO.builder()
             .subjectId(subjectLimitViolation.getSubjectId())
             .contingencies(contingencies)
+            .limitViolationsAggregates(LimitViolationsAggregatesDTO.toDto(subjectLimitViolation.getLimitViolationsAggregates()))
             .build();
     }
 
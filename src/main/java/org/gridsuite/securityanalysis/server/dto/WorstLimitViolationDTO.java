@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.gridsuite.securityanalysis.server.entities.ContingencyLimitViolationEntity;
+
+/**
+ * A contingency limit violation with its subject and its contingency, as ranked among the worst of a result.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class WorstLimitViolationDTO {
+    private String subjectId;
+
+    private ContingencyDTO contingency;
+
+    private LimitViolationDTO limitViolation;
+
+    public static WorstLimitViolationDTO toDto(ContingencyLimitViolationEntity limitViolation) {
+        return WorstLimitViolationDTO.builder()
+            .subjectId(limitViolation.getSubjectLimitViolation() != null ? limitViolation.getSubjectLimitViolation().getSubjectId() : null)
+            .contingency(ContingencyDTO.toDto(limitViolation.getContingency()))
+            .limitViolation(LimitViolationDTO.toDto(limitViolation))
+            .build();
+    }
+}
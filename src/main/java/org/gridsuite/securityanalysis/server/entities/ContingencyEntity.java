@@ -6,12 +6,10 @@
  */
 package org.gridsuite.securityanalysis.server.entities;
 
-import com.powsybl.iidm.network.Network;
 import com.powsybl.security.results.PostContingencyResult;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.Setter;
 import lombok.experimental.FieldNameConstants;
 import org.gridsuite.securityanalysis.server.util.ContingencyLimitViolationWorstSideUtils;
 import org.springframework.lang.Nullable;
@@ -50,7 +48,6 @@ public class ContingencyEntity {
 
     private String contingencyId;
 
-    @Setter
     @ManyToOne(fetch = FetchType.LAZY)
     private SecurityAnalysisResultEntity result;
 
@@ -63,23 +60,38 @@ public class ContingencyEntity {
     @Embedded
     private ConnectivityResultEmbeddable connectivityResult;
 
+    @Embedded
+    private LimitViolationsAggregatesEmbeddable limitViolationsAggregates;
+
     /**
      * We keep a String as it could model LoadFlowResult.ComponentResult.Status or PostContingencyComputationStatus.
      */
     private String status;
 
+    public void setResult(SecurityAnalysisResultEntity result) {
+        this.result = result;
+        if (contingencyLimitViolations != null) {
+            UUID resultId = result != null ? result.getId() : null;
+            contingencyLimitViolations.forEach(lm -> lm.setResultId(resultId));
+        }
+    }
+
     private void setContingencyLimitViolations(List<ContingencyLimitViolationEntity> contingencyLimitViolations) {
         if (contingencyLimitViolations != null) {
             this.contingencyLimitViolations = contingencyLimitViolations;
             contingencyLimitViolations.forEach(lm -> lm.setContingency(this));
         }
+        this.limitViolationsAggregates = LimitViolationsAggregatesEmbeddable.toEntity(contingencyLimitViolations != null ? contingencyLimitViolations : List.of());
     }
 
-    public static ContingencyEntity toEntity(@Nullable Network network, PostContingencyResult postContingencyResult, Map<String, SubjectLimitViolationEntity> subjectLimitViolationsBySubjectId) {
+    /**
+     * Created contingency limit violations are not added to their subject limit violation, so that contingencies can be converted concurrently.
+     */
+    public static ContingencyEntity toEntity(@Nullable NetworkLimitsIndex networkLimitsIndex, PostContingencyResult postContingencyResult, Map<String, SubjectLimitViolationEntity> subjectLimitViolationsBySubjectId) {
         List<ContingencyElementEmbeddable> contingencyElements = postContingencyResult.getContingency().getElements().stream().map(ContingencyElementEmbeddable::toEntity).toList();
 
         List<ContingencyLimitViolationEntity> contingencyLimitViolations = postContingencyResult.getLimitViolationsResult().getLimitViolations().stream()
-            .map(limitViolation -> ContingencyLimitViolationEntity.toEntity(network, limitViolation, subjectLimitViolationsBySubjectId.get(limitViolation.getSubjectId())))
+            .map(limitViolation -> ContingencyLimitViolationEntity.toUnlinkedEntity(networkLimitsIndex, limitViolation, subjectLimitViolationsBySubjectId.get(limitViolation.getSubjectId())))
             .toList();
         ContingencyLimitViolationWorstSideUtils.computeWorstSideBySubjectId(contingencyLimitViolations);
         ConnectivityResultEmbeddable connectivityResult = ConnectivityResultEmbeddable.toEntity(postContingencyResult.getConnectivityResult());
@@ -7,14 +7,16 @@
 package org.gridsuite.securityanalysis.server.entities;
 
 import com.powsybl.contingency.violations.LimitViolation;
-import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.Network;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldNameConstants;
 import lombok.experimental.SuperBuilder;
-import org.gridsuite.computation.utils.ComputationResultUtils;
 import org.springframework.lang.Nullable;
 
+import java.util.UUID;
+import java.util.stream.Stream;
+
 /**
  * @author Kevin Le Saulnier <kevin.lesaulnier at rte-france.com>
  */
@@ -31,6 +33,14 @@ public class ContingencyLimitViolationEntity extends AbstractLimitViolationEntit
     @Setter
     private ContingencyEntity contingency;
 
+    /**
+     * Result of the contingency, denormalized to be usable as partition key and to filter violations without joining on contingencies.
+     * It is set with {@link ContingencyEntity#setResult}.
+     */
+    @Setter
+    @Column(name = "result_id")
+    private UUID resultId;
+
     /**
      * Indicates whether this entity represents the worst side for its
      * SubjectLimitViolationEntity.subjectId + ContingencyEntity.contingencyId pair.
@@ -50,6 +60,22 @@ public class ContingencyLimitViolationEntity extends AbstractLimitViolationEntit
     private boolean isWorstSide;
 
     public static ContingencyLimitViolationEntity toEntity(@Nullable Network network, LimitViolation limitViolation, SubjectLimitViolationEntity subjectLimitViolation) {
+        return toEntity(network != null ? NetworkLimitsIndex.build(network, Stream.of(limitViolation)) : null, limitViolation, subjectLimitViolation);
+    }
+
+    public static ContingencyLimitViolationEntity toEntity(@Nullable NetworkLimitsIndex networkLimitsIndex, LimitViolation limitViolation, SubjectLimitViolationEntity subjectLimitViolation) {
+        ContingencyLimitViolationEntity contingencyLimitViolationEntity = toUnlinkedEntity(networkLimitsIndex, limitViolation, subjectLimitViolation);
+
+        subjectLimitViolation.addContingencyLimitViolation(contingencyLimitViolationEntity);
+
+        return contingencyLimitViolationEntity;
+    }
+
+    /**
+     * Same as {@link #toEntity(NetworkLimitsIndex, LimitViolation, SubjectLimitViolationEntity)} but the created entity is not added
+     * to the subject limit violation, which is not thread safe : the caller is responsible for it.
+     */
+    static ContingencyLimitViolationEntity toUnlinkedEntity(@Nullable NetworkLimitsIndex networkLimitsIndex, LimitViolation limitViolation, SubjectLimitViolationEntity subjectLimitViolation) {
         ContingencyLimitViolationEntityBuilder<?, ?> contingencyLimitViolationEntityBuilder = ContingencyLimitViolationEntity.builder()
             .limit(limitViolation.getLimit())
             .limitName(limitViolation.getLimitName())
@@ -62,24 +88,21 @@ public class ContingencyLimitViolationEntity extends AbstractLimitViolationEntit
             .subjectLimitViolation(subjectLimitViolation)
             .upcomingAcceptableDuration(calculateUpcomingOverloadDuration(limitViolation));
 
-        if (network != null) {
-            enrichBuilderWithNetworkData(contingencyLimitViolationEntityBuilder, network, limitViolation);
+        if (networkLimitsIndex != null) {
+            enrichBuilderWithNetworkData(contingencyLimitViolationEntityBuilder, networkLimitsIndex, limitViolation);
         }
 
-        ContingencyLimitViolationEntity contingencyLimitViolationEntity = contingencyLimitViolationEntityBuilder.build();
-
-        subjectLimitViolation.addContingencyLimitViolation(contingencyLimitViolationEntity);
-
-        return contingencyLimitViolationEntity;
+        return contingencyLimitViolationEntityBuilder.build();
     }
 
-    private static void enrichBuilderWithNetworkData(ContingencyLimitViolationEntityBuilder<?, ?> contingencyLimitViolationEntityBuilder, Network network, LimitViolation limitViolation) {
-        Double patlLimit = getPatlLimit(limitViolation, network);
+    private static void enrichBuilderWithNetworkData(ContingencyLimitViolationEntityBuilder<?, ?> contingencyLimitViolationEntityBuilder, NetworkLimitsIndex networkLimitsIndex,
+                                                     LimitViolation limitViolation) {
+        Double patlLimit = networkLimitsIndex.getPatlLimit(limitViolation);
         contingencyLimitViolationEntityBuilder
             .patlLimit(patlLimit)
             .patlLoading(computeLoading(limitViolation, patlLimit))
-            .nextLimitName(getNextLimitName(limitViolation, network))
-            .locationId(ComputationResultUtils.getViolationLocationId(limitViolation, network))
-            .acceptableDuration(calculateActualOverloadDuration(limitViolation, network));
+            .nextLimitName(networkLimitsIndex.getNextLimitName(limitViolation))
+            .locationId(networkLimitsIndex.getLocationId(limitViolation))
+            .acceptableDuration(networkLimitsIndex.getActualOverloadDuration(limitViolation));
     }
 }
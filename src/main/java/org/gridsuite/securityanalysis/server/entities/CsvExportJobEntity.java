@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.gridsuite.securityanalysis.server.dto.ExportJobInfos;
+import org.gridsuite.securityanalysis.server.dto.ExportJobInfos.ExportJobStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An asynchronous csv export, shared by the instances : the export is run by the instance which received it, its file being written
+ * in the spool directory shared by the instances, and its status is read by any of them.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Entity
+@Table(name = "csv_export_job")
+public class CsvExportJobEntity {
+    @Id
+    private UUID id;
+
+    @Column(name = "result_id")
+    private UUID resultId;
+
+    // hash of the exported result, filters, sort and translations, an identical unfinished export is not run again
+    private String keyHash;
+
+    @Enumerated(EnumType.STRING)
+    private ExportJobStatus status;
+
+    // size in bytes of the zipped csv, null until the export is completed
+    private Long size;
+
+    // refreshed by the instance running the export, an unfinished export whose instance stopped refreshing it is failed
+    private Instant heartbeatDate;
+
+    private Instant endDate;
+
+    public ExportJobInfos toInfos() {
+        return new ExportJobInfos(id, status, size);
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.entities;
+
+import com.powsybl.contingency.violations.LimitViolationType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldNameConstants;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Aggregates of the contingency limit violations of a contingency or of a subject, computed when the result is stored
+ * so that the contingencies and the subjects can be sorted and filtered on them in SQL.
+ */
+@FieldNameConstants
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class LimitViolationsAggregatesEmbeddable {
+    // the worst violation has the highest loading, then the first limit type by name, as the SQL backfill of the aggregates
+    private static final Comparator<AbstractLimitViolationEntity> WORST_VIOLATION_COMPARATOR = Comparator
+        .comparing(AbstractLimitViolationEntity::getLoading, Comparator.nullsLast(Comparator.<Double>reverseOrder()))
+        .thenComparing(limitViolation -> limitViolation.getLimitType() != null ? limitViolation.getLimitType().name() : null, Comparator.nullsLast(Comparator.<String>naturalOrder()));
+
+    private Double maxLoading;
+
+    private Integer minAcceptableDuration;
+
+    @Column(nullable = false)
+    private int violationCount;
+
+    @Enumerated(EnumType.STRING)
+    private LimitViolationType worstLimitType;
+
+    public static LimitViolationsAggregatesEmbeddable toEntity(List<? extends AbstractLimitViolationEntity> limitViolations) {
+        return LimitViolationsAggregatesEmbeddable.builder()
+            .maxLoading(limitViolations.stream().map(AbstractLimitViolationEntity::getLoading).filter(Objects::nonNull).max(Comparator.naturalOrder()).orElse(null))
+            .minAcceptableDuration(limitViolations.stream().map(AbstractLimitViolationEntity::getAcceptableDuration).filter(Objects::nonNull).min(Comparator.naturalOrder()).orElse(null))
+            .violationCount(limitViolations.size())
+            .worstLimitType(limitViolations.stream().min(WORST_VIOLATION_COMPARATOR).map(AbstractLimitViolationEntity::getLimitType).orElse(null))
+            .build();
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.entities;
+
+import com.powsybl.contingency.violations.LimitViolation;
+import com.powsybl.contingency.violations.LimitViolationType;
+import com.powsybl.iidm.network.*;
+import org.gridsuite.computation.utils.ComputationResultUtils;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Network data needed to enrich limit violations, read once per violated subject and side instead of once per violation :
+ * permanent limit, temporary limits and location id.
+ * It is built from all the violations of a result before converting them, and is read only afterward.
+ */
+public final class NetworkLimitsIndex {
+
+    private record SubjectSideKey(String subjectId, ThreeSides side) { }
+
+    private record LocationKey(String subjectId, ThreeSides side, LimitViolationType limitType) { }
+
+    /**
+     * @param permanentLimit  permanent current limit of the branch side, null if there is none
+     * @param temporaryLimits temporary current limits of the branch side, in the network order (DESC duration / ASC value)
+     */
+    private record BranchSideLimits(Double permanentLimit, List<LoadingLimits.TemporaryLimit> temporaryLimits) { }
+
+    private static final BranchSideLimits NO_LIMITS = new BranchSideLimits(null, List.of());
+
+    private final Map<SubjectSideKey, BranchSideLimits> limitsBySubjectSide;
+
+    // location ids of flow violations only depend on the subject and its side
+    private final Map<LocationKey, String> locationIdsBySubjectSide;
+
+    // other violations (voltage ones) are located on a specific bus, their location id is kept per violation
+    private final Map<LimitViolation, String> locationIdsByLimitViolation;
+
+    private NetworkLimitsIndex(Map<SubjectSideKey, BranchSideLimits> limitsBySubjectSide, Map<LocationKey, String> locationIdsBySubjectSide,
+                               Map<LimitViolation, String> locationIdsByLimitViolation) {
+        this.limitsBySubjectSide = Collections.unmodifiableMap(limitsBySubjectSide);
+        this.locationIdsBySubjectSide = Collections.unmodifiableMap(locationIdsBySubjectSide);
+        this.locationIdsByLimitViolation = Collections.unmodifiableMap(locationIdsByLimitViolation);
+    }
+
+    public static NetworkLimitsIndex build(Network network, Stream<LimitViolation> limitViolations) {
+        Objects.requireNonNull(network);
+        Map<SubjectSideKey, BranchSideLimits> limitsBySubjectSide = new HashMap<>();
+        Map<LocationKey, String> locationIdsBySubjectSide = new HashMap<>();
+        Map<LimitViolation, String> locationIdsByLimitViolation = new IdentityHashMap<>();
+
+        limitViolations.forEach(limitViolation -> {
+            limitsBySubjectSide.computeIfAbsent(new SubjectSideKey(limitViolation.getSubjectId(), limitViolation.getSide()), key -> readBranchSideLimits(network, key));
+            if (isFlowLimitType(limitViolation.getLimitType())) {
+                LocationKey locationKey = new LocationKey(limitViolation.getSubjectId(), limitViolation.getSide(), limitViolation.getLimitType());
+                // location id may be null, computeIfAbsent can't be used
+                if (!locationIdsBySubjectSide.containsKey(locationKey)) {
+                    locationIdsBySubjectSide.put(locationKey, ComputationResultUtils.getViolationLocationId(limitViolation, network));
+                }
+            } else {
+                locationIdsByLimitViolation.put(limitViolation, ComputationResultUtils.getViolationLocationId(limitViolation, network));
+            }
+        });
+        return new NetworkLimitsIndex(limitsBySubjectSide, locationIdsBySubjectSide, locationIdsByLimitViolation);
+    }
+
+    private static boolean isFlowLimitType(LimitViolationType limitType) {
+        return limitType == LimitViolationType.CURRENT || limitType == LimitViolationType.ACTIVE_POWER || limitType == LimitViolationType.APPARENT_POWER;
+    }
+
+    private static BranchSideLimits readBranchSideLimits(Network network, SubjectSideKey key) {
+        Branch<?> branch = network.getBranch(key.subjectId());
+        if (branch == null || key.side() == null) {
+            return NO_LIMITS;
+        }
+        return branch.getCurrentLimits(key.side().toTwoSides())
+            .map(currentLimits -> new BranchSideLimits(currentLimits.getPermanentLimit(), List.copyOf(currentLimits.getTemporaryLimits())))
+            .orElse(NO_LIMITS);
+    }
+
+    private BranchSideLimits getLimits(LimitViolation limitViolation) {
+        BranchSideLimits limits = limitsBySubjectSide.get(new SubjectSideKey(limitViolation.getSubjectId(), limitViolation.getSide()));
+        if (limits == null) {
+            throw new IllegalArgumentException("Limit violation on '" + limitViolation.getSubjectId() + "' has not been indexed");
+        }
+        return limits;
+    }
+
+    public Double getPatlLimit(LimitViolation limitViolation) {
+        return getLimits(limitViolation).permanentLimit();
+    }
+
+    public String getNextLimitName(LimitViolation limitViolation) {
+        LoadingLimits.TemporaryLimit temporaryLimit = getNextTemporaryLimit(limitViolation);
+        return temporaryLimit != null ? temporaryLimit.getName() : null;
+    }
+
+    private LoadingLimits.TemporaryLimit getNextTemporaryLimit(LimitViolation limitViolation) {
+        String limitName = limitViolation.getLimitName();
+        if (limitName == null) {
+            return null;
+        }
+
+        List<LoadingLimits.TemporaryLimit> temporaryLimits = getLimits(limitViolation).temporaryLimits();
+        if (limitName.equals(LoadingLimits.DEFAULT_PERMANENT_LIMIT_NAME)) {
+            return temporaryLimits.isEmpty() ? null : temporaryLimits.getFirst();
+        }
+
+        for (int i = 0; i < temporaryLimits.size(); i++) {
+            if (temporaryLimits.get(i).getName().equals(limitName)) {
+                return i + 1 < temporaryLimits.size() ? temporaryLimits.get(i + 1) : null;
+            }
+        }
+        return null;
+    }
+
+    public Integer getActualOverloadDuration(LimitViolation limitViolation) {
+        if (limitViolation.getValue() > limitViolation.getLimit()) {
+            return limitViolation.getAcceptableDuration();
+        }
+        BranchSideLimits limits = getLimits(limitViolation);
+        if (limits.permanentLimit() == null || limitViolation.getValue() < limits.permanentLimit()) {
+            return null;
+        }
+        return limits.temporaryLimits().stream()
+            .filter(temporaryLimit -> limitViolation.getValue() < temporaryLimit.getValue())
+            .findFirst()
+            .map(LoadingLimits.TemporaryLimit::getAcceptableDuration)
+            .orElse(null);
+    }
+
+    public String getLocationId(LimitViolation limitViolation) {
+        if (isFlowLimitType(limitViolation.getLimitType())) {
+            return locationIdsBySubjectSide.get(new LocationKey(limitViolation.getSubjectId(), limitViolation.getSide(), limitViolation.getLimitType()));
+        }
+        return locationIdsByLimitViolation.get(limitViolation);
+    }
+}
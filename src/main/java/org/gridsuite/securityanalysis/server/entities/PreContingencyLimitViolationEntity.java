@@ -13,11 +13,11 @@ import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldNameConstants;
 import lombok.experimental.SuperBuilder;
-import org.gridsuite.computation.utils.ComputationResultUtils;
 import org.springframework.lang.Nullable;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Kevin Le Saulnier <kevin.lesaulnier at rte-france.com>
@@ -35,13 +35,17 @@ public class PreContingencyLimitViolationEntity extends AbstractLimitViolationEn
     @Setter
     SecurityAnalysisResultEntity result;
 
-    public static List<PreContingencyLimitViolationEntity> toEntityList(@Nullable Network network, PreContingencyResult preContingencyResult, Map<String, SubjectLimitViolationEntity>
+    public static List<PreContingencyLimitViolationEntity> toEntityList(@Nullable NetworkLimitsIndex networkLimitsIndex, PreContingencyResult preContingencyResult, Map<String, SubjectLimitViolationEntity>
             subjectLimitViolationsBySubjectId) {
-        return preContingencyResult.getLimitViolationsResult().getLimitViolations().stream().map(limitViolation -> toEntity(network, limitViolation,
+        return preContingencyResult.getLimitViolationsResult().getLimitViolations().stream().map(limitViolation -> toEntity(networkLimitsIndex, limitViolation,
                 subjectLimitViolationsBySubjectId.get(limitViolation.getSubjectId()))).collect(Collectors.toList());
     }
 
     public static PreContingencyLimitViolationEntity toEntity(@Nullable Network network, LimitViolation limitViolation, SubjectLimitViolationEntity subjectLimitViolation) {
+        return toEntity(network != null ? NetworkLimitsIndex.build(network, Stream.of(limitViolation)) : null, limitViolation, subjectLimitViolation);
+    }
+
+    public static PreContingencyLimitViolationEntity toEntity(@Nullable NetworkLimitsIndex networkLimitsIndex, LimitViolation limitViolation, SubjectLimitViolationEntity subjectLimitViolation) {
         PreContingencyLimitViolationEntityBuilder<?, ?> preContingencyLimitViolationEntityBuilder = PreContingencyLimitViolationEntity.builder()
             .subjectLimitViolation(subjectLimitViolation)
             .limit(limitViolation.getLimit())
@@ -54,22 +58,22 @@ public class PreContingencyLimitViolationEntity extends AbstractLimitViolationEn
             .side(limitViolation.getSide())
             .loading(computeLoading(limitViolation, limitViolation.getLimit()));
 
-        if (network != null) {
-            enrichBuilderWithNetworkData(preContingencyLimitViolationEntityBuilder, network, limitViolation);
+        if (networkLimitsIndex != null) {
+            enrichBuilderWithNetworkData(preContingencyLimitViolationEntityBuilder, networkLimitsIndex, limitViolation);
         }
 
         return preContingencyLimitViolationEntityBuilder.build();
     }
 
-    private static void enrichBuilderWithNetworkData(PreContingencyLimitViolationEntity.PreContingencyLimitViolationEntityBuilder<?, ?> preContingencyLimitViolationEntityBuilder, Network network,
-            LimitViolation limitViolation) {
-        Double patlLimit = getPatlLimit(limitViolation, network);
+    private static void enrichBuilderWithNetworkData(PreContingencyLimitViolationEntity.PreContingencyLimitViolationEntityBuilder<?, ?> preContingencyLimitViolationEntityBuilder,
+            NetworkLimitsIndex networkLimitsIndex, LimitViolation limitViolation) {
+        Double patlLimit = networkLimitsIndex.getPatlLimit(limitViolation);
 
         preContingencyLimitViolationEntityBuilder
-            .acceptableDuration(calculateActualOverloadDuration(limitViolation, network))
+            .acceptableDuration(networkLimitsIndex.getActualOverloadDuration(limitViolation))
             .patlLimit(patlLimit)
             .patlLoading(computeLoading(limitViolation, patlLimit))
-            .locationId(ComputationResultUtils.getViolationLocationId(limitViolation, network))
-            .nextLimitName(getNextLimitName(limitViolation, network));
+            .locationId(networkLimitsIndex.getLocationId(limitViolation))
+            .nextLimitName(networkLimitsIndex.getNextLimitName(limitViolation));
     }
 }
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldNameConstants;
+import org.springframework.lang.Nullable;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * A distinct value of a column of a result used as filter option, with its number of rows.
+ * The facets are computed when the result is written so that the filter options are not read from the whole result.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Entity
+@FieldNameConstants
+@Table(name = "security_analysis_result_facet")
+public class ResultFacetEntity {
+    public enum Facet {
+        N_LIMIT_TYPE,
+        NMK_LIMIT_TYPE,
+        N_BRANCH_SIDE,
+        NMK_BRANCH_SIDE,
+        NMK_COMPUTATION_STATUS
+    }
+
+    @Id
+    @GeneratedValue
+    private UUID id;
+
+    @Column(name = "result_id")
+    private UUID resultId;
+
+    @Enumerated(EnumType.STRING)
+    private Facet facet;
+
+    private String facetValue;
+
+    @Setter
+    private long rowCount;
+
+    /**
+     * @return the facets of the given part of a result, a result written by chunks has the sum of the facets of its chunks
+     */
+    public static List<ResultFacetEntity> toEntities(UUID resultId, @Nullable List<PreContingencyLimitViolationEntity> preContingencyLimitViolations,
+                                                     @Nullable List<ContingencyEntity> contingencies) {
+        Map<Facet, Map<String, Long>> rowCounts = new EnumMap<>(Facet.class);
+        if (preContingencyLimitViolations != null) {
+            preContingencyLimitViolations.forEach(limitViolation -> {
+                count(rowCounts, Facet.N_LIMIT_TYPE, limitViolation.getLimitType());
+                count(rowCounts, Facet.N_BRANCH_SIDE, limitViolation.getSide());
+            });
+        }
+        if (contingencies != null) {
+            contingencies.forEach(contingency -> {
+                count(rowCounts, Facet.NMK_COMPUTATION_STATUS, contingency.getStatus());
+                contingency.getContingencyLimitViolations().forEach(limitViolation -> {
+                    count(rowCounts, Facet.NMK_LIMIT_TYPE, limitViolation.getLimitType());
+                    count(rowCounts, Facet.NMK_BRANCH_SIDE, limitViolation.getSide());
+                });
+            });
+        }
+        List<ResultFacetEntity> facets = new ArrayList<>();
+        rowCounts.forEach((facet, valueCounts) -> valueCounts.forEach((value, rowCount) ->
+            facets.add(new ResultFacetEntity(null, resultId, facet, value, rowCount))));
+        return facets;
+    }
+
+    /**
+     * @return the facets of two parts of a result, the row counts of the values in both parts summed, the given facets are not modified
+     */
+    public static List<ResultFacetEntity> merge(List<ResultFacetEntity> facets, List<ResultFacetEntity> otherFacets) {
+        Map<Facet, Map<String, ResultFacetEntity>> mergedFacets = new EnumMap<>(Facet.class);
+        Stream.concat(facets.stream(), otherFacets.stream()).forEach(facet -> mergedFacets.computeIfAbsent(facet.getFacet(), f -> new TreeMap<>())
+            .merge(facet.getFacetValue(), new ResultFacetEntity(null, facet.getResultId(), facet.getFacet(), facet.getFacetValue(), facet.getRowCount()),
+                (mergedFacet, otherFacet) -> {
+                    mergedFacet.setRowCount(mergedFacet.getRowCount() + otherFacet.getRowCount());
+                    return mergedFacet;
+                }));
+        return mergedFacets.values().stream().flatMap(valueFacets -> valueFacets.values().stream()).toList();
+    }
+
+    private static void count(Map<Facet, Map<String, Long>> rowCounts, Facet facet, @Nullable Object value) {
+        // same values as the distinct queries on the result tables : no null nor empty value
+        String facetValue = value instanceof Enum<?> enumValue ? enumValue.name() : Objects.toString(value, "");
+        if (!facetValue.isEmpty()) {
+            rowCounts.computeIfAbsent(facet, f -> new TreeMap<>()).merge(facetValue, 1L, Long::sum);
+        }
+    }
+}
@@ -6,8 +6,10 @@
  */
 package org.gridsuite.securityanalysis.server.entities;
 
+import com.powsybl.contingency.violations.LimitViolation;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.results.PostContingencyResult;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldNameConstants;
@@ -15,10 +17,13 @@ import org.gridsuite.securityanalysis.server.dto.SecurityAnalysisStatus;
 import org.jgrapht.alg.util.Pair;
 import org.springframework.lang.Nullable;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 /**
@@ -50,21 +55,42 @@ public class SecurityAnalysisResultEntity {
     @OneToMany(mappedBy = "result", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<SubjectLimitViolationEntity> subjectLimitViolations;
 
+    /**
+     * Set when the result is deleted asynchronously : the result is hidden until its rows are purged in background.
+     */
+    @Setter
+    private Instant deletionDate;
+
+    // not updatable : kept when the result content is saved afterward, used by the retention policy
+    @Column(updatable = false)
+    private Instant creationDate;
+
+    @Setter
+    @Column(updatable = false)
+    private UUID networkUuid;
+
     public SecurityAnalysisResultEntity(UUID id) {
         this.id = id;
+        this.creationDate = Instant.now();
     }
 
     public static SecurityAnalysisResultEntity toEntity(@Nullable Network network, UUID resultUuid, SecurityAnalysisResult securityAnalysisResult, SecurityAnalysisStatus securityAnalysisStatus) {
-        Map<String, SubjectLimitViolationEntity> subjectLimitViolationsBySubjectId = getUniqueSubjectLimitViolationsFromResult(securityAnalysisResult)
-            .stream().collect(Collectors.toMap(
-                SubjectLimitViolationEntity::getSubjectId,
-                subjectLimitViolation -> subjectLimitViolation)
-            );
+        return toEntity(network, resultUuid, securityAnalysisResult, securityAnalysisStatus, null);
+    }
+
+    /**
+     * @param conversionPool if not null, post contingency results are converted in parallel in this pool, on the current thread otherwise
+     */
+    public static SecurityAnalysisResultEntity toEntity(@Nullable Network network, UUID resultUuid, SecurityAnalysisResult securityAnalysisResult, SecurityAnalysisStatus securityAnalysisStatus,
+                                                        @Nullable ForkJoinPool conversionPool) {
+        Map<String, SubjectLimitViolationEntity> subjectLimitViolationsBySubjectId = getUniqueSubjectLimitViolationsBySubjectId(getAllLimitViolations(securityAnalysisResult));
+
+        // network limits are read once per violated subject and side, then shared by all the violations
+        NetworkLimitsIndex networkLimitsIndex = network != null ? NetworkLimitsIndex.build(network, getAllLimitViolations(securityAnalysisResult)) : null;
 
-        List<ContingencyEntity> contingencies = securityAnalysisResult.getPostContingencyResults().stream()
-            .map(postContingencyResult -> ContingencyEntity.toEntity(network, postContingencyResult, subjectLimitViolationsBySubjectId)).collect(Collectors.toList());
+        List<ContingencyEntity> contingencies = toContingencyEntities(networkLimitsIndex, securityAnalysisResult.getPostContingencyResults(), subjectLimitViolationsBySubjectId, conversionPool);
 
-        List<PreContingencyLimitViolationEntity> preContingencyLimitViolations = PreContingencyLimitViolationEntity.toEntityList(network, securityAnalysisResult.getPreContingencyResult(),
+        List<PreContingencyLimitViolationEntity> preContingencyLimitViolations = PreContingencyLimitViolationEntity.toEntityList(networkLimitsIndex, securityAnalysisResult.getPreContingencyResult(),
                 subjectLimitViolationsBySubjectId);
 
         List<SubjectLimitViolationEntity> subjectLimitViolations = Stream.concat(
@@ -77,6 +103,7 @@ public class SecurityAnalysisResultEntity {
 
         SecurityAnalysisResultEntity securityAnalysisResultEntity = SecurityAnalysisResultEntity.builder()
             .id(resultUuid)
+            .creationDate(Instant.now())
             .status(securityAnalysisStatus)
             .preContingencyStatus(securityAnalysisResult.getPreContingencyResult().getStatus().name())
             .contingencies(contingencies)
@@ -91,14 +118,49 @@ public class SecurityAnalysisResultEntity {
         return securityAnalysisResultEntity;
     }
 
-    private static List<SubjectLimitViolationEntity> getUniqueSubjectLimitViolationsFromResult(SecurityAnalysisResult securityAnalysisResult) {
+    /**
+     * Converts a part of the post contingency results of a security analysis, used to persist a result by chunks.
+     * Subject limit violations are created for the violations of these post contingency results only.
+     */
+    public static List<ContingencyEntity> toContingencyEntities(@Nullable Network network, List<PostContingencyResult> postContingencyResults, @Nullable ForkJoinPool conversionPool) {
+        Map<String, SubjectLimitViolationEntity> subjectLimitViolationsBySubjectId = getUniqueSubjectLimitViolationsBySubjectId(getLimitViolations(postContingencyResults));
+        NetworkLimitsIndex networkLimitsIndex = network != null ? NetworkLimitsIndex.build(network, getLimitViolations(postContingencyResults)) : null;
+        return toContingencyEntities(networkLimitsIndex, postContingencyResults, subjectLimitViolationsBySubjectId, conversionPool);
+    }
+
+    private static List<ContingencyEntity> toContingencyEntities(@Nullable NetworkLimitsIndex networkLimitsIndex, List<PostContingencyResult> postContingencyResults,
+                                                                 Map<String, SubjectLimitViolationEntity> subjectLimitViolationsBySubjectId, @Nullable ForkJoinPool conversionPool) {
+        Function<PostContingencyResult, ContingencyEntity> toContingencyEntity = postContingencyResult -> ContingencyEntity.toEntity(networkLimitsIndex, postContingencyResult, subjectLimitViolationsBySubjectId);
+        List<ContingencyEntity> contingencies = conversionPool != null
+            ? conversionPool.submit(() -> postContingencyResults.parallelStream().map(toContingencyEntity).collect(Collectors.toList())).join()
+            : postContingencyResults.stream().map(toContingencyEntity).collect(Collectors.toList());
+
+        // merge step : contingency limit violations are added to their subject afterward, in the same order whatever the conversion mode
+        contingencies.forEach(contingency -> contingency.getContingencyLimitViolations()
+            .forEach(contingencyLimitViolation -> contingencyLimitViolation.getSubjectLimitViolation().addContingencyLimitViolation(contingencyLimitViolation)));
+        subjectLimitViolationsBySubjectId.values().forEach(SubjectLimitViolationEntity::updateLimitViolationsAggregates);
+        return contingencies;
+    }
+
+    private static Stream<LimitViolation> getLimitViolations(List<PostContingencyResult> postContingencyResults) {
+        return postContingencyResults.stream().flatMap(pcr -> pcr.getLimitViolationsResult().getLimitViolations().stream());
+    }
+
+    private static Stream<LimitViolation> getAllLimitViolations(SecurityAnalysisResult securityAnalysisResult) {
         return Stream.concat(
-                securityAnalysisResult.getPostContingencyResults().stream().flatMap(pcr -> pcr.getLimitViolationsResult().getLimitViolations().stream()),
-                securityAnalysisResult.getPreContingencyResult().getLimitViolationsResult().getLimitViolations().stream())
+            getLimitViolations(securityAnalysisResult.getPostContingencyResults()),
+            securityAnalysisResult.getPreContingencyResult().getLimitViolationsResult().getLimitViolations().stream());
+    }
+
+    private static Map<String, SubjectLimitViolationEntity> getUniqueSubjectLimitViolationsBySubjectId(Stream<LimitViolation> limitViolations) {
+        return limitViolations
             .map(lm -> new Pair<>(lm.getSubjectId(), normalizeSubjectName(lm.getSubjectName())))
             .distinct()
             .map(pair -> new SubjectLimitViolationEntity(pair.getFirst(), pair.getSecond()))
-            .toList();
+            .collect(Collectors.toMap(
+                SubjectLimitViolationEntity::getSubjectId,
+                subjectLimitViolation -> subjectLimitViolation)
+            );
     }
 
     // FIXME: powsybl limit violation detection may expose missing names as "null" instead of null. Method to remove when https://github.com/powsybl/powsybl-core/pull/3922 is merged
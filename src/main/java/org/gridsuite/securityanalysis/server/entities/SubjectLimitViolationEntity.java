@@ -27,6 +27,7 @@ public class SubjectLimitViolationEntity {
     public SubjectLimitViolationEntity(String subjectId, String subjectName) {
         this.subjectId = subjectId;
         this.subjectName = subjectName;
+        updateLimitViolationsAggregates();
     }
 
     @Getter
@@ -37,6 +38,7 @@ public class SubjectLimitViolationEntity {
     @Getter
     public String subjectId;
 
+    @Getter
     private String subjectName;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -48,10 +50,21 @@ public class SubjectLimitViolationEntity {
     @OneToMany(mappedBy = "subjectLimitViolation")
     List<ContingencyLimitViolationEntity> contingencyLimitViolations;
 
+    @Getter
+    @Embedded
+    private LimitViolationsAggregatesEmbeddable limitViolationsAggregates;
+
     public void addContingencyLimitViolation(ContingencyLimitViolationEntity contingencyLimitViolation) {
         if (this.contingencyLimitViolations == null) {
             this.contingencyLimitViolations = new ArrayList<>();
         }
         this.contingencyLimitViolations.add(contingencyLimitViolation);
     }
+
+    /**
+     * To be called once all the contingency limit violations of the subject have been added.
+     */
+    public void updateLimitViolationsAggregates() {
+        this.limitViolationsAggregates = LimitViolationsAggregatesEmbeddable.toEntity(contingencyLimitViolations != null ? contingencyLimitViolations : List.of());
+    }
 }
@@ -13,7 +13,11 @@ import com.powsybl.ws.commons.error.BusinessErrorCode;
  */
 public enum SecurityAnalysisBusinessErrorCode implements BusinessErrorCode {
     CONTINGENCY_LIST_CONFIG_EMPTY("securityAnalysis.contingencyListConfigEmpty"),
-    MISSING_CONTINGENCY_LIST("securityAnalysis.missingContingencyList");
+    MISSING_CONTINGENCY_LIST("securityAnalysis.missingContingencyList"),
+    INVALID_PAGE_CURSOR("securityAnalysis.invalidPageCursor"),
+    EXPORT_JOBS_QUEUE_FULL("securityAnalysis.exportJobsQueueFull"),
+    INVALID_BUCKET_WIDTH("securityAnalysis.invalidBucketWidth"),
+    UNSUPPORTED_FILTER("securityAnalysis.unsupportedFilter");
 
     private final String code;
 
@@ -36,8 +36,9 @@ public class SecurityAnalysisExceptionHandler
     @Override
     protected HttpStatus mapStatus(SecurityAnalysisBusinessErrorCode errorCode) {
         return switch (errorCode) {
-            case CONTINGENCY_LIST_CONFIG_EMPTY -> HttpStatus.BAD_REQUEST;
+            case CONTINGENCY_LIST_CONFIG_EMPTY, INVALID_PAGE_CURSOR, INVALID_BUCKET_WIDTH, UNSUPPORTED_FILTER -> HttpStatus.BAD_REQUEST;
             case MISSING_CONTINGENCY_LIST -> HttpStatus.NOT_FOUND;
+            case EXPORT_JOBS_QUEUE_FULL -> HttpStatus.SERVICE_UNAVAILABLE;
         };
     }
 
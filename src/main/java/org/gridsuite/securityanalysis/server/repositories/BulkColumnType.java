@@ -0,0 +1,31 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.repositories;
+
+import java.sql.Types;
+
+/**
+ * Column types written by the bulk insertion path, they must match the types created by the liquibase changesets.
+ */
+enum BulkColumnType {
+    UUID(Types.OTHER),
+    TEXT(Types.VARCHAR),
+    FLOAT8(Types.DOUBLE),
+    INT4(Types.INTEGER),
+    INT2(Types.SMALLINT),
+    BOOL(Types.BOOLEAN);
+
+    private final int sqlType;
+
+    BulkColumnType(int sqlType) {
+        this.sqlType = sqlType;
+    }
+
+    int getSqlType() {
+        return sqlType;
+    }
+}
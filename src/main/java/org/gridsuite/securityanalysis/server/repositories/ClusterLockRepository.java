@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.repositories;
+
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Lock shared by the instances of the server, so that a background task runs on a single instance at a time.
+ * On PostgreSQL it is a session advisory lock held by a dedicated connection during the task : it is released
+ * with the connection if the instance dies. Without PostgreSQL (H2 in tests) there is a single instance and the task always runs.
+ */
+@Repository
+public class ClusterLockRepository {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClusterLockRepository.class);
+
+    private final DataSource dataSource;
+
+    public ClusterLockRepository(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Runs the task unless another instance holds the lock.
+     * @return whether the task has been run
+     */
+    public boolean runLocked(String lockName, Runnable task) {
+        // not from the transaction of the caller, the lock would be released with its connection
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isWrapperFor(PGConnection.class)) {
+                task.run();
+                return true;
+            }
+            connection.setAutoCommit(true);
+            if (!lock(connection, "SELECT pg_try_advisory_lock(hashtext(?))", lockName)) {
+                LOGGER.debug("Lock '{}' is held by another instance", lockName);
+                return false;
+            }
+            try {
+                task.run();
+            } finally {
+                lock(connection, "SELECT pg_advisory_unlock(hashtext(?))", lockName);
+            }
+            return true;
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("Lock " + lockName, null, e);
+        }
+    }
+
+    private static boolean lock(Connection connection, String sql, String lockName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, lockName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
@@ -10,7 +10,9 @@ package org.gridsuite.securityanalysis.server.repositories;
 import com.powsybl.contingency.violations.LimitViolationType;
 import com.powsybl.iidm.network.ThreeSides;
 import org.gridsuite.securityanalysis.server.entities.ContingencyLimitViolationEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -23,18 +25,63 @@ import java.util.UUID;
  * @author Florent MILLOT <florent.millot at rte-france.com>
  */
 @Repository
-public interface ContingencyLimitViolationRepository extends JpaRepository<ContingencyLimitViolationEntity, UUID> {
+public interface ContingencyLimitViolationRepository extends JpaRepository<ContingencyLimitViolationEntity, UUID>, JpaSpecificationExecutor<ContingencyLimitViolationEntity> {
+    /**
+     * Text columns of a contingency limit violation, with its subject and contingency.
+     */
+    interface IndexedLimitViolation {
+        UUID getSubjectUuid();
+
+        String getSubjectId();
+
+        String getLimitName();
+
+        LimitViolationType getLimitType();
+
+        ThreeSides getSide();
+
+        String getLocationId();
+
+        String getContingencyId();
+
+        String getStatus();
+
+        boolean isWorstSide();
+    }
+
+    interface EntityId {
+        UUID getId();
+    }
+
+    @EntityGraph(attributePaths = {"contingency", "subjectLimitViolation"}, type = EntityGraph.EntityGraphType.LOAD)
+    List<ContingencyLimitViolationEntity> findAllWithContingencyAndSubjectLimitViolationByResultIdAndIdIn(UUID resultId, List<UUID> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM contingency_limit_violation WHERE result_id = ?1 AND contingency_uuid IN ?2", nativeQuery = true)
+    int deleteAllByResultIdAndContingencyUuidIn(UUID resultId, Set<UUID> uuids);
+
+    @Modifying
+    @Query(value = "DELETE FROM contingency_limit_violation WHERE result_id = ?1", nativeQuery = true)
+    int deleteAllByResultId(UUID resultId);
+
     @Modifying
-    @Query(value = "DELETE FROM contingency_limit_violation WHERE contingency_uuid IN ?1", nativeQuery = true)
-    void deleteAllByContingencyUuidIn(Set<UUID> uuids);
+    @Query(value = "DELETE FROM contingency_limit_violation WHERE id IN (SELECT id FROM contingency_limit_violation WHERE result_id = ?1 LIMIT ?2)", nativeQuery = true)
+    int deleteByResultIdLimitedTo(UUID resultId, int limit);
 
     @Query(value = "SELECT distinct c.limitType from ContingencyLimitViolationEntity as c " +
-            "where c.subjectLimitViolation.result.id = :resultUuid AND c.limitType != ''" +
+            "where c.resultId = :resultUuid AND c.limitType != ''" +
             "order by c.limitType")
     List<LimitViolationType> findLimitTypes(UUID resultUuid);
 
     @Query(value = "SELECT distinct c.side from ContingencyLimitViolationEntity as c " +
-            "where c.subjectLimitViolation.result.id = :resultUuid AND c.side != ''" +
+            "where c.resultId = :resultUuid AND c.side != ''" +
             "order by c.side")
     List<ThreeSides> findBranchSides(UUID resultUuid);
+
+    @Query(value = "SELECT s.id AS subjectUuid, s.subjectId AS subjectId, c.limitName AS limitName, c.limitType AS limitType, c.side AS side, " +
+            "c.locationId AS locationId, co.contingencyId AS contingencyId, co.status AS status, c.isWorstSide AS worstSide " +
+            "FROM ContingencyLimitViolationEntity c JOIN c.subjectLimitViolation s JOIN c.contingency co " +
+            "WHERE c.resultId = :resultUuid " +
+            "ORDER BY s.subjectId, s.id")
+    List<IndexedLimitViolation> findIndexedLimitViolations(UUID resultUuid);
 }
@@ -0,0 +1,397 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.repositories;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.contingency.ContingencyElementType;
+import com.powsybl.contingency.violations.LimitViolationType;
+import com.powsybl.iidm.network.ThreeSides;
+import org.gridsuite.computation.dto.ResourceFilterDTO;
+import org.gridsuite.computation.utils.SpecificationUtils;
+import org.gridsuite.securityanalysis.server.dto.*;
+import org.gridsuite.securityanalysis.server.entities.AbstractLimitViolationEntity;
+import org.gridsuite.securityanalysis.server.entities.ContingencyElementEmbeddable;
+import org.gridsuite.securityanalysis.server.entities.ContingencyEntity;
+import org.gridsuite.securityanalysis.server.entities.ContingencyLimitViolationEntity;
+import org.gridsuite.securityanalysis.server.entities.LimitViolationsAggregatesEmbeddable;
+import org.gridsuite.securityanalysis.server.entities.SubjectLimitViolationEntity;
+import org.gridsuite.securityanalysis.server.util.NmKAggregationsAccumulator;
+import org.postgresql.PGConnection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads a page of N-K contingencies with their filtered limit violations and their elements in one PostgreSQL query : the page is
+ * numbered with a window function and the children of each contingency are aggregated as JSON, then mapped to the DTOs.
+ * Only the filters and sorts whose semantics are those of the specifications are supported, the others, and the other databases (H2
+ * in tests), are left to the JPA queries : the number filters, compared with a tolerance by the filter library, are never applied here.
+ */
+@Repository
+public class ContingencyPageQueryRepository {
+    private static final String CHILD_PREFIX = ContingencyEntity.Fields.contingencyLimitViolations + SpecificationUtils.FIELD_SEPARATOR;
+    private static final String ELEMENT_ID = ContingencyEntity.Fields.contingencyElements + SpecificationUtils.FIELD_SEPARATOR + ContingencyElementEmbeddable.Fields.elementId;
+    private static final String SUBJECT_ID = AbstractLimitViolationEntity.Fields.subjectLimitViolation + SpecificationUtils.FIELD_SEPARATOR
+        + SubjectLimitViolationEntity.Fields.subjectId;
+    private static final String LIKE_ESCAPE = "\\";
+
+    private static final String AGGREGATES_PREFIX = ContingencyEntity.Fields.limitViolationsAggregates + SpecificationUtils.FIELD_SEPARATOR;
+
+    private static final Map<String, String> CONTINGENCY_TEXT_COLUMNS = Map.of(
+        ContingencyEntity.Fields.contingencyId, "c.contingency_id",
+        ContingencyEntity.Fields.status, "c.status",
+        AGGREGATES_PREFIX + LimitViolationsAggregatesEmbeddable.Fields.worstLimitType, "c.worst_limit_type"
+    );
+
+    private static final Map<String, String> CONTINGENCY_SORT_COLUMNS = Map.of(
+        ContingencyEntity.Fields.uuid, "c.uuid",
+        ContingencyEntity.Fields.contingencyId, "c.contingency_id",
+        ContingencyEntity.Fields.status, "c.status",
+        AGGREGATES_PREFIX + LimitViolationsAggregatesEmbeddable.Fields.maxLoading, "c.max_loading",
+        AGGREGATES_PREFIX + LimitViolationsAggregatesEmbeddable.Fields.minAcceptableDuration, "c.min_acceptable_duration",
+        AGGREGATES_PREFIX + LimitViolationsAggregatesEmbeddable.Fields.violationCount, "c.violation_count",
+        AGGREGATES_PREFIX + LimitViolationsAggregatesEmbeddable.Fields.worstLimitType, "c.worst_limit_type"
+    );
+
+    private static final Map<String, String> LIMIT_VIOLATION_TEXT_COLUMNS = Map.of(
+        AbstractLimitViolationEntity.Fields.limitName, "clv.limit_name",
+        AbstractLimitViolationEntity.Fields.limitType, "clv.limit_type",
+        AbstractLimitViolationEntity.Fields.side, "clv.side",
+        AbstractLimitViolationEntity.Fields.locationId, "clv.location_id",
+        SUBJECT_ID, "s.subject_id"
+    );
+
+    // the limit violations are sorted as by the comparators of the JPA path : strings by code points, enums by ordinal, nulls last
+    private static final Map<String, String> LIMIT_VIOLATION_SORT_COLUMNS = Map.of(
+        AbstractLimitViolationEntity.Fields.limit, "clv.limit_value",
+        AbstractLimitViolationEntity.Fields.limitName, "clv.limit_name COLLATE \"C\"",
+        AbstractLimitViolationEntity.Fields.limitType, ordinal("clv.limit_type", LimitViolationType.values()),
+        AbstractLimitViolationEntity.Fields.acceptableDuration, "clv.acceptable_duration",
+        AbstractLimitViolationEntity.Fields.value, "clv.offending_value",
+        AbstractLimitViolationEntity.Fields.side, ordinal("clv.side", ThreeSides.values()),
+        AbstractLimitViolationEntity.Fields.loading, "clv.loading",
+        AbstractLimitViolationEntity.Fields.locationId, "clv.location_id COLLATE \"C\"",
+        SUBJECT_ID, "s.subject_id COLLATE \"C\""
+    );
+
+    private static final String LIMIT_VIOLATIONS_FROM = "FROM contingency_limit_violation clv LEFT JOIN subject_limit_violation s ON s.id = clv.subject_limit_violation_id " +
+        "WHERE clv.contingency_uuid = %s";
+
+    private static final ContingencyElementType[] ELEMENT_TYPES = ContingencyElementType.values();
+
+    record PageQuery(String sql, List<Object> parameters) { }
+
+    private record FilterConditions(String contingencyCondition, List<Object> contingencyParameters, String limitViolationsCondition,
+                                    List<Object> limitViolationParameters) { }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ContingencyPageQueryRepository(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param pageable sorted by the contingency columns only
+     * @param limitViolationOrder the sort of the limit violations of each contingency, by subject id if null
+     * @return the contingencies of the page, in the page order, empty if not on PostgreSQL or if a filter or a sort is not supported
+     */
+    public Optional<List<ContingencyResultDTO>> findPage(UUID resultUuid, List<ResourceFilterDTO> resourceFilters, Pageable pageable,
+                                                         @Nullable Sort.Order limitViolationOrder) {
+        Optional<PageQuery> pageQuery = buildPageQuery(resultUuid, resourceFilters, pageable, limitViolationOrder);
+        if (pageQuery.isEmpty() || !isPostgres()) {
+            return Optional.empty();
+        }
+        return Optional.of(jdbcTemplate.query(pageQuery.get().sql(), (resultSet, rowNum) -> toDto(resultSet), pageQuery.get().parameters().toArray()));
+    }
+
+    /**
+     * @return the aggregations of the filtered contingencies and of their filtered limit violations, as the rows of the pages,
+     * empty if not on PostgreSQL or if a filter is not supported
+     */
+    public Optional<NmKAggregationsAccumulator> findAggregations(UUID resultUuid, List<ResourceFilterDTO> resourceFilters, double loadingBucketWidth,
+                                                                 double acceptableDurationBucketWidth) {
+        Optional<PageQuery> aggregationsQuery = buildAggregationsQuery(resultUuid, resourceFilters, loadingBucketWidth, acceptableDurationBucketWidth);
+        if (aggregationsQuery.isEmpty() || !isPostgres()) {
+            return Optional.empty();
+        }
+        NmKAggregationsAccumulator accumulator = new NmKAggregationsAccumulator(loadingBucketWidth, acceptableDurationBucketWidth);
+        jdbcTemplate.query(aggregationsQuery.get().sql(), (RowCallbackHandler) resultSet -> {
+            double lowerBound = resultSet.getDouble("lower_bound");
+            Double bucket = resultSet.wasNull() ? null : lowerBound;
+            accumulator.count(NmKAggregationsAccumulator.Aggregation.valueOf(resultSet.getString("aggregation")), resultSet.getString("value"), bucket,
+                resultSet.getLong("row_count"));
+        }, aggregationsQuery.get().parameters().toArray());
+        return Optional.of(accumulator);
+    }
+
+    private boolean isPostgres() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> connection.isWrapperFor(PGConnection.class)));
+    }
+
+    static Optional<PageQuery> buildPageQuery(UUID resultUuid, List<ResourceFilterDTO> resourceFilters, Pageable pageable, @Nullable Sort.Order limitViolationOrder) {
+        Optional<FilterConditions> filterConditions = buildFilterConditions(resultUuid, resourceFilters);
+        Optional<String> pageOrder = pageOrder(pageable.getSort());
+        Optional<String> limitViolationsOrder = limitViolationsOrder(limitViolationOrder);
+        if (filterConditions.isEmpty() || pageOrder.isEmpty() || limitViolationsOrder.isEmpty()) {
+            return Optional.empty();
+        }
+        String limitViolationsCondition = filterConditions.get().limitViolationsCondition();
+        String paging = pageable.isPaged() ? " LIMIT " + pageable.getPageSize() + " OFFSET " + pageable.getOffset() : "";
+
+        String sql = "WITH page AS (SELECT c.uuid, c.contingency_id, c.status, c.max_loading, c.min_acceptable_duration, c.violation_count, c.worst_limit_type, row_number() OVER (ORDER BY " + pageOrder.get() + ") AS position " +
+            "FROM contingency c WHERE " + filterConditions.get().contingencyCondition() + " ORDER BY " + pageOrder.get() + paging + ") " +
+            "SELECT p.contingency_id, p.status, p.max_loading, p.min_acceptable_duration, p.violation_count, p.worst_limit_type, " +
+            "(SELECT json_agg(json_build_array(e.element_id, e.element_type)) FROM contingency_entity_contingency_elements e WHERE e.contingency_entity_uuid = p.uuid) AS elements, " +
+            "(SELECT json_agg(json_build_array(s.subject_id, clv.limit_type, clv.limit_name, clv.operational_limits_group_id, clv.next_limit_name, clv.side, " +
+            "clv.acceptable_duration, clv.upcoming_acceptable_duration, clv.limit_value, clv.patl_limit, clv.limit_reduction, clv.offending_value, clv.loading, " +
+            "clv.patl_loading, clv.location_id) ORDER BY " + limitViolationsOrder.get() + ") " + LIMIT_VIOLATIONS_FROM.formatted("p.uuid") + limitViolationsCondition +
+            ") AS limit_violations " +
+            "FROM page p ORDER BY p.position";
+
+        // the limit violation conditions are used twice, in the filter of the contingencies and in the aggregation of their violations
+        List<Object> parameters = new ArrayList<>(filterConditions.get().contingencyParameters());
+        parameters.addAll(filterConditions.get().limitViolationParameters());
+        return Optional.of(new PageQuery(sql, parameters));
+    }
+
+    /**
+     * The contingencies are counted by status, their limit violations by limit type, side and location, and bucketed by loading and
+     * acceptable duration : one row per aggregated value, the lower bound of a bucket being computed as by {@link NmKAggregationsAccumulator}.
+     */
+    static Optional<PageQuery> buildAggregationsQuery(UUID resultUuid, List<ResourceFilterDTO> resourceFilters, double loadingBucketWidth,
+                                                      double acceptableDurationBucketWidth) {
+        Optional<FilterConditions> filterConditions = buildFilterConditions(resultUuid, resourceFilters);
+        if (filterConditions.isEmpty()) {
+            return Optional.empty();
+        }
+        String sql = "WITH filtered_contingency AS (SELECT c.uuid, c.status FROM contingency c WHERE " + filterConditions.get().contingencyCondition() + "), " +
+            "filtered_limit_violation AS (SELECT clv.loading, clv.acceptable_duration, clv.limit_type, clv.side, clv.location_id " +
+            LIMIT_VIOLATIONS_FROM.formatted("ANY (SELECT fc.uuid FROM filtered_contingency fc)") + filterConditions.get().limitViolationsCondition() + ") " +
+            "SELECT 'STATUS' AS aggregation, status AS value, CAST(NULL AS float8) AS lower_bound, count(*) AS row_count FROM filtered_contingency GROUP BY status " +
+            "UNION ALL SELECT 'LIMIT_TYPE', limit_type, NULL, count(*) FROM filtered_limit_violation GROUP BY limit_type " +
+            "UNION ALL SELECT 'SIDE', side, NULL, count(*) FROM filtered_limit_violation GROUP BY side " +
+            "UNION ALL SELECT 'LOCATION_ID', location_id, NULL, count(*) FROM filtered_limit_violation GROUP BY location_id " +
+            // NaN and infinite loadings and the acceptable duration of the permanent limits are not bucketed, as in the accumulator
+            "UNION ALL SELECT 'LOADING', NULL, floor(loading / CAST(? AS float8)) * CAST(? AS float8), count(*) FROM filtered_limit_violation " +
+            "WHERE loading IS NOT NULL AND loading NOT IN ('NaN', 'Infinity', '-Infinity') GROUP BY 3 " +
+            "UNION ALL SELECT 'ACCEPTABLE_DURATION', NULL, floor(acceptable_duration / CAST(? AS float8)) * CAST(? AS float8), count(*) FROM filtered_limit_violation " +
+            "WHERE acceptable_duration IS NOT NULL AND acceptable_duration <> " + Integer.MAX_VALUE + " GROUP BY 3";
+
+        List<Object> parameters = new ArrayList<>(filterConditions.get().contingencyParameters());
+        parameters.addAll(filterConditions.get().limitViolationParameters());
+        parameters.addAll(List.of(loadingBucketWidth, loadingBucketWidth, acceptableDurationBucketWidth, acceptableDurationBucketWidth));
+        return Optional.of(new PageQuery(sql, parameters));
+    }
+
+    /**
+     * @return the condition on the contingencies "c", with its parameters, followed by the parameters of the limit violation conditions
+     * that it contains, and the conditions on the limit violations "clv" of a contingency, prefixed by AND, with their parameters,
+     * empty if a filter is not supported
+     */
+    private static Optional<FilterConditions> buildFilterConditions(UUID resultUuid, List<ResourceFilterDTO> resourceFilters) {
+        List<String> contingencyConditions = new ArrayList<>();
+        List<Object> contingencyParameters = new ArrayList<>();
+        List<String> elementConditions = new ArrayList<>();
+        List<Object> elementParameters = new ArrayList<>();
+        List<String> limitViolationConditions = new ArrayList<>();
+        List<Object> limitViolationParameters = new ArrayList<>();
+        for (ResourceFilterDTO resourceFilter : resourceFilters) {
+            String column = resourceFilter.column();
+            boolean supported;
+            if (column.startsWith(CHILD_PREFIX)) {
+                supported = addLimitViolationCondition(resourceFilter, column.substring(CHILD_PREFIX.length()), limitViolationConditions, limitViolationParameters);
+            } else if (ELEMENT_ID.equals(column)) {
+                // the filter of the global filters
+                supported = addTextCondition(resourceFilter, "e.element_id", elementConditions, elementParameters);
+            } else {
+                supported = CONTINGENCY_TEXT_COLUMNS.containsKey(column) && addTextCondition(resourceFilter, CONTINGENCY_TEXT_COLUMNS.get(column), contingencyConditions, contingencyParameters);
+            }
+            if (!supported) {
+                return Optional.empty();
+            }
+        }
+
+        if (!elementConditions.isEmpty()) {
+            // as the specifications join the elements once, one element must match all the element filters
+            contingencyConditions.add("EXISTS (SELECT 1 FROM contingency_entity_contingency_elements e WHERE e.contingency_entity_uuid = c.uuid AND "
+                + String.join(" AND ", elementConditions) + ")");
+            contingencyParameters.addAll(elementParameters);
+        }
+        String limitViolationsCondition = limitViolationConditions.stream().map(condition -> " AND " + condition).collect(Collectors.joining());
+        // as the specifications : with violation filters, a contingency is returned if one of its violations matches all of them,
+        // without, if it has violations or has not converged
+        String contingencyCondition = Stream.concat(
+            Stream.of("c.result_id = ?"),
+            Stream.concat(contingencyConditions.stream(), Stream.of(limitViolationConditions.isEmpty()
+                ? "(c.status <> 'CONVERGED' OR EXISTS (SELECT 1 FROM contingency_limit_violation clv WHERE clv.contingency_uuid = c.uuid))"
+                : "EXISTS (SELECT 1 " + LIMIT_VIOLATIONS_FROM.formatted("c.uuid") + limitViolationsCondition + ")"))
+        ).collect(Collectors.joining(" AND "));
+
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(resultUuid);
+        parameters.addAll(contingencyParameters);
+        parameters.addAll(limitViolationParameters);
+        return Optional.of(new FilterConditions(contingencyCondition, parameters, limitViolationsCondition, limitViolationParameters));
+    }
+
+    private static boolean addLimitViolationCondition(ResourceFilterDTO resourceFilter, String field, List<String> conditions, List<Object> parameters) {
+        if (ContingencyLimitViolationEntity.Fields.isWorstSide.equals(field)) {
+            if (resourceFilter.dataType() != ResourceFilterDTO.DataType.BOOLEAN || resourceFilter.type() != ResourceFilterDTO.Type.EQUALS
+                || !(resourceFilter.value() instanceof Boolean filterValue)) {
+                return false;
+            }
+            conditions.add("clv.is_worst_side = ?");
+            parameters.add(filterValue);
+            return true;
+        }
+        return LIMIT_VIOLATION_TEXT_COLUMNS.containsKey(field) && addTextCondition(resourceFilter, LIMIT_VIOLATION_TEXT_COLUMNS.get(field), conditions, parameters);
+    }
+
+    /**
+     * Text filters as the specifications : a case-insensitive match of a value, or the exact match of one of several values.
+     */
+    static boolean addTextCondition(ResourceFilterDTO resourceFilter, String column, List<String> conditions, List<Object> parameters) {
+        if (resourceFilter.dataType() != ResourceFilterDTO.DataType.TEXT) {
+            return false;
+        }
+        if (resourceFilter.value() instanceof String filterValue) {
+            String escapedValue = escapeLike(filterValue.toUpperCase(Locale.ROOT));
+            String pattern = switch (resourceFilter.type()) {
+                case CONTAINS -> "%" + escapedValue + "%";
+                case STARTS_WITH -> escapedValue + "%";
+                default -> null;
+            };
+            if (pattern == null) {
+                return false;
+            }
+            conditions.add("UPPER(" + column + ") LIKE ? ESCAPE '" + LIKE_ESCAPE + "'");
+            parameters.add(pattern);
+            return true;
+        }
+        List<String> filterValues = toStrings(resourceFilter.value());
+        if (resourceFilter.type() != ResourceFilterDTO.Type.EQUALS || filterValues == null || filterValues.isEmpty()) {
+            return false;
+        }
+        conditions.add(column + " IN (" + String.join(", ", Collections.nCopies(filterValues.size(), "?")) + ")");
+        parameters.addAll(filterValues);
+        return true;
+    }
+
+    private static Optional<String> pageOrder(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String column = CONTINGENCY_SORT_COLUMNS.get(order.getProperty());
+            if (column == null || order.isIgnoreCase() || order.getNullHandling() != Sort.NullHandling.NATIVE) {
+                return Optional.empty();
+            }
+            orders.add(column + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        return Optional.of(String.join(", ", orders));
+    }
+
+    private static Optional<String> limitViolationsOrder(@Nullable Sort.Order order) {
+        if (order == null) {
+            return Optional.of(LIMIT_VIOLATION_SORT_COLUMNS.get(SUBJECT_ID) + " NULLS LAST, clv.id");
+        }
+        String column = order.getProperty().startsWith(CHILD_PREFIX) ? LIMIT_VIOLATION_SORT_COLUMNS.get(order.getProperty().substring(CHILD_PREFIX.length())) : null;
+        if (column == null) {
+            return Optional.empty();
+        }
+        // the comparators put the nulls last, reversed for a descending sort
+        return Optional.of(column + (order.isAscending() ? " ASC NULLS LAST" : " DESC NULLS FIRST") + ", clv.id");
+    }
+
+    private static String ordinal(String column, Enum<?>[] values) {
+        return "array_position(ARRAY[" + Arrays.stream(values).map(value -> "'" + value.name() + "'").collect(Collectors.joining(", ")) + "]::text[], " + column + ")";
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace(LIKE_ESCAPE, LIKE_ESCAPE + LIKE_ESCAPE).replace("%", LIKE_ESCAPE + "%").replace("_", LIKE_ESCAPE + "_");
+    }
+
+    private static List<String> toStrings(Object filterValue) {
+        if (filterValue instanceof Collection<?> collection) {
+            return collection.stream().map(String::valueOf).toList();
+        }
+        if (filterValue instanceof Object[] array) {
+            return Arrays.stream(array).map(String::valueOf).toList();
+        }
+        return null;
+    }
+
+    private ContingencyResultDTO toDto(ResultSet resultSet) throws SQLException {
+        List<ContingencyElementDTO> elements = new ArrayList<>();
+        for (JsonNode element : readJson(resultSet.getString("elements"))) {
+            elements.add(new ContingencyElementDTO(element.get(0).asText(), ELEMENT_TYPES[element.get(1).asInt()]));
+        }
+        List<SubjectLimitViolationDTO> subjectLimitViolations = new ArrayList<>();
+        for (JsonNode limitViolation : readJson(resultSet.getString("limit_violations"))) {
+            subjectLimitViolations.add(new SubjectLimitViolationDTO(text(limitViolation.get(0)), LimitViolationDTO.builder()
+                .limitType(limitViolation.get(1).isNull() ? null : LimitViolationType.valueOf(limitViolation.get(1).asText()))
+                .limitName(text(limitViolation.get(2)))
+                .operationalLimitsGroupId(text(limitViolation.get(3)))
+                .nextLimitName(text(limitViolation.get(4)))
+                .side(limitViolation.get(5).isNull() ? null : ThreeSides.valueOf(limitViolation.get(5).asText()))
+                .acceptableDuration(limitViolation.get(6).isNull() ? null : limitViolation.get(6).asInt())
+                .upcomingAcceptableDuration(limitViolation.get(7).isNull() ? null : limitViolation.get(7).asInt())
+                .limit(limitViolation.get(8).asDouble())
+                .patlLimit(nullableDouble(limitViolation.get(9)))
+                .limitReduction(limitViolation.get(10).asDouble())
+                .value(limitViolation.get(11).asDouble())
+                .loading(nullableDouble(limitViolation.get(12)))
+                .patlLoading(nullableDouble(limitViolation.get(13)))
+                .locationId(text(limitViolation.get(14)))
+                .build()));
+        }
+        return ContingencyResultDTO.builder()
+            .contingency(new ContingencyDTO(resultSet.getString("contingency_id"), resultSet.getString("status"), elements))
+            .subjectLimitViolations(subjectLimitViolations)
+            .limitViolationsAggregates(LimitViolationsAggregatesDTO.builder()
+                .maxLoading(resultSet.getObject("max_loading", Double.class))
+                .minAcceptableDuration(resultSet.getObject("min_acceptable_duration", Integer.class))
+                .violationCount(resultSet.getInt("violation_count"))
+                .worstLimitType(resultSet.getString("worst_limit_type") == null ? null : LimitViolationType.valueOf(resultSet.getString("worst_limit_type")))
+                .build())
+            .build();
+    }
+
+    // the aggregation of no rows is null
+    private Iterable<JsonNode> readJson(@Nullable String json) {
+        if (json == null) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String text(JsonNode node) {
+        return node.isNull() ? null : node.asText();
+    }
+
+    // NaN and infinite values are written as JSON strings, parsed by asDouble
+    private static Double nullableDouble(JsonNode node) {
+        return node.isNull() ? null : node.asDouble();
+    }
+}
@@ -7,7 +7,6 @@
 
 package org.gridsuite.securityanalysis.server.repositories;
 
-import com.powsybl.loadflow.LoadFlowResult;
 import org.gridsuite.securityanalysis.server.entities.ContingencyEntity;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.*;
@@ -27,30 +26,53 @@ public interface ContingencyRepository extends JpaRepository<ContingencyEntity,
     List<ContingencyEntity> findAll(Specification<ContingencyEntity> spec);
 
     @EntityGraph(attributePaths = {"contingencyElements"}, type = EntityGraph.EntityGraphType.LOAD)
-    List<ContingencyEntity> findAllWithContingencyElementsByUuidIn(List<UUID> uuids);
+    List<ContingencyEntity> findAllWithContingencyElementsByResultIdAndUuidIn(UUID resultId, List<UUID> uuids);
 
     @EntityGraph(attributePaths = {"contingencyLimitViolations", "contingencyLimitViolations.subjectLimitViolation"}, type = EntityGraph.EntityGraphType.LOAD)
-    List<ContingencyEntity> findAllWithContingencyLimitViolationsByUuidIn(List<UUID> uuids);
+    List<ContingencyEntity> findAllWithContingencyLimitViolationsByResultIdAndUuidIn(UUID resultId, List<UUID> uuids);
 
-    List<ContingencyEntity> findAllByUuidIn(List<UUID> uuids);
+    List<ContingencyEntity> findAllByResultIdAndUuidIn(UUID resultId, List<UUID> uuids);
 
     List<ContingencyEntity> findAllByResultId(UUID resultId);
 
     @Query(value = "SELECT uuid FROM ContingencyEntity WHERE result.id = ?1")
     Set<UUID> findAllUuidsByResultId(UUID resultId);
 
+    @Query(value = "SELECT DISTINCT c.contingencyId FROM ContingencyEntity c WHERE c.result.id = ?1")
+    List<String> findContingencyIdsByResultId(UUID resultId);
+
     @Modifying
     @Query(value = "DELETE FROM contingency WHERE result_id = ?1", nativeQuery = true)
-    void deleteAllByResultId(UUID resultId);
+    int deleteAllByResultId(UUID resultId);
 
     @Modifying
     @Query(value = "DELETE FROM contingency_entity_contingency_elements WHERE contingency_entity_uuid IN ?1", nativeQuery = true)
-    void deleteAllContingencyElementsByContingencyUuidIn(Set<UUID> uuids);
+    int deleteAllContingencyElementsByContingencyUuidIn(Set<UUID> uuids);
+
+    @Query(value = "SELECT uuid FROM contingency WHERE result_id = ?1 LIMIT ?2", nativeQuery = true)
+    Set<UUID> findUuidsByResultIdLimitedTo(UUID resultId, int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM contingency WHERE uuid IN ?1", nativeQuery = true)
+    int deleteAllByUuidIn(Set<UUID> uuids);
+
+    @Modifying
+    @Query(value = "DELETE FROM contingency_entity_contingency_elements", nativeQuery = true)
+    int deleteAllContingencyElements();
+
+    @Modifying
+    @Query(value = "DELETE FROM contingency_entity_contingency_elements WHERE contingency_entity_uuid IN (SELECT uuid FROM contingency WHERE result_id = ?1)", nativeQuery = true)
+    int deleteAllContingencyElementsByResultId(UUID resultId);
+
+    @Modifying
+    @Query(value = "DELETE FROM contingency_entity_contingency_elements WHERE contingency_entity_uuid IN " +
+        "(SELECT DISTINCT e.contingency_entity_uuid FROM contingency_entity_contingency_elements e JOIN contingency c ON c.uuid = e.contingency_entity_uuid WHERE c.result_id = ?1 LIMIT ?2)", nativeQuery = true)
+    int deleteContingencyElementsByResultIdLimitedTo(UUID resultId, int limit);
 
     @Query(value = "SELECT distinct c.status from ContingencyEntity as c " +
             "where c.result.id = :resultUuid AND c.status != ''" +
             "order by c.status")
-    List<LoadFlowResult.ComponentResult.Status> findComputingStatus(UUID resultUuid);
+    List<String> findComputingStatus(UUID resultUuid);
 
     interface EntityUuid {
         UUID getUuid();
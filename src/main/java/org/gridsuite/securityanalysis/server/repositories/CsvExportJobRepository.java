@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.repositories;
+
+import org.gridsuite.securityanalysis.server.dto.ExportJobInfos.ExportJobStatus;
+import org.gridsuite.securityanalysis.server.entities.CsvExportJobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The status updates only apply to the unfinished exports : an export ended by an instance, cancelled for instance,
+ * is not ended again by the instance running it.
+ */
+@Repository
+public interface CsvExportJobRepository extends JpaRepository<CsvExportJobEntity, UUID> {
+    Optional<CsvExportJobEntity> findFirstByKeyHashAndEndDateIsNull(String keyHash);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE CsvExportJobEntity j SET j.status = :status, j.heartbeatDate = :heartbeatDate WHERE j.id = :id AND j.endDate IS NULL")
+    int start(UUID id, ExportJobStatus status, Instant heartbeatDate);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE CsvExportJobEntity j SET j.status = :status, j.size = :size, j.endDate = :endDate WHERE j.id = :id AND j.endDate IS NULL")
+    int end(UUID id, ExportJobStatus status, Long size, Instant endDate);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE CsvExportJobEntity j SET j.heartbeatDate = :heartbeatDate WHERE j.id IN :ids AND j.endDate IS NULL")
+    int refreshHeartbeats(Collection<UUID> ids, Instant heartbeatDate);
+
+    @Query(value = "SELECT j.id FROM CsvExportJobEntity j WHERE j.id IN :ids AND j.endDate IS NOT NULL")
+    List<UUID> findEndedIds(Collection<UUID> ids);
+
+    /**
+     * Ends the unfinished exports whose instance stopped refreshing their heartbeat, it stopped or died
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE CsvExportJobEntity j SET j.status = :status, j.endDate = :endDate WHERE j.endDate IS NULL AND j.heartbeatDate < :heartbeatDate")
+    int endAbandoned(ExportJobStatus status, Instant heartbeatDate, Instant endDate);
+
+    @Query(value = "SELECT j.id FROM CsvExportJobEntity j WHERE j.endDate < :endDate")
+    List<UUID> findIdsEndedBefore(Instant endDate);
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.repositories;
+
+import org.postgresql.copy.CopyIn;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Encodes rows in the PostgreSQL binary COPY format and streams them to a {@link CopyIn} operation.
+ * Rows are buffered and sent by chunks of about 1MB so the memory footprint does not depend on the number of rows.
+ * See https://www.postgresql.org/docs/current/sql-copy.html#id-1.9.3.55.9.4 for the format description.
+ */
+final class PgBinaryCopyWriter implements AutoCloseable {
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final int FLUSH_THRESHOLD = 1 << 20;
+
+    private final CopyIn copyIn;
+    private final List<BulkColumnType> columnTypes;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(FLUSH_THRESHOLD + 8192);
+    private final DataOutputStream out = new DataOutputStream(buffer);
+
+    PgBinaryCopyWriter(CopyIn copyIn, List<BulkColumnType> columnTypes) {
+        this.copyIn = copyIn;
+        this.columnTypes = columnTypes;
+        try {
+            out.write(SIGNATURE);
+            // flags field then header extension area length
+            out.writeInt(0);
+            out.writeInt(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void writeRow(Object[] values) throws SQLException {
+        try {
+            out.writeShort(columnTypes.size());
+            for (int i = 0; i < columnTypes.size(); i++) {
+                writeValue(columnTypes.get(i), values[i]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (buffer.size() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    long finish() throws SQLException {
+        try {
+            out.writeShort(-1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        flush();
+        return copyIn.endCopy();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+
+    private void writeValue(BulkColumnType type, Object value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        switch (type) {
+            case UUID -> {
+                UUID uuid = (UUID) value;
+                out.writeInt(16);
+                out.writeLong(uuid.getMostSignificantBits());
+                out.writeLong(uuid.getLeastSignificantBits());
+            }
+            case TEXT -> {
+                byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            case FLOAT8 -> {
+                out.writeInt(8);
+                out.writeDouble(((Number) value).doubleValue());
+            }
+            case INT4 -> {
+                out.writeInt(4);
+                out.writeInt(((Number) value).intValue());
+            }
+            case INT2 -> {
+                out.writeInt(2);
+                out.writeShort(((Number) value).shortValue());
+            }
+            case BOOL -> {
+                out.writeInt(1);
+                out.writeByte(Boolean.TRUE.equals(value) ? 1 : 0);
+            }
+        }
+    }
+
+    private void flush() throws SQLException {
+        if (buffer.size() > 0) {
+            copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+            buffer.reset();
+        }
+    }
+}
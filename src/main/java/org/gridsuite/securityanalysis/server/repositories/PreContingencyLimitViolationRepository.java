@@ -25,7 +25,11 @@ public interface PreContingencyLimitViolationRepository extends JpaRepository<Pr
 
     @Modifying
     @Query(value = "DELETE FROM pre_contingency_limit_violation WHERE result_id = ?1", nativeQuery = true)
-    void deleteAllByResultId(UUID resultId);
+    int deleteAllByResultId(UUID resultId);
+
+    @Modifying
+    @Query(value = "DELETE FROM pre_contingency_limit_violation WHERE id IN (SELECT id FROM pre_contingency_limit_violation WHERE result_id = ?1 LIMIT ?2)", nativeQuery = true)
+    int deleteByResultIdLimitedTo(UUID resultId, int limit);
 
     @Query(value = "SELECT distinct pc.limitType from PreContingencyLimitViolationEntity as pc " +
         "where pc.subjectLimitViolation.result.id = :resultUuid AND pc.limitType != ''" +
@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.repositories;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Routes the connections of the read-only transactions to the read replica, and the others to the primary.
+ * The route is decided when the connection is acquired : the data source must be wrapped in a lazy connection proxy, so that
+ * the connection of a transaction is only acquired on its first statement, once the transaction is known to be read-only.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private final DataSource primaryDataSource;
+    private final DataSource replicaDataSource;
+
+    public ReadReplicaRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaDataSource = replicaDataSource;
+        setTargetDataSources(Map.of(Route.PRIMARY, primaryDataSource, Route.REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+    }
+
+    public DataSource getPrimaryDataSource() {
+        return primaryDataSource;
+    }
+
+    public DataSource getReplicaDataSource() {
+        return replicaDataSource;
+    }
+
+    /**
+     * Routes the current read-only transaction to the primary, if its connection is not acquired yet.
+     */
+    public static void usePrimaryInCurrentTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || Boolean.TRUE.equals(PRIMARY_FORCED.get())) {
+            return;
+        }
+        PRIMARY_FORCED.set(true);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                PRIMARY_FORCED.remove();
+            }
+        });
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !Boolean.TRUE.equals(PRIMARY_FORCED.get()) ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (primaryDataSource instanceof AutoCloseable closeablePrimary) {
+            closeablePrimary.close();
+        }
+        if (replicaDataSource instanceof AutoCloseable closeableReplica) {
+            closeableReplica.close();
+        }
+    }
+}
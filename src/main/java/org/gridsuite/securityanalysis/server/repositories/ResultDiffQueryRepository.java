@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.repositories;
+
+import com.powsybl.contingency.violations.LimitViolationType;
+import com.powsybl.iidm.network.ThreeSides;
+import org.gridsuite.computation.dto.ResourceFilterDTO;
+import org.gridsuite.securityanalysis.server.dto.LimitViolationDiffDTO;
+import org.gridsuite.securityanalysis.server.dto.LimitViolationDiffStatus;
+import org.gridsuite.securityanalysis.server.repositories.ContingencyPageQueryRepository.PageQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the contingency limit violations of two results in the database : the limit violations of both results are joined on their key,
+ * the contingency id, the subject id, the side, the limit name and the limit type, so that the planner can merge join them, and only the page of the
+ * differences is read. The query is standard SQL, run on PostgreSQL and on H2 in tests.
+ */
+@Repository
+public class ResultDiffQueryRepository {
+    // the filters of the key columns are applied to the limit violations of both results, the others to the differences
+    private static final Map<String, String> KEY_TEXT_COLUMNS = Map.of(
+        LimitViolationDiffDTO.Fields.contingencyId, "c.contingency_id",
+        LimitViolationDiffDTO.Fields.subjectId, "s.subject_id",
+        LimitViolationDiffDTO.Fields.side, "clv.side",
+        LimitViolationDiffDTO.Fields.limitName, "clv.limit_name",
+        LimitViolationDiffDTO.Fields.limitType, "clv.limit_type"
+    );
+
+    private static final Map<String, String> DIFF_TEXT_COLUMNS = Map.of(
+        LimitViolationDiffDTO.Fields.status, "d.diff_status"
+    );
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+        LimitViolationDiffDTO.Fields.contingencyId, "d.contingency_id",
+        LimitViolationDiffDTO.Fields.subjectId, "d.subject_id",
+        LimitViolationDiffDTO.Fields.side, "d.side",
+        LimitViolationDiffDTO.Fields.limitName, "d.limit_name",
+        LimitViolationDiffDTO.Fields.limitType, "d.limit_type",
+        LimitViolationDiffDTO.Fields.status, "d.diff_status",
+        LimitViolationDiffDTO.Fields.baseLoading, "d.base_loading",
+        LimitViolationDiffDTO.Fields.comparedLoading, "d.compared_loading"
+    );
+
+    private static final String KEY_ORDER = "d.contingency_id, d.subject_id, d.side NULLS FIRST, d.limit_name NULLS FIRST, d.limit_type NULLS FIRST";
+
+    private static final String RESULT_LIMIT_VIOLATIONS = "SELECT c.contingency_id, s.subject_id, clv.side, clv.limit_name, clv.limit_type, clv.limit_value, " +
+        "clv.offending_value, clv.loading, clv.acceptable_duration FROM contingency_limit_violation clv JOIN contingency c ON c.uuid = clv.contingency_uuid " +
+        "JOIN subject_limit_violation s ON s.id = clv.subject_limit_violation_id WHERE clv.result_id = ?";
+
+    // the nullable columns of the key are coalesced so that the join stays an equi-join, a limit violation matching at most one of the other result
+    private static final String KEY_MATCH = "%1$s.contingency_id = %2$s.contingency_id AND %1$s.subject_id = %2$s.subject_id " +
+        "AND COALESCE(%1$s.side, '') = COALESCE(%2$s.side, '') AND COALESCE(%1$s.limit_name, '') = COALESCE(%2$s.limit_name, '') " +
+        "AND COALESCE(%1$s.limit_type, '') = COALESCE(%2$s.limit_type, '')";
+
+    // the variation of the loadings, or without loading of the overruns of the limits
+    private static final String SEVERITY_VARIATION = "CASE WHEN b.loading IS NOT NULL AND cp.loading IS NOT NULL THEN cp.loading - b.loading " +
+        "ELSE ABS(cp.offending_value - cp.limit_value) - ABS(b.offending_value - b.limit_value) END";
+
+    private static final String DIFF_COLUMNS = "d.contingency_id, d.subject_id, d.side, d.limit_name, d.limit_type, d.diff_status, d.base_limit, d.base_value, " +
+        "d.base_loading, d.base_acceptable_duration, d.compared_limit, d.compared_value, d.compared_loading, d.compared_acceptable_duration";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ResultDiffQueryRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param pageable sorted by the fields of {@link LimitViolationDiffDTO} among the sort columns, then by key
+     * @param withCount if false, the differences are not counted : one more difference is read, the total being the number of the differences
+     * until the end of the page, plus one if there are more
+     * @param countFinder the number of the differences, counted by the given count query or found in a cache
+     * @return the page of the differences, the unchanged limit violations being left out without filter on the status,
+     * empty if a filter is not supported
+     */
+    public Optional<Page<LimitViolationDiffDTO>> findPage(UUID baseResultUuid, UUID comparedResultUuid, List<ResourceFilterDTO> resourceFilters, Pageable pageable,
+                                                          boolean withCount, ToLongFunction<LongSupplier> countFinder) {
+        Optional<PageQuery> diffQuery = buildDiffQuery(baseResultUuid, comparedResultUuid, resourceFilters);
+        if (diffQuery.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] parameters = diffQuery.get().parameters().toArray();
+        if (!withCount && pageable.isPaged()) {
+            List<LimitViolationDiffDTO> diffs = findDiffs(diffQuery.get(), pageable.getSort(), " LIMIT " + (pageable.getPageSize() + 1) + " OFFSET " + pageable.getOffset());
+            return Optional.of(new PageImpl<>(diffs.subList(0, Math.min(diffs.size(), pageable.getPageSize())), pageable, pageable.getOffset() + diffs.size()));
+        }
+        String paging = pageable.isPaged() ? " LIMIT " + pageable.getPageSize() + " OFFSET " + pageable.getOffset() : "";
+        List<LimitViolationDiffDTO> diffs = findDiffs(diffQuery.get(), pageable.getSort(), paging);
+        return Optional.of(PageableExecutionUtils.getPage(diffs, pageable, () -> countFinder.applyAsLong(
+            () -> Objects.requireNonNullElse(jdbcTemplate.queryForObject("SELECT count(*) " + diffQuery.get().sql(), Long.class, parameters), 0L))));
+    }
+
+    private List<LimitViolationDiffDTO> findDiffs(PageQuery diffQuery, Sort sort, String paging) {
+        return jdbcTemplate.query("SELECT " + DIFF_COLUMNS + " " + diffQuery.sql() + " ORDER BY " + order(sort) + paging,
+            (resultSet, rowNum) -> toDto(resultSet), diffQuery.parameters().toArray());
+    }
+
+    /**
+     * @return the FROM and WHERE clauses of the differences "d", with their parameters
+     */
+    static Optional<PageQuery> buildDiffQuery(UUID baseResultUuid, UUID comparedResultUuid, List<ResourceFilterDTO> resourceFilters) {
+        List<String> keyConditions = new ArrayList<>();
+        List<Object> keyParameters = new ArrayList<>();
+        List<String> diffConditions = new ArrayList<>();
+        List<Object> diffParameters = new ArrayList<>();
+        for (ResourceFilterDTO resourceFilter : resourceFilters) {
+            boolean supported;
+            if (KEY_TEXT_COLUMNS.containsKey(resourceFilter.column())) {
+                supported = ContingencyPageQueryRepository.addTextCondition(resourceFilter, KEY_TEXT_COLUMNS.get(resourceFilter.column()), keyConditions, keyParameters);
+            } else {
+                supported = DIFF_TEXT_COLUMNS.containsKey(resourceFilter.column())
+                    && ContingencyPageQueryRepository.addTextCondition(resourceFilter, DIFF_TEXT_COLUMNS.get(resourceFilter.column()), diffConditions, diffParameters);
+            }
+            if (!supported) {
+                return Optional.empty();
+            }
+        }
+        if (resourceFilters.stream().noneMatch(resourceFilter -> LimitViolationDiffDTO.Fields.status.equals(resourceFilter.column()))) {
+            diffConditions.add("d.diff_status <> '" + LimitViolationDiffStatus.UNCHANGED.name() + "'");
+        }
+
+        String resultLimitViolations = "(" + RESULT_LIMIT_VIOLATIONS + keyConditions.stream().map(condition -> " AND " + condition).collect(Collectors.joining()) + ")";
+        String sql = "FROM (" +
+            "SELECT b.contingency_id, b.subject_id, b.side, b.limit_name, b.limit_type, " +
+            "CASE WHEN cp.subject_id IS NULL THEN '" + LimitViolationDiffStatus.RESOLVED.name() + "' " +
+            "WHEN " + SEVERITY_VARIATION + " > 0 THEN '" + LimitViolationDiffStatus.WORSENED.name() + "' " +
+            "WHEN " + SEVERITY_VARIATION + " < 0 THEN '" + LimitViolationDiffStatus.IMPROVED.name() + "' " +
+            "ELSE '" + LimitViolationDiffStatus.UNCHANGED.name() + "' END AS diff_status, " +
+            "b.limit_value AS base_limit, b.offending_value AS base_value, b.loading AS base_loading, b.acceptable_duration AS base_acceptable_duration, " +
+            "cp.limit_value AS compared_limit, cp.offending_value AS compared_value, cp.loading AS compared_loading, cp.acceptable_duration AS compared_acceptable_duration " +
+            "FROM " + resultLimitViolations + " b LEFT JOIN " + resultLimitViolations + " cp ON " + KEY_MATCH.formatted("cp", "b") + " " +
+            "UNION ALL " +
+            "SELECT cp.contingency_id, cp.subject_id, cp.side, cp.limit_name, cp.limit_type, '" + LimitViolationDiffStatus.NEW.name() + "', " +
+            "NULL, NULL, NULL, NULL, cp.limit_value, cp.offending_value, cp.loading, cp.acceptable_duration " +
+            "FROM " + resultLimitViolations + " cp WHERE NOT EXISTS (SELECT 1 FROM " + resultLimitViolations + " b WHERE " + KEY_MATCH.formatted("b", "cp") + ")" +
+            ") d" + (diffConditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", diffConditions));
+
+        // the limit violations of the base result, then of the compared result, in each branch of the union
+        List<Object> parameters = new ArrayList<>();
+        for (UUID resultUuid : List.of(baseResultUuid, comparedResultUuid, comparedResultUuid, baseResultUuid)) {
+            parameters.add(resultUuid);
+            parameters.addAll(keyParameters);
+        }
+        parameters.addAll(diffParameters);
+        return Optional.of(new PageQuery(sql, parameters));
+    }
+
+    static String order(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orders.add(SORT_COLUMNS.get(order.getProperty()) + (order.isAscending() ? " ASC NULLS LAST" : " DESC NULLS LAST"));
+        }
+        // the key orders the differences of equal sort values
+        orders.add(KEY_ORDER);
+        return String.join(", ", orders);
+    }
+
+    private static LimitViolationDiffDTO toDto(ResultSet resultSet) throws SQLException {
+        String side = resultSet.getString("side");
+        String limitType = resultSet.getString("limit_type");
+        return LimitViolationDiffDTO.builder()
+            .contingencyId(resultSet.getString("contingency_id"))
+            .subjectId(resultSet.getString("subject_id"))
+            .side(side != null ? ThreeSides.valueOf(side) : null)
+            .limitName(resultSet.getString("limit_name"))
+            .limitType(limitType != null ? LimitViolationType.valueOf(limitType) : null)
+            .status(LimitViolationDiffStatus.valueOf(resultSet.getString("diff_status")))
+            .baseLimit(resultSet.getObject("base_limit", Double.class))
+            .baseValue(resultSet.getObject("base_value", Double.class))
+            .baseLoading(resultSet.getObject("base_loading", Double.class))
+            .baseAcceptableDuration(resultSet.getObject("base_acceptable_duration", Integer.class))
+            .comparedLimit(resultSet.getObject("compared_limit", Double.class))
+            .comparedValue(resultSet.getObject("compared_value", Double.class))
+            .comparedLoading(resultSet.getObject("compared_loading", Double.class))
+            .comparedAcceptableDuration(resultSet.getObject("compared_acceptable_duration", Integer.class))
+            .build();
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.repositories;
+
+import org.gridsuite.securityanalysis.server.entities.ResultFacetEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ResultFacetRepository extends JpaRepository<ResultFacetEntity, UUID> {
+    List<ResultFacetEntity> findAllByResultIdOrderByFacetValue(UUID resultId);
+
+    /**
+     * Reads the facets of a result in the same query as its readability : no row when the result does not exist, is waiting for purge
+     * or has the hidden status, a single row without facet when the result has no facet.
+     * @param hiddenStatusOrdinal ordinal of the status of the results which are not readable yet, -1 for none
+     */
+    @Query(value = "SELECT f.facet AS facet, f.facet_value AS facetValue FROM security_analysis_result r " +
+            "LEFT JOIN security_analysis_result_facet f ON f.result_id = r.id " +
+            "WHERE r.id = ?1 AND r.deletion_date IS NULL AND (r.status IS NULL OR r.status <> ?2) ORDER BY f.facet_value", nativeQuery = true)
+    List<ReadableResultFacet> findAllOfReadableResult(UUID resultId, int hiddenStatusOrdinal);
+
+    // the facets are also deleted with their result by the foreign key cascade
+    @Modifying
+    @Query(value = "DELETE FROM security_analysis_result_facet WHERE result_id = ?1", nativeQuery = true)
+    int deleteAllByResultId(UUID resultId);
+
+    interface ReadableResultFacet {
+        @Nullable
+        String getFacet();
+
+        @Nullable
+        String getFacetValue();
+    }
+}
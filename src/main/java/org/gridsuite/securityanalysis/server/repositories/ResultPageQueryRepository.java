@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.repositories;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.postgresql.PGConnection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Queries of the paged results which are not expressible with the repositories : the ids of a page without count query,
+ * the rows of an export read through a database cursor, and the planner estimates of the number of rows of a result or of all the results.
+ */
+@Repository
+public class ResultPageQueryRepository {
+    /**
+     * Rows of the paged results, with the query of their unfiltered rows used for the planner estimates.
+     */
+    public enum PagedRows {
+        CONTINGENCIES("SELECT c.uuid FROM contingency c WHERE c.result_id = '%s' AND (c.status <> 'CONVERGED' " +
+            "OR EXISTS (SELECT 1 FROM contingency_limit_violation clv WHERE clv.contingency_uuid = c.uuid))"),
+        SUBJECT_LIMIT_VIOLATIONS("SELECT s.id FROM subject_limit_violation s WHERE s.result_id = '%s' " +
+            "AND EXISTS (SELECT 1 FROM contingency_limit_violation clv WHERE clv.subject_limit_violation_id = s.id)"),
+        CUT_OFF_POWER_CONTINGENCIES("SELECT c.uuid FROM contingency c WHERE c.result_id = '%s' " +
+            "AND (c.disconnected_load_active_power <> 0 OR c.disconnected_generation_active_power <> 0)");
+
+        private final String unfilteredRowsQuery;
+
+        PagedRows(String unfilteredRowsQuery) {
+            this.unfilteredRowsQuery = unfilteredRowsQuery;
+        }
+    }
+
+    // same tables as SecurityAnalysisResultRepository.countResultRows
+    private static final String RESULT_TABLE_OIDS = "to_regclass('contingency_limit_violation'), to_regclass('contingency_entity_contingency_elements'), " +
+        "to_regclass('contingency'), to_regclass('pre_contingency_limit_violation'), to_regclass('subject_limit_violation')";
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ResultPageQueryRepository(EntityManager entityManager, JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return the ids of the entities of the page, in the page order, the total number of entities is not counted
+     */
+    public <T> List<UUID> findIds(Class<T> domainClass, Specification<T> specification, String idProperty, Pageable pageable) {
+        TypedQuery<Tuple> typedQuery = createIdsQuery(domainClass, specification, idProperty, pageable.getSort());
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return typedQuery.getResultList().stream().map(tuple -> tuple.get(0, UUID.class)).toList();
+    }
+
+    /**
+     * Reads the ids of the entities in the sort order through a database cursor, and gives them to the consumer by chunks.
+     * The persistence context is cleared after each chunk, so that the memory used does not depend on the number of entities.
+     */
+    public <T> void forEachIdsChunk(Class<T> domainClass, Specification<T> specification, String idProperty, Sort sort, int chunkSize,
+                                    Consumer<List<UUID>> chunkConsumer) {
+        try (Stream<Tuple> tuples = createIdsQuery(domainClass, specification, idProperty, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, chunkSize)
+                .getResultStream()) {
+            forEachChunk(tuples.map(tuple -> tuple.get(0, UUID.class)), chunkSize, chunkConsumer);
+        }
+    }
+
+    /**
+     * Reads the entities in the sort order through a database cursor, with their given attributes, and gives them to the consumer by chunks.
+     * The persistence context is cleared after each chunk, so that the memory used does not depend on the number of entities.
+     */
+    public <T> void forEachEntitiesChunk(Class<T> domainClass, Specification<T> specification, Sort sort, List<String> fetchedAttributes, int chunkSize,
+                                         Consumer<List<T>> chunkConsumer) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = criteriaBuilder.createQuery(domainClass);
+        Root<T> root = query.from(domainClass);
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        EntityGraph<T> entityGraph = entityManager.createEntityGraph(domainClass);
+        entityGraph.addAttributeNodes(fetchedAttributes.toArray(String[]::new));
+
+        try (Stream<T> entities = entityManager.createQuery(query)
+                .setHint(SpecHints.HINT_SPEC_LOAD_GRAPH, entityGraph)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, chunkSize)
+                .getResultStream()) {
+            forEachChunk(entities, chunkSize, chunkConsumer);
+        }
+    }
+
+    private <T> TypedQuery<Tuple> createIdsQuery(Class<T> domainClass, Specification<T> specification, String idProperty, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<T> root = query.from(domainClass);
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        List<Order> orders = QueryUtils.toOrders(sort, root, criteriaBuilder);
+        // When using DISTINCT, all ORDER BY columns must be in the SELECT list
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get(idProperty));
+        orders.forEach(order -> selections.add(order.getExpression()));
+        query.multiselect(selections).orderBy(orders);
+
+        return entityManager.createQuery(query);
+    }
+
+    private <E> void forEachChunk(Stream<E> elements, int chunkSize, Consumer<List<E>> chunkConsumer) {
+        List<E> chunk = new ArrayList<>(chunkSize);
+        Iterator<E> iterator = elements.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == chunkSize || !iterator.hasNext()) {
+                chunkConsumer.accept(chunk);
+                entityManager.clear();
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+    }
+
+    /**
+     * @return the PostgreSQL planner estimate of the number of unfiltered rows of a result, empty on other databases
+     */
+    public OptionalLong estimateRowCount(PagedRows pagedRows, UUID resultUuid) {
+        if (!Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> connection.isWrapperFor(PGConnection.class)))) {
+            return OptionalLong.empty();
+        }
+        // the uuid is inlined so that the plan is the one of the actual value
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + pagedRows.unfilteredRowsQuery.formatted(resultUuid), String.class);
+        try {
+            return OptionalLong.of(objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows").asLong());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the number of rows of all the results from the planner statistics of their tables, partitions included, without scanning them,
+     * or empty if they are not available (only on PostgreSQL)
+     */
+    public OptionalLong estimateResultRows() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> connection.isWrapperFor(PGConnection.class)))) {
+            return OptionalLong.empty();
+        }
+        // reltuples is -1 for a table never analyzed, and not maintained on a partitioned table whose partitions have it
+        Long estimatedRows = jdbcTemplate.queryForObject("SELECT coalesce(sum(greatest(c.reltuples, 0)), 0)::bigint FROM pg_class c " +
+            "WHERE c.relkind = 'r' AND (c.oid IN (" + RESULT_TABLE_OIDS + ") " +
+            "OR c.oid IN (SELECT i.inhrelid FROM pg_inherits i WHERE i.inhparent IN (" + RESULT_TABLE_OIDS + ")))", Long.class);
+        return OptionalLong.of(estimatedRows != null ? estimatedRows : 0);
+    }
+}
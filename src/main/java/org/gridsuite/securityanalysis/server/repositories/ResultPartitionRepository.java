@@ -0,0 +1,227 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.repositories;
+
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Partitions of the result tables when they are list partitioned by result id on PostgreSQL (see the partitioned-results liquibase parameter) :
+ * each result has its own partition in each table, created before its first rows are written and dropped when it is deleted.
+ * The drops not done yet are recorded in the result_partition_drop table.
+ * Does nothing when the tables are not partitioned.
+ * The partition names must match the ones of the security_analysis_partition_results migration procedure.
+ */
+@Repository
+public class ResultPartitionRepository {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultPartitionRepository.class);
+
+    // partitioned table -> prefix of its partitions, the prefixes are short enough for the 63 characters of a PostgreSQL identifier
+    private static final Map<String, String> PARTITION_PREFIXES = new LinkedHashMap<>();
+
+    static {
+        PARTITION_PREFIXES.put("contingency", "contingency_");
+        PARTITION_PREFIXES.put("contingency_limit_violation", "clv_");
+        PARTITION_PREFIXES.put("pre_contingency_limit_violation", "pclv_");
+        PARTITION_PREFIXES.put("subject_limit_violation", "slv_");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final TransactionTemplate newTransactionTemplate;
+    private volatile Boolean partitioned;
+
+    public ResultPartitionRepository(JdbcTemplate jdbcTemplate, DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @return whether the result tables are list partitioned by result id, read from the database once since it is done by the migration
+     */
+    public boolean isPartitioned() {
+        Boolean isPartitioned = partitioned;
+        if (isPartitioned == null) {
+            isPartitioned = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> connection.isWrapperFor(PGConnection.class)))
+                && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('contingency') AND partstrat = 'l')", Boolean.class));
+            partitioned = isPartitioned;
+        }
+        return isPartitioned;
+    }
+
+    static Map<String, String> partitionNames(UUID resultUuid) {
+        String suffix = resultUuid.toString().replace("-", "");
+        Map<String, String> partitionNames = new LinkedHashMap<>();
+        PARTITION_PREFIXES.forEach((table, prefix) -> partitionNames.put(table, prefix + suffix));
+        return partitionNames;
+    }
+
+    /**
+     * Creates the missing partitions of a result, in their own transaction so that the lock on the partitioned tables is released right away.
+     * A partition is created as a standalone table then attached : attaching only takes a SHARE UPDATE EXCLUSIVE lock
+     * on the partitioned table, whereas CREATE TABLE ... PARTITION OF would block the reads of every result.
+     */
+    public void createPartitions(UUID resultUuid) {
+        if (!isPartitioned()) {
+            return;
+        }
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM result_partition_drop WHERE result_id = ?)", Boolean.class, resultUuid))) {
+            // the id of a deleted result whose partitions are not dropped yet is reused, they must not be reused with their rows
+            dropPartitions(resultUuid, true);
+        }
+        Map<String, String> partitionNames = partitionNames(resultUuid);
+        if (countAttachedPartitions(partitionNames) == partitionNames.size()) {
+            return;
+        }
+        newTransactionTemplate.executeWithoutResult(status -> partitionNames.forEach((table, partition) -> {
+            if (!isAttached(partition)) {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " (LIKE " + table + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+                jdbcTemplate.execute("ALTER TABLE " + table + " ATTACH PARTITION " + partition + " FOR VALUES IN ('" + resultUuid + "')");
+            }
+        }));
+        LOGGER.debug("Partitions of security analysis result '{}' have been created", resultUuid);
+    }
+
+    /**
+     * @return whether some partitions of the result still exist
+     */
+    public boolean hasPartitions(UUID resultUuid) {
+        if (!isPartitioned()) {
+            return false;
+        }
+        Integer count = jdbcTemplate.queryForObject("SELECT count(*) FROM pg_class WHERE relname IN (?, ?, ?, ?)", Integer.class,
+            partitionNames(resultUuid).values().toArray());
+        return count != null && count > 0;
+    }
+
+    /**
+     * Drops the partitions of a result, once the current transaction is committed if any : the partitions are detached concurrently,
+     * which waits for the transactions using the partitioned tables, the current one included, and can't run in a transaction.
+     * The rows of the other results are neither locked nor scanned.
+     * The drop is recorded with the deletion, so that it is retried by {@link #dropPendingPartitions} if it fails or the instance stops before its end.
+     * @return the estimated number of rows of the dropped partitions, from the planner statistics
+     */
+    public long dropPartitions(UUID resultUuid) {
+        if (!isPartitioned()) {
+            return 0;
+        }
+        Map<String, String> partitionNames = partitionNames(resultUuid);
+        Long estimatedRows = jdbcTemplate.queryForObject("SELECT coalesce(sum(greatest(reltuples, 0)), 0)::bigint FROM pg_class WHERE relname IN (?, ?, ?, ?)",
+            Long.class, partitionNames.values().toArray());
+        jdbcTemplate.update("INSERT INTO result_partition_drop (result_id, creation_date) VALUES (?, now()) ON CONFLICT DO NOTHING", resultUuid);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dropPartitions(resultUuid, true);
+                }
+            });
+        } else {
+            dropPartitions(resultUuid, true);
+        }
+        return estimatedRows != null ? estimatedRows : 0;
+    }
+
+    /**
+     * Records the drop of the partitions of every result, left to {@link #dropPendingPartitions} : the result rows can then be deleted right away.
+     */
+    public void addPendingDropOfAllPartitions() {
+        if (isPartitioned()) {
+            jdbcTemplate.update("INSERT INTO result_partition_drop (result_id, creation_date) SELECT id, now() FROM security_analysis_result ON CONFLICT DO NOTHING");
+        }
+    }
+
+    /**
+     * Drops the partitions of at most {@code limit} results whose drop has been recorded but not done, the oldest first.
+     * The partitions being dropped by another thread or instance are skipped.
+     * @return the number of results whose partitions have been dropped
+     */
+    public int dropPendingPartitions(int limit) {
+        if (!isPartitioned()) {
+            return 0;
+        }
+        int droppedResults = 0;
+        for (UUID resultUuid : jdbcTemplate.queryForList("SELECT result_id FROM result_partition_drop ORDER BY creation_date LIMIT ?", UUID.class, limit)) {
+            try {
+                if (dropPartitions(resultUuid, false)) {
+                    droppedResults++;
+                }
+            } catch (RuntimeException e) {
+                // the drop stays recorded, it is retried at next call
+                LOGGER.error("Error while dropping the partitions of security analysis result '{}'", resultUuid, e);
+            }
+        }
+        return droppedResults;
+    }
+
+    /**
+     * @param wait whether to wait for a drop of the same partitions by another thread or instance, otherwise they are left to it
+     * @return whether the partitions have been dropped
+     */
+    private boolean dropPartitions(UUID resultUuid, boolean wait) {
+        String lockName = "security-analysis-result-partitions-" + resultUuid;
+        // a dedicated connection in auto commit, the one of the transaction may still be bound to the thread
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            JdbcTemplate autoCommitJdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            if (wait) {
+                autoCommitJdbcTemplate.query("SELECT pg_advisory_lock(hashtext(?))", rs -> null, lockName);
+            } else if (!Boolean.TRUE.equals(autoCommitJdbcTemplate.queryForObject("SELECT pg_try_advisory_lock(hashtext(?))", Boolean.class, lockName))) {
+                return false;
+            }
+            try {
+                partitionNames(resultUuid).forEach((table, partition) -> {
+                    Boolean detachPending = autoCommitJdbcTemplate.query("SELECT inhdetachpending FROM pg_inherits WHERE inhrelid = to_regclass(?)",
+                        rs -> rs.next() ? rs.getBoolean(1) : null, partition);
+                    if (detachPending != null) {
+                        // a concurrent detach interrupted before its end must be finalized
+                        autoCommitJdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition + (detachPending ? " FINALIZE" : " CONCURRENTLY"));
+                    }
+                    autoCommitJdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                });
+                autoCommitJdbcTemplate.update("DELETE FROM result_partition_drop WHERE result_id = ?", resultUuid);
+            } finally {
+                autoCommitJdbcTemplate.query("SELECT pg_advisory_unlock(hashtext(?))", rs -> null, lockName);
+            }
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("Drop partitions of result " + resultUuid, null, e);
+        }
+        LOGGER.debug("Partitions of security analysis result '{}' have been dropped", resultUuid);
+        return true;
+    }
+
+    private int countAttachedPartitions(Map<String, String> partitionNames) {
+        Integer count = jdbcTemplate.queryForObject("SELECT count(*) FROM pg_inherits WHERE inhrelid IN (to_regclass(?), to_regclass(?), to_regclass(?), to_regclass(?))",
+            Integer.class, partitionNames.values().toArray());
+        return count != null ? count : 0;
+    }
+
+    private boolean isAttached(String partition) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM pg_inherits WHERE inhrelid = to_regclass(?))", Boolean.class, partition));
+    }
+}
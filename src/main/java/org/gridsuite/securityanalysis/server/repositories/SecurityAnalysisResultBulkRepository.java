@@ -0,0 +1,343 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.repositories;
+
+import org.gridsuite.securityanalysis.server.entities.*;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Set based insertion of a whole {@link SecurityAnalysisResultEntity} graph, bypassing the JPA persist/merge cycle.
+ * On PostgreSQL the rows are streamed with binary COPY, on other databases (H2 in tests) JDBC batches are used.
+ * The written rows are the same as the ones written by the entity path, only the generated ids differ.
+ * Must be called inside a transaction so that the JDBC connection is the one bound to the JPA transaction.
+ */
+@Repository
+public class SecurityAnalysisResultBulkRepository {
+    private static final int JDBC_BATCH_SIZE = 1000;
+
+    private static final List<BulkColumn> LIMIT_VIOLATION_COLUMNS = List.of(
+        new BulkColumn("id", BulkColumnType.UUID),
+        new BulkColumn("subject_limit_violation_id", BulkColumnType.UUID),
+        new BulkColumn("limit_value", BulkColumnType.FLOAT8),
+        new BulkColumn("patl_limit", BulkColumnType.FLOAT8),
+        new BulkColumn("limit_name", BulkColumnType.TEXT),
+        new BulkColumn("operational_limits_group_id", BulkColumnType.TEXT),
+        new BulkColumn("next_limit_name", BulkColumnType.TEXT),
+        new BulkColumn("limit_type", BulkColumnType.TEXT),
+        new BulkColumn("acceptable_duration", BulkColumnType.INT4),
+        new BulkColumn("upcoming_acceptable_duration", BulkColumnType.INT4),
+        new BulkColumn("limit_reduction", BulkColumnType.FLOAT8),
+        new BulkColumn("offending_value", BulkColumnType.FLOAT8),
+        new BulkColumn("side", BulkColumnType.TEXT),
+        new BulkColumn("loading", BulkColumnType.FLOAT8),
+        new BulkColumn("patl_loading", BulkColumnType.FLOAT8),
+        new BulkColumn("location_id", BulkColumnType.TEXT)
+    );
+
+    private static final BulkTable SUBJECT_LIMIT_VIOLATION_TABLE = new BulkTable("subject_limit_violation", List.of(
+        new BulkColumn("id", BulkColumnType.UUID),
+        new BulkColumn("subject_id", BulkColumnType.TEXT),
+        new BulkColumn("subject_name", BulkColumnType.TEXT),
+        new BulkColumn("result_id", BulkColumnType.UUID),
+        new BulkColumn("max_loading", BulkColumnType.FLOAT8),
+        new BulkColumn("min_acceptable_duration", BulkColumnType.INT4),
+        new BulkColumn("violation_count", BulkColumnType.INT4),
+        new BulkColumn("worst_limit_type", BulkColumnType.TEXT)
+    ));
+
+    private static final BulkTable CONTINGENCY_TABLE = new BulkTable("contingency", List.of(
+        new BulkColumn("uuid", BulkColumnType.UUID),
+        new BulkColumn("contingency_id", BulkColumnType.TEXT),
+        new BulkColumn("result_id", BulkColumnType.UUID),
+        new BulkColumn("status", BulkColumnType.TEXT),
+        new BulkColumn("disconnected_load_active_power", BulkColumnType.FLOAT8),
+        new BulkColumn("disconnected_generation_active_power", BulkColumnType.FLOAT8),
+        new BulkColumn("max_loading", BulkColumnType.FLOAT8),
+        new BulkColumn("min_acceptable_duration", BulkColumnType.INT4),
+        new BulkColumn("violation_count", BulkColumnType.INT4),
+        new BulkColumn("worst_limit_type", BulkColumnType.TEXT)
+    ));
+
+    private static final BulkTable CONTINGENCY_ELEMENTS_TABLE = new BulkTable("contingency_entity_contingency_elements", List.of(
+        new BulkColumn("contingency_entity_uuid", BulkColumnType.UUID),
+        new BulkColumn("element_id", BulkColumnType.TEXT),
+        new BulkColumn("element_type", BulkColumnType.INT2)
+    ));
+
+    private static final BulkTable CONTINGENCY_LIMIT_VIOLATION_TABLE = new BulkTable("contingency_limit_violation", Stream.concat(
+        LIMIT_VIOLATION_COLUMNS.stream(),
+        Stream.of(new BulkColumn("contingency_uuid", BulkColumnType.UUID), new BulkColumn("is_worst_side", BulkColumnType.BOOL), new BulkColumn("result_id", BulkColumnType.UUID))
+    ).toList());
+
+    private static final BulkTable PRE_CONTINGENCY_LIMIT_VIOLATION_TABLE = new BulkTable("pre_contingency_limit_violation", Stream.concat(
+        LIMIT_VIOLATION_COLUMNS.stream(),
+        Stream.of(new BulkColumn("result_id", BulkColumnType.UUID))
+    ).toList());
+
+    // the worst violation is chosen as in LimitViolationsAggregatesEmbeddable, the limit types being compared by their bytes on PostgreSQL
+    // as the names by the comparator, whatever the collation of the database
+    private static final String UPDATE_SUBJECT_LIMIT_VIOLATIONS_AGGREGATES = """
+        UPDATE subject_limit_violation s SET
+            max_loading = (SELECT MAX(clv.loading) FROM contingency_limit_violation clv WHERE clv.subject_limit_violation_id = s.id),
+            min_acceptable_duration = (SELECT MIN(clv.acceptable_duration) FROM contingency_limit_violation clv WHERE clv.subject_limit_violation_id = s.id),
+            violation_count = (SELECT COUNT(*) FROM contingency_limit_violation clv WHERE clv.subject_limit_violation_id = s.id),
+            worst_limit_type = (SELECT clv.limit_type FROM contingency_limit_violation clv WHERE clv.subject_limit_violation_id = s.id
+                ORDER BY clv.loading DESC NULLS LAST, clv.limit_type%s NULLS LAST LIMIT 1)
+        WHERE s.result_id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SecurityAnalysisResultBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(SecurityAnalysisResultEntity result) {
+        insert(result, new HashMap<>());
+    }
+
+    /**
+     * Writes the result row with its final status, then all its rows but the subject limit violations already written by previous chunks.
+     * @param subjectLimitViolationIds ids of the subject limit violations already written for this result, by subject id, completed with the new ones
+     */
+    public void insert(SecurityAnalysisResultEntity result, Map<String, UUID> subjectLimitViolationIds) {
+        Objects.requireNonNull(result.getId());
+        boolean writtenByChunks = !subjectLimitViolationIds.isEmpty();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            UUID resultId = result.getId();
+            upsertResult(connection, result);
+            writeSubjectLimitViolations(connection, resultId, result.getSubjectLimitViolations().stream(), subjectLimitViolationIds);
+            writeContingencies(connection, resultId, result.getContingencies(), subjectLimitViolationIds);
+            write(connection, PRE_CONTINGENCY_LIMIT_VIOLATION_TABLE, result.getPreContingencyLimitViolations().stream()
+                .map(limitViolation -> toRow(limitViolation, subjectLimitViolationIds, resultId)));
+            if (writtenByChunks) {
+                updateSubjectLimitViolationsAggregates(connection, resultId);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Writes a chunk of contingencies of a result whose row already exists, with their subject limit violations not written yet.
+     * @param subjectLimitViolationIds ids of the subject limit violations already written for this result, by subject id, completed with the new ones
+     */
+    public void insertContingencies(UUID resultId, List<ContingencyEntity> contingencies, Map<String, UUID> subjectLimitViolationIds) {
+        Objects.requireNonNull(resultId);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            writeSubjectLimitViolations(connection, resultId, contingencies.stream()
+                .filter(contingency -> contingency.getContingencyLimitViolations() != null)
+                .flatMap(contingency -> contingency.getContingencyLimitViolations().stream())
+                .map(AbstractLimitViolationEntity::getSubjectLimitViolation)
+                .filter(Objects::nonNull), subjectLimitViolationIds);
+            writeContingencies(connection, resultId, contingencies, subjectLimitViolationIds);
+            return null;
+        });
+    }
+
+    private static void writeSubjectLimitViolations(Connection connection, UUID resultId, Stream<SubjectLimitViolationEntity> subjectLimitViolations,
+                                                    Map<String, UUID> subjectLimitViolationIds) throws SQLException {
+        List<SubjectLimitViolationEntity> newSubjectLimitViolations = subjectLimitViolations
+            .filter(subjectLimitViolation -> !subjectLimitViolationIds.containsKey(subjectLimitViolation.getSubjectId()))
+            .filter(distinctBySubjectId())
+            .toList();
+        newSubjectLimitViolations.forEach(subjectLimitViolation -> subjectLimitViolationIds.put(subjectLimitViolation.getSubjectId(), UUID.randomUUID()));
+
+        write(connection, SUBJECT_LIMIT_VIOLATION_TABLE, newSubjectLimitViolations.stream()
+            .map(subjectLimitViolation -> concat(new Object[] {
+                subjectLimitViolationIds.get(subjectLimitViolation.getSubjectId()),
+                subjectLimitViolation.getSubjectId(),
+                subjectLimitViolation.getSubjectName(),
+                resultId
+            }, aggregatesRow(subjectLimitViolation.getLimitViolationsAggregates()))));
+    }
+
+    private static Predicate<SubjectLimitViolationEntity> distinctBySubjectId() {
+        Set<String> subjectIds = new HashSet<>();
+        return subjectLimitViolation -> subjectIds.add(subjectLimitViolation.getSubjectId());
+    }
+
+    private static void writeContingencies(Connection connection, UUID resultId, List<ContingencyEntity> contingencies, Map<String, UUID> subjectLimitViolationIds) throws SQLException {
+        Map<ContingencyEntity, UUID> contingencyIds = new IdentityHashMap<>();
+        contingencies.forEach(contingency -> contingencyIds.put(contingency, UUID.randomUUID()));
+
+        write(connection, CONTINGENCY_TABLE, contingencies.stream()
+            .map(contingency -> concat(new Object[] {
+                contingencyIds.get(contingency),
+                contingency.getContingencyId(),
+                resultId,
+                contingency.getStatus(),
+                contingency.getConnectivityResult() != null ? contingency.getConnectivityResult().getDisconnectedLoadActivePower() : null,
+                contingency.getConnectivityResult() != null ? contingency.getConnectivityResult().getDisconnectedGenerationActivePower() : null
+            }, aggregatesRow(contingency.getLimitViolationsAggregates()))));
+
+        write(connection, CONTINGENCY_ELEMENTS_TABLE, contingencies.stream()
+            .filter(contingency -> contingency.getContingencyElements() != null)
+            .flatMap(contingency -> contingency.getContingencyElements().stream()
+                .map(element -> new Object[] {
+                    contingencyIds.get(contingency),
+                    element.getElementId(),
+                    element.getElementType() != null ? (short) element.getElementType().ordinal() : null
+                })));
+
+        write(connection, CONTINGENCY_LIMIT_VIOLATION_TABLE, contingencies.stream()
+            .filter(contingency -> contingency.getContingencyLimitViolations() != null)
+            .flatMap(contingency -> contingency.getContingencyLimitViolations().stream()
+                .map(limitViolation -> toRow(limitViolation, subjectLimitViolationIds,
+                    contingencyIds.get(contingency),
+                    limitViolation.isWorstSide(),
+                    resultId))));
+    }
+
+    private static Object[] toRow(AbstractLimitViolationEntity limitViolation, Map<String, UUID> subjectLimitViolationIds, Object... specificValues) {
+        Object[] row = new Object[LIMIT_VIOLATION_COLUMNS.size() + specificValues.length];
+        row[0] = UUID.randomUUID();
+        row[1] = limitViolation.getSubjectLimitViolation() != null ? subjectLimitViolationIds.get(limitViolation.getSubjectLimitViolation().getSubjectId()) : null;
+        row[2] = limitViolation.getLimit();
+        row[3] = limitViolation.getPatlLimit();
+        row[4] = limitViolation.getLimitName();
+        row[5] = limitViolation.getOperationalLimitsGroupId();
+        row[6] = limitViolation.getNextLimitName();
+        row[7] = limitViolation.getLimitType() != null ? limitViolation.getLimitType().name() : null;
+        row[8] = limitViolation.getAcceptableDuration();
+        row[9] = limitViolation.getUpcomingAcceptableDuration();
+        row[10] = limitViolation.getLimitReduction();
+        row[11] = limitViolation.getValue();
+        row[12] = limitViolation.getSide() != null ? limitViolation.getSide().name() : null;
+        row[13] = limitViolation.getLoading();
+        row[14] = limitViolation.getPatlLoading();
+        row[15] = limitViolation.getLocationId();
+        System.arraycopy(specificValues, 0, row, LIMIT_VIOLATION_COLUMNS.size(), specificValues.length);
+        return row;
+    }
+
+    private static Object[] aggregatesRow(@Nullable LimitViolationsAggregatesEmbeddable limitViolationsAggregates) {
+        if (limitViolationsAggregates == null) {
+            return new Object[] {null, null, 0, null};
+        }
+        return new Object[] {
+            limitViolationsAggregates.getMaxLoading(),
+            limitViolationsAggregates.getMinAcceptableDuration(),
+            limitViolationsAggregates.getViolationCount(),
+            limitViolationsAggregates.getWorstLimitType() != null ? limitViolationsAggregates.getWorstLimitType().name() : null
+        };
+    }
+
+    private static Object[] concat(Object[] values, Object[] otherValues) {
+        Object[] row = Arrays.copyOf(values, values.length + otherValues.length);
+        System.arraycopy(otherValues, 0, row, values.length, otherValues.length);
+        return row;
+    }
+
+    /**
+     * The subject limit violations are written with the aggregates of the violations of their first chunk, they are computed again
+     * from all the written contingency limit violations of the result.
+     */
+    private static void updateSubjectLimitViolationsAggregates(Connection connection, UUID resultId) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(UPDATE_SUBJECT_LIMIT_VIOLATIONS_AGGREGATES.formatted(
+            connection.isWrapperFor(PGConnection.class) ? " COLLATE \"C\"" : ""))) {
+            bind(update, 1, BulkColumnType.UUID, resultId);
+            update.executeUpdate();
+        }
+    }
+
+    private static void upsertResult(Connection connection, SecurityAnalysisResultEntity result) throws SQLException {
+        Short status = result.getStatus() != null ? (short) result.getStatus().ordinal() : null;
+        try (PreparedStatement update = connection.prepareStatement("UPDATE security_analysis_result SET status = ?, pre_contingency_status = ? WHERE id = ?")) {
+            bind(update, 1, BulkColumnType.INT2, status);
+            bind(update, 2, BulkColumnType.TEXT, result.getPreContingencyStatus());
+            bind(update, 3, BulkColumnType.UUID, result.getId());
+            if (update.executeUpdate() > 0) {
+                return;
+            }
+        }
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO security_analysis_result (id, status, pre_contingency_status, creation_date) VALUES (?, ?, ?, CURRENT_TIMESTAMP)")) {
+            bind(insert, 1, BulkColumnType.UUID, result.getId());
+            bind(insert, 2, BulkColumnType.INT2, status);
+            bind(insert, 3, BulkColumnType.TEXT, result.getPreContingencyStatus());
+            insert.executeUpdate();
+        }
+    }
+
+    private static void write(Connection connection, BulkTable table, Stream<Object[]> rows) throws SQLException {
+        if (connection.isWrapperFor(PGConnection.class)) {
+            copy(connection.unwrap(PGConnection.class), table, rows);
+        } else {
+            batchInsert(connection, table, rows);
+        }
+    }
+
+    private static void copy(PGConnection connection, BulkTable table, Stream<Object[]> rows) throws SQLException {
+        try (PgBinaryCopyWriter writer = new PgBinaryCopyWriter(connection.getCopyAPI().copyIn(table.copyStatement()), table.types())) {
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.writeRow(iterator.next());
+            }
+            writer.finish();
+        }
+    }
+
+    private static void batchInsert(Connection connection, BulkTable table, Stream<Object[]> rows) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(table.insertStatement())) {
+            int pendingRows = 0;
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                for (int i = 0; i < row.length; i++) {
+                    bind(statement, i + 1, table.columns().get(i).type(), row[i]);
+                }
+                statement.addBatch();
+                if (++pendingRows == JDBC_BATCH_SIZE) {
+                    statement.executeBatch();
+                    pendingRows = 0;
+                }
+            }
+            if (pendingRows > 0) {
+                statement.executeBatch();
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement statement, int index, BulkColumnType type, Object value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, type.getSqlType());
+        } else {
+            statement.setObject(index, value);
+        }
+    }
+
+    private record BulkColumn(String name, BulkColumnType type) { }
+
+    private record BulkTable(String name, List<BulkColumn> columns) {
+        String columnList() {
+            return columns.stream().map(BulkColumn::name).collect(Collectors.joining(", "));
+        }
+
+        List<BulkColumnType> types() {
+            return columns.stream().map(BulkColumn::type).toList();
+        }
+
+        String copyStatement() {
+            return "COPY " + name + " (" + columnList() + ") FROM STDIN (FORMAT BINARY)";
+        }
+
+        String insertStatement() {
+            return "INSERT INTO " + name + " (" + columnList() + ") VALUES (" + columns.stream().map(c -> "?").collect(Collectors.joining(", ")) + ")";
+        }
+    }
+}
@@ -6,10 +6,16 @@
  */
 package org.gridsuite.securityanalysis.server.repositories;
 
+import org.gridsuite.securityanalysis.server.dto.SecurityAnalysisStatus;
 import org.gridsuite.securityanalysis.server.entities.SecurityAnalysisResultEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 /**
  * @author Kevin Le Saulnier <kevin.lesaulnier at rte-france.com>
@@ -17,4 +23,49 @@ import java.util.UUID;
 
 @Repository
 public interface SecurityAnalysisResultRepository extends JpaRepository<SecurityAnalysisResultEntity, UUID> {
+    @Modifying
+    @Query(value = "UPDATE SecurityAnalysisResultEntity r SET r.deletionDate = :deletionDate WHERE r.id = :resultUuid AND r.deletionDate IS NULL")
+    int markDeleted(UUID resultUuid, Instant deletionDate);
+
+    @Modifying
+    @Query(value = "UPDATE SecurityAnalysisResultEntity r SET r.deletionDate = :deletionDate WHERE r.deletionDate IS NULL")
+    int markAllDeleted(Instant deletionDate);
+
+    @Query(value = "SELECT r.id FROM SecurityAnalysisResultEntity r WHERE r.deletionDate IS NOT NULL ORDER BY r.deletionDate")
+    List<UUID> findDeletedIds(Pageable pageable);
+
+    long countByDeletionDateIsNotNull();
+
+    // without the entity cascade on the children, for the partitioned result tables whose partitions are dropped instead
+    @Modifying
+    @Query(value = "DELETE FROM security_analysis_result WHERE id = ?1", nativeQuery = true)
+    int deleteResultRowById(UUID resultUuid);
+
+    @Modifying
+    @Query(value = "DELETE FROM security_analysis_result", nativeQuery = true)
+    int deleteAllResultRows();
+
+    long countByDeletionDateIsNull();
+
+    @Query(value = "SELECT r.id FROM SecurityAnalysisResultEntity r WHERE r.deletionDate IS NULL AND (r.status IS NULL OR r.status <> :excludedStatus) " +
+            "ORDER BY r.creationDate")
+    List<UUID> findIdsOrderByCreationDate(SecurityAnalysisStatus excludedStatus, Pageable pageable);
+
+    @Query(value = "SELECT r.id FROM SecurityAnalysisResultEntity r WHERE r.creationDate < :creationDate AND r.deletionDate IS NULL " +
+            "AND (r.status IS NULL OR r.status <> :excludedStatus) ORDER BY r.creationDate")
+    List<UUID> findIdsCreatedBefore(Instant creationDate, SecurityAnalysisStatus excludedStatus, Pageable pageable);
+
+    /**
+     * @return the ids of the results of each network older than its {@code maxResultsPerNetwork} newest results, oldest first
+     */
+    @Query(value = "SELECT id FROM (SELECT id, status, creation_date, " +
+            "ROW_NUMBER() OVER (PARTITION BY network_uuid ORDER BY creation_date DESC) AS network_result_rank " +
+            "FROM security_analysis_result WHERE network_uuid IS NOT NULL AND deletion_date IS NULL) ranked_result " +
+            "WHERE network_result_rank > ?1 AND (status IS NULL OR status <> ?2) ORDER BY creation_date LIMIT ?3", nativeQuery = true)
+    List<UUID> findIdsBeyondMaxResultsPerNetwork(int maxResultsPerNetwork, int excludedStatusOrdinal, int limit);
+
+    @Query(value = "SELECT (SELECT COUNT(*) FROM contingency_limit_violation) + (SELECT COUNT(*) FROM contingency_entity_contingency_elements) " +
+            "+ (SELECT COUNT(*) FROM contingency) + (SELECT COUNT(*) FROM pre_contingency_limit_violation) + (SELECT COUNT(*) FROM subject_limit_violation)",
+            nativeQuery = true)
+    long countResultRows();
 }
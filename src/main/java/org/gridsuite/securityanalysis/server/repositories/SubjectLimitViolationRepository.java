@@ -24,17 +24,27 @@ public interface SubjectLimitViolationRepository extends JpaRepository<SubjectLi
     List<SubjectLimitViolationEntity> findAll(Specification<SubjectLimitViolationEntity> spec);
 
     @EntityGraph(attributePaths = {"contingencyLimitViolations", "contingencyLimitViolations.subjectLimitViolation"}, type = EntityGraph.EntityGraphType.LOAD)
-    List<SubjectLimitViolationEntity> findAllWithContingencyContingencyLimitViolationsByIdIn(List<UUID> uuids);
+    List<SubjectLimitViolationEntity> findAllWithContingencyContingencyLimitViolationsByResultIdAndIdIn(UUID resultId, List<UUID> uuids);
 
-    List<SubjectLimitViolationEntity> findAllByIdIn(List<UUID> uuids);
+    List<SubjectLimitViolationEntity> findAllByResultIdAndIdIn(UUID resultId, List<UUID> uuids);
 
     List<SubjectLimitViolationEntity> findAllByResultId(UUID resultUuid);
 
+    @Query(value = "SELECT s.id FROM SubjectLimitViolationEntity s WHERE s.result.id = :resultUuid ORDER BY s.id")
+    List<UUID> findIdsByResultIdOrderById(UUID resultUuid);
+
+    @Query(value = "SELECT DISTINCT s.subjectId FROM SubjectLimitViolationEntity s WHERE s.result.id = ?1")
+    List<String> findSubjectIdsByResultId(UUID resultId);
+
     interface EntityId {
         UUID getId();
     }
 
     @Modifying
     @Query(value = "DELETE FROM subject_limit_violation WHERE result_id = ?1", nativeQuery = true)
-    void deleteAllByResultId(UUID resultId);
+    int deleteAllByResultId(UUID resultId);
+
+    @Modifying
+    @Query(value = "DELETE FROM subject_limit_violation WHERE id IN (SELECT id FROM subject_limit_violation WHERE result_id = ?1 LIMIT ?2)", nativeQuery = true)
+    int deleteByResultIdLimitedTo(UUID resultId, int limit);
 }
@@ -30,7 +30,8 @@ public class ContingencySpecificationBuilder extends AbstractCommonSpecification
     @Override
     public boolean isNotParentFilter(ResourceFilterDTO filter) {
         return !List.of(ContingencyEntity.Fields.contingencyId, ContingencyEntity.Fields.status,
-            ContingencyEntity.Fields.contingencyElements + FIELD_SEPARATOR + ContingencyElementEmbeddable.Fields.elementId).contains(filter.column());
+            ContingencyEntity.Fields.contingencyElements + FIELD_SEPARATOR + ContingencyElementEmbeddable.Fields.elementId).contains(filter.column())
+            && !filter.column().startsWith(ContingencyEntity.Fields.limitViolationsAggregates + FIELD_SEPARATOR);
     }
 
     @Override
@@ -25,7 +25,8 @@ import java.util.UUID;
 public class SubjectLimitViolationSpecificationBuilder extends AbstractCommonSpecificationBuilder<SubjectLimitViolationEntity> {
     @Override
     public boolean isNotParentFilter(ResourceFilterDTO filter) {
-        return !filter.column().equals(SubjectLimitViolationEntity.Fields.subjectId);
+        return !filter.column().equals(SubjectLimitViolationEntity.Fields.subjectId)
+            && !filter.column().startsWith(SubjectLimitViolationEntity.Fields.limitViolationsAggregates + SpecificationUtils.FIELD_SEPARATOR);
     }
 
     @Override
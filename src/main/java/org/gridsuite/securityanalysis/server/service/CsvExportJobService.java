@@ -0,0 +1,324 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import jakarta.annotation.PreDestroy;
+import org.gridsuite.securityanalysis.server.dto.CsvTranslationDTO;
+import org.gridsuite.securityanalysis.server.dto.ExportJobInfos;
+import org.gridsuite.securityanalysis.server.dto.ExportJobInfos.ExportJobStatus;
+import org.gridsuite.securityanalysis.server.dto.ExportType;
+import org.gridsuite.securityanalysis.server.entities.CsvExportJobEntity;
+import org.gridsuite.securityanalysis.server.error.SecurityAnalysisException;
+import org.gridsuite.securityanalysis.server.repositories.CsvExportJobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+import static org.gridsuite.securityanalysis.server.error.SecurityAnalysisBusinessErrorCode.EXPORT_JOBS_QUEUE_FULL;
+
+/**
+ * Runs the csv exports of the results in background, on a bounded pool, so that large exports do not hold an HTTP request until they
+ * are written. The zipped csv of a job is written in the spool directory and kept ttl after the end of the job.
+ * An export identical to an unfinished one is not run again, the job of the unfinished one is returned.
+ * The jobs are stored in the database and the spool directory must be shared by the instances : a job is run by the instance which
+ * received it, and is read, downloaded or cancelled from any instance.
+ */
+@Service
+public class CsvExportJobService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CsvExportJobService.class);
+
+    private static final String FILE_EXTENSION = ".zip";
+    private static final String PART_FILE_EXTENSION = ".zip.part";
+
+    private record Key(UUID resultUuid, ExportType type, UUID networkUuid, String variantId, String filters, String globalFilters, Sort sort,
+                       CsvTranslationDTO csvTranslations) { }
+
+    private static final class Job {
+        private final UUID id = UUID.randomUUID();
+        private final Key key;
+        // set when the job is ended by another request, the export stops at its next write
+        private volatile boolean cancelled;
+
+        private Job(Key key) {
+            this.key = key;
+        }
+    }
+
+    private final SecurityAnalysisResultService resultService;
+    private final CsvExportJobRepository csvExportJobRepository;
+    private final Path spoolDirectory;
+    private final Duration ttl;
+    private final ThreadPoolExecutor executor;
+
+    // the unfinished jobs run by this instance
+    private final Map<UUID, Job> localJobs = new ConcurrentHashMap<>();
+
+    public CsvExportJobService(SecurityAnalysisResultService resultService,
+                               CsvExportJobRepository csvExportJobRepository,
+                               @Value("${security-analysis.export-jobs.spool-directory:${java.io.tmpdir}/security-analysis-exports}") Path spoolDirectory,
+                               @Value("${security-analysis.export-jobs.ttl:PT1H}") Duration ttl,
+                               @Value("${security-analysis.export-jobs.parallelism:2}") int parallelism,
+                               @Value("${security-analysis.export-jobs.queue-capacity:20}") int queueCapacity) {
+        this.resultService = resultService;
+        this.csvExportJobRepository = csvExportJobRepository;
+        this.spoolDirectory = spoolDirectory;
+        this.ttl = ttl;
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+            Thread.ofPlatform().name("csv-export-", 0).daemon().factory());
+    }
+
+    /**
+     * Fails the unfinished jobs of this instance, so that they are not awaited until their heartbeat expires.
+     */
+    @PreDestroy
+    public void shutdownExecutor() {
+        Instant now = Instant.now();
+        localJobs.values().forEach(job -> {
+            job.cancelled = true;
+            csvExportJobRepository.end(job.id, ExportJobStatus.FAILED, null, now);
+        });
+        executor.shutdownNow();
+    }
+
+    /**
+     * @return the job writing the export, the one of an identical unfinished export if any
+     */
+    public synchronized ExportJobInfos submit(UUID resultUuid, ExportType type, UUID networkUuid, String variantId, String filters, String globalFilters,
+                                              Sort sort, CsvTranslationDTO csvTranslations) {
+        resultService.assertResultExists(resultUuid);
+        Key key = new Key(resultUuid, type, networkUuid, variantId, filters, globalFilters, sort, csvTranslations);
+        String keyHash = hash(key);
+        // identical exports submitted at the same time to two instances may both be run
+        Optional<CsvExportJobEntity> unfinishedJob = csvExportJobRepository.findFirstByKeyHashAndEndDateIsNull(keyHash);
+        if (unfinishedJob.isPresent()) {
+            return unfinishedJob.get().toInfos();
+        }
+        try {
+            Files.createDirectories(spoolDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while creating the csv export spool directory", e);
+        }
+        Job job = new Job(key);
+        CsvExportJobEntity jobEntity = csvExportJobRepository.save(new CsvExportJobEntity(job.id, resultUuid, keyHash, ExportJobStatus.PENDING,
+            null, Instant.now(), null));
+        localJobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            localJobs.remove(job.id);
+            csvExportJobRepository.deleteById(job.id);
+            throw new SecurityAnalysisException(EXPORT_JOBS_QUEUE_FULL, "Too many csv exports are waiting, retry later");
+        }
+        return jobEntity.toInfos();
+    }
+
+    public Optional<ExportJobInfos> getJob(UUID jobId) {
+        return csvExportJobRepository.findById(jobId).map(CsvExportJobEntity::toInfos);
+    }
+
+    /**
+     * @return the zipped csv of the job, empty if the job is unknown or not completed
+     */
+    public Optional<Path> getFile(UUID jobId) {
+        return csvExportJobRepository.findById(jobId)
+            .filter(job -> job.getStatus() == ExportJobStatus.COMPLETED)
+            .map(job -> file(job.getId(), FILE_EXTENSION))
+            .filter(Files::exists);
+    }
+
+    /**
+     * Cancels the job if it is not ended, its file is not written. The job is stopped right away if it is run by this instance,
+     * otherwise at the next heartbeat of the instance running it.
+     * @return the job, empty if it is unknown
+     */
+    public Optional<ExportJobInfos> cancel(UUID jobId) {
+        if (csvExportJobRepository.end(jobId, ExportJobStatus.CANCELLED, null, Instant.now()) > 0) {
+            Job localJob = localJobs.get(jobId);
+            if (localJob != null) {
+                localJob.cancelled = true;
+            }
+        }
+        return getJob(jobId);
+    }
+
+    /**
+     * Refreshes the heartbeat of the unfinished jobs of this instance and stops the ones cancelled from another instance,
+     * fails the unfinished jobs whose heartbeat is older than ttl, then forgets the jobs ended for more than ttl with their files.
+     * The files of the spool directory older than ttl and without job, left by an interrupted cleanup, are also deleted :
+     * the job of an export is stored before its file is written, so the file of a running export is never deleted.
+     */
+    @Scheduled(initialDelayString = "${security-analysis.export-jobs.cleanup-delay:PT1M}", fixedDelayString = "${security-analysis.export-jobs.cleanup-delay:PT1M}")
+    public void cleanUp() {
+        Instant now = Instant.now();
+        Instant expirationDate = now.minus(ttl);
+        Set<UUID> localJobIds = new HashSet<>(localJobs.keySet());
+        if (!localJobIds.isEmpty()) {
+            csvExportJobRepository.refreshHeartbeats(localJobIds, now);
+            csvExportJobRepository.findEndedIds(localJobIds).forEach(jobId -> {
+                Job localJob = localJobs.get(jobId);
+                if (localJob != null) {
+                    localJob.cancelled = true;
+                }
+            });
+        }
+        int abandonedJobs = csvExportJobRepository.endAbandoned(ExportJobStatus.FAILED, expirationDate, now);
+        if (abandonedJobs > 0) {
+            LOGGER.warn("{} csv exports whose instance stopped have been failed", abandonedJobs);
+        }
+
+        List<UUID> expiredJobIds = csvExportJobRepository.findIdsEndedBefore(expirationDate);
+        expiredJobIds.forEach(jobId -> {
+            delete(file(jobId, FILE_EXTENSION));
+            delete(file(jobId, PART_FILE_EXTENSION));
+        });
+        csvExportJobRepository.deleteAllByIdInBatch(expiredJobIds);
+
+        if (!Files.isDirectory(spoolDirectory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(spoolDirectory)) {
+            files.filter(file -> isExpired(file, expirationDate) && jobId(file).map(jobId -> !csvExportJobRepository.existsById(jobId)).orElse(false))
+                .forEach(CsvExportJobService::delete);
+        } catch (IOException e) {
+            LOGGER.error("Error while cleaning the csv export spool directory '{}'", spoolDirectory, e);
+        }
+    }
+
+    private void run(Job job) {
+        try {
+            if (csvExportJobRepository.start(job.id, ExportJobStatus.RUNNING, Instant.now()) == 0) {
+                // cancelled while pending
+                return;
+            }
+            long startTime = System.nanoTime();
+            Path partFile = file(job.id, PART_FILE_EXTENSION);
+            Path file = file(job.id, FILE_EXTENSION);
+            ExportJobStatus status;
+            Long size = null;
+            try {
+                try (OutputStream outputStream = new CancellableOutputStream(new BufferedOutputStream(Files.newOutputStream(partFile)), job)) {
+                    write(job.key, outputStream);
+                }
+                Files.move(partFile, file, StandardCopyOption.ATOMIC_MOVE);
+                size = Files.size(file);
+                status = ExportJobStatus.COMPLETED;
+            } catch (Exception e) {
+                status = ExportJobStatus.FAILED;
+                delete(partFile);
+                if (!job.cancelled) {
+                    LOGGER.error("Error while writing the csv export '{}' of result '{}'", job.id, job.key.resultUuid(), e);
+                }
+            }
+            if (csvExportJobRepository.end(job.id, status, size, Instant.now()) == 0) {
+                // cancelled while running
+                delete(file);
+                LOGGER.info("Csv export '{}' of result '{}' has been cancelled", job.id, job.key.resultUuid());
+            } else if (status == ExportJobStatus.COMPLETED) {
+                LOGGER.info("Csv export '{}' of result '{}' has been written ({} bytes) in {}ms", job.id, job.key.resultUuid(), size,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            }
+        } finally {
+            localJobs.remove(job.id);
+        }
+    }
+
+    private void write(Key key, OutputStream outputStream) {
+        switch (key.type()) {
+            case N_RESULT -> resultService.writeNResultZippedCsv(key.resultUuid(), key.networkUuid(), key.variantId(), key.filters(), key.globalFilters(),
+                key.sort(), key.csvTranslations(), outputStream);
+            case NMK_CONTINGENCIES -> resultService.writeNmKContingenciesResultZippedCsv(key.resultUuid(), key.networkUuid(), key.variantId(), key.filters(),
+                key.globalFilters(), key.sort(), key.csvTranslations(), outputStream);
+            case NMK_CONSTRAINTS -> resultService.writeNmKConstraintsResultZippedCsv(key.resultUuid(), key.networkUuid(), key.variantId(), key.filters(),
+                key.globalFilters(), key.sort(), key.csvTranslations(), outputStream);
+            case NMK_CUT_OFF_POWER -> resultService.writeNmKConnectivityResultZippedCsv(key.resultUuid(), key.networkUuid(), key.variantId(), key.filters(),
+                key.globalFilters(), key.sort(), key.csvTranslations(), outputStream);
+        }
+    }
+
+    private static String hash(Key key) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(key.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Path file(UUID jobId, String extension) {
+        return spoolDirectory.resolve(jobId + extension);
+    }
+
+    private static Optional<UUID> jobId(Path file) {
+        String fileName = file.getFileName().toString();
+        int extensionIndex = fileName.indexOf('.');
+        try {
+            return Optional.of(UUID.fromString(extensionIndex >= 0 ? fileName.substring(0, extensionIndex) : fileName));
+        } catch (IllegalArgumentException e) {
+            // not written by an export
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isExpired(Path file, Instant expirationDate) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(expirationDate);
+        } catch (IOException e) {
+            // already deleted
+            return false;
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.error("Error while deleting the csv export file '{}'", file, e);
+        }
+    }
+
+    private static final class CancellableOutputStream extends FilterOutputStream {
+        private final Job job;
+
+        private CancellableOutputStream(OutputStream outputStream, Job job) {
+            super(outputStream);
+            this.job = job;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            checkCancelled();
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            checkCancelled();
+            out.write(b, off, len);
+        }
+
+        private void checkCancelled() throws IOException {
+            if (job.cancelled) {
+                throw new InterruptedIOException("The csv export has been cancelled");
+            }
+        }
+    }
+}
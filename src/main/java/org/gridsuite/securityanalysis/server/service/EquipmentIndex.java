@@ -0,0 +1,219 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.powsybl.iidm.network.Connectable;
+import com.powsybl.iidm.network.HvdcConverterStation;
+import com.powsybl.iidm.network.HvdcLine;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Substation;
+import com.powsybl.iidm.network.Terminal;
+import com.powsybl.iidm.network.VoltageLevel;
+import org.gridsuite.filter.utils.EquipmentType;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Nominal voltage, country and substation properties of the sides of the equipments of a network variant, to evaluate the global filters
+ * without loading the network. As with the filter server, an equipment matches a criterion of a global filter when one of its sides matches
+ * it, and the global filter when it matches all its criteria.
+ */
+final class EquipmentIndex {
+    private static final Map<String, EquipmentType> INDEXED_TYPES = Stream.of(EquipmentType.LINE, EquipmentType.TWO_WINDINGS_TRANSFORMER,
+            EquipmentType.THREE_WINDINGS_TRANSFORMER, EquipmentType.BATTERY, EquipmentType.GENERATOR, EquipmentType.LOAD,
+            EquipmentType.SHUNT_COMPENSATOR, EquipmentType.STATIC_VAR_COMPENSATOR, EquipmentType.BOUNDARY_LINE, EquipmentType.HVDC_LINE,
+            EquipmentType.VSC_CONVERTER_STATION, EquipmentType.BUSBAR_SECTION, EquipmentType.VOLTAGE_LEVEL)
+        .collect(Collectors.toMap(Enum::name, Function.identity()));
+
+    private static final String VOLTAGE_RANGES = "voltageRanges";
+    private static final String COUNTRY_CODE = "countryCode";
+    private static final String SUBSTATION_PROPERTY = "substationProperty";
+
+    /**
+     * The criteria of a global filter evaluated by the index, each side of an equipment matching a bit set of them.
+     */
+    record Criteria(List<double[]> voltageRanges, Set<String> countries, Map<String, Set<String>> substationProperties) {
+        /**
+         * The global filter is read from its JSON form, so that the criteria unknown to the index, like the generic filters which are stored
+         * by the filter server, let it be resolved by the filter server.
+         * @return the criteria of the global filter, empty if some of them are not evaluated by the index
+         */
+        static Optional<Criteria> of(JsonNode globalFilter) {
+            List<double[]> voltageRanges = new ArrayList<>();
+            Set<String> countries = new HashSet<>();
+            Map<String, Set<String>> substationProperties = new HashMap<>();
+            for (Map.Entry<String, JsonNode> field : globalFilter.properties()) {
+                JsonNode value = field.getValue();
+                if (value.isNull() || (value.isContainerNode() && value.isEmpty())) {
+                    continue;
+                }
+                switch (field.getKey()) {
+                    case VOLTAGE_RANGES -> value.forEach(range -> voltageRanges.add(new double[] {
+                        range.path(0).isNumber() ? range.get(0).doubleValue() : Double.NEGATIVE_INFINITY,
+                        range.path(1).isNumber() ? range.get(1).doubleValue() : Double.POSITIVE_INFINITY
+                    }));
+                    case COUNTRY_CODE -> value.forEach(country -> countries.add(country.asText()));
+                    case SUBSTATION_PROPERTY -> value.properties().forEach(property -> {
+                        Set<String> propertyValues = new HashSet<>();
+                        property.getValue().forEach(propertyValue -> propertyValues.add(propertyValue.asText()));
+                        substationProperties.put(property.getKey(), propertyValues);
+                    });
+                    default -> {
+                        return Optional.empty();
+                    }
+                }
+            }
+            Criteria criteria = new Criteria(voltageRanges, countries, substationProperties);
+            return criteria.count() < Long.SIZE ? Optional.of(criteria) : Optional.empty();
+        }
+
+        int count() {
+            return (voltageRanges.isEmpty() ? 0 : 1) + (countries.isEmpty() ? 0 : 1) + substationProperties.size();
+        }
+    }
+
+    private record Equipments(List<String> ids, int[] firstSides, int[] sideVoltageLevels) { }
+
+    private final double[] nominalVoltages;
+    private final String[] countries;
+    private final List<Map<String, String>> substationProperties;
+    private final Map<EquipmentType, Equipments> equipmentsByType;
+
+    EquipmentIndex(Network network) {
+        List<VoltageLevel> voltageLevels = network.getVoltageLevelStream().toList();
+        Map<String, Integer> voltageLevelIndexes = HashMap.newHashMap(voltageLevels.size());
+        Map<String, Map<String, String>> propertiesBySubstation = new HashMap<>();
+        nominalVoltages = new double[voltageLevels.size()];
+        countries = new String[voltageLevels.size()];
+        substationProperties = new ArrayList<>(voltageLevels.size());
+        Map<EquipmentType, EquipmentsBuilder> builders = new EnumMap<>(EquipmentType.class);
+        for (VoltageLevel voltageLevel : voltageLevels) {
+            int index = voltageLevelIndexes.size();
+            voltageLevelIndexes.put(voltageLevel.getId(), index);
+            nominalVoltages[index] = voltageLevel.getNominalV();
+            Optional<Substation> substation = voltageLevel.getSubstation();
+            countries[index] = substation.flatMap(Substation::getCountry).map(Enum::name).orElse(null);
+            substationProperties.add(substation.map(s -> propertiesBySubstation.computeIfAbsent(s.getId(), id -> properties(s))).orElse(Map.of()));
+            builders.computeIfAbsent(EquipmentType.VOLTAGE_LEVEL, type -> new EquipmentsBuilder()).add(voltageLevel.getId(), new int[] {index});
+        }
+        network.getConnectableStream().map(connectable -> (Connectable<?>) connectable).forEach(connectable -> {
+            EquipmentType type = INDEXED_TYPES.get(connectable instanceof HvdcConverterStation<?> station
+                ? station.getHvdcType().name() + "_CONVERTER_STATION"
+                : connectable.getType().name());
+            if (type != null) {
+                builders.computeIfAbsent(type, t -> new EquipmentsBuilder()).add(connectable.getId(), connectable.getTerminals().stream()
+                    .mapToInt(terminal -> voltageLevelIndexes.get(terminal.getVoltageLevel().getId())).toArray());
+            }
+        });
+        for (HvdcLine hvdcLine : network.getHvdcLines()) {
+            builders.computeIfAbsent(EquipmentType.HVDC_LINE, type -> new EquipmentsBuilder()).add(hvdcLine.getId(), Stream.of(hvdcLine.getConverterStation1(),
+                hvdcLine.getConverterStation2()).map(HvdcConverterStation::getTerminal).map(Terminal::getVoltageLevel)
+                .mapToInt(voltageLevel -> voltageLevelIndexes.get(voltageLevel.getId())).toArray());
+        }
+        equipmentsByType = new EnumMap<>(EquipmentType.class);
+        builders.forEach((type, builder) -> equipmentsByType.put(type, builder.build()));
+    }
+
+    static boolean isIndexed(List<EquipmentType> equipmentTypes) {
+        return equipmentTypes.stream().allMatch(type -> INDEXED_TYPES.containsKey(type.name()));
+    }
+
+    /**
+     * @return the ids of the equipments of the given types matching all the criteria
+     */
+    List<String> findIds(Criteria criteria, List<EquipmentType> equipmentTypes) {
+        long[] voltageLevelCriteria = new long[nominalVoltages.length];
+        for (int i = 0; i < nominalVoltages.length; i++) {
+            voltageLevelCriteria[i] = matchingCriteria(criteria, i);
+        }
+        long allCriteria = (1L << criteria.count()) - 1;
+        List<String> ids = new ArrayList<>();
+        for (EquipmentType type : equipmentTypes) {
+            Equipments equipments = equipmentsByType.get(type);
+            if (equipments == null) {
+                continue;
+            }
+            for (int i = 0; i < equipments.ids().size(); i++) {
+                long equipmentCriteria = 0;
+                for (int side = equipments.firstSides()[i]; side < equipments.firstSides()[i + 1]; side++) {
+                    equipmentCriteria |= voltageLevelCriteria[equipments.sideVoltageLevels()[side]];
+                }
+                if (equipmentCriteria == allCriteria) {
+                    ids.add(equipments.ids().get(i));
+                }
+            }
+        }
+        return ids;
+    }
+
+    long estimatedSize() {
+        long size = 16L * nominalVoltages.length + 64L * substationProperties.stream().distinct().mapToLong(Map::size).sum();
+        for (Equipments equipments : equipmentsByType.values()) {
+            size += equipments.ids().stream().mapToLong(id -> 56L + id.length()).sum() + 4L * equipments.firstSides().length
+                + 4L * equipments.sideVoltageLevels().length;
+        }
+        return size;
+    }
+
+    private long matchingCriteria(Criteria criteria, int voltageLevel) {
+        long matchingCriteria = 0;
+        int criterion = 0;
+        if (!criteria.voltageRanges().isEmpty()) {
+            double nominalVoltage = nominalVoltages[voltageLevel];
+            if (criteria.voltageRanges().stream().anyMatch(range -> range[0] <= nominalVoltage && nominalVoltage <= range[1])) {
+                matchingCriteria |= 1L << criterion;
+            }
+            criterion++;
+        }
+        if (!criteria.countries().isEmpty()) {
+            if (countries[voltageLevel] != null && criteria.countries().contains(countries[voltageLevel])) {
+                matchingCriteria |= 1L << criterion;
+            }
+            criterion++;
+        }
+        for (Map.Entry<String, Set<String>> property : criteria.substationProperties().entrySet()) {
+            String value = substationProperties.get(voltageLevel).get(property.getKey());
+            if (value != null && property.getValue().contains(value)) {
+                matchingCriteria |= 1L << criterion;
+            }
+            criterion++;
+        }
+        return matchingCriteria;
+    }
+
+    private static Map<String, String> properties(Substation substation) {
+        return substation.getPropertyNames().stream().collect(Collectors.toUnmodifiableMap(Function.identity(), substation::getProperty));
+    }
+
+    private static final class EquipmentsBuilder {
+        private final List<String> ids = new ArrayList<>();
+        private int[] firstSides = new int[] {0};
+        private int[] sideVoltageLevels = new int[16];
+
+        void add(String id, int[] voltageLevels) {
+            int sides = firstSides[ids.size()];
+            ids.add(id);
+            if (firstSides.length == ids.size()) {
+                firstSides = Arrays.copyOf(firstSides, 2 * firstSides.length);
+            }
+            firstSides[ids.size()] = sides + voltageLevels.length;
+            if (sideVoltageLevels.length < sides + voltageLevels.length) {
+                sideVoltageLevels = Arrays.copyOf(sideVoltageLevels, Math.max(2 * sideVoltageLevels.length, sides + voltageLevels.length));
+            }
+            System.arraycopy(voltageLevels, 0, sideVoltageLevels, sides, voltageLevels.length);
+        }
+
+        Equipments build() {
+            int sides = firstSides[ids.size()];
+            return new Equipments(List.copyOf(ids), Arrays.copyOf(firstSides, ids.size() + 1), Arrays.copyOf(sideVoltageLevels, sides));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.network.store.client.NetworkStoreService;
+import com.powsybl.network.store.client.PreloadingStrategy;
+import org.gridsuite.computation.dto.GlobalFilter;
+import org.gridsuite.computation.dto.ResourceFilterDTO;
+import org.gridsuite.filter.utils.EquipmentType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Equipment indexes of the network variants, see {@link EquipmentIndex}, built on their first use and weighted by their estimated size.
+ * The index of a variant is evicted when a security analysis is run on it on this instance, as its network may have been modified, the others
+ * rely on the expiration.
+ */
+@Component
+public class EquipmentIndexes {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EquipmentIndexes.class);
+
+    private record Key(UUID networkUuid, String variantId) { }
+
+    private final NetworkStoreService networkStoreService;
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, EquipmentIndex> indexes;
+
+    public EquipmentIndexes(NetworkStoreService networkStoreService,
+                            ObjectMapper objectMapper,
+                            @Value("${security-analysis.equipment-index.enabled:false}") boolean enabled,
+                            @Value("${security-analysis.equipment-index.max-weight:268435456}") long maxWeight,
+                            @Value("${security-analysis.equipment-index.expire-after-write:PT10M}") Duration expireAfterWrite) {
+        this.networkStoreService = networkStoreService;
+        this.objectMapper = objectMapper;
+        this.indexes = enabled ? Caffeine.newBuilder()
+            .maximumWeight(maxWeight)
+            .weigher((Key key, EquipmentIndex index) -> (int) Math.min(index.estimatedSize(), Integer.MAX_VALUE))
+            .expireAfterWrite(expireAfterWrite)
+            .build() : null;
+    }
+
+    /**
+     * @return true if the global filter can be evaluated locally for the given equipment types
+     */
+    public boolean supports(GlobalFilter globalFilter, List<EquipmentType> equipmentTypes) {
+        return indexes != null && EquipmentIndex.isIndexed(equipmentTypes) && EquipmentIndex.Criteria.of(objectMapper.valueToTree(globalFilter)).isPresent();
+    }
+
+    /**
+     * Must only be called for a supported global filter, the index of the variant being built on its first use.
+     * @return the resource filter of the equipments matching the global filter, empty if it has no criteria or if no equipment matches it
+     */
+    public Optional<ResourceFilterDTO> getResourceFilter(UUID networkUuid, String variantId, GlobalFilter globalFilter, List<EquipmentType> equipmentTypes,
+                                                         String column) {
+        EquipmentIndex.Criteria criteria = EquipmentIndex.Criteria.of(objectMapper.valueToTree(globalFilter)).orElseThrow();
+        if (criteria.count() == 0) {
+            return Optional.empty();
+        }
+        List<String> ids = indexes.get(new Key(networkUuid, variantId), this::loadIndex).findIds(criteria, equipmentTypes);
+        return ids.isEmpty() ? Optional.empty() : Optional.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.EQUALS, ids, column));
+    }
+
+    public void evict(UUID networkUuid, String variantId) {
+        if (indexes != null) {
+            indexes.invalidate(new Key(networkUuid, variantId != null ? variantId : VariantManagerConstants.INITIAL_VARIANT_ID));
+        }
+    }
+
+    private EquipmentIndex loadIndex(Key key) {
+        long startTime = System.nanoTime();
+        Network network = networkStoreService.getNetwork(key.networkUuid(), PreloadingStrategy.COLLECTION);
+        network.getVariantManager().setWorkingVariant(key.variantId());
+        EquipmentIndex index = new EquipmentIndex(network);
+        LOGGER.info("Variant '{}' of network '{}' has been indexed in memory ({} bytes) in {}ms", key.variantId(), key.networkUuid(), index.estimatedSize(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return index;
+    }
+}
@@ -38,26 +38,41 @@ public class FilterService extends AbstractFilterService {
 
     private static final String COLUMN = ContingencyEntity.Fields.contingencyElements + FIELD_SEPARATOR + ContingencyElementEmbeddable.Fields.elementId;
 
+    private final ResourceFilterCache resourceFilterCache;
+    private final EquipmentIndexes equipmentIndexes;
+
     public FilterService(RestTemplateBuilder restTemplateBuilder,
                          NetworkStoreService networkStoreService,
-                         @Value("${gridsuite.services.filter-server.base-uri:http://filter-server/}") String filterServerBaseUri) {
+                         @Value("${gridsuite.services.filter-server.base-uri:http://filter-server/}") String filterServerBaseUri,
+                         ResourceFilterCache resourceFilterCache,
+                         EquipmentIndexes equipmentIndexes) {
         super(restTemplateBuilder, networkStoreService, filterServerBaseUri);
+        this.resourceFilterCache = resourceFilterCache;
+        this.equipmentIndexes = equipmentIndexes;
     }
 
     public Optional<ResourceFilterDTO> getResourceFilterN(@NonNull UUID networkUuid, @NonNull String variantId, @NonNull GlobalFilter globalFilter) {
-        return super.getResourceFilter(networkUuid, variantId, globalFilter, List.of(EquipmentType.VOLTAGE_LEVEL), "subjectLimitViolation.subjectId");
+        return resolveResourceFilter(networkUuid, variantId, globalFilter, List.of(EquipmentType.VOLTAGE_LEVEL), "subjectLimitViolation.subjectId");
     }
 
     public Optional<ResourceFilterDTO> getResourceFilterContingencies(@NonNull UUID networkUuid, @NonNull String variantId, @NonNull GlobalFilter globalFilter) {
-        return super.getResourceFilter(networkUuid, variantId, globalFilter, EQUIPMENT_TYPES, COLUMN);
+        return resolveResourceFilter(networkUuid, variantId, globalFilter, EQUIPMENT_TYPES, COLUMN);
     }
 
     public Optional<ResourceFilterDTO> getResourceFilterCutOffPower(@NonNull UUID networkUuid, @NonNull String variantId, @NonNull GlobalFilter globalFilter) {
-        return super.getResourceFilter(networkUuid, variantId, globalFilter, EQUIPMENT_TYPES, COLUMN);
+        return resolveResourceFilter(networkUuid, variantId, globalFilter, EQUIPMENT_TYPES, COLUMN);
     }
 
     public Optional<ResourceFilterDTO> getResourceFilterSubjectLimitViolations(@NonNull UUID networkUuid, @NonNull String variantId, @NonNull GlobalFilter globalFilter) {
-        return super.getResourceFilter(networkUuid, variantId, globalFilter,
+        return resolveResourceFilter(networkUuid, variantId, globalFilter,
                 List.of(EquipmentType.LINE, EquipmentType.TWO_WINDINGS_TRANSFORMER, EquipmentType.VOLTAGE_LEVEL), SubjectLimitViolationEntity.Fields.subjectId);
     }
+
+    private Optional<ResourceFilterDTO> resolveResourceFilter(UUID networkUuid, String variantId, GlobalFilter globalFilter, List<EquipmentType> equipmentTypes, String column) {
+        if (equipmentIndexes.supports(globalFilter, equipmentTypes)) {
+            return equipmentIndexes.getResourceFilter(networkUuid, variantId, globalFilter, equipmentTypes, column);
+        }
+        return resourceFilterCache.get(networkUuid, variantId, globalFilter, equipmentTypes, column,
+            () -> super.getResourceFilter(networkUuid, variantId, globalFilter, equipmentTypes, column));
+    }
 }
@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import org.gridsuite.computation.dto.ResourceFilterDTO;
+import org.gridsuite.securityanalysis.server.repositories.ContingencyLimitViolationRepository;
+import org.gridsuite.securityanalysis.server.repositories.SubjectLimitViolationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In memory indexes of the completed results browsed with the hot result mode, see {@link SubjectLimitViolationsIndex}.
+ * They only cover the text and worst side filters, the pages filtered on a number column are read in SQL.
+ * Their total estimated size is bounded by a memory budget, the least recently used indexes being evicted first.
+ * The index of a result is loaded once for the concurrent requests, and a result whose index exceeds the budget is read in SQL afterward.
+ */
+@Component
+public class HotResultIndexes {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HotResultIndexes.class);
+
+    private final ContingencyLimitViolationRepository contingencyLimitViolationRepository;
+    private final SubjectLimitViolationRepository subjectLimitViolationRepository;
+    private final boolean enabled;
+    private final long memoryBudget;
+
+    // access ordered : the first index is the least recently used one
+    private final LinkedHashMap<UUID, SubjectLimitViolationsIndex> subjectLimitViolationsIndexes = new LinkedHashMap<>(16, 0.75f, true);
+    private long usedMemory;
+    // indexes being loaded, awaited by the other requests of their result
+    private final Map<UUID, CompletableFuture<SubjectLimitViolationsIndex>> loadingIndexes = new HashMap<>();
+    // results whose index exceeds the memory budget, forgotten as the indexes when the result changes
+    private final Set<UUID> overBudgetResultUuids = new HashSet<>();
+
+    public HotResultIndexes(ContingencyLimitViolationRepository contingencyLimitViolationRepository,
+                            SubjectLimitViolationRepository subjectLimitViolationRepository,
+                            @Value("${security-analysis.hot-results.enabled:false}") boolean enabled,
+                            @Value("${security-analysis.hot-results.memory-budget:268435456}") long memoryBudget) {
+        this.contingencyLimitViolationRepository = contingencyLimitViolationRepository;
+        this.subjectLimitViolationRepository = subjectLimitViolationRepository;
+        this.enabled = enabled;
+        this.memoryBudget = memoryBudget;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Must be called within a transaction, the index of the result being loaded on its first use.
+     * @return the ids of the subject limit violations of the page with their total, empty if the page must be read in SQL
+     */
+    public Optional<Page<UUID>> findSubjectLimitViolationIds(UUID resultUuid, List<ResourceFilterDTO> resourceFilters, Pageable pageable) {
+        SubjectLimitViolationsIndex index;
+        CompletableFuture<SubjectLimitViolationsIndex> loadingIndex = null;
+        boolean loadedHere = false;
+        synchronized (this) {
+            if (overBudgetResultUuids.contains(resultUuid)) {
+                return Optional.empty();
+            }
+            index = subjectLimitViolationsIndexes.get(resultUuid);
+            if (index == null) {
+                loadingIndex = loadingIndexes.get(resultUuid);
+                if (loadingIndex == null) {
+                    loadingIndex = new CompletableFuture<>();
+                    loadingIndexes.put(resultUuid, loadingIndex);
+                    loadedHere = true;
+                }
+            }
+        }
+        if (loadingIndex != null) {
+            index = loadedHere ? loadSubjectLimitViolationsIndex(resultUuid, loadingIndex) : awaitSubjectLimitViolationsIndex(loadingIndex);
+        }
+        return index != null ? index.findIds(resourceFilters, pageable) : Optional.empty();
+    }
+
+    private SubjectLimitViolationsIndex loadSubjectLimitViolationsIndex(UUID resultUuid, CompletableFuture<SubjectLimitViolationsIndex> loadingIndex) {
+        SubjectLimitViolationsIndex index;
+        try {
+            long startTime = System.nanoTime();
+            index = new SubjectLimitViolationsIndex(contingencyLimitViolationRepository.findIndexedLimitViolations(resultUuid),
+                subjectLimitViolationRepository.findIdsByResultIdOrderById(resultUuid));
+            LOGGER.info("Security analysis result '{}' has been indexed in memory ({} bytes) in {}ms", resultUuid, index.estimatedSize(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                loadingIndexes.remove(resultUuid, loadingIndex);
+            }
+            loadingIndex.completeExceptionally(e);
+            throw e;
+        }
+        synchronized (this) {
+            // not kept if the result has been evicted while its index was loaded
+            if (loadingIndexes.remove(resultUuid, loadingIndex)) {
+                keep(resultUuid, index);
+            }
+        }
+        // the index is used by the requests which waited for it, even if it's not kept
+        loadingIndex.complete(index);
+        return index;
+    }
+
+    /**
+     * @return the index loaded by another request, or null if its loading failed : the page is then read in SQL
+     */
+    private static SubjectLimitViolationsIndex awaitSubjectLimitViolationsIndex(CompletableFuture<SubjectLimitViolationsIndex> loadingIndex) {
+        try {
+            return loadingIndex.join();
+        } catch (CompletionException | CancellationException e) {
+            return null;
+        }
+    }
+
+    private void keep(UUID resultUuid, SubjectLimitViolationsIndex index) {
+        long size = index.estimatedSize();
+        if (size > memoryBudget) {
+            LOGGER.info("Index of security analysis result '{}' exceeds the memory budget, the result is read in SQL", resultUuid);
+            overBudgetResultUuids.add(resultUuid);
+            return;
+        }
+        SubjectLimitViolationsIndex previousIndex = subjectLimitViolationsIndexes.put(resultUuid, index);
+        if (previousIndex != null) {
+            usedMemory -= previousIndex.estimatedSize();
+        }
+        usedMemory += size;
+        Iterator<SubjectLimitViolationsIndex> leastRecentlyUsedIndexes = subjectLimitViolationsIndexes.values().iterator();
+        while (usedMemory > memoryBudget && leastRecentlyUsedIndexes.hasNext()) {
+            usedMemory -= leastRecentlyUsedIndexes.next().estimatedSize();
+            leastRecentlyUsedIndexes.remove();
+        }
+    }
+
+    public synchronized void evict(UUID resultUuid) {
+        loadingIndexes.remove(resultUuid);
+        overBudgetResultUuids.remove(resultUuid);
+        SubjectLimitViolationsIndex index = subjectLimitViolationsIndexes.remove(resultUuid);
+        if (index != null) {
+            usedMemory -= index.estimatedSize();
+        }
+    }
+
+    public synchronized void evictAll() {
+        loadingIndexes.clear();
+        overBudgetResultUuids.clear();
+        subjectLimitViolationsIndexes.clear();
+        usedMemory = 0;
+    }
+}
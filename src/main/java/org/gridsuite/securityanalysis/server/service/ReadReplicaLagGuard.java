@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.gridsuite.securityanalysis.server.dto.SecurityAnalysisStatus;
+import org.gridsuite.securityanalysis.server.repositories.ReadReplicaRoutingDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Routes the current read-only transaction to the primary when the read replica lags behind it for the rows it reads :
+ * a result just written, completed or deleted on the primary is read there until the replica has caught up.
+ * The results found completed and up-to-date on the replica are cached, they are not checked again until they are written on this instance
+ * or the cache entry expires : a result deleted or computed again through another instance may be read from the lagging replica until then,
+ * so the expiration is kept short, seconds rather than minutes.
+ */
+@Component
+public class ReadReplicaLagGuard {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadReplicaLagGuard.class);
+
+    static final String CACHE_NAME = "securityAnalysisReplicaUpToDateResults";
+
+    private static final String RESULT_STATE_QUERY = "SELECT status, deletion_date FROM security_analysis_result WHERE id = ?";
+    private static final String PARAMETERS_EXIST_QUERY = "SELECT COUNT(*) FROM security_analysis_parameters WHERE id = ?";
+
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Cache<UUID, Boolean> upToDateResults;
+
+    public ReadReplicaLagGuard(ObjectProvider<ReadReplicaRoutingDataSource> readReplicaRoutingDataSource,
+                               @Value("${security-analysis.read-replica.up-to-date-results.max-size:10000}") long maxSize,
+                               @Value("${security-analysis.read-replica.up-to-date-results.expire-after-write:PT10S}") Duration expireAfterWrite,
+                               MeterRegistry meterRegistry) {
+        ReadReplicaRoutingDataSource routingDataSource = readReplicaRoutingDataSource.getIfAvailable();
+        if (routingDataSource != null) {
+            this.primaryJdbcTemplate = new JdbcTemplate(routingDataSource.getPrimaryDataSource());
+            this.replicaJdbcTemplate = new JdbcTemplate(routingDataSource.getReplicaDataSource());
+            this.upToDateResults = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, upToDateResults, CACHE_NAME);
+        } else {
+            this.primaryJdbcTemplate = null;
+            this.replicaJdbcTemplate = null;
+            this.upToDateResults = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return upToDateResults != null;
+    }
+
+    /**
+     * Routes the current read-only transaction to the primary if one of the given results differs on the replica : status, deletion or missing row.
+     */
+    public void checkResults(UUID... resultUuids) {
+        if (!isGuarded()) {
+            return;
+        }
+        for (UUID resultUuid : resultUuids) {
+            if (resultUuid != null && upToDateResults.getIfPresent(resultUuid) == null && !isResultUpToDate(resultUuid)) {
+                ReadReplicaRoutingDataSource.usePrimaryInCurrentTransaction();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Routes the current read-only transaction to the primary if the given parameters are not found on the replica yet.
+     * The values of parameters updated in place may still be read from the replica until it has caught up.
+     */
+    public void checkParameters(UUID parametersUuid) {
+        if (!isGuarded() || parametersUuid == null) {
+            return;
+        }
+        try {
+            Long count = replicaJdbcTemplate.queryForObject(PARAMETERS_EXIST_QUERY, Long.class, parametersUuid);
+            if (count == null || count == 0) {
+                ReadReplicaRoutingDataSource.usePrimaryInCurrentTransaction();
+            }
+        } catch (DataAccessException e) {
+            LOGGER.warn("Parameters {} could not be checked on the read replica, read on the primary", parametersUuid, e);
+            ReadReplicaRoutingDataSource.usePrimaryInCurrentTransaction();
+        }
+    }
+
+    /**
+     * Routes the current read-only transaction to the primary, for the reads which must see the latest writes.
+     */
+    public void usePrimary() {
+        if (isGuarded()) {
+            ReadReplicaRoutingDataSource.usePrimaryInCurrentTransaction();
+        }
+    }
+
+    public void evict(UUID resultUuid) {
+        if (upToDateResults != null) {
+            upToDateResults.invalidate(resultUuid);
+        }
+    }
+
+    public void evictAll() {
+        if (upToDateResults != null) {
+            upToDateResults.invalidateAll();
+        }
+    }
+
+    private boolean isGuarded() {
+        return upToDateResults != null && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private boolean isResultUpToDate(UUID resultUuid) {
+        List<Object> primaryState;
+        List<Object> replicaState;
+        try {
+            primaryState = findResultState(primaryJdbcTemplate, resultUuid);
+            replicaState = findResultState(replicaJdbcTemplate, resultUuid);
+        } catch (DataAccessException e) {
+            LOGGER.warn("Result {} could not be checked on the read replica, read on the primary", resultUuid, e);
+            return false;
+        }
+        if (!Objects.equals(primaryState, replicaState)) {
+            return false;
+        }
+        if (isCompleted(primaryState)) {
+            // a completed result is only modified again by a deletion or a new computation
+            upToDateResults.put(resultUuid, Boolean.TRUE);
+        }
+        return true;
+    }
+
+    private static List<Object> findResultState(JdbcTemplate jdbcTemplate, UUID resultUuid) {
+        return jdbcTemplate.query(RESULT_STATE_QUERY, (rs, rowNum) -> List.of(
+            Objects.requireNonNullElse(rs.getObject("status"), ""),
+            Objects.requireNonNullElse(rs.getObject("deletion_date"), "")
+        ), resultUuid).stream().findFirst().orElse(null);
+    }
+
+    private static boolean isCompleted(List<Object> state) {
+        // the status is stored by its ordinal
+        return state != null
+            && state.get(0) instanceof Number status
+            && (status.intValue() == SecurityAnalysisStatus.CONVERGED.ordinal() || status.intValue() == SecurityAnalysisStatus.DIVERGED.ordinal())
+            && "".equals(state.get(1));
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.gridsuite.computation.dto.GlobalFilter;
+import org.gridsuite.computation.dto.ResourceFilterDTO;
+import org.gridsuite.filter.utils.EquipmentType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Resource filters resolved from the global filters by the filter server, by network variant, global filter, equipment types and column.
+ * The generic filters of a global filter may be modified on the filter server and the variants by network modifications, so the resolved
+ * filters are only kept for a short time.
+ */
+@Component
+public class ResourceFilterCache {
+    private record Key(UUID networkUuid, String variantId, String globalFilter, List<EquipmentType> equipmentTypes, String column) { }
+
+    private final Cache<Key, Optional<ResourceFilterDTO>> resourceFilters;
+    private final ObjectMapper objectMapper;
+
+    public ResourceFilterCache(@Value("${security-analysis.filter-cache.enabled:false}") boolean enabled,
+                               @Value("${security-analysis.filter-cache.max-size:1000}") long maxSize,
+                               @Value("${security-analysis.filter-cache.expire-after-write:PT5M}") Duration expireAfterWrite,
+                               ObjectMapper objectMapper) {
+        this.resourceFilters = enabled ? Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(expireAfterWrite).build() : null;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return the cached resource filter, resolved with the given resolver if it's not cached
+     */
+    public Optional<ResourceFilterDTO> get(UUID networkUuid, String variantId, GlobalFilter globalFilter, List<EquipmentType> equipmentTypes, String column,
+                                           Supplier<Optional<ResourceFilterDTO>> resolver) {
+        if (resourceFilters == null) {
+            return resolver.get();
+        }
+        Key key = new Key(networkUuid, variantId, normalize(objectMapper.valueToTree(globalFilter)).toString(), equipmentTypes, column);
+        return resourceFilters.get(key, k -> resolver.get());
+    }
+
+    /**
+     * The same global filter with its criteria in another order gives the same resource filter : the fields are sorted by name and the
+     * lists of identifiers, countries or ranges by value. The lists of numbers, like the bounds of a voltage range, keep their order.
+     */
+    static Object normalize(JsonNode node) {
+        if (node instanceof ObjectNode objectNode) {
+            Map<String, Object> fields = new TreeMap<>();
+            objectNode.properties().forEach(field -> {
+                if (!field.getValue().isNull()) {
+                    fields.put(field.getKey(), normalize(field.getValue()));
+                }
+            });
+            return fields;
+        }
+        if (node instanceof ArrayNode arrayNode) {
+            List<Object> elements = new ArrayList<>(arrayNode.size());
+            arrayNode.forEach(element -> elements.add(normalize(element)));
+            boolean tuple = elements.stream().anyMatch(Number.class::isInstance);
+            return tuple ? elements : elements.stream().sorted(Comparator.comparing(Object::toString)).toList();
+        }
+        return node.isNumber() ? node.numberValue() : node.asText();
+    }
+}
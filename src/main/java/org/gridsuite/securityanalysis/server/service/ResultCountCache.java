@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.gridsuite.computation.dto.ResourceFilterDTO;
+import org.gridsuite.securityanalysis.server.repositories.ResultPageQueryRepository.PagedRows;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * Total counts of the paged results by result and filters : the rows of a completed result never change.
+ * The counts of a result are evicted when it is deleted or written again on this instance, the others rely on the expiration.
+ */
+@Component
+public class ResultCountCache {
+    private record Key(UUID resultUuid, PagedRows pagedRows, List<ResourceFilterDTO> resourceFilters) { }
+
+    private final Cache<Key, Long> counts;
+
+    public ResultCountCache(@Value("${security-analysis.count-cache.enabled:false}") boolean enabled,
+                            @Value("${security-analysis.count-cache.max-size:10000}") long maxSize,
+                            @Value("${security-analysis.count-cache.expire-after-write:PT1H}") Duration expireAfterWrite) {
+        this.counts = enabled ? Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(expireAfterWrite).build() : null;
+    }
+
+    public boolean isEnabled() {
+        return counts != null;
+    }
+
+    /**
+     * @return the cached count of the rows, counted with the given counter if it's not cached
+     */
+    public long get(UUID resultUuid, PagedRows pagedRows, List<ResourceFilterDTO> resourceFilters, LongSupplier counter) {
+        if (counts == null) {
+            return counter.getAsLong();
+        }
+        // the same filters in another order give the same count
+        List<ResourceFilterDTO> normalizedFilters = resourceFilters.stream().sorted(Comparator.comparing(ResourceFilterDTO::toString)).toList();
+        return counts.get(new Key(resultUuid, pagedRows, normalizedFilters), key -> counter.getAsLong());
+    }
+
+    public void evict(UUID resultUuid) {
+        if (counts != null) {
+            counts.asMap().keySet().removeIf(key -> key.resultUuid().equals(resultUuid));
+        }
+    }
+
+    public void evictAll() {
+        if (counts != null) {
+            counts.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Responses of the result queries of completed results, which are never modified, weighted by their serialized size.
+ * The responses of a result are evicted when it is deleted, invalidated or written again on this instance. The other instances check that the result
+ * is still completed before serving its responses, and rely on the expiration for a result computed again and completed since the caching :
+ * it is counted from the caching, so that a response evicted on another instance is not kept alive by its accesses.
+ */
+@Component
+public class ResultPageCache {
+    static final String CACHE_NAME = "securityAnalysisResultPages";
+
+    public enum Query {
+        N_RESULT,
+        NMK_CONTINGENCIES,
+        NMK_CONSTRAINTS,
+        NMK_CUT_OFF_POWER,
+        NMK_AGGREGATIONS,
+        // the number of the differences with the compared result, the first parameter
+        NMK_CONSTRAINTS_DIFF_COUNT
+    }
+
+    /**
+     * @param parameters the request parameters of the response : network, variant, decoded filters, sort, page...
+     */
+    public record Key(UUID resultUuid, Query query, List<Object> parameters) { }
+
+    private final Cache<Key, Object> responses;
+    private final ObjectMapper objectMapper;
+
+    public ResultPageCache(@Value("${security-analysis.page-cache.enabled:false}") boolean enabled,
+                           @Value("${security-analysis.page-cache.max-weight:104857600}") long maxWeight,
+                           @Value("${security-analysis.page-cache.expire-after-write:PT5M}") Duration expireAfterWrite,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        if (enabled) {
+            this.responses = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Key key, Object response) -> serializedSize(response))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, responses, CACHE_NAME);
+        } else {
+            this.responses = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return responses != null;
+    }
+
+    /**
+     * @return the cached response, found with the given finder if it's not cached
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key key, Supplier<T> finder) {
+        if (responses == null) {
+            return finder.get();
+        }
+        return (T) responses.get(key, k -> finder.get());
+    }
+
+    /**
+     * @return the cached response, or null if it's not cached
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T getIfPresent(Key key) {
+        return responses != null ? (T) responses.getIfPresent(key) : null;
+    }
+
+    public void evict(UUID resultUuid) {
+        if (responses != null) {
+            responses.asMap().keySet().removeIf(key -> key.resultUuid().equals(resultUuid)
+                || (key.query() == Query.NMK_CONSTRAINTS_DIFF_COUNT && key.parameters().getFirst().equals(resultUuid)));
+        }
+    }
+
+    public void evictAll() {
+        if (responses != null) {
+            responses.invalidateAll();
+        }
+    }
+
+    private int serializedSize(Object response) {
+        // the pageable of a page may be unpaged, which is not serializable
+        Object content = response instanceof Page<?> page ? page.getContent() : response;
+        try {
+            return objectMapper.writeValueAsBytes(content).length;
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -36,6 +36,8 @@ public class SecurityAnalysisParametersService {
 
     private final LimitReductionService limitReductionService;
 
+    private final ReadReplicaLagGuard readReplicaLagGuard;
+
     private static final double DEFAULT_FLOW_PROPORTIONAL_THRESHOLD = 0.1; // meaning 10.0 %
     private static final double DEFAULT_LOW_VOLTAGE_PROPORTIONAL_THRESHOLD = 0.01; // meaning 1.0 %
     private static final double DEFAULT_HIGH_VOLTAGE_PROPORTIONAL_THRESHOLD = 0.01; // meaning 1.0 %
@@ -44,16 +46,20 @@ public class SecurityAnalysisParametersService {
     private static final List<ContingencyListsInfos> DEFAULT_CONTINGENCY_LISTS_INFOS = new ArrayList<>();
 
     public SecurityAnalysisParametersService(@NonNull SecurityAnalysisParametersRepository securityAnalysisParametersRepository, @NonNull LoadFlowService loadFlowService,
-                                             @Value("${security-analysis.default-provider}") String defaultProvider, @NonNull LimitReductionService limitReductionService) {
+                                             @Value("${security-analysis.default-provider}") String defaultProvider, @NonNull LimitReductionService limitReductionService,
+                                             @NonNull ReadReplicaLagGuard readReplicaLagGuard) {
         this.securityAnalysisParametersRepository = Objects.requireNonNull(securityAnalysisParametersRepository);
         this.loadFlowService = loadFlowService;
         this.defaultProvider = defaultProvider;
         this.limitReductionService = limitReductionService;
+        this.readReplicaLagGuard = readReplicaLagGuard;
     }
 
     @Transactional(readOnly = true)
     public SecurityAnalysisRunContext createRunContext(UUID networkUuid, String variantId, RunContextParametersInfos runContextParametersInfos,
                                                        String receiver, ReportInfos reportInfos, String userId) {
+        // a computation is run with the latest values of its parameters
+        readReplicaLagGuard.usePrimary();
         Optional<SecurityAnalysisParametersEntity> securityAnalysisParametersEntity = Optional.empty();
         if (runContextParametersInfos.getSecurityAnalysisParametersUuid() != null) {
             securityAnalysisParametersEntity = securityAnalysisParametersRepository.findById(runContextParametersInfos.getSecurityAnalysisParametersUuid());
@@ -159,6 +165,7 @@ public class SecurityAnalysisParametersService {
 
     @Transactional(readOnly = true)
     public Optional<SecurityAnalysisParametersValues> getParameters(UUID parametersUuid) {
+        readReplicaLagGuard.checkParameters(parametersUuid);
         return securityAnalysisParametersRepository.findById(parametersUuid)
                 .map(this::toSecurityAnalysisParametersValues);
     }
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.gridsuite.securityanalysis.server.repositories.ClusterLockRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Purges in background the results marked as deleted, by batches of rows each in its own transaction,
+ * throttled so that the purge does not take more than a given number of deleted rows per second from the database.
+ * It also drops the partitions of the deleted results whose drop failed or has been left to it, whatever the deletion mode.
+ * A single instance purges at a time, the others would purge the same results.
+ */
+@Service
+public class SecurityAnalysisResultPurger {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SecurityAnalysisResultPurger.class);
+    private static final String PURGE_LOCK = "security-analysis-result-purge";
+
+    private final SecurityAnalysisResultService resultService;
+    private final ClusterLockRepository clusterLockRepository;
+    private final boolean asyncDeletionEnabled;
+    private final int batchSize;
+    private final int rowsPerSecond;
+    private final int resultsPerRun;
+
+    private final Counter purgedResultsCounter;
+    private final Counter purgedRowsCounter;
+    private final Timer resultPurgeTimer;
+    private final AtomicLong pendingResults = new AtomicLong();
+
+    public SecurityAnalysisResultPurger(SecurityAnalysisResultService resultService,
+                                        ClusterLockRepository clusterLockRepository,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${security-analysis.async-deletion.enabled:false}") boolean asyncDeletionEnabled,
+                                        @Value("${security-analysis.async-deletion.batch-size:10000}") int batchSize,
+                                        @Value("${security-analysis.async-deletion.rows-per-second:50000}") int rowsPerSecond,
+                                        @Value("${security-analysis.async-deletion.results-per-run:10}") int resultsPerRun) {
+        this.resultService = resultService;
+        this.clusterLockRepository = clusterLockRepository;
+        this.asyncDeletionEnabled = asyncDeletionEnabled;
+        this.batchSize = batchSize;
+        this.rowsPerSecond = rowsPerSecond;
+        this.resultsPerRun = resultsPerRun;
+        this.purgedResultsCounter = Counter.builder("app.sa.results.purged")
+            .description("Number of deleted results whose rows have been purged")
+            .register(meterRegistry);
+        this.purgedRowsCounter = Counter.builder("app.sa.results.purged.rows")
+            .description("Number of rows purged from deleted results")
+            .register(meterRegistry);
+        this.resultPurgeTimer = Timer.builder("app.sa.results.purge.duration")
+            .description("Time spent purging a deleted result, throttling included")
+            .register(meterRegistry);
+        Gauge.builder("app.sa.results.purge.pending", pendingResults, AtomicLong::get)
+            .description("Number of deleted results waiting for purge")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${security-analysis.async-deletion.purge-delay:PT10S}", fixedDelayString = "${security-analysis.async-deletion.purge-delay:PT10S}")
+    public void purgeDeletedResults() {
+        clusterLockRepository.runLocked(PURGE_LOCK, this::purgeDeletedResultsLocked);
+    }
+
+    private void purgeDeletedResultsLocked() {
+        dropPendingPartitions();
+        if (!asyncDeletionEnabled) {
+            return;
+        }
+        pendingResults.set(resultService.countDeletedResults());
+        List<UUID> resultUuids = resultService.findDeletedResultUuids(resultsPerRun);
+        for (UUID resultUuid : resultUuids) {
+            try {
+                long startTime = System.nanoTime();
+                long purgedRows = purgeDeletedResult(resultUuid);
+                long duration = System.nanoTime() - startTime;
+                resultPurgeTimer.record(duration, TimeUnit.NANOSECONDS);
+                purgedResultsCounter.increment();
+                pendingResults.decrementAndGet();
+                LOGGER.info("Deleted security analysis result '{}' has been purged ({} rows) in {}ms", resultUuid, purgedRows, TimeUnit.NANOSECONDS.toMillis(duration));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // the result stays marked as deleted, its purge is retried at next run
+                LOGGER.error("Error while purging deleted security analysis result '{}'", resultUuid, e);
+            }
+        }
+    }
+
+    private void dropPendingPartitions() {
+        try {
+            int droppedResults = resultService.dropPendingPartitions(resultsPerRun);
+            if (droppedResults > 0) {
+                LOGGER.info("Partitions of {} deleted security analysis results have been dropped", droppedResults);
+            }
+        } catch (Exception e) {
+            // the drops stay recorded, they are retried at next run
+            LOGGER.error("Error while dropping the partitions of deleted security analysis results", e);
+        }
+    }
+
+    long purgeDeletedResult(UUID resultUuid) throws InterruptedException {
+        long startTime = System.nanoTime();
+        long purgedRows = 0;
+        int batchPurgedRows;
+        do {
+            batchPurgedRows = resultService.purgeDeletedResultBatch(resultUuid, batchSize);
+            purgedRows += batchPurgedRows;
+            purgedRowsCounter.increment(batchPurgedRows);
+            throttle(purgedRows, startTime);
+        } while (batchPurgedRows > 0);
+        return purgedRows;
+    }
+
+    private void throttle(long purgedRows, long startTime) throws InterruptedException {
+        if (rowsPerSecond <= 0) {
+            return;
+        }
+        long minDuration = TimeUnit.SECONDS.toNanos(purgedRows) / rowsPerSecond;
+        long waitingTime = minDuration - (System.nanoTime() - startTime);
+        if (waitingTime > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitingTime);
+        }
+    }
+}
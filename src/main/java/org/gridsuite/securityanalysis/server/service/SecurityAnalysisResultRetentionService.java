@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import org.gridsuite.securityanalysis.server.dto.ResultRetentionInfos;
+import org.gridsuite.securityanalysis.server.dto.SecurityAnalysisStatus;
+import org.gridsuite.securityanalysis.server.repositories.ClusterLockRepository;
+import org.gridsuite.securityanalysis.server.repositories.ResultPageQueryRepository;
+import org.gridsuite.securityanalysis.server.repositories.SecurityAnalysisResultRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntFunction;
+
+/**
+ * Evicts the oldest results in background according to the configured limits : max age, max number of results,
+ * max number of results per network and max number of result rows. A limit set to 0 (or no max age) is not applied.
+ * Running results are never evicted. A single instance applies the policy at a time, the others skip their run.
+ */
+@Service
+public class SecurityAnalysisResultRetentionService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SecurityAnalysisResultRetentionService.class);
+
+    private static final SecurityAnalysisStatus NOT_EVICTABLE_STATUS = SecurityAnalysisStatus.RUNNING;
+    private static final String RETENTION_LOCK = "security-analysis-result-retention";
+
+    private final SecurityAnalysisResultService resultService;
+    private final SecurityAnalysisResultRepository securityAnalysisResultRepository;
+    private final ResultPageQueryRepository resultPageQueryRepository;
+    private final ClusterLockRepository clusterLockRepository;
+    private final Duration maxAge;
+    private final long maxResults;
+    private final int maxResultsPerNetwork;
+    private final long maxRows;
+    private final int batchSize;
+
+    private Instant lastRunDate;
+    private long lastRunEvictedResults;
+    private long lastRunReclaimedRows;
+    private long totalEvictedResults;
+    private long totalReclaimedRows;
+
+    public SecurityAnalysisResultRetentionService(SecurityAnalysisResultService resultService,
+                                                  SecurityAnalysisResultRepository securityAnalysisResultRepository,
+                                                  ResultPageQueryRepository resultPageQueryRepository,
+                                                  ClusterLockRepository clusterLockRepository,
+                                                  @Value("${security-analysis.retention.max-age:#{null}}") @Nullable Duration maxAge,
+                                                  @Value("${security-analysis.retention.max-results:0}") long maxResults,
+                                                  @Value("${security-analysis.retention.max-results-per-network:0}") int maxResultsPerNetwork,
+                                                  @Value("${security-analysis.retention.max-rows:0}") long maxRows,
+                                                  @Value("${security-analysis.retention.batch-size:100}") int batchSize) {
+        this.resultService = resultService;
+        this.securityAnalysisResultRepository = securityAnalysisResultRepository;
+        this.resultPageQueryRepository = resultPageQueryRepository;
+        this.clusterLockRepository = clusterLockRepository;
+        this.maxAge = maxAge;
+        this.maxResults = maxResults;
+        this.maxResultsPerNetwork = maxResultsPerNetwork;
+        this.maxRows = maxRows;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${security-analysis.retention.cron:-}")
+    public void applyRetentionPolicy() {
+        if (!clusterLockRepository.runLocked(RETENTION_LOCK, this::applyRetentionPolicyLocked)) {
+            LOGGER.info("Retention policy not applied, it is being applied by another instance");
+        }
+    }
+
+    private void applyRetentionPolicyLocked() {
+        Eviction eviction = new Eviction();
+        if (maxAge != null) {
+            Instant creationDateLimit = Instant.now().minus(maxAge);
+            eviction.evictWhile(() -> true, batchSize,
+                limit -> securityAnalysisResultRepository.findIdsCreatedBefore(creationDateLimit, NOT_EVICTABLE_STATUS, PageRequest.of(0, limit)));
+        }
+        if (maxResultsPerNetwork > 0) {
+            eviction.evictWhile(() -> true, batchSize,
+                limit -> securityAnalysisResultRepository.findIdsBeyondMaxResultsPerNetwork(maxResultsPerNetwork, NOT_EVICTABLE_STATUS.ordinal(), limit));
+        }
+        // for the global limits, the oldest results are evicted one by one until enough results or rows have been evicted
+        if (maxResults > 0) {
+            long excessResults = securityAnalysisResultRepository.countByDeletionDateIsNull() - maxResults;
+            long evictedResultsBefore = eviction.evictedResults;
+            eviction.evictWhile(() -> eviction.evictedResults - evictedResultsBefore < excessResults, 1,
+                limit -> securityAnalysisResultRepository.findIdsOrderByCreationDate(NOT_EVICTABLE_STATUS, PageRequest.of(0, limit)));
+        }
+        if (maxRows > 0) {
+            // the planner estimate is enough for a limit checked periodically, counting would scan all the result tables at each run
+            long excessRows = resultPageQueryRepository.estimateResultRows().orElseGet(securityAnalysisResultRepository::countResultRows) - maxRows;
+            long reclaimedRowsBefore = eviction.reclaimedRows;
+            eviction.evictWhile(() -> eviction.reclaimedRows - reclaimedRowsBefore < excessRows, 1,
+                limit -> securityAnalysisResultRepository.findIdsOrderByCreationDate(NOT_EVICTABLE_STATUS, PageRequest.of(0, limit)));
+        }
+        synchronized (this) {
+            lastRunDate = Instant.now();
+            lastRunEvictedResults = eviction.evictedResults;
+            lastRunReclaimedRows = eviction.reclaimedRows;
+            totalEvictedResults += eviction.evictedResults;
+            totalReclaimedRows += eviction.reclaimedRows;
+        }
+        LOGGER.info("Retention policy applied : {} results evicted, {} rows reclaimed", eviction.evictedResults, eviction.reclaimedRows);
+    }
+
+    public synchronized ResultRetentionInfos getRetentionInfos() {
+        return new ResultRetentionInfos(lastRunDate, lastRunEvictedResults, lastRunReclaimedRows, totalEvictedResults, totalReclaimedRows);
+    }
+
+    private final class Eviction {
+        private final Set<UUID> failedResultUuids = new HashSet<>();
+        private long evictedResults;
+        private long reclaimedRows;
+
+        /**
+         * Evicts the results given by {@code evictableResultUuids}, in batches, until the condition is false or there is nothing left to evict.
+         */
+        void evictWhile(BooleanSupplier condition, int evictionBatchSize, IntFunction<List<UUID>> evictableResultUuids) {
+            while (condition.getAsBoolean()) {
+                List<UUID> resultUuids = evictableResultUuids.apply(evictionBatchSize + failedResultUuids.size()).stream()
+                    .filter(resultUuid -> !failedResultUuids.contains(resultUuid))
+                    .limit(evictionBatchSize)
+                    .toList();
+                if (resultUuids.isEmpty()) {
+                    return;
+                }
+                resultUuids.forEach(this::evict);
+            }
+        }
+
+        private void evict(UUID resultUuid) {
+            try {
+                reclaimedRows += resultService.evict(resultUuid);
+                evictedResults++;
+            } catch (Exception e) {
+                // not retried during this run
+                failedResultUuids.add(resultUuid);
+                LOGGER.error("Error while evicting security analysis result '{}'", resultUuid, e);
+            }
+        }
+    }
+}
@@ -11,6 +11,8 @@ import com.powsybl.contingency.violations.LimitViolationType;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.ThreeSides;
 import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.results.PostContingencyResult;
+import jakarta.annotation.PreDestroy;
 import lombok.Getter;
 import org.gridsuite.computation.dto.GlobalFilter;
 import org.gridsuite.computation.dto.ResourceFilterDTO;
@@ -19,33 +21,52 @@ import org.gridsuite.computation.service.AbstractComputationResultService;
 import org.gridsuite.computation.utils.SpecificationUtils;
 import org.gridsuite.securityanalysis.server.dto.*;
 import org.gridsuite.securityanalysis.server.entities.*;
+import org.gridsuite.securityanalysis.server.error.SecurityAnalysisException;
 import org.gridsuite.securityanalysis.server.repositories.*;
+import org.gridsuite.securityanalysis.server.repositories.ResultPageQueryRepository.PagedRows;
 import org.gridsuite.securityanalysis.server.repositories.specifications.ContingencySpecificationBuilder;
 import org.gridsuite.securityanalysis.server.repositories.specifications.PreContingencyLimitViolationSpecificationBuilder;
 import org.gridsuite.securityanalysis.server.repositories.specifications.SubjectLimitViolationSpecificationBuilder;
+import org.gridsuite.securityanalysis.server.util.ArrowResultWriter;
 import org.gridsuite.securityanalysis.server.util.ContingencyLimitViolationWorstSideUtils;
 import org.gridsuite.securityanalysis.server.util.CsvExportUtils;
+import org.gridsuite.securityanalysis.server.util.CsvRowEncoder;
+import org.gridsuite.securityanalysis.server.util.KeysetPaginationUtils;
+import org.gridsuite.securityanalysis.server.util.NmKAggregationsAccumulator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.OutputStream;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.gridsuite.computation.error.ComputationBusinessErrorCode.INVALID_SORT_FORMAT;
 import static org.gridsuite.computation.error.ComputationBusinessErrorCode.RESULT_NOT_FOUND;
 import static org.gridsuite.computation.utils.FilterUtils.fromStringFiltersToDTO;
 import static org.gridsuite.computation.utils.FilterUtils.fromStringGlobalFiltersToDTO;
+import static org.gridsuite.securityanalysis.server.error.SecurityAnalysisBusinessErrorCode.INVALID_BUCKET_WIDTH;
+import static org.gridsuite.securityanalysis.server.error.SecurityAnalysisBusinessErrorCode.UNSUPPORTED_FILTER;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -58,6 +79,16 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
     private final PreContingencyLimitViolationRepository preContingencyLimitViolationRepository;
     private final SubjectLimitViolationRepository subjectLimitViolationRepository;
     private final ContingencyLimitViolationRepository contingencyLimitViolationRepository;
+    private final ResultFacetRepository resultFacetRepository;
+    private final ResultPageQueryRepository resultPageQueryRepository;
+    private final ContingencyPageQueryRepository contingencyPageQueryRepository;
+    private final ResultDiffQueryRepository resultDiffQueryRepository;
+    private final ResultPartitionRepository resultPartitionRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ResultCountCache resultCountCache;
+    private final ResultPageCache resultPageCache;
+    private final HotResultIndexes hotResultIndexes;
+    private final ReadReplicaLagGuard readReplicaLagGuard;
     private final ContingencySpecificationBuilder contingencySpecificationBuilder;
     private final SubjectLimitViolationSpecificationBuilder subjectLimitViolationSpecificationBuilder;
     private final PreContingencyLimitViolationSpecificationBuilder preContingencyLimitViolationSpecificationBuilder;
@@ -65,10 +96,30 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
     private final ObjectMapper objectMapper;
     private final FilterService filterService;
     private final SecurityAnalysisResultService self;
+    private final SecurityAnalysisResultBulkRepository securityAnalysisResultBulkRepository;
+    private final boolean bulkInsertEnabled;
+    private final ForkJoinPool entityConversionPool;
+    private final int streamingInsertChunkSize;
+    private final boolean asyncDeletionEnabled;
+    private final long approximateCountMinRows;
+    private final int csvExportChunkSize;
+    private final int arrowExportBatchSize;
 
     private static final Sort.Direction DEFAULT_SORT_DIRECTION = Sort.Direction.ASC;
 
-    private static final List<String> ALLOWED_NMK_CONTINGENCIES_RESULT_SORT_PROPERTIES = List.of(
+    private static final int MAX_WORST_LIMIT_VIOLATIONS_COUNT = 1000;
+
+    private static final int MAX_AGGREGATED_VALUE_COUNTS = 1000;
+
+    // aggregates of the contingency limit violations stored with the contingencies and the subject limit violations
+    private static final List<String> LIMIT_VIOLATIONS_AGGREGATES_PROPERTIES = List.of(
+        LimitViolationsAggregatesEmbeddable.Fields.maxLoading,
+        LimitViolationsAggregatesEmbeddable.Fields.minAcceptableDuration,
+        LimitViolationsAggregatesEmbeddable.Fields.violationCount,
+        LimitViolationsAggregatesEmbeddable.Fields.worstLimitType
+    );
+
+    private static final List<String> ALLOWED_NMK_CONTINGENCIES_RESULT_SORT_PROPERTIES = Stream.concat(Stream.of(
         ContingencyEntity.Fields.contingencyId,
         ContingencyEntity.Fields.status,
         ContingencyEntity.Fields.contingencyLimitViolations + SpecificationUtils.FIELD_SEPARATOR + AbstractLimitViolationEntity.Fields.locationId,
@@ -81,9 +132,9 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
         ContingencyEntity.Fields.contingencyLimitViolations + SpecificationUtils.FIELD_SEPARATOR + AbstractLimitViolationEntity.Fields.side,
         ContingencyEntity.Fields.contingencyLimitViolations + SpecificationUtils.FIELD_SEPARATOR + AbstractLimitViolationEntity.Fields.subjectLimitViolation + SpecificationUtils.FIELD_SEPARATOR +
                 SubjectLimitViolationEntity.Fields.subjectId
-    );
+    ), limitViolationsAggregatesProperties(ContingencyEntity.Fields.limitViolationsAggregates)).toList();
 
-    private static final List<String> ALLOWED_NMK_SUBJECT_LIMIT_VIOLATIONS_RESULT_SORT_PROPERTIES = List.of(
+    private static final List<String> ALLOWED_NMK_SUBJECT_LIMIT_VIOLATIONS_RESULT_SORT_PROPERTIES = Stream.concat(Stream.of(
         SubjectLimitViolationEntity.Fields.subjectId,
         SubjectLimitViolationEntity.Fields.contingencyLimitViolations + SpecificationUtils.FIELD_SEPARATOR + AbstractLimitViolationEntity.Fields.locationId,
         SubjectLimitViolationEntity.Fields.contingencyLimitViolations + SpecificationUtils.FIELD_SEPARATOR + AbstractLimitViolationEntity.Fields.limitType,
@@ -97,7 +148,7 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
                 ContingencyEntity.Fields.contingencyId,
         SubjectLimitViolationEntity.Fields.contingencyLimitViolations + SpecificationUtils.FIELD_SEPARATOR + ContingencyLimitViolationEntity.Fields.contingency + SpecificationUtils.FIELD_SEPARATOR +
                 ContingencyEntity.Fields.status
-    );
+    ), limitViolationsAggregatesProperties(SubjectLimitViolationEntity.Fields.limitViolationsAggregates)).toList();
 
     private static final List<String> ALLOWED_PRECONTINGENCIES_RESULT_SORT_PROPERTIES = List.of(
         AbstractLimitViolationEntity.Fields.subjectLimitViolation + SpecificationUtils.FIELD_SEPARATOR + SubjectLimitViolationEntity.Fields.subjectId,
@@ -111,6 +162,17 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
         AbstractLimitViolationEntity.Fields.locationId
             );
 
+    private static final List<String> ALLOWED_NMK_CONSTRAINTS_DIFF_SORT_PROPERTIES = List.of(
+            LimitViolationDiffDTO.Fields.contingencyId,
+            LimitViolationDiffDTO.Fields.subjectId,
+            LimitViolationDiffDTO.Fields.side,
+            LimitViolationDiffDTO.Fields.limitName,
+            LimitViolationDiffDTO.Fields.limitType,
+            LimitViolationDiffDTO.Fields.status,
+            LimitViolationDiffDTO.Fields.baseLoading,
+            LimitViolationDiffDTO.Fields.comparedLoading
+    );
+
     private static final List<String> ALLOWED_NMK_POWER_CUT_OFF_RESULT_SORT_PROPERTIES = List.of(
             ContingencyEntity.Fields.contingencyId,
             ContingencyEntity.Fields.status,
@@ -123,23 +185,68 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
                                          PreContingencyLimitViolationRepository preContingencyLimitViolationRepository,
                                          SubjectLimitViolationRepository subjectLimitViolationRepository,
                                          ContingencyLimitViolationRepository contingencyLimitViolationRepository,
+                                         ResultFacetRepository resultFacetRepository,
+                                         ResultPageQueryRepository resultPageQueryRepository,
+                                         ContingencyPageQueryRepository contingencyPageQueryRepository,
+                                         ResultDiffQueryRepository resultDiffQueryRepository,
+                                         ResultPartitionRepository resultPartitionRepository,
+                                         PlatformTransactionManager transactionManager,
+                                         ResultCountCache resultCountCache,
+                                         ResultPageCache resultPageCache,
+                                         HotResultIndexes hotResultIndexes,
+                                         ReadReplicaLagGuard readReplicaLagGuard,
                                          PreContingencyLimitViolationSpecificationBuilder preContingencyLimitViolationSpecificationBuilder,
                                          ContingencySpecificationBuilder contingencySpecificationBuilder,
                                          SubjectLimitViolationSpecificationBuilder subjectLimitViolationSpecificationBuilder,
                                          @Lazy SecurityAnalysisResultService self,
                                          FilterService filterService,
-                                         ObjectMapper objectMapper) {
+                                         ObjectMapper objectMapper,
+                                         SecurityAnalysisResultBulkRepository securityAnalysisResultBulkRepository,
+                                         @Value("${security-analysis.bulk-insert.enabled:false}") boolean bulkInsertEnabled,
+                                         @Value("${security-analysis.entity-conversion.parallelism:1}") int entityConversionParallelism,
+                                         @Value("${security-analysis.streaming-insert.chunk-size:0}") int streamingInsertChunkSize,
+                                         @Value("${security-analysis.async-deletion.enabled:false}") boolean asyncDeletionEnabled,
+                                         @Value("${security-analysis.approximate-count.min-rows:100000}") long approximateCountMinRows,
+                                         @Value("${security-analysis.csv-export.chunk-size:1000}") int csvExportChunkSize,
+                                         @Value("${security-analysis.arrow-export.batch-size:10000}") int arrowExportBatchSize) {
         this.securityAnalysisResultRepository = securityAnalysisResultRepository;
         this.contingencyRepository = contingencyRepository;
         this.preContingencyLimitViolationRepository = preContingencyLimitViolationRepository;
         this.subjectLimitViolationRepository = subjectLimitViolationRepository;
         this.contingencyLimitViolationRepository = contingencyLimitViolationRepository;
+        this.resultFacetRepository = resultFacetRepository;
+        this.resultPageQueryRepository = resultPageQueryRepository;
+        this.contingencyPageQueryRepository = contingencyPageQueryRepository;
+        this.resultDiffQueryRepository = resultDiffQueryRepository;
+        this.resultPartitionRepository = resultPartitionRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.resultCountCache = resultCountCache;
+        this.resultPageCache = resultPageCache;
+        this.hotResultIndexes = hotResultIndexes;
+        this.readReplicaLagGuard = readReplicaLagGuard;
         this.preContingencyLimitViolationSpecificationBuilder = preContingencyLimitViolationSpecificationBuilder;
         this.contingencySpecificationBuilder = contingencySpecificationBuilder;
         this.subjectLimitViolationSpecificationBuilder = subjectLimitViolationSpecificationBuilder;
         this.filterService = filterService;
         this.objectMapper = objectMapper;
         this.self = self;
+        this.securityAnalysisResultBulkRepository = securityAnalysisResultBulkRepository;
+        this.bulkInsertEnabled = bulkInsertEnabled;
+        // a dedicated pool, the common one is shared with the whole JVM
+        this.entityConversionPool = entityConversionParallelism > 1 ? new ForkJoinPool(entityConversionParallelism) : null;
+        this.streamingInsertChunkSize = streamingInsertChunkSize;
+        this.asyncDeletionEnabled = asyncDeletionEnabled;
+        this.approximateCountMinRows = approximateCountMinRows;
+        this.csvExportChunkSize = csvExportChunkSize;
+        this.arrowExportBatchSize = arrowExportBatchSize;
+    }
+
+    @PreDestroy
+    public void shutdownEntityConversionPool() {
+        if (entityConversionPool != null) {
+            entityConversionPool.shutdownNow();
+        }
     }
 
     private List<PreContingencyLimitViolationResultDTO> findNResult(UUID resultUuid, List<ResourceFilterDTO> resourceFilters, Sort sort) {
@@ -153,32 +260,93 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
                 .toList();
     }
 
-    @Transactional(readOnly = true)
+    // in a read-only transaction only if the response is not cached, see findResponse
     public List<PreContingencyLimitViolationResultDTO> findNResult(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters, Sort sort) {
-        List<ResourceFilterDTO> resourceFilters = getAllResourceFilters(stringFilters, stringGlobalFilters, globalFilter -> filterService.getResourceFilterN(networkUuid, variantId, globalFilter));
-        return findNResult(resultUuid, resourceFilters, sort);
+        return findResponse(resultUuid, ResultPageCache.Query.N_RESULT, () -> {
+            List<ResourceFilterDTO> resourceFilters = getAllResourceFilters(stringFilters, stringGlobalFilters, globalFilter -> filterService.getResourceFilterN(networkUuid, variantId, globalFilter));
+            return findNResult(resultUuid, resourceFilters, sort);
+        }, networkUuid, variantId, decode(stringFilters), decode(stringGlobalFilters), sort);
     }
 
+    /**
+     * Writes the zipped csv export of the N result to the output stream as its rows are read by chunks through a database cursor,
+     * so that the memory used by an export does not depend on its number of rows.
+     */
     @Transactional(readOnly = true)
-    public byte[] findNResultZippedCsv(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters, Sort sort, CsvTranslationDTO csvTranslations) {
-        List<PreContingencyLimitViolationResultDTO> result = self.findNResult(resultUuid, networkUuid, variantId, stringFilters, stringGlobalFilters, sort);
-        return CsvExportUtils.csvRowsToZippedCsv(csvTranslations.headers(), csvTranslations.language(), result.stream().map(r -> r.toCsvRow(csvTranslations.enumValueTranslations(),
-                csvTranslations.language())).toList());
+    public void writeNResultZippedCsv(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters, Sort sort,
+                                      CsvTranslationDTO csvTranslations, OutputStream outputStream) {
+        Consumer<Consumer<PreContingencyLimitViolationResultDTO>> results = exportedNResult(resultUuid, networkUuid, variantId, stringFilters, stringGlobalFilters, sort);
+        CsvRowEncoder csvRowEncoder = new CsvRowEncoder(csvTranslations.enumValueTranslations(), csvTranslations.language());
+        CsvExportUtils.writeZippedCsv(outputStream, csvTranslations.headers(), csvTranslations.language(),
+            rowWriter -> results.accept(result -> csvRowEncoder.writeNResultRow(result, rowWriter)));
     }
 
+    /**
+     * Writes the N result to the output stream as an Arrow IPC stream, see {@link ArrowResultWriter}, as its rows are read by chunks.
+     */
     @Transactional(readOnly = true)
+    public void writeNResultArrow(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters, Sort sort,
+                                  OutputStream outputStream) {
+        Consumer<Consumer<PreContingencyLimitViolationResultDTO>> results = exportedNResult(resultUuid, networkUuid, variantId, stringFilters, stringGlobalFilters, sort);
+        try (ArrowResultWriter writer = ArrowResultWriter.forNResult(outputStream, subjectLimitViolationRepository.findSubjectIdsByResultId(resultUuid), arrowExportBatchSize)) {
+            results.accept(writer::writeNResult);
+            writer.finish();
+        }
+    }
+
+    /**
+     * The filters and the sort are resolved and checked here, the returned function reading the filtered rows by chunks.
+     */
+    private Consumer<Consumer<PreContingencyLimitViolationResultDTO>> exportedNResult(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters,
+                                                                                      String stringGlobalFilters, Sort sort) {
+        List<ResourceFilterDTO> resourceFilters = getAllResourceFilters(stringFilters, stringGlobalFilters, globalFilter -> filterService.getResourceFilterN(networkUuid, variantId, globalFilter));
+        assertResultExists(resultUuid);
+        assertPreContingenciesSortAllowed(sort);
+
+        Specification<PreContingencyLimitViolationEntity> specification = preContingencyLimitViolationSpecificationBuilder.buildSpecification(resultUuid, resourceFilters);
+        return consumer -> resultPageQueryRepository.forEachEntitiesChunk(PreContingencyLimitViolationEntity.class, specification,
+            sort, List.of(AbstractLimitViolationEntity.Fields.subjectLimitViolation), csvExportChunkSize, preContingencyLimitViolations -> preContingencyLimitViolations.stream()
+                .map(PreContingencyLimitViolationResultDTO::toDto)
+                .forEach(consumer));
+    }
+
     public Page<ContingencyResultDTO> findNmKContingenciesPaged(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters, Pageable pageable) {
+        return findNmKContingenciesPaged(resultUuid, networkUuid, variantId, stringFilters, stringGlobalFilters, pageable, false);
+    }
+
+    /**
+     * @param approximateCount if true, the total number of unfiltered contingencies of a huge result is the planner estimate
+     */
+    // in a read-only transaction only if the response is not cached, see findResponse
+    public Page<ContingencyResultDTO> findNmKContingenciesPaged(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters, Pageable pageable,
+                                                                boolean approximateCount) {
+        return findResponse(resultUuid, ResultPageCache.Query.NMK_CONTINGENCIES, () -> {
+            assertResultExists(resultUuid);
+
+            List<ResourceFilterDTO> allResourceFilters = getAllResourceFilters(stringFilters, stringGlobalFilters,
+                    globalFilter -> filterService.getResourceFilterContingencies(networkUuid, variantId, globalFilter));
+            if (stringGlobalFilters != null && allResourceFilters.isEmpty()) {
+                // something is checked in the global filter but no resource filters are returned
+                return (Page<ContingencyResultDTO>) emptyPage(pageable);
+            } else {
+                return findContingencyResultsPage(resultUuid, allResourceFilters, pageable, approximateCount);
+            }
+        }, networkUuid, variantId, decode(stringFilters), decode(stringGlobalFilters), pageable, approximateCount);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<ContingencyResultDTO> findNmKContingenciesKeysetPage(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters,
+                                                                            Sort sort, int size, @Nullable String cursor) {
         assertResultExists(resultUuid);
 
         List<ResourceFilterDTO> allResourceFilters = getAllResourceFilters(stringFilters, stringGlobalFilters,
                 globalFilter -> filterService.getResourceFilterContingencies(networkUuid, variantId, globalFilter));
         if (stringGlobalFilters != null && allResourceFilters.isEmpty()) {
             // something is checked in the global filter but no resource filters are returned
-            return (Page<ContingencyResultDTO>) emptyPage(pageable);
-        } else {
-            Page<ContingencyEntity> contingencyPageBis = self.findContingenciesPage(resultUuid, allResourceFilters, pageable);
-            return contingencyPageBis.map(ContingencyResultDTO::toDto);
+            return new KeysetPageDTO<>(List.of(), null);
         }
+        KeysetPageDTO<ContingencyEntity> contingencies = findContingenciesKeysetPage(resultUuid, allResourceFilters, sort, size, cursor);
+        return new KeysetPageDTO<>(contingencies.content().stream().map(ContingencyResultDTO::toDto).toList(), contingencies.nextCursor());
     }
 
     @Transactional(readOnly = true)
@@ -188,48 +356,153 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
         List<ContingencyEntity> contingencies = contingencyRepository.findAllByResultId(resultUuid);
         List<UUID> uuids = contingencies.stream().map(ContingencyEntity::getUuid).toList();
         // fetching contingency elements to prevent n+1 requests
-        contingencyRepository.findAllWithContingencyElementsByUuidIn(uuids);
+        contingencyRepository.findAllWithContingencyElementsByResultIdAndUuidIn(resultUuid, uuids);
         // fetching contingency limitViolations to prevent n+1 requests
-        contingencyRepository.findAllWithContingencyLimitViolationsByUuidIn(uuids);
+        contingencyRepository.findAllWithContingencyLimitViolationsByResultIdAndUuidIn(resultUuid, uuids);
 
         return contingencies.stream().map(ContingencyResultDTO::toDto).toList();
     }
 
-    @Transactional(readOnly = true)
     public Page<ContingencyCutOffPowerDTO> findNmKConnectivityResult(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters, Pageable pageable) {
+        return findNmKConnectivityResult(resultUuid, networkUuid, variantId, stringFilters, stringGlobalFilters, pageable, false);
+    }
+
+    /**
+     * @param approximateCount if true, the total number of unfiltered contingencies of a huge result is the planner estimate
+     */
+    // in a read-only transaction only if the response is not cached, see findResponse
+    public Page<ContingencyCutOffPowerDTO> findNmKConnectivityResult(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters, Pageable pageable,
+                                                                     boolean approximateCount) {
+        return findResponse(resultUuid, ResultPageCache.Query.NMK_CUT_OFF_POWER, () -> {
+            assertResultExists(resultUuid);
+            List<ResourceFilterDTO> allResourceFilters = getAllResourceFilters(stringFilters, stringGlobalFilters,
+                    globalFilter -> filterService.getResourceFilterCutOffPower(networkUuid, variantId, globalFilter));
+            Page<ContingencyEntity> contingencyPage = self.findCutOffPowerContingenciesPage(resultUuid, allResourceFilters, pageable, approximateCount);
+            return contingencyPage.map(ContingencyCutOffPowerDTO::toDto);
+        }, networkUuid, variantId, decode(stringFilters), decode(stringGlobalFilters), pageable, approximateCount);
+    }
+
+    /**
+     * Writes the zipped csv export of the NMK cut off power result to the output stream as its rows are read by chunks, see {@link #writeNResultZippedCsv}.
+     */
+    @Transactional(readOnly = true)
+    public void writeNmKConnectivityResultZippedCsv(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters, Sort sort,
+                                                    CsvTranslationDTO csvTranslations, OutputStream outputStream) {
+        Consumer<Consumer<ContingencyCutOffPowerDTO>> results = exportedNmKConnectivityResult(resultUuid, networkUuid, variantId, stringFilters, stringGlobalFilters, sort);
+        CsvRowEncoder csvRowEncoder = new CsvRowEncoder(csvTranslations.enumValueTranslations(), csvTranslations.language());
+        CsvExportUtils.writeZippedCsv(outputStream, csvTranslations.headers(), csvTranslations.language(),
+            rowWriter -> results.accept(result -> csvRowEncoder.writeCutOffPowerRows(result, rowWriter)));
+    }
+
+    /**
+     * Writes the NMK cut off power result to the output stream as an Arrow IPC stream, see {@link #writeNResultArrow}.
+     */
+    @Transactional(readOnly = true)
+    public void writeNmKConnectivityResultArrow(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters, Sort sort,
+                                                OutputStream outputStream) {
+        Consumer<Consumer<ContingencyCutOffPowerDTO>> results = exportedNmKConnectivityResult(resultUuid, networkUuid, variantId, stringFilters, stringGlobalFilters, sort);
+        try (ArrowResultWriter writer = ArrowResultWriter.forNmKCutOffPower(outputStream, contingencyRepository.findContingencyIdsByResultId(resultUuid), arrowExportBatchSize)) {
+            results.accept(writer::writeCutOffPowerResult);
+            writer.finish();
+        }
+    }
+
+    private Consumer<Consumer<ContingencyCutOffPowerDTO>> exportedNmKConnectivityResult(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters,
+                                                                                        String stringGlobalFilters, Sort sort) {
         assertResultExists(resultUuid);
         List<ResourceFilterDTO> allResourceFilters = getAllResourceFilters(stringFilters, stringGlobalFilters,
                 globalFilter -> filterService.getResourceFilterCutOffPower(networkUuid, variantId, globalFilter));
-        Page<ContingencyEntity> contingencyPage = self.findCutOffPowerContingenciesPage(resultUuid, allResourceFilters, pageable);
-        return contingencyPage.map(ContingencyCutOffPowerDTO::toDto);
+        assertNmKCutOffPowerSortAllowed(sort);
+
+        Specification<ContingencyEntity> specification = cutOffPowerSpecification(resultUuid, allResourceFilters);
+        return consumer -> resultPageQueryRepository.forEachIdsChunk(ContingencyEntity.class, specification,
+            ContingencyEntity.Fields.uuid, sort, csvExportChunkSize, uuids -> fetchCutOffPowerContingencies(resultUuid, uuids).stream()
+                .map(ContingencyCutOffPowerDTO::toDto)
+                .forEach(consumer));
     }
 
+    /**
+     * Writes the zipped csv export of the NMK contingencies result to the output stream as its rows are read by chunks, see {@link #writeNResultZippedCsv}.
+     */
     @Transactional(readOnly = true)
-    public byte[] findNmKConnectivityResultResultZippedCsv(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters,
-                                                           String stringGlobalFilters, Sort sort, CsvTranslationDTO csvTranslations) {
-        List<ContingencyCutOffPowerDTO> result = self.findNmKConnectivityResult(resultUuid, networkUuid, variantId, stringFilters, stringGlobalFilters, Pageable.unpaged(sort)).getContent();
-        return CsvExportUtils.csvRowsToZippedCsv(csvTranslations.headers(), csvTranslations.language(), result.stream()
-                .map(r -> r.toCsvRows(csvTranslations.enumValueTranslations(), csvTranslations.language()))
-                .flatMap(List::stream).toList());
+    public void writeNmKContingenciesResultZippedCsv(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters, Sort sort,
+                                                     CsvTranslationDTO csvTranslations, OutputStream outputStream) {
+        Consumer<Consumer<ContingencyResultDTO>> results = exportedNmKContingenciesResult(resultUuid, networkUuid, variantId, stringFilters, stringGlobalFilters, sort);
+        CsvRowEncoder csvRowEncoder = new CsvRowEncoder(csvTranslations.enumValueTranslations(), csvTranslations.language());
+        CsvExportUtils.writeZippedCsv(outputStream, csvTranslations.headers(), csvTranslations.language(),
+            rowWriter -> results.accept(result -> csvRowEncoder.writeContingencyRows(result, rowWriter)));
     }
 
+    /**
+     * Writes the NMK contingencies result to the output stream as an Arrow IPC stream, see {@link #writeNResultArrow}.
+     */
     @Transactional(readOnly = true)
-    public byte[] findNmKContingenciesResultZippedCsv(
-            UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters, Sort sort, CsvTranslationDTO csvTranslations) {
-        List<ContingencyResultDTO> result = self.findNmKContingenciesPaged(resultUuid, networkUuid, variantId, stringFilters, stringGlobalFilters, Pageable.unpaged(sort)).getContent();
-        return CsvExportUtils.csvRowsToZippedCsv(csvTranslations.headers(), csvTranslations.language(), result.stream().map(r -> r.toCsvRows(csvTranslations.enumValueTranslations(),
-                csvTranslations.language())).flatMap(List::stream).toList());
+    public void writeNmKContingenciesResultArrow(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters, Sort sort,
+                                                 OutputStream outputStream) {
+        Consumer<Consumer<ContingencyResultDTO>> results = exportedNmKContingenciesResult(resultUuid, networkUuid, variantId, stringFilters, stringGlobalFilters, sort);
+        try (ArrowResultWriter writer = ArrowResultWriter.forNmKContingencies(outputStream, contingencyRepository.findContingencyIdsByResultId(resultUuid),
+                subjectLimitViolationRepository.findSubjectIdsByResultId(resultUuid), arrowExportBatchSize)) {
+            results.accept(writer::writeContingencyResult);
+            writer.finish();
+        }
+    }
+
+    private Consumer<Consumer<ContingencyResultDTO>> exportedNmKContingenciesResult(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters,
+                                                                                    String stringGlobalFilters, Sort sort) {
+        assertResultExists(resultUuid);
+        List<ResourceFilterDTO> allResourceFilters = getAllResourceFilters(stringFilters, stringGlobalFilters,
+                globalFilter -> filterService.getResourceFilterContingencies(networkUuid, variantId, globalFilter));
+        if (stringGlobalFilters != null && allResourceFilters.isEmpty()) {
+            // something is checked in the global filter but no resource filters are returned
+            return consumer -> { };
+        }
+        assertNmKContingenciesSortAllowed(sort);
+        return filteredNmKContingenciesResult(resultUuid, allResourceFilters, sort);
+    }
+
+    /**
+     * @return the filtered contingency results, read by chunks when consumed
+     */
+    private Consumer<Consumer<ContingencyResultDTO>> filteredNmKContingenciesResult(UUID resultUuid, List<ResourceFilterDTO> allResourceFilters, Sort sort) {
+        Pageable pageable = Pageable.unpaged(sort);
+        Specification<ContingencyEntity> specification = contingencySpecificationBuilder.buildSpecification(resultUuid, allResourceFilters);
+        return consumer -> resultPageQueryRepository.forEachIdsChunk(ContingencyEntity.class, specification,
+            ContingencyEntity.Fields.uuid, addDefaultSortAndRemoveChildrenSorting(pageable, ContingencyEntity.Fields.uuid).getSort(), csvExportChunkSize,
+            uuids -> fetchContingencies(resultUuid, uuids, pageable, 0, allResourceFilters).stream()
+                .map(ContingencyResultDTO::toDto)
+                .forEach(consumer));
     }
 
-    @Transactional(readOnly = true)
     public Page<SubjectLimitViolationResultDTO> findNmKConstraintsResultPaged(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters,
             Pageable pageable) {
+        return findNmKConstraintsResultPaged(resultUuid, networkUuid, variantId, stringFilters, stringGlobalFilters, pageable, false);
+    }
+
+    /**
+     * @param approximateCount if true, the total number of unfiltered subjects of a huge result is the planner estimate
+     */
+    // in a read-only transaction only if the response is not cached, see findResponse
+    public Page<SubjectLimitViolationResultDTO> findNmKConstraintsResultPaged(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters,
+            Pageable pageable, boolean approximateCount) {
+        return findResponse(resultUuid, ResultPageCache.Query.NMK_CONSTRAINTS, () -> {
+            assertResultExists(resultUuid);
+
+            List<ResourceFilterDTO> allResourceFilters = getAllResourceFilters(stringFilters, stringGlobalFilters, globalFilter -> filterService.getResourceFilterSubjectLimitViolations(networkUuid,
+                    variantId, globalFilter));
+            Page<SubjectLimitViolationEntity> subjectLimitViolationsPage = findSubjectLimitViolationsPage(resultUuid, allResourceFilters, pageable, approximateCount);
+            return subjectLimitViolationsPage.map(SubjectLimitViolationResultDTO::toDto);
+        }, networkUuid, variantId, decode(stringFilters), decode(stringGlobalFilters), pageable, approximateCount);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<SubjectLimitViolationResultDTO> findNmKConstraintsKeysetPage(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters,
+                                                                                    Sort sort, int size, @Nullable String cursor) {
         assertResultExists(resultUuid);
 
         List<ResourceFilterDTO> allResourceFilters = getAllResourceFilters(stringFilters, stringGlobalFilters, globalFilter -> filterService.getResourceFilterSubjectLimitViolations(networkUuid,
                 variantId, globalFilter));
-        Page<SubjectLimitViolationEntity> subjectLimitViolationsPage = findSubjectLimitViolationsPage(resultUuid, allResourceFilters, pageable);
-        return subjectLimitViolationsPage.map(SubjectLimitViolationResultDTO::toDto);
+        KeysetPageDTO<SubjectLimitViolationEntity> subjectLimitViolations = findSubjectLimitViolationsKeysetPage(resultUuid, allResourceFilters, sort, size, cursor);
+        return new KeysetPageDTO<>(subjectLimitViolations.content().stream().map(SubjectLimitViolationResultDTO::toDto).toList(), subjectLimitViolations.nextCursor());
     }
 
     @Transactional(readOnly = true)
@@ -238,22 +511,168 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
 
         List<SubjectLimitViolationEntity> subjectLimitViolations = subjectLimitViolationRepository.findAllByResultId(resultUuid);
         List<UUID> uuids = subjectLimitViolations.stream().map(SubjectLimitViolationEntity::getId).toList();
-        subjectLimitViolationRepository.findAllWithContingencyContingencyLimitViolationsByIdIn(uuids);
+        subjectLimitViolationRepository.findAllWithContingencyContingencyLimitViolationsByResultIdAndIdIn(resultUuid, uuids);
         List<UUID> contingencyUuids = subjectLimitViolations.stream().map(SubjectLimitViolationEntity::getContingencyLimitViolations).flatMap(List::stream)
             .map(lm -> lm.getContingency().getUuid())
             .toList();
         // we fetch contingencyElements for each contingency here to prevent N+1 query
-        contingencyRepository.findAllWithContingencyElementsByUuidIn(contingencyUuids);
+        contingencyRepository.findAllWithContingencyElementsByResultIdAndUuidIn(resultUuid, contingencyUuids);
 
         return subjectLimitViolations.stream().map(SubjectLimitViolationResultDTO::toDto).toList();
     }
 
+    /**
+     * @param count number of returned limit violations, at most {@link #MAX_WORST_LIMIT_VIOLATIONS_COUNT}
+     * @param limitTypes limit types of the returned limit violations, all if null or empty
+     * @return the worst contingency limit violations of a result for the criterion, the limit violations without value for this criterion being left out.
+     * They are read through the (result_id, criterion column, id) indexes, in the order of the sort, so that only the returned rows are read whatever the size of the result.
+     */
     @Transactional(readOnly = true)
-    public byte[] findNmKConstraintsResultZippedCsv(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters, Sort sort, CsvTranslationDTO
-            csvTranslations) {
-        List<SubjectLimitViolationResultDTO> result = self.findNmKConstraintsResultPaged(resultUuid, networkUuid, variantId, stringFilters, stringGlobalFilters, Pageable.unpaged(sort)).getContent();
-        return CsvExportUtils.csvRowsToZippedCsv(csvTranslations.headers(), csvTranslations.language(), result.stream().map(r -> r.toCsvRows(csvTranslations.enumValueTranslations(),
-                csvTranslations.language())).flatMap(List::stream).toList());
+    public List<WorstLimitViolationDTO> findNmKWorstLimitViolations(UUID resultUuid, LimitViolationCriterion criterion, int count, boolean worstSideOnly,
+                                                                    @Nullable List<LimitViolationType> limitTypes) {
+        assertResultExists(resultUuid);
+
+        Sort.Order criterionOrder = switch (criterion) {
+            case LOADING -> Sort.Order.desc(AbstractLimitViolationEntity.Fields.loading);
+            case PATL_LOADING -> Sort.Order.desc(AbstractLimitViolationEntity.Fields.patlLoading);
+            case ACCEPTABLE_DURATION -> Sort.Order.asc(AbstractLimitViolationEntity.Fields.acceptableDuration);
+        };
+        Specification<ContingencyLimitViolationEntity> specification = (root, query, criteriaBuilder) -> criteriaBuilder.and(
+            criteriaBuilder.equal(root.get(ContingencyLimitViolationEntity.Fields.resultId), resultUuid),
+            criteriaBuilder.isNotNull(root.get(criterionOrder.getProperty())));
+        if (worstSideOnly) {
+            specification = specification.and((root, query, criteriaBuilder) -> criteriaBuilder.isTrue(root.get(ContingencyLimitViolationEntity.Fields.isWorstSide)));
+        }
+        if (limitTypes != null && !limitTypes.isEmpty()) {
+            specification = specification.and((root, query, criteriaBuilder) -> root.get(AbstractLimitViolationEntity.Fields.limitType).in(limitTypes));
+        }
+        Sort sort = Sort.by(criterionOrder, Sort.Order.asc(AbstractLimitViolationEntity.Fields.id));
+        int limit = Math.clamp(count, 1, MAX_WORST_LIMIT_VIOLATIONS_COUNT);
+        List<UUID> ids = contingencyLimitViolationRepository.findBy(specification, q -> q.as(ContingencyLimitViolationRepository.EntityId.class)
+                .sortBy(sort)
+                .project(AbstractLimitViolationEntity.Fields.id)
+                .limit(limit)
+                .all()).stream()
+            .map(ContingencyLimitViolationRepository.EntityId::getId)
+            .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<ContingencyLimitViolationEntity> limitViolations = contingencyLimitViolationRepository.findAllWithContingencyAndSubjectLimitViolationByResultIdAndIdIn(resultUuid, ids);
+        // we fetch contingencyElements for each contingency here to prevent N+1 query
+        contingencyRepository.findAllWithContingencyElementsByResultIdAndUuidIn(resultUuid, limitViolations.stream().map(limitViolation -> limitViolation.getContingency().getUuid()).distinct().toList());
+        Map<UUID, Integer> positions = positionsOf(ids);
+        return limitViolations.stream()
+            .sorted(Comparator.comparing(limitViolation -> positions.get(limitViolation.getId())))
+            .map(WorstLimitViolationDTO::toDto)
+            .toList();
+    }
+
+    /**
+     * Aggregates the contingencies and their limit violations as filtered in the NMK contingencies pages : on PostgreSQL in one query,
+     * see {@link ContingencyPageQueryRepository#findAggregations}, otherwise or if a filter is not supported there, over the contingencies
+     * read by chunks as for the exports. Only the aggregations leave the server.
+     * @param maxValueCounts maximum number of counted values of each group aggregation, at most 1000
+     */
+    // in a read-only transaction only if the response is not cached, see findResponse
+    public NmKAggregationsDTO findNmKAggregations(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters,
+                                                  double loadingBucketWidth, double acceptableDurationBucketWidth, int maxValueCounts) {
+        if (!(loadingBucketWidth > 0 && Double.isFinite(loadingBucketWidth)) || !(acceptableDurationBucketWidth > 0 && Double.isFinite(acceptableDurationBucketWidth))) {
+            throw new SecurityAnalysisException(INVALID_BUCKET_WIDTH, "The widths of the histogram buckets must be positive");
+        }
+        int valueCounts = Math.clamp(maxValueCounts, 1, MAX_AGGREGATED_VALUE_COUNTS);
+        return findResponse(resultUuid, ResultPageCache.Query.NMK_AGGREGATIONS, () -> {
+            assertResultExists(resultUuid);
+
+            List<ResourceFilterDTO> allResourceFilters = getAllResourceFilters(stringFilters, stringGlobalFilters,
+                    globalFilter -> filterService.getResourceFilterContingencies(networkUuid, variantId, globalFilter));
+            if (stringGlobalFilters != null && allResourceFilters.isEmpty()) {
+                // something is checked in the global filter but no resource filters are returned
+                return new NmKAggregationsAccumulator(loadingBucketWidth, acceptableDurationBucketWidth).toDto(valueCounts);
+            }
+            return contingencyPageQueryRepository.findAggregations(resultUuid, allResourceFilters, loadingBucketWidth, acceptableDurationBucketWidth)
+                .orElseGet(() -> {
+                    NmKAggregationsAccumulator accumulator = new NmKAggregationsAccumulator(loadingBucketWidth, acceptableDurationBucketWidth);
+                    filteredNmKContingenciesResult(resultUuid, allResourceFilters, Sort.unsorted()).accept(accumulator::count);
+                    return accumulator;
+                })
+                .toDto(valueCounts);
+        }, networkUuid, variantId, decode(stringFilters), decode(stringGlobalFilters), loadingBucketWidth, acceptableDurationBucketWidth, valueCounts);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<LimitViolationDiffDTO> findNmKConstraintsDiff(UUID resultUuid, UUID comparedResultUuid, UUID networkUuid, String variantId, String stringFilters,
+                                                              String stringGlobalFilters, Pageable pageable) {
+        return findNmKConstraintsDiff(resultUuid, comparedResultUuid, networkUuid, variantId, stringFilters, stringGlobalFilters, pageable, true);
+    }
+
+    /**
+     * Compares the NMK limit violations of a result with those of another result in the database, see {@link ResultDiffQueryRepository}.
+     * The filters are text filters on the fields of {@link LimitViolationDiffDTO}, the global filters select the subjects.
+     * @param withCount if false, the differences are not counted, the total being only enough to know whether there is a next page.
+     * Otherwise, the count of the differences of two completed results is cached with the result pages.
+     */
+    @Transactional(readOnly = true)
+    public Page<LimitViolationDiffDTO> findNmKConstraintsDiff(UUID resultUuid, UUID comparedResultUuid, UUID networkUuid, String variantId, String stringFilters,
+                                                              String stringGlobalFilters, Pageable pageable, boolean withCount) {
+        // both results are read from the same database
+        readReplicaLagGuard.checkResults(resultUuid, comparedResultUuid);
+        assertResultExists(resultUuid);
+        assertResultExists(comparedResultUuid);
+        assertSortAllowed(pageable.getSort(), ALLOWED_NMK_CONSTRAINTS_DIFF_SORT_PROPERTIES);
+
+        List<ResourceFilterDTO> allResourceFilters = getAllResourceFilters(stringFilters, stringGlobalFilters,
+                globalFilter -> filterService.getResourceFilterSubjectLimitViolations(networkUuid, variantId, globalFilter));
+        if (stringGlobalFilters != null && allResourceFilters.isEmpty()) {
+            // something is checked in the global filter but no resource filters are returned
+            return (Page<LimitViolationDiffDTO>) emptyPage(pageable);
+        }
+        return resultDiffQueryRepository.findPage(resultUuid, comparedResultUuid, allResourceFilters, pageable, withCount,
+                counter -> countDiffs(resultUuid, comparedResultUuid, allResourceFilters, counter))
+            .orElseThrow(() -> new SecurityAnalysisException(UNSUPPORTED_FILTER, "Filtering is not supported on at least one of the columns of the differences"));
+    }
+
+    /**
+     * Writes the zipped csv export of the NMK constraints result to the output stream as its rows are read by chunks, see {@link #writeNResultZippedCsv}.
+     */
+    @Transactional(readOnly = true)
+    public void writeNmKConstraintsResultZippedCsv(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters, Sort sort,
+                                                   CsvTranslationDTO csvTranslations, OutputStream outputStream) {
+        Consumer<Consumer<SubjectLimitViolationResultDTO>> results = exportedNmKConstraintsResult(resultUuid, networkUuid, variantId, stringFilters, stringGlobalFilters, sort);
+        CsvRowEncoder csvRowEncoder = new CsvRowEncoder(csvTranslations.enumValueTranslations(), csvTranslations.language());
+        CsvExportUtils.writeZippedCsv(outputStream, csvTranslations.headers(), csvTranslations.language(),
+            rowWriter -> results.accept(result -> csvRowEncoder.writeSubjectRows(result, rowWriter)));
+    }
+
+    /**
+     * Writes the NMK constraints result to the output stream as an Arrow IPC stream, see {@link #writeNResultArrow}.
+     */
+    @Transactional(readOnly = true)
+    public void writeNmKConstraintsResultArrow(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters, String stringGlobalFilters, Sort sort,
+                                               OutputStream outputStream) {
+        Consumer<Consumer<SubjectLimitViolationResultDTO>> results = exportedNmKConstraintsResult(resultUuid, networkUuid, variantId, stringFilters, stringGlobalFilters, sort);
+        try (ArrowResultWriter writer = ArrowResultWriter.forNmKConstraints(outputStream, contingencyRepository.findContingencyIdsByResultId(resultUuid),
+                subjectLimitViolationRepository.findSubjectIdsByResultId(resultUuid), arrowExportBatchSize)) {
+            results.accept(writer::writeSubjectResult);
+            writer.finish();
+        }
+    }
+
+    private Consumer<Consumer<SubjectLimitViolationResultDTO>> exportedNmKConstraintsResult(UUID resultUuid, UUID networkUuid, String variantId, String stringFilters,
+                                                                                            String stringGlobalFilters, Sort sort) {
+        assertResultExists(resultUuid);
+        List<ResourceFilterDTO> allResourceFilters = getAllResourceFilters(stringFilters, stringGlobalFilters, globalFilter -> filterService.getResourceFilterSubjectLimitViolations(networkUuid,
+                variantId, globalFilter));
+        assertNmKSubjectLimitViolationsSortAllowed(sort);
+
+        Pageable pageable = Pageable.unpaged(sort);
+        Specification<SubjectLimitViolationEntity> specification = subjectLimitViolationSpecificationBuilder.buildSpecification(resultUuid, allResourceFilters);
+        return consumer -> resultPageQueryRepository.forEachIdsChunk(SubjectLimitViolationEntity.class, specification,
+            SubjectLimitViolationEntity.Fields.id, addDefaultSortAndRemoveChildrenSorting(pageable, SubjectLimitViolationEntity.Fields.id).getSort(), csvExportChunkSize,
+            ids -> fetchSubjectLimitViolations(resultUuid, ids, pageable, 0, allResourceFilters).stream()
+                .map(SubjectLimitViolationResultDTO::toDto)
+                .forEach(consumer));
     }
 
     private void assertNmKContingenciesSortAllowed(Sort sort) {
@@ -268,6 +687,19 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
         assertSortAllowed(sort, ALLOWED_NMK_SUBJECT_LIMIT_VIOLATIONS_RESULT_SORT_PROPERTIES);
     }
 
+    /**
+     * The cursors of the keyset pages only hold texts, the aggregates of the limit violations, numbers or nulls, can't be used there.
+     */
+    private void assertKeysetSortAllowed(Sort sort) {
+        if (sort.stream().anyMatch(order -> order.getProperty().startsWith(ContingencyEntity.Fields.limitViolationsAggregates + SpecificationUtils.FIELD_SEPARATOR))) {
+            throw new ComputationException(INVALID_SORT_FORMAT, "Sorting on the aggregates of the limit violations is not accepted for keyset pages");
+        }
+    }
+
+    private static Stream<String> limitViolationsAggregatesProperties(String limitViolationsAggregatesField) {
+        return LIMIT_VIOLATIONS_AGGREGATES_PROPERTIES.stream().map(property -> limitViolationsAggregatesField + SpecificationUtils.FIELD_SEPARATOR + property);
+    }
+
     private void assertSortAllowed(Sort sort, List<String> allowedSortProperties) {
         if (!sort.stream().allMatch(order -> allowedSortProperties.contains(order.getProperty()))) {
             throw new ComputationException(INVALID_SORT_FORMAT, "Sorting is not accepted on at least one of the columns for this result type");
@@ -279,26 +711,117 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
     }
 
     public void assertResultExists(UUID resultUuid) {
-        if (securityAnalysisResultRepository.findById(resultUuid).isEmpty()) {
+        readReplicaLagGuard.checkResults(resultUuid);
+        if (securityAnalysisResultRepository.findById(resultUuid).filter(this::isReadable).isEmpty()) {
             throw new ComputationException(RESULT_NOT_FOUND, "Result not found");
         }
     }
 
+    /**
+     * Results waiting for purge look deleted, and the chunks written while a result is running are only readable once it is completed.
+     */
+    private boolean isReadable(SecurityAnalysisResultEntity result) {
+        return result.getDeletionDate() == null && (streamingInsertChunkSize <= 0 || result.getStatus() != SecurityAnalysisStatus.RUNNING);
+    }
+
     @Transactional
     public void insert(@Nullable Network network, UUID resultUuid, SecurityAnalysisResult result, SecurityAnalysisStatus status) {
         Objects.requireNonNull(resultUuid);
         Objects.requireNonNull(result);
 
-        SecurityAnalysisResultEntity securityAnalysisResult = SecurityAnalysisResultEntity.toEntity(network, resultUuid, result, status);
-        securityAnalysisResultRepository.save(securityAnalysisResult);
+        SecurityAnalysisResultEntity securityAnalysisResult = SecurityAnalysisResultEntity.toEntity(network, resultUuid, result, status, entityConversionPool);
+        resultPartitionRepository.createPartitions(resultUuid);
+        if (bulkInsertEnabled) {
+            // COPY on PostgreSQL (JDBC batches otherwise) instead of the entity persist/merge cycle, the written rows are the same
+            long startTime = System.nanoTime();
+            securityAnalysisResultBulkRepository.insert(securityAnalysisResult);
+            LOGGER.info("Security analysis result '{}' has been bulk inserted in {}ms", resultUuid, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        } else {
+            securityAnalysisResultRepository.save(securityAnalysisResult);
+        }
+        resultFacetRepository.saveAll(ResultFacetEntity.toEntities(resultUuid, securityAnalysisResult.getPreContingencyLimitViolations(), securityAnalysisResult.getContingencies()));
+        evictCachedResult(resultUuid);
+    }
+
+    /**
+     * @return a writer persisting the result by chunks while the security analysis is running, or null if the streaming insertion is disabled
+     */
+    @Nullable
+    public StreamingResultWriter createStreamingResultWriter(@Nullable Network network, UUID resultUuid) {
+        return streamingInsertChunkSize > 0 ? new StreamingResultWriter(self, network, resultUuid, streamingInsertChunkSize) : null;
+    }
+
+    /**
+     * Writes a chunk of post contingency results of a running security analysis, see {@link StreamingResultWriter}.
+     * @return the facets of the chunk, written once with the last part of the result instead of being updated at each chunk
+     */
+    @Transactional
+    public List<ResultFacetEntity> insertContingencies(@Nullable Network network, UUID resultUuid, List<PostContingencyResult> postContingencyResults, Map<String, UUID> subjectLimitViolationIds) {
+        long startTime = System.nanoTime();
+        List<ContingencyEntity> contingencies = SecurityAnalysisResultEntity.toContingencyEntities(network, postContingencyResults, entityConversionPool);
+        resultPartitionRepository.createPartitions(resultUuid);
+        securityAnalysisResultBulkRepository.insertContingencies(resultUuid, contingencies, subjectLimitViolationIds);
+        evictCachedResult(resultUuid);
+        LOGGER.debug("{} contingencies of security analysis result '{}' have been inserted in {}ms", contingencies.size(), resultUuid,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return ResultFacetEntity.toEntities(resultUuid, null, contingencies);
+    }
+
+    /**
+     * Writes the last part of a result whose contingencies have been partly written by chunks, and its final status.
+     * @param chunkFacets the facets of the chunks already written, written with the ones of the last part
+     */
+    @Transactional
+    public void insert(@Nullable Network network, UUID resultUuid, SecurityAnalysisResult result, SecurityAnalysisStatus status, Map<String, UUID> subjectLimitViolationIds,
+                       List<ResultFacetEntity> chunkFacets) {
+        Objects.requireNonNull(resultUuid);
+        Objects.requireNonNull(result);
+
+        SecurityAnalysisResultEntity securityAnalysisResult = SecurityAnalysisResultEntity.toEntity(network, resultUuid, result, status, entityConversionPool);
+        resultPartitionRepository.createPartitions(resultUuid);
+        securityAnalysisResultBulkRepository.insert(securityAnalysisResult, subjectLimitViolationIds);
+        resultFacetRepository.saveAll(ResultFacetEntity.merge(chunkFacets,
+            ResultFacetEntity.toEntities(resultUuid, securityAnalysisResult.getPreContingencyLimitViolations(), securityAnalysisResult.getContingencies())));
+        evictCachedResult(resultUuid);
+    }
+
+    /**
+     * Removes the rows written by chunks for a security analysis that did not complete, the result status is kept.
+     */
+    @Transactional
+    public void deleteResultContent(UUID resultUuid) {
+        Objects.requireNonNull(resultUuid);
+        deleteSecurityAnalysisResultContent(resultUuid);
+        resultFacetRepository.deleteAllByResultId(resultUuid);
+        evictCachedResult(resultUuid);
     }
 
     @Override
     @Transactional
     public void insertStatus(List<UUID> resultUuids, SecurityAnalysisStatus status) {
+        insertStatus(resultUuids, status, null);
+    }
+
+    /**
+     * @param networkUuid network of the results, only kept for the results created by this call
+     */
+    @Transactional
+    public void insertStatus(List<UUID> resultUuids, SecurityAnalysisStatus status, @Nullable UUID networkUuid) {
         Objects.requireNonNull(resultUuids);
         resultUuids.forEach(resultUuid -> {
-            SecurityAnalysisResultEntity securityAnalysisResult = securityAnalysisResultRepository.findById(resultUuid).orElse(new SecurityAnalysisResultEntity(resultUuid));
+            // the cached responses of a result are dropped when its status changes, invalidation included
+            evictCachedResult(resultUuid);
+            SecurityAnalysisResultEntity securityAnalysisResult = securityAnalysisResultRepository.findById(resultUuid).orElseGet(() -> {
+                SecurityAnalysisResultEntity newSecurityAnalysisResult = new SecurityAnalysisResultEntity(resultUuid);
+                newSecurityAnalysisResult.setNetworkUuid(networkUuid);
+                return newSecurityAnalysisResult;
+            });
+            if (securityAnalysisResult.getDeletionDate() != null) {
+                // the id of a result waiting for purge is reused : its content is dropped right away
+                deleteSecurityAnalysisResultContent(resultUuid);
+                resultFacetRepository.deleteAllByResultId(resultUuid);
+                securityAnalysisResult.setDeletionDate(null);
+            }
             securityAnalysisResult.setStatus(status);
             securityAnalysisResultRepository.save(securityAnalysisResult);
         });
@@ -310,27 +833,146 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
         AtomicReference<Long> startTime = new AtomicReference<>();
         startTime.set(System.nanoTime());
         Objects.requireNonNull(resultUuid);
+        evictCachedResult(resultUuid);
+        if (asyncDeletionEnabled) {
+            securityAnalysisResultRepository.markDeleted(resultUuid, Instant.now());
+            LOGGER.info("Security analysis result '{}' has been marked as deleted", resultUuid);
+            return;
+        }
         deleteSecurityAnalysisResult(resultUuid);
         LOGGER.info("Security analysis result '{}' has been deleted in {}ms", resultUuid, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime.get()));
     }
 
+    /**
+     * Deletes at most {@code batchSize} rows of a result marked as deleted, children first.
+     * Once all its rows are deleted, the result itself is deleted.
+     * When the result tables are partitioned, its partitions are dropped instead of deleting their rows.
+     * @return the number of deleted rows, 0 when the result has been entirely purged
+     */
+    @Transactional
+    public int purgeDeletedResultBatch(UUID resultUuid, int batchSize) {
+        if (resultPartitionRepository.isPartitioned()) {
+            return purgeDeletedPartitionedResultBatch(resultUuid, batchSize);
+        }
+        int deletedRows = contingencyLimitViolationRepository.deleteByResultIdLimitedTo(resultUuid, batchSize);
+        if (deletedRows > 0) {
+            return deletedRows;
+        }
+        Set<UUID> contingencyUuids = contingencyRepository.findUuidsByResultIdLimitedTo(resultUuid, batchSize);
+        if (!contingencyUuids.isEmpty()) {
+            return contingencyRepository.deleteAllContingencyElementsByContingencyUuidIn(contingencyUuids) + contingencyRepository.deleteAllByUuidIn(contingencyUuids);
+        }
+        deletedRows = preContingencyLimitViolationRepository.deleteByResultIdLimitedTo(resultUuid, batchSize);
+        if (deletedRows > 0) {
+            return deletedRows;
+        }
+        deletedRows = subjectLimitViolationRepository.deleteByResultIdLimitedTo(resultUuid, batchSize);
+        if (deletedRows > 0) {
+            return deletedRows;
+        }
+        securityAnalysisResultRepository.deleteById(resultUuid);
+        return 0;
+    }
+
+    private int purgeDeletedPartitionedResultBatch(UUID resultUuid, int batchSize) {
+        // the contingency elements are not partitioned
+        int deletedRows = contingencyRepository.deleteContingencyElementsByResultIdLimitedTo(resultUuid, batchSize);
+        if (deletedRows > 0) {
+            return deletedRows;
+        }
+        if (resultPartitionRepository.hasPartitions(resultUuid)) {
+            // dropped once this transaction is committed, the result is deleted by the next batch so that it is retried if the drop fails
+            // a drop costs the same whatever the rows of the partitions, it is not throttled as deleted rows
+            resultPartitionRepository.dropPartitions(resultUuid);
+            return 1;
+        }
+        securityAnalysisResultRepository.deleteResultRowById(resultUuid);
+        return 0;
+    }
+
+    /**
+     * Drops the partitions of deleted results whose drop failed or has been left to the purge, see {@link ResultPartitionRepository#dropPendingPartitions}.
+     * @return the number of results whose partitions have been dropped
+     */
+    public int dropPendingPartitions(int limit) {
+        return resultPartitionRepository.dropPendingPartitions(limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<UUID> findDeletedResultUuids(int limit) {
+        // the purged results are deleted on the primary
+        readReplicaLagGuard.usePrimary();
+        return securityAnalysisResultRepository.findDeletedIds(PageRequest.of(0, limit));
+    }
+
+    @Transactional(readOnly = true)
+    public long countDeletedResults() {
+        readReplicaLagGuard.usePrimary();
+        return securityAnalysisResultRepository.countByDeletionDateIsNotNull();
+    }
+
     // We manually delete the results here using SQL queries to improve performances.
+    // The facets are deleted with the result row by the foreign key cascade.
     // source : https://www.baeldung.com/spring-data-jpa-deleteby
     // "The @Query method creates a single SQL query against the database. By comparison, the deleteBy methods execute a read query, then delete each of the items one by one."
     // Note : we use native SQL instead of JPQL because there is no cascade even on embeddable collections so we keep total control on launched queries.
-    private void deleteSecurityAnalysisResult(UUID resultId) {
+    private long deleteSecurityAnalysisResult(UUID resultId) {
+        long deletedRows = deleteSecurityAnalysisResultContent(resultId);
+        if (resultPartitionRepository.isPartitioned()) {
+            securityAnalysisResultRepository.deleteResultRowById(resultId);
+        } else {
+            securityAnalysisResultRepository.deleteById(resultId);
+        }
+        return deletedRows;
+    }
+
+    /**
+     * @return the number of deleted rows
+     */
+    private long deleteSecurityAnalysisResultContent(UUID resultId) {
+        if (resultPartitionRepository.isPartitioned()) {
+            // the partitions of the result are dropped once the transaction is committed, only the contingency elements are not partitioned
+            return contingencyRepository.deleteAllContingencyElementsByResultId(resultId) + resultPartitionRepository.dropPartitions(resultId);
+        }
         Set<UUID> contingencyUuids = contingencyRepository.findAllUuidsByResultId(resultId);
-        contingencyLimitViolationRepository.deleteAllByContingencyUuidIn(contingencyUuids);
-        contingencyRepository.deleteAllContingencyElementsByContingencyUuidIn(contingencyUuids);
-        contingencyRepository.deleteAllByResultId(resultId);
-        preContingencyLimitViolationRepository.deleteAllByResultId(resultId);
-        subjectLimitViolationRepository.deleteAllByResultId(resultId);
-        securityAnalysisResultRepository.deleteById(resultId);
+        return (long) contingencyLimitViolationRepository.deleteAllByResultIdAndContingencyUuidIn(resultId, contingencyUuids)
+            + contingencyRepository.deleteAllContingencyElementsByContingencyUuidIn(contingencyUuids)
+            + contingencyRepository.deleteAllByResultId(resultId)
+            + preContingencyLimitViolationRepository.deleteAllByResultId(resultId)
+            + subjectLimitViolationRepository.deleteAllByResultId(resultId);
+    }
+
+    /**
+     * Deletes a result evicted by the retention policy with the set-based deletion, whatever the deletion mode.
+     * @return the number of deleted rows, the result row included
+     */
+    @Transactional
+    public long evict(UUID resultUuid) {
+        Objects.requireNonNull(resultUuid);
+        long deletedRows = deleteSecurityAnalysisResult(resultUuid) + 1;
+        evictCachedResult(resultUuid);
+        LOGGER.info("Security analysis result '{}' has been evicted ({} rows)", resultUuid, deletedRows);
+        return deletedRows;
     }
 
     @Override
     @Transactional
     public void deleteAll() {
+        resultCountCache.evictAll();
+        resultPageCache.evictAll();
+        hotResultIndexes.evictAll();
+        readReplicaLagGuard.evictAll();
+        if (asyncDeletionEnabled) {
+            securityAnalysisResultRepository.markAllDeleted(Instant.now());
+            return;
+        }
+        if (resultPartitionRepository.isPartitioned()) {
+            // the partitions of the results are dropped in background by the purge, only the contingency elements are not partitioned
+            resultPartitionRepository.addPendingDropOfAllPartitions();
+            contingencyRepository.deleteAllContingencyElements();
+            securityAnalysisResultRepository.deleteAllResultRows();
+            return;
+        }
         securityAnalysisResultRepository.deleteAll();
     }
 
@@ -338,7 +980,9 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
     @Transactional(readOnly = true)
     public SecurityAnalysisStatus findStatus(UUID resultUuid) {
         Objects.requireNonNull(resultUuid);
-        Optional<SecurityAnalysisResultEntity> securityAnalysisResult = securityAnalysisResultRepository.findById(resultUuid);
+        readReplicaLagGuard.checkResults(resultUuid);
+        Optional<SecurityAnalysisResultEntity> securityAnalysisResult = securityAnalysisResultRepository.findById(resultUuid)
+            .filter(result -> result.getDeletionDate() == null);
         if (securityAnalysisResult.isEmpty()) {
             return null;
         }
@@ -352,7 +996,13 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
 
     @Transactional(readOnly = true)
     public Page<ContingencyEntity> findContingenciesPage(UUID resultUuid, List<ResourceFilterDTO> resourceFilters, Pageable pageable) {
+        return findContingenciesPage(resultUuid, resourceFilters, pageable, false);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ContingencyEntity> findContingenciesPage(UUID resultUuid, List<ResourceFilterDTO> resourceFilters, Pageable pageable, boolean approximateCount) {
         Objects.requireNonNull(resultUuid);
+        readReplicaLagGuard.checkResults(resultUuid);
         assertNmKContingenciesSortAllowed(pageable.getSort());
         Pageable modifiedPageable = addDefaultSortAndRemoveChildrenSorting(pageable, ContingencyEntity.Fields.uuid);
         Specification<ContingencyEntity> specification = contingencySpecificationBuilder.buildSpecification(resultUuid, resourceFilters);
@@ -360,49 +1010,105 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
         // HHH000104: firstResult/maxResults specified with collection fetch; applying in memory!
         // cf. https://vladmihalcea.com/fix-hibernate-hhh000104-entity-fetch-pagination-warning-message/
         // We must separate in two requests, one with pagination the other one with Join Fetch
-
-        // Determine which properties to project based on sort fields
-        // When using DISTINCT, all ORDER BY columns must be in the SELECT list
-        List<String> projectionProperties = new ArrayList<>();
-        projectionProperties.add("uuid");
-
-        // Add sort properties to projection to satisfy DISTINCT + ORDER BY requirement
-        for (Sort.Order order : modifiedPageable.getSort()) {
-            String property = order.getProperty();
-            if (!"uuid".equals(property) && !projectionProperties.contains(property)) {
-                projectionProperties.add(property);
-            }
-        }
-
-        Page<ContingencyRepository.EntityUuid> uuidPage = contingencyRepository.findBy(specification, q -> {
-            var query = q.as(ContingencyRepository.EntityUuid.class)
-                    .sortBy(modifiedPageable.getSort());
-            if (projectionProperties.size() == 1) {
-                query = query.project("uuid");
-            } else {
-                query = query.project(projectionProperties.toArray(new String[0]));
-            }
-            return query.page(modifiedPageable);
-        });
+        List<UUID> uuids = resultPageQueryRepository.findIds(ContingencyEntity.class, specification, ContingencyEntity.Fields.uuid, modifiedPageable);
+        // the total is only counted when it can't be deduced from the page, and may come from the cache or the planner estimate
+        Page<UUID> uuidPage = PageableExecutionUtils.getPage(uuids, modifiedPageable, () -> countRows(resultUuid, PagedRows.CONTINGENCIES, resourceFilters, approximateCount,
+            () -> contingencyRepository.count(specification)));
 
         if (!uuidPage.hasContent()) {
             // Since springboot 3.2, the return value of Page.empty() is not serializable. See https://github.com/spring-projects/spring-data-commons/issues/2987
             return (Page<ContingencyEntity>) emptyPage(pageable);
         } else {
-            List<UUID> uuids = uuidPage.map(ContingencyRepository.EntityUuid::getUuid).toList();
-            // Then we fetch the main entities data for each UUID
-            List<ContingencyEntity> contingencies = contingencyRepository.findAllByUuidIn(uuids);
-            contingencies.sort(Comparator.comparing(c -> uuids.indexOf(c.getUuid())));
-            Page<ContingencyEntity> contingenciesPage = new PageImpl<>(contingencies, pageable, uuidPage.getTotalElements());
+            return fetchContingencies(resultUuid, uuids, pageable, uuidPage.getTotalElements(), resourceFilters);
+        }
+    }
 
-            // then we append the missing data, and filter some of the Lazy Loaded collections
-            appendLimitViolationsAndElementsToContingenciesResult(contingenciesPage, resourceFilters);
+    /**
+     * On PostgreSQL, the page is read with the filtered limit violations and the elements of its contingencies in one query,
+     * see {@link ContingencyPageQueryRepository}, otherwise or if a filter or the sort is not supported there, through {@link #findContingenciesPage}.
+     */
+    private Page<ContingencyResultDTO> findContingencyResultsPage(UUID resultUuid, List<ResourceFilterDTO> resourceFilters, Pageable pageable, boolean approximateCount) {
+        assertNmKContingenciesSortAllowed(pageable.getSort());
+        Pageable modifiedPageable = addDefaultSortAndRemoveChildrenSorting(pageable, ContingencyEntity.Fields.uuid);
+        // for now, only one children sort possible
+        Sort.Order limitViolationOrder = pageable.getSort().stream()
+            .filter(sortOrder -> sortOrder.getProperty().startsWith(ContingencyEntity.Fields.contingencyLimitViolations))
+            .findFirst()
+            .orElse(null);
+        return contingencyPageQueryRepository.findPage(resultUuid, resourceFilters, modifiedPageable, limitViolationOrder)
+            .map(contingencies -> {
+                // the total is only counted when it can't be deduced from the page, and may come from the cache or the planner estimate
+                Page<ContingencyResultDTO> page = PageableExecutionUtils.getPage(contingencies, pageable, () -> countRows(resultUuid, PagedRows.CONTINGENCIES, resourceFilters,
+                    approximateCount, () -> contingencyRepository.count(contingencySpecificationBuilder.buildSpecification(resultUuid, resourceFilters))));
+                return page.hasContent() ? page : (Page<ContingencyResultDTO>) emptyPage(pageable);
+            })
+            .orElseGet(() -> self.findContingenciesPage(resultUuid, resourceFilters, pageable, approximateCount).map(ContingencyResultDTO::toDto));
+    }
 
-            return contingenciesPage;
+    private static Map<UUID, Integer> positionsOf(List<UUID> uuids) {
+        Map<UUID, Integer> positions = HashMap.newHashMap(uuids.size());
+        for (int i = 0; i < uuids.size(); i++) {
+            positions.put(uuids.get(i), i);
         }
+        return positions;
+    }
+
+    private Page<ContingencyEntity> fetchContingencies(UUID resultUuid, List<UUID> uuids, Pageable pageable, long totalElements, List<ResourceFilterDTO> resourceFilters) {
+        // Then we fetch the main entities data for each UUID, the result id letting PostgreSQL read only the partition of the result
+        List<ContingencyEntity> contingencies = contingencyRepository.findAllByResultIdAndUuidIn(resultUuid, uuids);
+        Map<UUID, Integer> positions = positionsOf(uuids);
+        contingencies.sort(Comparator.comparing(c -> positions.get(c.getUuid())));
+        Page<ContingencyEntity> contingenciesPage = new PageImpl<>(contingencies, pageable, totalElements);
+
+        // then we append the missing data, and filter some of the Lazy Loaded collections
+        appendLimitViolationsAndElementsToContingenciesResult(resultUuid, contingenciesPage, resourceFilters);
+
+        return contingenciesPage;
     }
 
-    private Page<SubjectLimitViolationEntity> findSubjectLimitViolationsPage(UUID resultUuid, List<ResourceFilterDTO> resourceFilters, Pageable pageable) {
+    /**
+     * Keyset variant of {@link #findContingenciesPage} : the page is read after the cursor of the previous page, without count query.
+     */
+    private KeysetPageDTO<ContingencyEntity> findContingenciesKeysetPage(UUID resultUuid, List<ResourceFilterDTO> resourceFilters, Sort sort, int pageSize, @Nullable String cursor) {
+        Objects.requireNonNull(resultUuid);
+        int size = Math.max(pageSize, 1);
+        assertNmKContingenciesSortAllowed(sort);
+        assertKeysetSortAllowed(sort);
+        Sort keysetSort = addDefaultSortAndRemoveChildrenSorting(Pageable.unpaged(sort), ContingencyEntity.Fields.uuid).getSort();
+        Specification<ContingencyEntity> specification = contingencySpecificationBuilder.buildSpecification(resultUuid, resourceFilters);
+        if (cursor != null) {
+            specification = specification.and(KeysetPaginationUtils.after(keysetSort, KeysetPaginationUtils.decodeCursor(objectMapper, keysetSort, cursor)));
+        }
+        // When using DISTINCT, all ORDER BY columns must be in the SELECT list
+        Set<String> projectionProperties = new LinkedHashSet<>();
+        projectionProperties.add(ContingencyEntity.Fields.uuid);
+        keysetSort.forEach(order -> projectionProperties.add(order.getProperty()));
+
+        // one more row is read to know if there is a next page
+        List<UUID> uuids = contingencyRepository.findBy(specification, q -> q.as(ContingencyRepository.EntityUuid.class)
+                .sortBy(keysetSort)
+                .project(projectionProperties.toArray(String[]::new))
+                .limit(size + 1)
+                .all()).stream()
+            .map(ContingencyRepository.EntityUuid::getUuid)
+            .toList();
+        if (uuids.isEmpty()) {
+            return new KeysetPageDTO<>(List.of(), null);
+        }
+        boolean hasNext = uuids.size() > size;
+        List<ContingencyEntity> contingencies = fetchContingencies(resultUuid, hasNext ? uuids.subList(0, size) : uuids, Pageable.unpaged(sort), 0, resourceFilters).getContent();
+        ContingencyEntity lastContingency = contingencies.getLast();
+        String nextCursor = hasNext ? KeysetPaginationUtils.encodeCursor(objectMapper, keysetSort, keysetSort.stream()
+            .map(order -> switch (order.getProperty()) {
+                case ContingencyEntity.Fields.contingencyId -> lastContingency.getContingencyId();
+                case ContingencyEntity.Fields.status -> lastContingency.getStatus();
+                default -> lastContingency.getUuid().toString();
+            })
+            .toList()) : null;
+        return new KeysetPageDTO<>(contingencies, nextCursor);
+    }
+
+    private Page<SubjectLimitViolationEntity> findSubjectLimitViolationsPage(UUID resultUuid, List<ResourceFilterDTO> resourceFilters, Pageable pageable, boolean approximateCount) {
         Objects.requireNonNull(resultUuid);
         assertNmKSubjectLimitViolationsSortAllowed(pageable.getSort());
         Pageable modifiedPageable = addDefaultSortAndRemoveChildrenSorting(pageable, SubjectLimitViolationEntity.Fields.id);
@@ -411,53 +1117,104 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
         // HHH000104: firstResult/maxResults specified with collection fetch; applying in memory!
         // cf. https://vladmihalcea.com/fix-hibernate-hhh000104-entity-fetch-pagination-warning-message/
         // We must separate in two requests, one with pagination the other one with Join Fetch
-
-        // Determine which properties to project based on sort fields
-        // When using DISTINCT, all ORDER BY columns must be in the SELECT list
-        List<String> projectionProperties = new ArrayList<>();
-        projectionProperties.add("id");
-
-        // Add sort properties to projection to satisfy DISTINCT + ORDER BY requirement
-        for (Sort.Order order : modifiedPageable.getSort()) {
-            String property = order.getProperty();
-            if (!"id".equals(property) && !projectionProperties.contains(property)) {
-                projectionProperties.add(property);
-            }
-        }
-
-        Page<SubjectLimitViolationRepository.EntityId> uuidPage = subjectLimitViolationRepository.findBy(specification, q -> {
-            var query = q.as(SubjectLimitViolationRepository.EntityId.class)
-                    .sortBy(modifiedPageable.getSort());
-            if (projectionProperties.size() == 1) {
-                query = query.project("id");
-            } else {
-                query = query.project(projectionProperties.toArray(new String[0]));
-            }
-            return query.page(modifiedPageable);
+        // the page of a completed result may be read from its in memory index
+        Optional<Page<UUID>> hotIdPage = hotResultIndexes.isEnabled() && isCompleted(resultUuid)
+            ? hotResultIndexes.findSubjectLimitViolationIds(resultUuid, resourceFilters, modifiedPageable)
+            : Optional.empty();
+        Page<UUID> idPage = hotIdPage.orElseGet(() -> {
+            List<UUID> ids = resultPageQueryRepository.findIds(SubjectLimitViolationEntity.class, specification, SubjectLimitViolationEntity.Fields.id, modifiedPageable);
+            // the total is only counted when it can't be deduced from the page, and may come from the cache or the planner estimate
+            return PageableExecutionUtils.getPage(ids, modifiedPageable, () -> countRows(resultUuid, PagedRows.SUBJECT_LIMIT_VIOLATIONS, resourceFilters, approximateCount,
+                () -> subjectLimitViolationRepository.count(specification)));
         });
 
-        if (!uuidPage.hasContent()) {
+        if (!idPage.hasContent()) {
             // Since springboot 3.2, the return value of Page.empty() is not serializable. See https://github.com/spring-projects/spring-data-commons/issues/2987
             return (Page<SubjectLimitViolationEntity>) emptyPage(pageable);
         } else {
-            List<UUID> uuids = uuidPage.map(SubjectLimitViolationRepository.EntityId::getId).toList();
-            // Then we fetch the main entities data for each UUID
-            List<SubjectLimitViolationEntity> subjectLimitViolations = subjectLimitViolationRepository.findAllByIdIn(uuids);
-            subjectLimitViolations.sort(Comparator.comparing(lm -> uuids.indexOf(lm.getId())));
-            Page<SubjectLimitViolationEntity> subjectLimitViolationPage = new PageImpl<>(subjectLimitViolations, pageable, uuidPage.getTotalElements());
+            return fetchSubjectLimitViolations(resultUuid, idPage.getContent(), pageable, idPage.getTotalElements(), resourceFilters);
+        }
+    }
+
+    private Page<SubjectLimitViolationEntity> fetchSubjectLimitViolations(UUID resultUuid, List<UUID> uuids, Pageable pageable, long totalElements,
+                                                                          List<ResourceFilterDTO> resourceFilters) {
+        // Then we fetch the main entities data for each UUID, the result id letting PostgreSQL read only the partition of the result
+        List<SubjectLimitViolationEntity> subjectLimitViolations = subjectLimitViolationRepository.findAllByResultIdAndIdIn(resultUuid, uuids);
+        Map<UUID, Integer> positions = positionsOf(uuids);
+        subjectLimitViolations.sort(Comparator.comparing(lm -> positions.get(lm.getId())));
+        Page<SubjectLimitViolationEntity> subjectLimitViolationPage = new PageImpl<>(subjectLimitViolations, pageable, totalElements);
 
-            // then we append the missing data, and filter some of the Lazy Loaded collections
-            appendLimitViolationsAndContingencyElementsToSubjectLimitViolationsResult(subjectLimitViolationPage, resourceFilters);
+        // then we append the missing data, and filter some of the Lazy Loaded collections
+        appendLimitViolationsAndContingencyElementsToSubjectLimitViolationsResult(resultUuid, subjectLimitViolationPage, resourceFilters);
+
+        return subjectLimitViolationPage;
+    }
 
-            return subjectLimitViolationPage;
+    /**
+     * Keyset variant of {@link #findSubjectLimitViolationsPage} : the page is read after the cursor of the previous page, without count query.
+     */
+    private KeysetPageDTO<SubjectLimitViolationEntity> findSubjectLimitViolationsKeysetPage(UUID resultUuid, List<ResourceFilterDTO> resourceFilters, Sort sort, int pageSize,
+                                                                                           @Nullable String cursor) {
+        Objects.requireNonNull(resultUuid);
+        int size = Math.max(pageSize, 1);
+        assertNmKSubjectLimitViolationsSortAllowed(sort);
+        assertKeysetSortAllowed(sort);
+        Sort keysetSort = addDefaultSortAndRemoveChildrenSorting(Pageable.unpaged(sort), SubjectLimitViolationEntity.Fields.id).getSort();
+        Specification<SubjectLimitViolationEntity> specification = subjectLimitViolationSpecificationBuilder.buildSpecification(resultUuid, resourceFilters);
+        if (cursor != null) {
+            specification = specification.and(KeysetPaginationUtils.after(keysetSort, KeysetPaginationUtils.decodeCursor(objectMapper, keysetSort, cursor)));
+        }
+        // When using DISTINCT, all ORDER BY columns must be in the SELECT list
+        Set<String> projectionProperties = new LinkedHashSet<>();
+        projectionProperties.add(SubjectLimitViolationEntity.Fields.id);
+        keysetSort.forEach(order -> projectionProperties.add(order.getProperty()));
+
+        // one more row is read to know if there is a next page
+        List<UUID> ids = subjectLimitViolationRepository.findBy(specification, q -> q.as(SubjectLimitViolationRepository.EntityId.class)
+                .sortBy(keysetSort)
+                .project(projectionProperties.toArray(String[]::new))
+                .limit(size + 1)
+                .all()).stream()
+            .map(SubjectLimitViolationRepository.EntityId::getId)
+            .toList();
+        if (ids.isEmpty()) {
+            return new KeysetPageDTO<>(List.of(), null);
         }
+        boolean hasNext = ids.size() > size;
+        List<SubjectLimitViolationEntity> subjectLimitViolations = fetchSubjectLimitViolations(resultUuid, hasNext ? ids.subList(0, size) : ids, Pageable.unpaged(sort), 0, resourceFilters)
+            .getContent();
+        SubjectLimitViolationEntity lastSubjectLimitViolation = subjectLimitViolations.getLast();
+        String nextCursor = hasNext ? KeysetPaginationUtils.encodeCursor(objectMapper, keysetSort, keysetSort.stream()
+            .map(order -> SubjectLimitViolationEntity.Fields.subjectId.equals(order.getProperty())
+                ? lastSubjectLimitViolation.getSubjectId()
+                : lastSubjectLimitViolation.getId().toString())
+            .toList()) : null;
+        return new KeysetPageDTO<>(subjectLimitViolations, nextCursor);
     }
 
     @Transactional(readOnly = true)
     public Page<ContingencyEntity> findCutOffPowerContingenciesPage(UUID resultUuid, List<ResourceFilterDTO> resourceFilters, Pageable pageable) {
+        return findCutOffPowerContingenciesPage(resultUuid, resourceFilters, pageable, false);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ContingencyEntity> findCutOffPowerContingenciesPage(UUID resultUuid, List<ResourceFilterDTO> resourceFilters, Pageable pageable, boolean approximateCount) {
         Objects.requireNonNull(resultUuid);
+        readReplicaLagGuard.checkResults(resultUuid);
         assertNmKCutOffPowerSortAllowed(pageable.getSort());
         Pageable modifiedPageable = withDefaultSort(pageable);
+        Specification<ContingencyEntity> filteredSpecification = cutOffPowerSpecification(resultUuid, resourceFilters);
+        List<UUID> orderedUuids = resultPageQueryRepository.findIds(ContingencyEntity.class, filteredSpecification, ContingencyEntity.Fields.uuid, modifiedPageable);
+        // the total is only counted when it can't be deduced from the page, and may come from the cache or the planner estimate
+        Page<UUID> uuidPage = PageableExecutionUtils.getPage(orderedUuids, modifiedPageable, () -> countRows(resultUuid, PagedRows.CUT_OFF_POWER_CONTINGENCIES, resourceFilters,
+            approximateCount, () -> contingencyRepository.count(filteredSpecification)));
+        if (!uuidPage.hasContent()) {
+            return (Page<ContingencyEntity>) emptyPage(pageable);
+        }
+        return new PageImpl<>(fetchCutOffPowerContingencies(resultUuid, orderedUuids), pageable, uuidPage.getTotalElements());
+    }
+
+    private Specification<ContingencyEntity> cutOffPowerSpecification(UUID resultUuid, List<ResourceFilterDTO> resourceFilters) {
         Specification<ContingencyEntity> specification = contingencySpecificationBuilder.resultUuidEquals(resultUuid)
                 .and((root, cq, cb) -> cb.or(
                         cb.notEqual(root.get(ContingencyEntity.Fields.connectivityResult)
@@ -466,28 +1223,77 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
                                 .get(ConnectivityResultEmbeddable.Fields.disconnectedGenerationActivePower), 0.0)
                 ));
         specification = specification.and(SpecificationUtils.distinct());
-        specification = SpecificationUtils.appendFiltersToSpecification(specification, resourceFilters);
-        // Determine which properties to project based on sort fields
-        // When using DISTINCT, all ORDER BY columns must be in the SELECT list
-        Set<String> projectionProperties = new LinkedHashSet<>();
-        projectionProperties.add(ContingencyEntity.Fields.uuid);
-        modifiedPageable.getSort().forEach(order -> projectionProperties.add(order.getProperty()));
-
-        Page<ContingencyRepository.EntityUuid> uuidPage = contingencyRepository.findBy(specification, q ->
-                q.as(ContingencyRepository.EntityUuid.class)
-                        .sortBy(modifiedPageable.getSort())
-                        .project(projectionProperties.toArray(String[]::new))
-                        .page(modifiedPageable)
-        );
-        if (!uuidPage.hasContent()) {
-            return (Page<ContingencyEntity>) emptyPage(pageable);
-        }
+        return SpecificationUtils.appendFiltersToSpecification(specification, resourceFilters);
+    }
 
-        List<UUID> orderedUuids = uuidPage.map(ContingencyRepository.EntityUuid::getUuid).toList();
-        List<ContingencyEntity> contingencies = contingencyRepository.findAllByUuidIn(orderedUuids);
+    private List<ContingencyEntity> fetchCutOffPowerContingencies(UUID resultUuid, List<UUID> orderedUuids) {
+        List<ContingencyEntity> contingencies = contingencyRepository.findAllByResultIdAndUuidIn(resultUuid, orderedUuids);
         Map<UUID, Integer> positionByUuid = IntStream.range(0, orderedUuids.size()).boxed().collect(Collectors.toMap(orderedUuids::get, Function.identity()));
         contingencies.sort(Comparator.comparingInt(c -> positionByUuid.get(c.getUuid())));
-        return new PageImpl<>(contingencies, pageable, uuidPage.getTotalElements());
+        return contingencies;
+    }
+
+    /**
+     * @return the total number of rows of a page : the planner estimate for the unfiltered rows of a huge result if approximated,
+     * the cached count for a completed result, or the counted rows
+     */
+    private long countRows(UUID resultUuid, PagedRows pagedRows, List<ResourceFilterDTO> resourceFilters, boolean approximateCount, LongSupplier counter) {
+        if (approximateCount && resourceFilters.isEmpty()) {
+            OptionalLong estimatedRowCount = resultPageQueryRepository.estimateRowCount(pagedRows, resultUuid);
+            if (estimatedRowCount.isPresent() && estimatedRowCount.getAsLong() >= approximateCountMinRows) {
+                return estimatedRowCount.getAsLong();
+            }
+        }
+        // the rows of a running result are still being written
+        if (resultCountCache.isEnabled() && isCompleted(resultUuid)) {
+            return resultCountCache.get(resultUuid, pagedRows, resourceFilters, counter);
+        }
+        return counter.getAsLong();
+    }
+
+    private void evictCachedResult(UUID resultUuid) {
+        resultCountCache.evict(resultUuid);
+        resultPageCache.evict(resultUuid);
+        hotResultIndexes.evict(resultUuid);
+        readReplicaLagGuard.evict(resultUuid);
+    }
+
+    /**
+     * @return the response of a completed result from the cache, found with the given finder in a read-only transaction if it's not cached
+     * A cached response is only returned once the result row, read by its primary key, shows that the result is still completed :
+     * the responses are evicted when their result is deleted, invalidated or written again on this instance only.
+     */
+    private <T> T findResponse(UUID resultUuid, ResultPageCache.Query query, Supplier<T> finder, Object... parameters) {
+        if (!resultPageCache.isEnabled()) {
+            return readOnlyTransactionTemplate.execute(status -> finder.get());
+        }
+        ResultPageCache.Key key = new ResultPageCache.Key(resultUuid, query, Arrays.asList(parameters));
+        return readOnlyTransactionTemplate.execute(status -> {
+            if (!isCompleted(resultUuid)) {
+                // the result may have been deleted or invalidated by another instance since its responses were cached
+                resultPageCache.evict(resultUuid);
+                return finder.get();
+            }
+            return resultPageCache.get(key, finder);
+        });
+    }
+
+    // the differences of completed results are never modified, their count is the same for all the pages
+    private long countDiffs(UUID resultUuid, UUID comparedResultUuid, List<ResourceFilterDTO> resourceFilters, LongSupplier counter) {
+        if (!resultPageCache.isEnabled() || !isCompleted(resultUuid) || !isCompleted(comparedResultUuid)) {
+            return counter.getAsLong();
+        }
+        return resultPageCache.get(new ResultPageCache.Key(resultUuid, ResultPageCache.Query.NMK_CONSTRAINTS_DIFF_COUNT, List.of(comparedResultUuid, resourceFilters)),
+            counter::getAsLong);
+    }
+
+    private boolean isCompleted(UUID resultUuid) {
+        readReplicaLagGuard.checkResults(resultUuid);
+        // the result row is read once per transaction, it is then found in the persistence context
+        return securityAnalysisResultRepository.findById(resultUuid)
+            .filter(result -> result.getDeletionDate() == null)
+            .filter(result -> result.getStatus() == SecurityAnalysisStatus.CONVERGED || result.getStatus() == SecurityAnalysisStatus.DIVERGED)
+            .isPresent();
     }
 
     private static Pageable withDefaultSort(Pageable pageable) {
@@ -498,39 +1304,72 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
         return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), stableSort);
     }
 
+    /**
+     * Reads the values of a facet written with the result, the results written before the facets are read with the given finder.
+     * Results waiting for purge and running results written by chunks still have rows, but must look empty :
+     * this is checked by the query of the facets, without another round trip.
+     */
+    private <T> List<T> findFacetValues(UUID resultUuid, ResultFacetEntity.Facet facet, Function<List<String>, List<T>> valuesParser, Supplier<List<T>> resultRowsFinder) {
+        readReplicaLagGuard.checkResults(resultUuid);
+        int hiddenStatusOrdinal = streamingInsertChunkSize > 0 ? SecurityAnalysisStatus.RUNNING.ordinal() : -1;
+        List<ResultFacetRepository.ReadableResultFacet> facets = resultFacetRepository.findAllOfReadableResult(resultUuid, hiddenStatusOrdinal);
+        if (facets.isEmpty()) {
+            return List.of();
+        }
+        if (facets.get(0).getFacet() == null) {
+            return resultRowsFinder.get();
+        }
+        return valuesParser.apply(facets.stream()
+            .filter(resultFacet -> facet.name().equals(resultFacet.getFacet()))
+            .map(ResultFacetRepository.ReadableResultFacet::getFacetValue)
+            .toList());
+    }
+
     @Transactional(readOnly = true)
     public List<LimitViolationType> findNResultLimitTypes(UUID resultUuid) {
         Objects.requireNonNull(resultUuid);
-        return preContingencyLimitViolationRepository.findLimitTypes(resultUuid);
+        return findFacetValues(resultUuid, ResultFacetEntity.Facet.N_LIMIT_TYPE, enumValuesParser(LimitViolationType.class),
+            () -> preContingencyLimitViolationRepository.findLimitTypes(resultUuid));
     }
 
     @Transactional(readOnly = true)
     public List<LimitViolationType> findNmKResultLimitTypes(UUID resultUuid) {
         Objects.requireNonNull(resultUuid);
-        return contingencyLimitViolationRepository.findLimitTypes(resultUuid);
+        return findFacetValues(resultUuid, ResultFacetEntity.Facet.NMK_LIMIT_TYPE, enumValuesParser(LimitViolationType.class),
+            () -> contingencyLimitViolationRepository.findLimitTypes(resultUuid));
     }
 
     @Transactional(readOnly = true)
     public List<ThreeSides> findNResultBranchSides(UUID resultUuid) {
         Objects.requireNonNull(resultUuid);
-        return preContingencyLimitViolationRepository.findBranchSides(resultUuid);
+        return findFacetValues(resultUuid, ResultFacetEntity.Facet.N_BRANCH_SIDE, enumValuesParser(ThreeSides.class),
+            () -> preContingencyLimitViolationRepository.findBranchSides(resultUuid));
     }
 
     @Transactional(readOnly = true)
     public List<ThreeSides> findNmKResultBranchSides(UUID resultUuid) {
         Objects.requireNonNull(resultUuid);
-        return contingencyLimitViolationRepository.findBranchSides(resultUuid);
+        return findFacetValues(resultUuid, ResultFacetEntity.Facet.NMK_BRANCH_SIDE, enumValuesParser(ThreeSides.class),
+            () -> contingencyLimitViolationRepository.findBranchSides(resultUuid));
     }
 
+    /**
+     * @return the names of the post contingency status of the result, as stored : they are not all component status names
+     */
     @Transactional(readOnly = true)
-    public List<com.powsybl.loadflow.LoadFlowResult.ComponentResult.Status> findNmKComputingStatus(UUID resultUuid) {
+    public List<String> findNmKComputingStatus(UUID resultUuid) {
         Objects.requireNonNull(resultUuid);
-        return contingencyRepository.findComputingStatus(resultUuid);
+        return findFacetValues(resultUuid, ResultFacetEntity.Facet.NMK_COMPUTATION_STATUS, Function.identity(),
+            () -> contingencyRepository.findComputingStatus(resultUuid));
+    }
+
+    private static <E extends Enum<E>> Function<List<String>, List<E>> enumValuesParser(Class<E> enumClass) {
+        return values -> values.stream().map(value -> Enum.valueOf(enumClass, value)).toList();
     }
 
     private List<ResourceFilterDTO> getAllResourceFilters(String stringFilters, String stringGlobalFilter, Function<GlobalFilter, Optional<ResourceFilterDTO>> getResourceGlobalFilter) {
-        String decodedStringFilters = stringFilters != null ? URLDecoder.decode(stringFilters, StandardCharsets.UTF_8) : null;
-        String decodedStringGlobalFilters = stringGlobalFilter != null ? URLDecoder.decode(stringGlobalFilter, StandardCharsets.UTF_8) : null;
+        String decodedStringFilters = decode(stringFilters);
+        String decodedStringGlobalFilters = decode(stringGlobalFilter);
 
         List<ResourceFilterDTO> resourceFilters = fromStringFiltersToDTO(decodedStringFilters, objectMapper);
         GlobalFilter globalFilter = fromStringGlobalFiltersToDTO(decodedStringGlobalFilters, objectMapper);
@@ -546,7 +1385,12 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
         return ContingencyLimitViolationWorstSideUtils.normalizeWorstSideFilter(allResourceFilters);
     }
 
-    private void appendLimitViolationsAndElementsToContingenciesResult(Page<ContingencyEntity> contingencies, List<ResourceFilterDTO> resourceFilters) {
+    @Nullable
+    private static String decode(@Nullable String stringFilters) {
+        return stringFilters != null ? URLDecoder.decode(stringFilters, StandardCharsets.UTF_8) : null;
+    }
+
+    private void appendLimitViolationsAndElementsToContingenciesResult(UUID resultUuid, Page<ContingencyEntity> contingencies, List<ResourceFilterDTO> resourceFilters) {
 
         // using the the Hibernate First-Level Cache or Persistence Context
         // cf.https://vladmihalcea.com/spring-data-jpa-multiplebagfetchexception/
@@ -554,16 +1398,18 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
             List<UUID> contingencyUuids = contingencies.stream()
                 .map(c -> c.getUuid())
                 .toList();
-            Specification<ContingencyEntity> specification = contingencySpecificationBuilder.buildLimitViolationsSpecification(contingencyUuids, resourceFilters);
+            Specification<ContingencyEntity> specification = contingencySpecificationBuilder.resultUuidEquals(resultUuid)
+                .and(contingencySpecificationBuilder.buildLimitViolationsSpecification(contingencyUuids, resourceFilters));
             contingencyRepository.findAll(specification);
             // we fetch contingencyElements here to prevent N+1 query
-            contingencyRepository.findAllWithContingencyElementsByUuidIn(contingencyUuids);
+            contingencyRepository.findAllWithContingencyElementsByResultIdAndUuidIn(resultUuid, contingencyUuids);
 
             sortLimitViolationsInContingencies(contingencies);
         }
     }
 
-    private void appendLimitViolationsAndContingencyElementsToSubjectLimitViolationsResult(Page<SubjectLimitViolationEntity> subjectLimitViolations, List<ResourceFilterDTO> resourceFilters) {
+    private void appendLimitViolationsAndContingencyElementsToSubjectLimitViolationsResult(UUID resultUuid, Page<SubjectLimitViolationEntity> subjectLimitViolations,
+                                                                                           List<ResourceFilterDTO> resourceFilters) {
 
         // using the the Hibernate First-Level Cache or Persistence Context
         // cf.https://vladmihalcea.com/spring-data-jpa-multiplebagfetchexception/
@@ -571,14 +1417,15 @@ public class SecurityAnalysisResultService extends AbstractComputationResultServ
             List<UUID> subjectLimitViolationsUuids = subjectLimitViolations.stream()
                 .map(SubjectLimitViolationEntity::getId)
                 .toList();
-            Specification<SubjectLimitViolationEntity> specification = subjectLimitViolationSpecificationBuilder.buildLimitViolationsSpecification(subjectLimitViolationsUuids, resourceFilters);
+            Specification<SubjectLimitViolationEntity> specification = subjectLimitViolationSpecificationBuilder.resultUuidEquals(resultUuid)
+                .and(subjectLimitViolationSpecificationBuilder.buildLimitViolationsSpecification(subjectLimitViolationsUuids, resourceFilters));
             subjectLimitViolationRepository.findAll(specification);
 
             List<UUID> contingencyUuids = subjectLimitViolations.map(SubjectLimitViolationEntity::getContingencyLimitViolations).flatMap(List::stream)
                 .map(lm -> lm.getContingency().getUuid())
                 .toList();
             // we fetch contingencyElements for each contingency here to prevent N+1 query
-            contingencyRepository.findAllWithContingencyElementsByUuidIn(contingencyUuids);
+            contingencyRepository.findAllWithContingencyElementsByResultIdAndUuidIn(resultUuid, contingencyUuids);
 
             sortLimitViolationsInSubjectLimitViolations(subjectLimitViolations);
         }
@@ -34,6 +34,9 @@ public class SecurityAnalysisRunContext extends AbstractComputationRunContext<Se
     @Setter
     private Network inMemoryNetwork;
 
+    @Setter
+    private StreamingResultWriter streamingResultWriter;
+
     public SecurityAnalysisRunContext(UUID networkUuid, String variantId,
                                       String receiver, String provider, SecurityAnalysisParametersDTO parameters, LoadFlowParametersValues loadFlowParametersValues,
                                       ReportInfos reportContext, String userId) {
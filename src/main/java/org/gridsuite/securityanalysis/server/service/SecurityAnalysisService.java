@@ -30,12 +30,16 @@ import java.util.UUID;
 public class SecurityAnalysisService extends AbstractComputationService<SecurityAnalysisRunContext, SecurityAnalysisResultService, SecurityAnalysisStatus> {
     public static final String COMPUTATION_TYPE = "Security analysis";
 
+    private final EquipmentIndexes equipmentIndexes;
+
     public SecurityAnalysisService(SecurityAnalysisResultService securityAnalysisResultService,
                                    UuidGeneratorService uuidGeneratorService,
                                    ObjectMapper objectMapper,
                                    NotificationService notificationService,
+                                   EquipmentIndexes equipmentIndexes,
                                    @Value("${security-analysis.default-provider}") String defaultProvider) {
         super(notificationService, securityAnalysisResultService, objectMapper, uuidGeneratorService, defaultProvider);
+        this.equipmentIndexes = equipmentIndexes;
     }
 
     @Override
@@ -43,8 +47,10 @@ public class SecurityAnalysisService extends AbstractComputationService<Security
     public UUID runAndSaveResult(SecurityAnalysisRunContext runContext) {
         Objects.requireNonNull(runContext);
         var resultUuid = uuidGeneratorService.generate();
+        // the network variant may have been modified since it was indexed
+        equipmentIndexes.evict(runContext.getNetworkUuid(), runContext.getVariantId());
         // update status to running status
-        setStatus(List.of(resultUuid), SecurityAnalysisStatus.RUNNING);
+        resultService.insertStatus(List.of(resultUuid), SecurityAnalysisStatus.RUNNING, runContext.getNetworkUuid());
         notificationService.sendRunMessage(new SecurityAnalysisResultContext(resultUuid, runContext).toMessage(objectMapper));
 
         return resultUuid;
@@ -73,7 +79,7 @@ public class SecurityAnalysisService extends AbstractComputationService<Security
         return resultService.findNmKResultBranchSides(resultUuid);
     }
 
-    public List<com.powsybl.loadflow.LoadFlowResult.ComponentResult.Status> getNmKComputationStatus(UUID resultUuid) {
+    public List<String> getNmKComputationStatus(UUID resultUuid) {
         return resultService.findNmKComputingStatus(resultUuid);
     }
 }
@@ -128,14 +128,33 @@ public class SecurityAnalysisWorkerService extends AbstractWorkerService<Securit
                 .setLimitReductions(limitReductions)
                 .setReportNode(runContext.getReportNode());
 
+        // post contingency results are persisted by chunks while the security analysis is running
+        StreamingResultWriter streamingResultWriter = resultService.createStreamingResultWriter(runContext.getNetwork(), resultUuid);
+        if (streamingResultWriter != null) {
+            runParameters.addInterceptor(streamingResultWriter);
+            runContext.setStreamingResultWriter(streamingResultWriter);
+        }
+
         Network network = "OpenLoadFlow".equals(runContext.getProvider()) ? runContext.getInMemoryNetwork() : runContext.getNetwork();
 
-        return securityAnalysisRunner.runAsync(
+        CompletableFuture<SecurityAnalysisResult> future = securityAnalysisRunner.runAsync(
                         network,
                         variantId,
                         n -> contingencies,
                         runParameters)
                 .thenApply(SecurityAnalysisReport::getResult);
+        if (streamingResultWriter == null) {
+            return future;
+        }
+        // the written post contingency results are not kept until the result is saved
+        CompletableFuture<SecurityAnalysisResult> streamedFuture = future.thenApply(streamingResultWriter::withoutWrittenResults);
+        // the chunks are removed when the run fails or when the returned future is cancelled on stop, the provider being left running
+        streamedFuture.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                streamingResultWriter.abort();
+            }
+        });
+        return streamedFuture;
     }
 
     private List<LimitReduction> createLimitReductions(SecurityAnalysisRunContext runContext) {
@@ -223,12 +242,15 @@ public class SecurityAnalysisWorkerService extends AbstractWorkerService<Securit
 
     @Override
     protected void saveResult(Network network, AbstractResultContext<SecurityAnalysisRunContext> resultContext, SecurityAnalysisResult result) {
-        resultService.insert(network,
-                resultContext.getResultUuid(),
-                result,
-                result.getPreContingencyResult().getStatus() == LoadFlowResult.ComponentResult.Status.CONVERGED
-                        ? SecurityAnalysisStatus.CONVERGED
-                        : SecurityAnalysisStatus.DIVERGED);
+        SecurityAnalysisStatus status = result.getPreContingencyResult().getStatus() == LoadFlowResult.ComponentResult.Status.CONVERGED
+                ? SecurityAnalysisStatus.CONVERGED
+                : SecurityAnalysisStatus.DIVERGED;
+        StreamingResultWriter streamingResultWriter = resultContext.getRunContext().getStreamingResultWriter();
+        if (streamingResultWriter != null) {
+            streamingResultWriter.finish(result, status);
+        } else {
+            resultService.insert(network, resultContext.getResultUuid(), result, status);
+        }
     }
 
     @Override
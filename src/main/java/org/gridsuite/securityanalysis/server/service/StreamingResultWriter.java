@@ -0,0 +1,205 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.interceptors.DefaultSecurityAnalysisInterceptor;
+import com.powsybl.security.results.PostContingencyResult;
+import org.gridsuite.securityanalysis.server.dto.SecurityAnalysisStatus;
+import org.gridsuite.securityanalysis.server.entities.ResultFacetEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Interceptor persisting the post contingency results of a running security analysis by chunks, as the provider produces them,
+ * so that the entity graph of a whole result is never in memory and the persistence overlaps the computation.
+ * The full chunks are written by a dedicated thread, the provider waiting when {@link #MAX_QUEUED_CHUNKS} chunks are already waiting for it.
+ * The result status stays RUNNING until {@link #finish} writes the pre contingency results, the post contingency results not
+ * notified by the provider, and the final status : the content of a running result is not readable meanwhile.
+ * If the run fails, is cancelled or its result cannot be saved, {@link #abort} removes the written chunks and ignores the next ones.
+ * If a chunk cannot be written, the next ones are not written either and the failure is raised by {@link #finish}.
+ */
+public class StreamingResultWriter extends DefaultSecurityAnalysisInterceptor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamingResultWriter.class);
+    // full chunks waiting to be written, beyond which the provider waits for the writer
+    private static final int MAX_QUEUED_CHUNKS = 2;
+    // queued after the last chunk
+    private static final List<PostContingencyResult> END_OF_CHUNKS = List.of();
+
+    private final SecurityAnalysisResultService resultService;
+    private final Network network;
+    private final UUID resultUuid;
+    private final int chunkSize;
+
+    private List<PostContingencyResult> pendingResults;
+    private final BlockingQueue<List<PostContingencyResult>> queuedChunks = new ArrayBlockingQueue<>(MAX_QUEUED_CHUNKS);
+    private final ExecutorService chunkWriter;
+    // null until the first chunk is queued
+    private Future<?> chunkWriting;
+    private boolean chunksEnded;
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    // written by the chunk writer thread, read once it has written all the chunks
+    private final Set<String> writtenContingencyIds = new HashSet<>();
+    // subject limit violations are shared by all the chunks of a result
+    private Map<String, UUID> subjectLimitViolationIds = new HashMap<>();
+    // facets of the written chunks, written with the last part of the result
+    private List<ResultFacetEntity> writtenFacets = List.of();
+    private volatile boolean aborted;
+
+    StreamingResultWriter(SecurityAnalysisResultService resultService, @Nullable Network network, UUID resultUuid, int chunkSize) {
+        this.resultService = Objects.requireNonNull(resultService);
+        this.network = network;
+        this.resultUuid = Objects.requireNonNull(resultUuid);
+        this.chunkSize = chunkSize;
+        this.pendingResults = new ArrayList<>(chunkSize);
+        this.chunkWriter = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("sa-chunk-writer-", 0).daemon().factory());
+    }
+
+    @Override
+    public void onPostContingencyResult(PostContingencyResult postContingencyResult, com.powsybl.security.interceptors.SecurityAnalysisResultContext context) {
+        add(postContingencyResult);
+    }
+
+    synchronized void add(PostContingencyResult postContingencyResult) {
+        if (aborted || chunksEnded) {
+            // the provider may still notify results after the run has been cancelled, or after its end which writes them with the last part
+            return;
+        }
+        pendingResults.add(postContingencyResult);
+        if (pendingResults.size() >= chunkSize) {
+            queue(pendingResults);
+            pendingResults = new ArrayList<>(chunkSize);
+        }
+    }
+
+    private void queue(List<PostContingencyResult> chunk) {
+        if (chunkWriting == null) {
+            chunkWriting = chunkWriter.submit(this::writeChunks);
+        }
+        try {
+            // waits for the writer when enough chunks are already waiting for it
+            queuedChunks.put(chunk);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, new IllegalStateException("Interrupted while queuing a chunk of result " + resultUuid, e));
+        }
+    }
+
+    private void writeChunks() {
+        try {
+            List<PostContingencyResult> chunk = queuedChunks.take();
+            while (chunk != END_OF_CHUNKS) {
+                if (!aborted && failure.get() == null) {
+                    write(chunk);
+                }
+                chunk = queuedChunks.take();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(List<PostContingencyResult> chunk) {
+        try {
+            // the ids are only kept if the chunk transaction succeeds
+            Map<String, UUID> chunkSubjectLimitViolationIds = new HashMap<>(subjectLimitViolationIds);
+            List<ResultFacetEntity> chunkFacets = resultService.insertContingencies(network, resultUuid, chunk, chunkSubjectLimitViolationIds);
+            subjectLimitViolationIds = chunkSubjectLimitViolationIds;
+            writtenFacets = ResultFacetEntity.merge(writtenFacets, chunkFacets);
+            chunk.forEach(postContingencyResult -> writtenContingencyIds.add(postContingencyResult.getContingency().getId()));
+        } catch (RuntimeException e) {
+            LOGGER.error("Error while writing a chunk of security analysis result '{}', the next chunks are not written", resultUuid, e);
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    /**
+     * Waits for the queued chunks to be written, the next post contingency results being written with the last part of the result.
+     */
+    private void endChunks() {
+        if (chunksEnded) {
+            return;
+        }
+        chunksEnded = true;
+        chunkWriter.shutdown();
+        if (chunkWriting == null) {
+            return;
+        }
+        try {
+            queuedChunks.put(END_OF_CHUNKS);
+            chunkWriting.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, new IllegalStateException("Interrupted while waiting for the chunks of result " + resultUuid, e));
+        } catch (ExecutionException e) {
+            failure.compareAndSet(null, new IllegalStateException("Error while writing the chunks of result " + resultUuid, e.getCause()));
+        }
+    }
+
+    /**
+     * @return the given result without the post contingency results already written, so that the whole result is not kept
+     * until it is saved
+     */
+    public synchronized SecurityAnalysisResult withoutWrittenResults(SecurityAnalysisResult result) {
+        endChunks();
+        if (writtenContingencyIds.isEmpty()) {
+            return result;
+        }
+        List<PostContingencyResult> remainingPostContingencyResults = result.getPostContingencyResults().stream()
+            .filter(postContingencyResult -> !writtenContingencyIds.contains(postContingencyResult.getContingency().getId()))
+            .toList();
+        return new SecurityAnalysisResult(result.getPreContingencyResult(), remainingPostContingencyResults, result.getOperatorStrategyResults());
+    }
+
+    public synchronized void finish(SecurityAnalysisResult result, SecurityAnalysisStatus status) {
+        endChunks();
+        // pending results are written with the last part of the result, in the same transaction as the final status
+        pendingResults.clear();
+        try {
+            RuntimeException chunkFailure = failure.get();
+            if (chunkFailure != null) {
+                throw chunkFailure;
+            }
+            resultService.insert(network, resultUuid, withoutWrittenResults(result), status, subjectLimitViolationIds, writtenFacets);
+        } catch (RuntimeException e) {
+            abort();
+            throw e;
+        }
+    }
+
+    /**
+     * Removes the chunks written so far and ignores the next post contingency results, a chunk being written is removed once written.
+     */
+    public synchronized void abort() {
+        if (aborted) {
+            return;
+        }
+        aborted = true;
+        pendingResults.clear();
+        queuedChunks.clear();
+        endChunks();
+        writtenFacets = List.of();
+        if (!writtenContingencyIds.isEmpty()) {
+            resultService.deleteResultContent(resultUuid);
+            writtenContingencyIds.clear();
+        }
+    }
+
+    /**
+     * @return whether chunks have been written, once the queued ones are : the next post contingency results are written with the last part of the result
+     */
+    public synchronized boolean hasWrittenChunks() {
+        endChunks();
+        return !writtenContingencyIds.isEmpty();
+    }
+}
@@ -0,0 +1,321 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import org.gridsuite.computation.dto.ResourceFilterDTO;
+import org.gridsuite.computation.utils.SpecificationUtils;
+import org.gridsuite.securityanalysis.server.entities.AbstractLimitViolationEntity;
+import org.gridsuite.securityanalysis.server.entities.ContingencyEntity;
+import org.gridsuite.securityanalysis.server.entities.ContingencyLimitViolationEntity;
+import org.gridsuite.securityanalysis.server.entities.SubjectLimitViolationEntity;
+import org.gridsuite.securityanalysis.server.repositories.ContingencyLimitViolationRepository.IndexedLimitViolation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+
+/**
+ * Columns of the contingency limit violations of a result, grouped by subject, to filter, sort and page the subjects in memory.
+ * Strings are dictionary encoded, so that a text filter is evaluated once per distinct value.
+ * Only the filters and sorts whose semantics are those of the SQL queries are supported, the others are left to the database.
+ * The index only covers the text filters and the worst side filter, it has no number column : the number filters (loading, acceptable duration...)
+ * are compared with a tolerance derived from the filter value by the filter library, so a page filtered on a number is always read in SQL,
+ * for the same results whatever the mode.
+ */
+final class SubjectLimitViolationsIndex {
+    private static final String CHILD_PREFIX = SubjectLimitViolationEntity.Fields.contingencyLimitViolations + SpecificationUtils.FIELD_SEPARATOR;
+    private static final String CONTINGENCY_PREFIX = CHILD_PREFIX + ContingencyLimitViolationEntity.Fields.contingency + SpecificationUtils.FIELD_SEPARATOR;
+    private static final int NO_CODE = -1;
+
+    // subjects, in the order of their subject id then of their id, as sorted by the database
+    private final UUID[] subjectUuids;
+    private final Dictionary subjectIds;
+    private final int[] subjectIdCodes;
+    private final int[] subjectsByUuid;
+    // the violations of the subject at position p are in [firstViolations[p], firstViolations[p + 1])
+    private final int[] firstViolations;
+
+    private final Dictionary limitNames;
+    private final int[] limitNameCodes;
+    private final Dictionary limitTypes;
+    private final int[] limitTypeCodes;
+    private final Dictionary sides;
+    private final int[] sideCodes;
+    private final Dictionary locationIds;
+    private final int[] locationIdCodes;
+    private final Dictionary contingencyIds;
+    private final int[] contingencyIdCodes;
+    private final Dictionary statuses;
+    private final int[] statusCodes;
+    private final boolean[] worstSides;
+
+    /**
+     * @param violations the violations of a result, ordered by subject id then subject uuid
+     * @param subjectUuidsById the subject uuids of the result ordered by the database
+     */
+    SubjectLimitViolationsIndex(List<IndexedLimitViolation> violations, List<UUID> subjectUuidsById) {
+        int violationCount = violations.size();
+        List<UUID> uuids = new ArrayList<>();
+        List<Integer> firsts = new ArrayList<>();
+        Dictionary.Builder subjectIdsBuilder = new Dictionary.Builder();
+        List<Integer> subjectCodes = new ArrayList<>();
+        Dictionary.Builder limitNamesBuilder = new Dictionary.Builder();
+        Dictionary.Builder limitTypesBuilder = new Dictionary.Builder();
+        Dictionary.Builder sidesBuilder = new Dictionary.Builder();
+        Dictionary.Builder locationIdsBuilder = new Dictionary.Builder();
+        Dictionary.Builder contingencyIdsBuilder = new Dictionary.Builder();
+        Dictionary.Builder statusesBuilder = new Dictionary.Builder();
+        limitNameCodes = new int[violationCount];
+        limitTypeCodes = new int[violationCount];
+        sideCodes = new int[violationCount];
+        locationIdCodes = new int[violationCount];
+        contingencyIdCodes = new int[violationCount];
+        statusCodes = new int[violationCount];
+        worstSides = new boolean[violationCount];
+
+        for (int v = 0; v < violationCount; v++) {
+            IndexedLimitViolation violation = violations.get(v);
+            if (uuids.isEmpty() || !uuids.getLast().equals(violation.getSubjectUuid())) {
+                uuids.add(violation.getSubjectUuid());
+                firsts.add(v);
+                subjectCodes.add(subjectIdsBuilder.encode(violation.getSubjectId()));
+            }
+            limitNameCodes[v] = limitNamesBuilder.encode(violation.getLimitName());
+            limitTypeCodes[v] = limitTypesBuilder.encode(violation.getLimitType() != null ? violation.getLimitType().name() : null);
+            sideCodes[v] = sidesBuilder.encode(violation.getSide() != null ? violation.getSide().name() : null);
+            locationIdCodes[v] = locationIdsBuilder.encode(violation.getLocationId());
+            contingencyIdCodes[v] = contingencyIdsBuilder.encode(violation.getContingencyId());
+            statusCodes[v] = statusesBuilder.encode(violation.getStatus());
+            worstSides[v] = violation.isWorstSide();
+        }
+        firsts.add(violationCount);
+
+        subjectUuids = uuids.toArray(UUID[]::new);
+        subjectIds = subjectIdsBuilder.build();
+        subjectIdCodes = subjectCodes.stream().mapToInt(Integer::intValue).toArray();
+        firstViolations = firsts.stream().mapToInt(Integer::intValue).toArray();
+        limitNames = limitNamesBuilder.build();
+        limitTypes = limitTypesBuilder.build();
+        sides = sidesBuilder.build();
+        locationIds = locationIdsBuilder.build();
+        contingencyIds = contingencyIdsBuilder.build();
+        statuses = statusesBuilder.build();
+
+        Map<UUID, Integer> positions = HashMap.newHashMap(subjectUuids.length);
+        for (int p = 0; p < subjectUuids.length; p++) {
+            positions.put(subjectUuids[p], p);
+        }
+        // subjects without violation are never returned
+        subjectsByUuid = subjectUuidsById.stream().map(positions::get).filter(Objects::nonNull).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * @return an estimate of the heap size of the index, in bytes
+     */
+    long estimatedSize() {
+        long subjectsSize = subjectUuids.length * (32L + 4 + 4 + 4 + 4);
+        long violationsSize = limitNameCodes.length * (6 * 4L + 1);
+        return subjectsSize + violationsSize + subjectIds.estimatedSize() + limitNames.estimatedSize() + limitTypes.estimatedSize() + sides.estimatedSize()
+            + locationIds.estimatedSize() + contingencyIds.estimatedSize() + statuses.estimatedSize();
+    }
+
+    /**
+     * @param pageable sorted by subject id then id, or by id only, as the SQL query of the page
+     * @return the ids of the subject limit violations of the page with their total, empty if a filter or the sort is not supported in memory
+     */
+    Optional<Page<UUID>> findIds(List<ResourceFilterDTO> resourceFilters, Pageable pageable) {
+        List<IntPredicate> subjectPredicates = new ArrayList<>();
+        List<IntPredicate> violationPredicates = new ArrayList<>();
+        for (ResourceFilterDTO resourceFilter : resourceFilters) {
+            if (SubjectLimitViolationEntity.Fields.subjectId.equals(resourceFilter.column())) {
+                Optional<IntPredicate> predicate = textPredicate(resourceFilter, subjectIds, subjectIdCodes);
+                if (predicate.isEmpty()) {
+                    return Optional.empty();
+                }
+                subjectPredicates.add(predicate.get());
+            } else {
+                Optional<IntPredicate> predicate = violationPredicate(resourceFilter);
+                if (predicate.isEmpty()) {
+                    return Optional.empty();
+                }
+                violationPredicates.add(predicate.get());
+            }
+        }
+        Optional<int[]> order = subjectOrder(pageable.getSort());
+        if (order.isEmpty()) {
+            return Optional.empty();
+        }
+
+        IntPredicate subjectPredicate = subjectPredicates.stream().reduce(p -> true, IntPredicate::and);
+        IntPredicate violationPredicate = violationPredicates.stream().reduce(v -> true, IntPredicate::and);
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        int pageSize = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        List<UUID> ids = new ArrayList<>();
+        long total = 0;
+        for (int p : order.get()) {
+            // as in SQL, a subject matches if one of its violations matches all the violation filters
+            if (subjectPredicate.test(p) && anyViolationMatches(p, violationPredicate)) {
+                if (total >= offset && ids.size() < pageSize) {
+                    ids.add(subjectUuids[p]);
+                }
+                total++;
+            }
+        }
+        return Optional.of(new PageImpl<>(ids, pageable, total));
+    }
+
+    private boolean anyViolationMatches(int subject, IntPredicate violationPredicate) {
+        for (int v = firstViolations[subject]; v < firstViolations[subject + 1]; v++) {
+            if (violationPredicate.test(v)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Optional<int[]> subjectOrder(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() == 1 && isIdAscending(orders.getFirst())) {
+            return Optional.of(subjectsByUuid);
+        }
+        if (orders.size() != 2 || !isIdAscending(orders.get(1)) || !SubjectLimitViolationEntity.Fields.subjectId.equals(orders.getFirst().getProperty())
+            || orders.getFirst().isIgnoreCase()) {
+            return Optional.empty();
+        }
+        int[] order = new int[subjectUuids.length];
+        if (orders.getFirst().isAscending()) {
+            Arrays.setAll(order, p -> p);
+            return Optional.of(order);
+        }
+        // descending subject ids, the subjects having the same subject id being still ordered by id
+        int index = 0;
+        int end = subjectUuids.length;
+        while (end > 0) {
+            int start = end - 1;
+            while (start > 0 && subjectIdCodes[start - 1] == subjectIdCodes[end - 1]) {
+                start--;
+            }
+            for (int p = start; p < end; p++) {
+                order[index++] = p;
+            }
+            end = start;
+        }
+        return Optional.of(order);
+    }
+
+    private static boolean isIdAscending(Sort.Order order) {
+        return SubjectLimitViolationEntity.Fields.id.equals(order.getProperty()) && order.isAscending();
+    }
+
+    private Optional<IntPredicate> violationPredicate(ResourceFilterDTO resourceFilter) {
+        String column = resourceFilter.column();
+        if (column.startsWith(CONTINGENCY_PREFIX)) {
+            return switch (column.substring(CONTINGENCY_PREFIX.length())) {
+                case ContingencyEntity.Fields.contingencyId -> textPredicate(resourceFilter, contingencyIds, contingencyIdCodes);
+                case ContingencyEntity.Fields.status -> textPredicate(resourceFilter, statuses, statusCodes);
+                default -> Optional.empty();
+            };
+        }
+        if (!column.startsWith(CHILD_PREFIX)) {
+            return Optional.empty();
+        }
+        return switch (column.substring(CHILD_PREFIX.length())) {
+            case AbstractLimitViolationEntity.Fields.limitName -> textPredicate(resourceFilter, limitNames, limitNameCodes);
+            case AbstractLimitViolationEntity.Fields.limitType -> textPredicate(resourceFilter, limitTypes, limitTypeCodes);
+            case AbstractLimitViolationEntity.Fields.side -> textPredicate(resourceFilter, sides, sideCodes);
+            case AbstractLimitViolationEntity.Fields.locationId -> textPredicate(resourceFilter, locationIds, locationIdCodes);
+            case ContingencyLimitViolationEntity.Fields.isWorstSide -> booleanPredicate(resourceFilter);
+            default -> Optional.empty();
+        };
+    }
+
+    /**
+     * Text filters as in SQL : a case-insensitive match of a value, or the exact match of one of several values, a null value never matching.
+     */
+    private static Optional<IntPredicate> textPredicate(ResourceFilterDTO resourceFilter, Dictionary dictionary, int[] codes) {
+        if (resourceFilter.dataType() != ResourceFilterDTO.DataType.TEXT) {
+            return Optional.empty();
+        }
+        Function<String, Boolean> valuePredicate;
+        if (resourceFilter.value() instanceof String filterValue) {
+            String upperFilterValue = filterValue.toUpperCase(Locale.ROOT);
+            valuePredicate = switch (resourceFilter.type()) {
+                case CONTAINS -> value -> value.toUpperCase(Locale.ROOT).contains(upperFilterValue);
+                case STARTS_WITH -> value -> value.toUpperCase(Locale.ROOT).startsWith(upperFilterValue);
+                default -> null;
+            };
+        } else if (resourceFilter.type() == ResourceFilterDTO.Type.EQUALS && toStrings(resourceFilter.value()) != null) {
+            Set<String> filterValues = new HashSet<>(toStrings(resourceFilter.value()));
+            valuePredicate = filterValues::contains;
+        } else {
+            valuePredicate = null;
+        }
+        if (valuePredicate == null) {
+            return Optional.empty();
+        }
+        boolean[] matchingCodes = dictionary.match(valuePredicate);
+        return Optional.of(i -> codes[i] != NO_CODE && matchingCodes[codes[i]]);
+    }
+
+    private Optional<IntPredicate> booleanPredicate(ResourceFilterDTO resourceFilter) {
+        if (resourceFilter.dataType() != ResourceFilterDTO.DataType.BOOLEAN || resourceFilter.type() != ResourceFilterDTO.Type.EQUALS
+            || !(resourceFilter.value() instanceof Boolean filterValue)) {
+            return Optional.empty();
+        }
+        return Optional.of(v -> worstSides[v] == filterValue);
+    }
+
+    private static List<String> toStrings(Object filterValue) {
+        if (filterValue instanceof Collection<?> collection) {
+            return collection.stream().map(String::valueOf).toList();
+        }
+        if (filterValue instanceof Object[] array) {
+            return Arrays.stream(array).map(String::valueOf).toList();
+        }
+        return null;
+    }
+
+    /**
+     * Distinct values of a string column, a value being encoded by its index.
+     */
+    private record Dictionary(String[] values) {
+        boolean[] match(Function<String, Boolean> valuePredicate) {
+            boolean[] matchingCodes = new boolean[values.length];
+            for (int code = 0; code < values.length; code++) {
+                matchingCodes[code] = valuePredicate.apply(values[code]);
+            }
+            return matchingCodes;
+        }
+
+        long estimatedSize() {
+            return Arrays.stream(values).mapToLong(value -> 48L + 2L * value.length()).sum();
+        }
+
+        private static final class Builder {
+            private final Map<String, Integer> codes = new HashMap<>();
+            private final List<String> values = new ArrayList<>();
+
+            int encode(String value) {
+                if (value == null) {
+                    return NO_CODE;
+                }
+                return codes.computeIfAbsent(value, v -> {
+                    values.add(v);
+                    return values.size() - 1;
+                });
+            }
+
+            Dictionary build() {
+                return new Dictionary(values.toArray(String[]::new));
+            }
+        }
+    }
+}
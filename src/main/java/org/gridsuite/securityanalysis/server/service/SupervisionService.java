@@ -6,6 +6,7 @@
  */
 package org.gridsuite.securityanalysis.server.service;
 
+import org.gridsuite.securityanalysis.server.dto.ResultRetentionInfos;
 import org.gridsuite.securityanalysis.server.repositories.SecurityAnalysisResultRepository;
 import org.springframework.stereotype.Service;
 
@@ -15,12 +16,18 @@ import org.springframework.stereotype.Service;
 @Service
 public class SupervisionService {
     private final SecurityAnalysisResultRepository securityAnalysisResultRepository;
+    private final SecurityAnalysisResultRetentionService resultRetentionService;
 
-    public SupervisionService(SecurityAnalysisResultRepository securityAnalysisResultRepository) {
+    public SupervisionService(SecurityAnalysisResultRepository securityAnalysisResultRepository, SecurityAnalysisResultRetentionService resultRetentionService) {
         this.securityAnalysisResultRepository = securityAnalysisResultRepository;
+        this.resultRetentionService = resultRetentionService;
     }
 
     public Integer getResultsCount() {
-        return (int) securityAnalysisResultRepository.count();
+        return (int) securityAnalysisResultRepository.countByDeletionDateIsNull();
+    }
+
+    public ResultRetentionInfos getResultRetentionInfos() {
+        return resultRetentionService.getRetentionInfos();
     }
 }
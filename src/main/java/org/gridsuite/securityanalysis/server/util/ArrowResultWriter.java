@@ -0,0 +1,280 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.util;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.dictionary.Dictionary;
+import org.apache.arrow.vector.dictionary.DictionaryEncoding;
+import org.apache.arrow.vector.dictionary.DictionaryProvider;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.gridsuite.securityanalysis.server.dto.*;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Writes the security analysis results as an Arrow IPC stream, with typed columns and the full precision of the values, by record batches
+ * of at most batchSize rows. The subject and contingency ids are dictionary encoded : as the dictionaries of a stream are written before
+ * its first batch, they are the ids of the whole result, not only the ones of the exported rows.
+ * The limit violation columns are the ones of {@link LimitViolationDTO}, the acceptable durations being kept as they are stored.
+ */
+public final class ArrowResultWriter implements AutoCloseable {
+    public static final String MEDIA_TYPE = "application/vnd.apache.arrow.stream";
+
+    private static final long SUBJECT_IDS = 0;
+    private static final long CONTINGENCY_IDS = 1;
+    private static final ArrowType.Int INT_TYPE = new ArrowType.Int(32, true);
+    private static final ArrowType DOUBLE_TYPE = new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+
+    private static final String SUBJECT_ID = "subjectId";
+    private static final String CONTINGENCY_ID = "contingencyId";
+    private static final String STATUS = "status";
+
+    private static final List<Field> LIMIT_VIOLATION_FIELDS = List.of(
+        field("limitType", ArrowType.Utf8.INSTANCE),
+        field("limitName", ArrowType.Utf8.INSTANCE),
+        field("operationalLimitsGroupId", ArrowType.Utf8.INSTANCE),
+        field("nextLimitName", ArrowType.Utf8.INSTANCE),
+        field("side", ArrowType.Utf8.INSTANCE),
+        field("acceptableDuration", INT_TYPE),
+        field("upcomingAcceptableDuration", INT_TYPE),
+        field("limit", DOUBLE_TYPE),
+        field("patlLimit", DOUBLE_TYPE),
+        field("limitReduction", DOUBLE_TYPE),
+        field("value", DOUBLE_TYPE),
+        field("loading", DOUBLE_TYPE),
+        field("patlLoading", DOUBLE_TYPE),
+        field("locationId", ArrowType.Utf8.INSTANCE)
+    );
+
+    private final BufferAllocator allocator;
+    private final List<FieldVector> dictionaryVectors = new ArrayList<>();
+    private final Map<Long, Map<String, Integer>> dictionaryIndexes = new HashMap<>();
+    private final VectorSchemaRoot root;
+    private final ArrowStreamWriter writer;
+    private final int batchSize;
+    private int rowCount;
+
+    private ArrowResultWriter(OutputStream outputStream, List<Field> fields, Map<Long, Collection<String>> dictionaries, int batchSize) {
+        this.allocator = new RootAllocator();
+        this.batchSize = batchSize;
+        DictionaryProvider.MapDictionaryProvider dictionaryProvider = new DictionaryProvider.MapDictionaryProvider();
+        dictionaries.forEach((id, values) -> dictionaryProvider.put(new Dictionary(dictionaryVector(id, values), new DictionaryEncoding(id, false, INT_TYPE))));
+        this.root = VectorSchemaRoot.create(new Schema(fields), allocator);
+        // the output stream is closed by the caller
+        this.writer = new ArrowStreamWriter(root, dictionaryProvider, StreamUtils.nonClosing(outputStream));
+        try {
+            writer.start();
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Error occurred during data arrow export", e);
+        }
+        root.allocateNew();
+    }
+
+    public static ArrowResultWriter forNResult(OutputStream outputStream, Collection<String> subjectIds, int batchSize) {
+        return new ArrowResultWriter(outputStream, withLimitViolationFields(dictionaryField(SUBJECT_ID, SUBJECT_IDS)),
+            Map.of(SUBJECT_IDS, subjectIds), batchSize);
+    }
+
+    public static ArrowResultWriter forNmKContingencies(OutputStream outputStream, Collection<String> contingencyIds, Collection<String> subjectIds, int batchSize) {
+        return new ArrowResultWriter(outputStream, withLimitViolationFields(dictionaryField(CONTINGENCY_ID, CONTINGENCY_IDS), field(STATUS, ArrowType.Utf8.INSTANCE),
+            dictionaryField(SUBJECT_ID, SUBJECT_IDS)), Map.of(SUBJECT_IDS, subjectIds, CONTINGENCY_IDS, contingencyIds), batchSize);
+    }
+
+    public static ArrowResultWriter forNmKConstraints(OutputStream outputStream, Collection<String> contingencyIds, Collection<String> subjectIds, int batchSize) {
+        return new ArrowResultWriter(outputStream, withLimitViolationFields(dictionaryField(SUBJECT_ID, SUBJECT_IDS), dictionaryField(CONTINGENCY_ID, CONTINGENCY_IDS),
+            field(STATUS, ArrowType.Utf8.INSTANCE)), Map.of(SUBJECT_IDS, subjectIds, CONTINGENCY_IDS, contingencyIds), batchSize);
+    }
+
+    public static ArrowResultWriter forNmKCutOffPower(OutputStream outputStream, Collection<String> contingencyIds, int batchSize) {
+        return new ArrowResultWriter(outputStream, List.of(dictionaryField(CONTINGENCY_ID, CONTINGENCY_IDS), field(STATUS, ArrowType.Utf8.INSTANCE),
+            field("disconnectedLoadActivePower", DOUBLE_TYPE), field("disconnectedGenerationActivePower", DOUBLE_TYPE)),
+            Map.of(CONTINGENCY_IDS, contingencyIds), batchSize);
+    }
+
+    public void writeNResult(PreContingencyLimitViolationResultDTO result) {
+        setIndex(0, SUBJECT_IDS, result.getSubjectId());
+        setLimitViolation(1, result.getLimitViolation());
+        endRow();
+    }
+
+    public void writeContingencyResult(ContingencyResultDTO result) {
+        if (result.getSubjectLimitViolations().isEmpty()) {
+            setIndex(0, CONTINGENCY_IDS, result.getContingency().getContingencyId());
+            setString(1, result.getContingency().getStatus());
+            endRow();
+        }
+        for (SubjectLimitViolationDTO subjectLimitViolation : result.getSubjectLimitViolations()) {
+            setIndex(0, CONTINGENCY_IDS, result.getContingency().getContingencyId());
+            setString(1, result.getContingency().getStatus());
+            setIndex(2, SUBJECT_IDS, subjectLimitViolation.getSubjectId());
+            setLimitViolation(3, subjectLimitViolation.getLimitViolation());
+            endRow();
+        }
+    }
+
+    public void writeSubjectResult(SubjectLimitViolationResultDTO result) {
+        for (ContingencyLimitViolationDTO contingencyLimitViolation : result.getContingencies()) {
+            setIndex(0, SUBJECT_IDS, result.getSubjectId());
+            setIndex(1, CONTINGENCY_IDS, contingencyLimitViolation.getContingency().getContingencyId());
+            setString(2, contingencyLimitViolation.getContingency().getStatus());
+            setLimitViolation(3, contingencyLimitViolation.getLimitViolation());
+            endRow();
+        }
+    }
+
+    public void writeCutOffPowerResult(ContingencyCutOffPowerDTO result) {
+        setIndex(0, CONTINGENCY_IDS, result.contingencyId());
+        setString(1, result.status());
+        setDouble(2, result.connectivityResult().getDisconnectedLoadActivePower());
+        setDouble(3, result.connectivityResult().getDisconnectedGenerationActivePower());
+        endRow();
+    }
+
+    /**
+     * Writes the last batch and the end of the stream.
+     */
+    public void finish() {
+        try {
+            if (rowCount > 0) {
+                writeBatch();
+            }
+            writer.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error occurred during data arrow export", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        writer.close();
+        root.close();
+        dictionaryVectors.forEach(FieldVector::close);
+        allocator.close();
+    }
+
+    private void setLimitViolation(int column, LimitViolationDTO limitViolation) {
+        if (limitViolation == null) {
+            return;
+        }
+        setString(column, limitViolation.getLimitType() != null ? limitViolation.getLimitType().name() : null);
+        setString(column + 1, limitViolation.getLimitName());
+        setString(column + 2, limitViolation.getOperationalLimitsGroupId());
+        setString(column + 3, limitViolation.getNextLimitName());
+        setString(column + 4, limitViolation.getSide() != null ? limitViolation.getSide().name() : null);
+        setInt(column + 5, limitViolation.getAcceptableDuration());
+        setInt(column + 6, limitViolation.getUpcomingAcceptableDuration());
+        setDouble(column + 7, limitViolation.getLimit());
+        setDouble(column + 8, limitViolation.getPatlLimit());
+        setDouble(column + 9, limitViolation.getLimitReduction());
+        setDouble(column + 10, limitViolation.getValue());
+        setDouble(column + 11, limitViolation.getLoading());
+        setDouble(column + 12, limitViolation.getPatlLoading());
+        setString(column + 13, limitViolation.getLocationId());
+    }
+
+    // the values not set are null
+
+    private void setString(int column, String value) {
+        if (value != null) {
+            ((VarCharVector) root.getVector(column)).setSafe(rowCount, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void setInt(int column, Integer value) {
+        if (value != null) {
+            ((IntVector) root.getVector(column)).setSafe(rowCount, value);
+        }
+    }
+
+    private void setDouble(int column, Double value) {
+        if (value != null) {
+            setDouble(column, value.doubleValue());
+        }
+    }
+
+    private void setDouble(int column, double value) {
+        ((Float8Vector) root.getVector(column)).setSafe(rowCount, value);
+    }
+
+    private void setIndex(int column, long dictionaryId, String value) {
+        if (value != null) {
+            Integer index = dictionaryIndexes.get(dictionaryId).get(value);
+            if (index == null) {
+                throw new IllegalStateException("'" + value + "' is not in the dictionary " + dictionaryId);
+            }
+            ((IntVector) root.getVector(column)).setSafe(rowCount, index);
+        }
+    }
+
+    private void endRow() {
+        rowCount++;
+        if (rowCount == batchSize) {
+            try {
+                writeBatch();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error occurred during data arrow export", e);
+            }
+        }
+    }
+
+    private void writeBatch() throws IOException {
+        root.setRowCount(rowCount);
+        writer.writeBatch();
+        rowCount = 0;
+        root.allocateNew();
+    }
+
+    private VarCharVector dictionaryVector(long id, Collection<String> values) {
+        VarCharVector vector = new VarCharVector(id == SUBJECT_IDS ? SUBJECT_ID : CONTINGENCY_ID, allocator);
+        dictionaryVectors.add(vector);
+        vector.allocateNew(values.size());
+        Map<String, Integer> indexes = HashMap.newHashMap(values.size());
+        for (String value : values) {
+            if (value != null && !indexes.containsKey(value)) {
+                vector.setSafe(indexes.size(), value.getBytes(StandardCharsets.UTF_8));
+                indexes.put(value, indexes.size());
+            }
+        }
+        vector.setValueCount(indexes.size());
+        dictionaryIndexes.put(id, indexes);
+        return vector;
+    }
+
+    private static Field field(String name, ArrowType type) {
+        return new Field(name, FieldType.nullable(type), null);
+    }
+
+    private static Field dictionaryField(String name, long dictionaryId) {
+        return new Field(name, new FieldType(true, INT_TYPE, new DictionaryEncoding(dictionaryId, false, INT_TYPE)), null);
+    }
+
+    private static List<Field> withLimitViolationFields(Field... fields) {
+        return Stream.concat(Stream.of(fields), LIMIT_VIOLATION_FIELDS.stream()).toList();
+    }
+}
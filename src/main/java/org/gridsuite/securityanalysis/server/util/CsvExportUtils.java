@@ -13,6 +13,7 @@ import java.text.NumberFormat;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -28,8 +29,20 @@ public final class CsvExportUtils {
     }
 
     public static byte[] csvRowsToZippedCsv(List<String> headers, String language, List<List<String>> csvRows) {
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            writeZippedCsv(outputStream, headers, language, rowWriter -> csvRows.forEach(rowWriter));
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error occured during data csv export", e);
+        }
+    }
+
+    /**
+     * Writes the zipped csv to the output stream as its rows are given to the row writer, the output stream is not closed.
+     */
+    public static void writeZippedCsv(OutputStream outputStream, List<String> headers, String language, Consumer<Consumer<List<String>>> rowsWriter) {
+        try {
+            ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
             zipOutputStream.putNextEntry(new ZipEntry(CSV_RESULT_FILE_NAME));
 
             // adding BOM to the beginning of file to help excel in some versions to detect this is UTF-8 encoding bytes
@@ -39,10 +52,11 @@ public final class CsvExportUtils {
             setFormat(settings.getFormat(), language);
             CsvWriter csvWriter = new CsvWriter(zipOutputStream, StandardCharsets.UTF_8, settings);
             csvWriter.writeRow(headers);
-            csvWriter.writeRows(csvRows);
+            rowsWriter.accept(csvWriter::writeRow);
 
-            csvWriter.close();
-            return outputStream.toByteArray();
+            csvWriter.flush();
+            zipOutputStream.finish();
+            outputStream.flush();
         } catch (IOException e) {
             throw new UncheckedIOException("Error occured during data csv export", e);
         }
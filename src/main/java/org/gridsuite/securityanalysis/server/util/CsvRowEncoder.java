@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.util;
+
+import com.powsybl.contingency.violations.LimitViolationType;
+import com.powsybl.iidm.network.ThreeSides;
+import org.gridsuite.securityanalysis.server.dto.*;
+
+import java.text.FieldPosition;
+import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Encodes the security analysis results into csv rows, as their toCsvRow(s) methods do, without allocating a number format per numeric cell
+ * nor lists per row : the number formats and the translations of the enum values are built once by export, and the rows are written
+ * in the same buffer. The rows given to the row writer must therefore be consumed before the next one is encoded.
+ * An encoder is not thread safe, it must be used by a single export.
+ */
+public final class CsvRowEncoder {
+    private static final int LIMIT_VIOLATION_COLUMNS = 12;
+    private static final int NMK_HEADER_COLUMNS = 3;
+    private static final int CUT_OFF_POWER_COLUMNS = 4;
+
+    private final Map<String, String> translations;
+    private final String[] limitTypes;
+    private final String[] sides;
+    // same formats as LimitViolationDTO and CsvExportUtils.convertDoubleToLocale
+    private final NumberFormat limitViolationFormat;
+    private final NumberFormat powerFormat;
+    private final StringBuffer formatBuffer = new StringBuffer();
+    private final FieldPosition fieldPosition = new FieldPosition(0);
+
+    private final String[] row = new String[NMK_HEADER_COLUMNS + LIMIT_VIOLATION_COLUMNS];
+    private final List<String> nResultRow = Arrays.asList(row).subList(0, 1 + LIMIT_VIOLATION_COLUMNS);
+    private final List<String> nmkResultRow = Arrays.asList(row);
+    private final List<String> cutOffPowerRow = Arrays.asList(row).subList(0, CUT_OFF_POWER_COLUMNS);
+
+    public CsvRowEncoder(Map<String, String> translations, String language) {
+        this.translations = translations;
+        this.limitTypes = Arrays.stream(LimitViolationType.values()).map(type -> CsvExportUtils.translate(type.name(), translations)).toArray(String[]::new);
+        this.sides = Arrays.stream(ThreeSides.values()).map(side -> CsvExportUtils.translate(side.name(), translations)).toArray(String[]::new);
+        Locale locale = "fr".equals(language) ? Locale.FRENCH : Locale.US;
+        this.limitViolationFormat = NumberFormat.getInstance(locale);
+        this.limitViolationFormat.setGroupingUsed(false);
+        this.powerFormat = NumberFormat.getInstance(locale);
+        this.powerFormat.setGroupingUsed(false);
+        this.powerFormat.setMinimumFractionDigits(2);
+        this.powerFormat.setMaximumFractionDigits(2);
+    }
+
+    /**
+     * Same row as {@link PreContingencyLimitViolationResultDTO#toCsvRow}
+     */
+    public void writeNResultRow(PreContingencyLimitViolationResultDTO result, Consumer<List<String>> rowWriter) {
+        if (result.getLimitViolation() == null) {
+            rowWriter.accept(List.of());
+            return;
+        }
+        row[0] = result.getSubjectId();
+        encodeLimitViolation(result.getLimitViolation(), 1);
+        rowWriter.accept(nResultRow);
+    }
+
+    /**
+     * Same rows as {@link ContingencyResultDTO#toCsvRows}
+     */
+    public void writeContingencyRows(ContingencyResultDTO result, Consumer<List<String>> rowWriter) {
+        row[0] = result.getContingency().getContingencyId();
+        row[1] = translate(result.getContingency().getStatus());
+        if (result.getSubjectLimitViolations().isEmpty()) {
+            Arrays.fill(row, 2, row.length, "");
+            rowWriter.accept(nmkResultRow);
+            return;
+        }
+        for (SubjectLimitViolationDTO subjectLimitViolation : result.getSubjectLimitViolations()) {
+            row[2] = subjectLimitViolation.getSubjectId();
+            encodeLimitViolation(subjectLimitViolation.getLimitViolation(), NMK_HEADER_COLUMNS);
+            rowWriter.accept(nmkResultRow);
+        }
+    }
+
+    /**
+     * Same rows as {@link SubjectLimitViolationResultDTO#toCsvRows}
+     */
+    public void writeSubjectRows(SubjectLimitViolationResultDTO result, Consumer<List<String>> rowWriter) {
+        row[0] = result.getSubjectId();
+        for (ContingencyLimitViolationDTO contingencyLimitViolation : result.getContingencies()) {
+            row[1] = contingencyLimitViolation.getContingency().getContingencyId();
+            row[2] = translate(contingencyLimitViolation.getContingency().getStatus());
+            encodeLimitViolation(contingencyLimitViolation.getLimitViolation(), NMK_HEADER_COLUMNS);
+            rowWriter.accept(nmkResultRow);
+        }
+    }
+
+    /**
+     * Same rows as {@link ContingencyCutOffPowerDTO#toCsvRows}
+     */
+    public void writeCutOffPowerRows(ContingencyCutOffPowerDTO result, Consumer<List<String>> rowWriter) {
+        row[0] = result.contingencyId();
+        row[1] = translate(result.status());
+        row[2] = format(powerFormat, result.connectivityResult().getDisconnectedLoadActivePower());
+        row[3] = format(powerFormat, result.connectivityResult().getDisconnectedGenerationActivePower());
+        rowWriter.accept(cutOffPowerRow);
+    }
+
+    private void encodeLimitViolation(LimitViolationDTO limitViolation, int offset) {
+        int column = offset;
+        row[column++] = limitViolation.getLimitType() != null ? limitTypes[limitViolation.getLimitType().ordinal()] : "";
+        row[column++] = limitViolation.getLocationId();
+        row[column++] = CsvExportUtils.replaceNullWithEmptyString(translate(limitViolation.getLimitName()));
+        row[column++] = limitViolation.getLoading() == null ? "" : format(limitViolationFormat, limitViolation.getLoading());
+        row[column++] = limitViolation.getPatlLoading() == null ? "" : format(limitViolationFormat, limitViolation.getPatlLoading());
+        row[column++] = formatDuration(limitViolation.getAcceptableDuration());
+        row[column++] = formatDuration(limitViolation.getUpcomingAcceptableDuration());
+        row[column++] = CsvExportUtils.replaceNullWithEmptyString(translate(limitViolation.getNextLimitName()));
+        row[column++] = format(limitViolationFormat, limitViolation.getLimit());
+        row[column++] = limitViolation.getPatlLimit() == null ? "" : format(limitViolationFormat, limitViolation.getPatlLimit());
+        row[column++] = format(limitViolationFormat, limitViolation.getValue());
+        row[column] = limitViolation.getSide() != null ? sides[limitViolation.getSide().ordinal()] : "";
+    }
+
+    private String translate(String value) {
+        return value == null || translations == null ? value : translations.getOrDefault(value, value);
+    }
+
+    private String format(NumberFormat numberFormat, double value) {
+        formatBuffer.setLength(0);
+        return numberFormat.format(value, formatBuffer, fieldPosition).toString();
+    }
+
+    private static String formatDuration(Integer duration) {
+        return duration == null || duration == Integer.MAX_VALUE ? null : Integer.toString(duration);
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.gridsuite.securityanalysis.server.error.SecurityAnalysisException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.gridsuite.securityanalysis.server.error.SecurityAnalysisBusinessErrorCode.INVALID_PAGE_CURSOR;
+
+/**
+ * Keyset pagination : a page is read after the sort values of the last row of the previous page instead of skipping the previous rows.
+ * The sort properties must be non-null properties of the root entity, the last one being its UUID id which breaks the ties.
+ */
+public final class KeysetPaginationUtils {
+    private KeysetPaginationUtils() {
+        throw new UnsupportedOperationException("KeysetPaginationUtils Utility class and cannot be instantiated");
+    }
+
+    record Cursor(List<String> sort, List<String> values) { }
+
+    /**
+     * @param values sort values of the last row of a page, its id included
+     * @return an opaque cursor for the next page
+     */
+    public static String encodeCursor(ObjectMapper objectMapper, Sort sort, List<String> values) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(new Cursor(toStrings(sort), values)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the sort values of the cursor, its last value being the id
+     */
+    public static List<Object> decodeCursor(ObjectMapper objectMapper, Sort sort, String cursor) {
+        Cursor decodedCursor;
+        try {
+            decodedCursor = objectMapper.readValue(Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.US_ASCII)), Cursor.class);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new SecurityAnalysisException(INVALID_PAGE_CURSOR, "The page cursor is invalid");
+        }
+        // a cursor is only valid with the sort of the page it comes from
+        if (decodedCursor == null || decodedCursor.values() == null || !toStrings(sort).equals(decodedCursor.sort()) || decodedCursor.values().size() != decodedCursor.sort().size()) {
+            throw new SecurityAnalysisException(INVALID_PAGE_CURSOR, "The page cursor does not match the requested sort");
+        }
+        List<Object> values = new ArrayList<>(decodedCursor.values());
+        int idIndex = values.size() - 1;
+        try {
+            values.set(idIndex, UUID.fromString(decodedCursor.values().get(idIndex)));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new SecurityAnalysisException(INVALID_PAGE_CURSOR, "The page cursor is invalid");
+        }
+        return values;
+    }
+
+    /**
+     * @return the rows after the given sort values : (p1 > v1) or (p1 = v1 and p2 > v2) or ..., less than for descending properties
+     */
+    public static <T> Specification<T> after(Sort sort, List<Object> values) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> afterPredicates = new ArrayList<>();
+            List<Predicate> equalPredicates = new ArrayList<>();
+            int index = 0;
+            for (Sort.Order order : sort) {
+                Path<?> path = root.get(order.getProperty());
+                Comparable<?> value = (Comparable<?>) values.get(index++);
+                List<Predicate> predicates = new ArrayList<>(equalPredicates);
+                predicates.add(order.isAscending() ? greaterThan(criteriaBuilder, path, value) : lessThan(criteriaBuilder, path, value));
+                afterPredicates.add(criteriaBuilder.and(predicates.toArray(Predicate[]::new)));
+                equalPredicates.add(criteriaBuilder.equal(path, value));
+            }
+            return criteriaBuilder.or(afterPredicates.toArray(Predicate[]::new));
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate greaterThan(CriteriaBuilder criteriaBuilder, Path path, Comparable value) {
+        return criteriaBuilder.greaterThan(path, value);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate lessThan(CriteriaBuilder criteriaBuilder, Path path, Comparable value) {
+        return criteriaBuilder.lessThan(path, value);
+    }
+
+    private static List<String> toStrings(Sort sort) {
+        return sort.stream().map(order -> order.getProperty() + "," + order.getDirection()).toList();
+    }
+}
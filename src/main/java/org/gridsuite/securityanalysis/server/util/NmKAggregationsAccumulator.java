@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.util;
+
+import org.gridsuite.securityanalysis.server.dto.ContingencyResultDTO;
+import org.gridsuite.securityanalysis.server.dto.LimitViolationDTO;
+import org.gridsuite.securityanalysis.server.dto.NmKAggregationsDTO;
+import org.gridsuite.securityanalysis.server.dto.SubjectLimitViolationDTO;
+import org.gridsuite.securityanalysis.server.error.SecurityAnalysisException;
+import org.springframework.lang.Nullable;
+
+import java.util.*;
+
+import static org.gridsuite.securityanalysis.server.error.SecurityAnalysisBusinessErrorCode.INVALID_BUCKET_WIDTH;
+
+/**
+ * Counts the N-K contingencies and their limit violations by value and by bucket, either from the rows of the aggregation query
+ * or from the contingency results themselves. A value falls in the bucket [floor(value / width) * width, lower bound + width[.
+ * The permanent limits, of acceptable duration {@link Integer#MAX_VALUE}, are not bucketed by acceptable duration.
+ */
+public class NmKAggregationsAccumulator {
+    public enum Aggregation {
+        STATUS,
+        LIMIT_TYPE,
+        SIDE,
+        LOCATION_ID,
+        LOADING,
+        ACCEPTABLE_DURATION
+    }
+
+    private static final Comparator<Map.Entry<String, Long>> VALUE_COUNT_COMPARATOR = Map.Entry.<String, Long>comparingByValue().reversed()
+        .thenComparing(Map.Entry.<String, Long>comparingByKey(Comparator.nullsLast(Comparator.<String>naturalOrder())));
+
+    // a histogram spans at most this number of buckets, between its lowest and its highest bucket
+    public static final int MAX_HISTOGRAM_BUCKETS = 1000;
+
+    private final double loadingBucketWidth;
+    private final double acceptableDurationBucketWidth;
+    // the maps of the values allow the null value
+    private final Map<Aggregation, Map<String, Long>> valueCounts = new EnumMap<>(Aggregation.class);
+    private final Map<Aggregation, SortedMap<Double, Long>> bucketCounts = new EnumMap<>(Aggregation.class);
+
+    public NmKAggregationsAccumulator(double loadingBucketWidth, double acceptableDurationBucketWidth) {
+        this.loadingBucketWidth = loadingBucketWidth;
+        this.acceptableDurationBucketWidth = acceptableDurationBucketWidth;
+    }
+
+    /**
+     * @param value the counted value of a group aggregation
+     * @param lowerBound the lower bound of the bucket of a histogram aggregation
+     * @throws SecurityAnalysisException if the buckets of a histogram span more than {@link #MAX_HISTOGRAM_BUCKETS} buckets
+     */
+    public void count(Aggregation aggregation, @Nullable String value, @Nullable Double lowerBound, long count) {
+        if (aggregation == Aggregation.LOADING || aggregation == Aggregation.ACCEPTABLE_DURATION) {
+            if (lowerBound != null) {
+                SortedMap<Double, Long> buckets = bucketCounts.computeIfAbsent(aggregation, key -> new TreeMap<>());
+                // adding 0 turns a negative zero into zero
+                buckets.merge(lowerBound + 0.0, count, Long::sum);
+                double width = aggregation == Aggregation.LOADING ? loadingBucketWidth : acceptableDurationBucketWidth;
+                if (Math.round((buckets.lastKey() - buckets.firstKey()) / width) >= MAX_HISTOGRAM_BUCKETS) {
+                    throw new SecurityAnalysisException(INVALID_BUCKET_WIDTH, "The width of the " + aggregation.name().toLowerCase(Locale.ROOT)
+                        + " buckets is too small for the values, at most " + MAX_HISTOGRAM_BUCKETS + " buckets are returned");
+                }
+            }
+        } else {
+            valueCounts.computeIfAbsent(aggregation, key -> new HashMap<>()).merge(value, count, Long::sum);
+        }
+    }
+
+    public void count(ContingencyResultDTO contingencyResult) {
+        count(Aggregation.STATUS, contingencyResult.getContingency().getStatus(), null, 1);
+        for (SubjectLimitViolationDTO subjectLimitViolation : contingencyResult.getSubjectLimitViolations()) {
+            LimitViolationDTO limitViolation = subjectLimitViolation.getLimitViolation();
+            count(Aggregation.LIMIT_TYPE, limitViolation.getLimitType() != null ? limitViolation.getLimitType().name() : null, null, 1);
+            count(Aggregation.SIDE, limitViolation.getSide() != null ? limitViolation.getSide().name() : null, null, 1);
+            count(Aggregation.LOCATION_ID, limitViolation.getLocationId(), null, 1);
+            // NaN and infinite loadings are not bucketed, as in the aggregation query
+            if (limitViolation.getLoading() != null && Double.isFinite(limitViolation.getLoading())) {
+                count(Aggregation.LOADING, null, lowerBound(limitViolation.getLoading(), loadingBucketWidth), 1);
+            }
+            if (limitViolation.getAcceptableDuration() != null && limitViolation.getAcceptableDuration() != Integer.MAX_VALUE) {
+                count(Aggregation.ACCEPTABLE_DURATION, null, lowerBound(limitViolation.getAcceptableDuration(), acceptableDurationBucketWidth), 1);
+            }
+        }
+    }
+
+    /**
+     * @param maxValueCounts maximum number of counted values of each group aggregation, the most frequent ones
+     */
+    public NmKAggregationsDTO toDto(int maxValueCounts) {
+        return new NmKAggregationsDTO(
+            total(Aggregation.STATUS),
+            total(Aggregation.LIMIT_TYPE),
+            histogram(Aggregation.LOADING, loadingBucketWidth),
+            histogram(Aggregation.ACCEPTABLE_DURATION, acceptableDurationBucketWidth),
+            valueCounts(Aggregation.STATUS, maxValueCounts),
+            valueCounts(Aggregation.LIMIT_TYPE, maxValueCounts),
+            valueCounts(Aggregation.SIDE, maxValueCounts),
+            valueCounts(Aggregation.LOCATION_ID, maxValueCounts)
+        );
+    }
+
+    private static double lowerBound(double value, double width) {
+        return Math.floor(value / width) * width;
+    }
+
+    private long total(Aggregation aggregation) {
+        return valueCounts.getOrDefault(aggregation, Map.of()).values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private List<NmKAggregationsDTO.HistogramBucket> histogram(Aggregation aggregation, double width) {
+        return bucketCounts.getOrDefault(aggregation, Collections.emptySortedMap()).entrySet().stream()
+            .map(bucket -> new NmKAggregationsDTO.HistogramBucket(bucket.getKey(), bucket.getKey() + width, bucket.getValue()))
+            .toList();
+    }
+
+    private List<NmKAggregationsDTO.ValueCount> valueCounts(Aggregation aggregation, int maxValueCounts) {
+        return valueCounts.getOrDefault(aggregation, Map.of()).entrySet().stream()
+            .sorted(VALUE_COUNT_COMPARATOR)
+            .limit(maxValueCounts)
+            .map(valueCount -> new NmKAggregationsDTO.ValueCount(valueCount.getKey(), valueCount.getValue()))
+            .toList();
+    }
+}
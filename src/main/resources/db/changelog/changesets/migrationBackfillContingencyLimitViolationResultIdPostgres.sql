@@ -0,0 +1,24 @@
+-- backfill by batches of contingencies, walked by uuid through their primary key, each batch in its own transaction
+-- so that the row locks and the WAL of a batch are released at its end, and the migration resumes after the last committed batch if stopped
+-- the violations of a batch are found through contingency_limit_violation_to_contingency_index, the rows to fill are never searched
+CREATE OR REPLACE PROCEDURE security_analysis_backfill_clv_result_id()
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    batch_size CONSTANT integer := 1000;
+    last_uuid uuid := '00000000-0000-0000-0000-000000000000';
+    batch_last_uuid uuid;
+BEGIN
+    LOOP
+        SELECT max(batch.uuid) INTO batch_last_uuid
+        FROM (SELECT uuid FROM contingency WHERE uuid > last_uuid ORDER BY uuid LIMIT batch_size) batch;
+        EXIT WHEN batch_last_uuid IS NULL;
+        UPDATE contingency_limit_violation clv
+        SET result_id = c.result_id
+        FROM contingency c
+        WHERE c.uuid > last_uuid AND c.uuid <= batch_last_uuid AND c.result_id IS NOT NULL
+        AND clv.contingency_uuid = c.uuid AND clv.result_id IS NULL;
+        last_uuid := batch_last_uuid;
+        COMMIT;
+    END LOOP;
+END $$;
@@ -0,0 +1,51 @@
+-- backfill result by result so that each update statement only touches the rows of one result, read through the result_id indexes,
+-- each result in its own transaction so that the row locks and the WAL of a result are released at its end
+-- the migration resumes after the last committed result if stopped : a result is filled when its contingencies with violations have a count
+CREATE OR REPLACE PROCEDURE security_analysis_backfill_limit_violations_aggregates()
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    result_uuid uuid;
+BEGIN
+    FOR result_uuid IN SELECT r.id FROM security_analysis_result r
+        WHERE EXISTS (SELECT 1 FROM contingency_limit_violation clv JOIN contingency c ON c.uuid = clv.contingency_uuid
+            WHERE clv.result_id = r.id AND c.violation_count = 0) LOOP
+        UPDATE contingency c
+        SET max_loading = aggregates.max_loading,
+            min_acceptable_duration = aggregates.min_acceptable_duration,
+            violation_count = aggregates.violation_count,
+            worst_limit_type = aggregates.worst_limit_type
+        FROM (
+            -- the window aggregates are computed on all the violations of a contingency, the kept row being its worst violation
+            SELECT DISTINCT ON (clv.contingency_uuid) clv.contingency_uuid,
+                MAX(clv.loading) OVER violations AS max_loading,
+                MIN(clv.acceptable_duration) OVER violations AS min_acceptable_duration,
+                COUNT(*) OVER violations AS violation_count,
+                clv.limit_type AS worst_limit_type
+            FROM contingency_limit_violation clv
+            WHERE clv.result_id = result_uuid
+            WINDOW violations AS (PARTITION BY clv.contingency_uuid)
+            ORDER BY clv.contingency_uuid, clv.loading DESC NULLS LAST, clv.limit_type COLLATE "C" NULLS LAST
+        ) aggregates
+        WHERE c.result_id = result_uuid AND c.uuid = aggregates.contingency_uuid;
+
+        UPDATE subject_limit_violation s
+        SET max_loading = aggregates.max_loading,
+            min_acceptable_duration = aggregates.min_acceptable_duration,
+            violation_count = aggregates.violation_count,
+            worst_limit_type = aggregates.worst_limit_type
+        FROM (
+            SELECT DISTINCT ON (clv.subject_limit_violation_id) clv.subject_limit_violation_id,
+                MAX(clv.loading) OVER violations AS max_loading,
+                MIN(clv.acceptable_duration) OVER violations AS min_acceptable_duration,
+                COUNT(*) OVER violations AS violation_count,
+                clv.limit_type AS worst_limit_type
+            FROM contingency_limit_violation clv
+            WHERE clv.result_id = result_uuid AND clv.subject_limit_violation_id IS NOT NULL
+            WINDOW violations AS (PARTITION BY clv.subject_limit_violation_id)
+            ORDER BY clv.subject_limit_violation_id, clv.loading DESC NULLS LAST, clv.limit_type COLLATE "C" NULLS LAST
+        ) aggregates
+        WHERE s.result_id = result_uuid AND s.id = aggregates.subject_limit_violation_id;
+        COMMIT;
+    END LOOP;
+END $$;
@@ -0,0 +1,38 @@
+-- list partitioning of the result tables by result_id, one partition per result and per table, see security-analysis.partitioned-results.enabled
+-- the partitions of a result are dropped when the result is deleted, instead of deleting its rows
+-- the partition key must be part of the primary keys and of the referenced keys, so the foreign keys of the result tables are dropped:
+-- the result rows are always written and deleted together by the application
+-- the tables are only swapped here, the rows are moved result by result by the security_analysis_partition_results procedure
+DO $$
+DECLARE
+    result_table text;
+    index_definitions text[];
+    index_definition text;
+    index_name text;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('contingency')) THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE contingency_entity_contingency_elements DROP CONSTRAINT IF EXISTS fkjckkamkmx4ja70chvumfb0gmh;
+
+    FOREACH result_table IN ARRAY ARRAY['contingency', 'contingency_limit_violation', 'pre_contingency_limit_violation', 'subject_limit_violation'] LOOP
+        -- the indexes are created again on the partitioned table, and so on each partition, except the unique ones which would need the partition key
+        SELECT coalesce(array_agg(pg_get_indexdef(i.indexrelid)), '{}') INTO index_definitions
+        FROM pg_index i
+        WHERE i.indrelid = to_regclass(result_table) AND NOT i.indisunique;
+        FOR index_name IN SELECT c.relname FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid WHERE i.indrelid = to_regclass(result_table) LOOP
+            EXECUTE format('ALTER INDEX %I RENAME TO %I', index_name, left(index_name, 48) || '_unpartitioned');
+        END LOOP;
+        EXECUTE format('ALTER TABLE %I RENAME TO %I', result_table, result_table || '_unpartitioned');
+        EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS) PARTITION BY LIST (result_id)', result_table, result_table || '_unpartitioned');
+        FOREACH index_definition IN ARRAY index_definitions LOOP
+            EXECUTE index_definition;
+        END LOOP;
+    END LOOP;
+
+    ALTER TABLE contingency ADD CONSTRAINT contingencypk PRIMARY KEY (uuid, result_id);
+    ALTER TABLE contingency_limit_violation ADD CONSTRAINT contingency_limit_violationpk PRIMARY KEY (id, result_id);
+    ALTER TABLE pre_contingency_limit_violation ADD CONSTRAINT pre_contingency_limit_violationpk PRIMARY KEY (id, result_id);
+    ALTER TABLE subject_limit_violation ADD CONSTRAINT subject_limit_violationpk PRIMARY KEY (id, result_id);
+END $$;
@@ -0,0 +1,37 @@
+-- moves the rows of the unpartitioned result tables to the partitions of their result, committing after each result:
+-- the migration can be stopped and resumed, a result whose partitions exist being already moved
+-- the partitions are named by ResultPartitionRepository.partitionName, rows without result can't be reached by the application and are dropped
+CREATE OR REPLACE PROCEDURE security_analysis_partition_results()
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    result_id_value uuid;
+    partition_suffix text;
+    limit_violation_columns text;
+BEGIN
+    -- result_id of the limit violations is taken from their contingency, it may not be backfilled yet
+    SELECT string_agg(CASE WHEN attname = 'result_id' THEN 'c.result_id' ELSE 'clv.' || quote_ident(attname) END, ', ' ORDER BY attnum)
+    INTO limit_violation_columns
+    FROM pg_attribute
+    WHERE attrelid = to_regclass('contingency_limit_violation_unpartitioned') AND attnum > 0 AND NOT attisdropped;
+    IF limit_violation_columns IS NULL THEN
+        RETURN;
+    END IF;
+
+    FOR result_id_value IN SELECT id FROM security_analysis_result ORDER BY id LOOP
+        partition_suffix := replace(result_id_value::text, '-', '');
+        CONTINUE WHEN to_regclass('contingency_' || partition_suffix) IS NOT NULL;
+
+        EXECUTE format('CREATE TABLE %I PARTITION OF contingency FOR VALUES IN (%L)', 'contingency_' || partition_suffix, result_id_value);
+        EXECUTE format('CREATE TABLE %I PARTITION OF contingency_limit_violation FOR VALUES IN (%L)', 'clv_' || partition_suffix, result_id_value);
+        EXECUTE format('CREATE TABLE %I PARTITION OF pre_contingency_limit_violation FOR VALUES IN (%L)', 'pclv_' || partition_suffix, result_id_value);
+        EXECUTE format('CREATE TABLE %I PARTITION OF subject_limit_violation FOR VALUES IN (%L)', 'slv_' || partition_suffix, result_id_value);
+
+        INSERT INTO contingency SELECT * FROM contingency_unpartitioned WHERE result_id = result_id_value;
+        EXECUTE format('INSERT INTO contingency_limit_violation SELECT %s FROM contingency_limit_violation_unpartitioned clv '
+            'JOIN contingency_unpartitioned c ON c.uuid = clv.contingency_uuid WHERE c.result_id = $1', limit_violation_columns) USING result_id_value;
+        INSERT INTO pre_contingency_limit_violation SELECT * FROM pre_contingency_limit_violation_unpartitioned WHERE result_id = result_id_value;
+        INSERT INTO subject_limit_violation SELECT * FROM subject_limit_violation_unpartitioned WHERE result_id = result_id_value;
+        COMMIT;
+    END LOOP;
+END $$;
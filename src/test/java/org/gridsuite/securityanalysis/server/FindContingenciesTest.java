@@ -27,6 +27,7 @@ import org.gridsuite.computation.dto.ResourceFilterDTO;
 import org.gridsuite.computation.error.ComputationException;
 import org.gridsuite.computation.utils.SpecificationUtils;
 import org.gridsuite.securityanalysis.server.dto.ContingencyResultDTO;
+import org.gridsuite.securityanalysis.server.dto.LimitViolationsAggregatesDTO;
 import org.gridsuite.securityanalysis.server.dto.SecurityAnalysisStatus;
 import org.gridsuite.securityanalysis.server.dto.SubjectLimitViolationDTO;
 import org.gridsuite.securityanalysis.server.entities.AbstractLimitViolationEntity;
@@ -167,6 +168,27 @@ class FindContingenciesTest {
                 );
     }
 
+    @Test
+    void findContingencyResultsWithLimitViolationsAggregates() {
+        UUID resultUuid = UUID.randomUUID();
+        SecurityAnalysisResult securityAnalysisResult = new SecurityAnalysisResult(
+            new LimitViolationsResult(List.of()),
+            LoadFlowResult.ComponentResult.Status.CONVERGED,
+            List.of(createPostContingencyResult("contingency-1", "element-1"))
+        );
+        securityAnalysisResultService.insert(null, resultUuid, securityAnalysisResult, SecurityAnalysisStatus.CONVERGED);
+
+        List<ContingencyResultDTO> contingencyResults = securityAnalysisResultService.findContingenciesPage(resultUuid, List.of(), PageRequest.of(0, 5))
+            .map(ContingencyResultDTO::toDto)
+            .getContent();
+
+        assertThat(contingencyResults).hasSize(1);
+        LimitViolationsAggregatesDTO limitViolationsAggregates = contingencyResults.get(0).getLimitViolationsAggregates();
+        assertEquals(1, limitViolationsAggregates.getViolationCount());
+        assertEquals(110, limitViolationsAggregates.getMaxLoading(), 0.001);
+        assertEquals(LimitViolationType.CURRENT, limitViolationsAggregates.getWorstLimitType());
+    }
+
     private static PostContingencyResult createPostContingencyResult(String contingencyId, String... elementIds) {
         return new PostContingencyResult(
             new Contingency(contingencyId, Arrays.stream(elementIds)
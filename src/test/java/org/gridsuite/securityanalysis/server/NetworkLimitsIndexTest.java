@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server;
+
+import com.powsybl.contingency.violations.LimitViolation;
+import com.powsybl.contingency.violations.LimitViolationType;
+import com.powsybl.iidm.network.LoadingLimits;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.gridsuite.securityanalysis.server.entities.ContingencyLimitViolationEntity;
+import org.gridsuite.securityanalysis.server.entities.NetworkLimitsIndex;
+import org.gridsuite.securityanalysis.server.entities.SubjectLimitViolationEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.powsybl.iidm.network.test.EurostagTutorialExample1Factory.NGEN_NHV1;
+import static com.powsybl.iidm.network.test.EurostagTutorialExample1Factory.NHV1_NHV2_1;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NetworkLimitsIndexTest {
+
+    private static LimitViolation currentViolation(String subjectId, String limitName, double limit, double value, TwoSides side) {
+        return LimitViolation.builder()
+            .subject(subjectId)
+            .type(LimitViolationType.CURRENT)
+            .limitName(limitName)
+            .duration(60)
+            .limit(limit)
+            .reduction(1)
+            .value(value)
+            .side(side)
+            .build();
+    }
+
+    @Test
+    void indexedEnrichmentMatchesPerViolationEnrichment() {
+        Network network = EurostagTutorialExample1Factory.createWithFixedCurrentLimits();
+        List<LimitViolation> limitViolations = List.of(
+            currentViolation(NHV1_NHV2_1, LoadingLimits.DEFAULT_PERMANENT_LIMIT_NAME, 1100, 1150, TwoSides.ONE),
+            currentViolation(NHV1_NHV2_1, "10'", 1200, 1250, TwoSides.ONE),
+            currentViolation(NHV1_NHV2_1, "10'", 1200, 1150, TwoSides.TWO),
+            currentViolation(NGEN_NHV1, LoadingLimits.DEFAULT_PERMANENT_LIMIT_NAME, 100, 150, TwoSides.ONE),
+            new LimitViolation("VLHV1", LimitViolationType.HIGH_VOLTAGE, LoadingLimits.DEFAULT_PERMANENT_LIMIT_NAME, 0, 400, 1, 410)
+        );
+
+        NetworkLimitsIndex networkLimitsIndex = NetworkLimitsIndex.build(network, limitViolations.stream());
+
+        limitViolations.forEach(limitViolation -> {
+            SubjectLimitViolationEntity subject = new SubjectLimitViolationEntity(limitViolation.getSubjectId(), null);
+            ContingencyLimitViolationEntity expected = ContingencyLimitViolationEntity.toEntity(network, limitViolation, subject);
+            ContingencyLimitViolationEntity actual = ContingencyLimitViolationEntity.toEntity(networkLimitsIndex, limitViolation, subject);
+            assertThat(actual).usingRecursiveComparison().ignoringFields("subjectLimitViolation").isEqualTo(expected);
+        });
+    }
+
+    @Test
+    void notIndexedViolationIsRejected() {
+        Network network = EurostagTutorialExample1Factory.createWithFixedCurrentLimits();
+        LimitViolation indexedViolation = currentViolation(NHV1_NHV2_1, "10'", 1200, 1250, TwoSides.ONE);
+        LimitViolation otherViolation = currentViolation(NHV1_NHV2_1, "10'", 1200, 1250, TwoSides.TWO);
+
+        NetworkLimitsIndex networkLimitsIndex = NetworkLimitsIndex.build(network, List.of(indexedViolation).stream());
+
+        assertThatThrownBy(() -> networkLimitsIndex.getPatlLimit(otherViolation))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -89,6 +89,7 @@ import static org.gridsuite.securityanalysis.server.util.CsvExportUtils.csvRowsT
 import static org.gridsuite.securityanalysis.server.util.DatabaseQueryUtils.assertRequestsCount;
 import static org.gridsuite.securityanalysis.server.util.TestUtils.readLinesFromFilePath;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
@@ -904,6 +905,77 @@ class SecurityAnalysisControllerTest {
         checkFiltersOnZippedCsvResults();
     }
 
+    @Test
+    void csvExportJobs() throws Exception {
+        // running computation to create some results
+        mockMvc.perform(post("/" + VERSION + "/networks/" + NETWORK_UUID + "/run-and-save?reportType=SecurityAnalysis&receiver=me&variantId=" + VARIANT_2_ID
+                + "&provider=OpenLoadFlow" + "&loadFlowParametersUuid=" + UUID.randomUUID())
+                .header(HEADER_USER_ID, USER_ID)
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk());
+        assertNotNull(output.receive(TIMEOUT, "sa.result"));
+
+        String expectedCsvResource = "/results/nmk-constraints-result-en.csv";
+        CsvTranslationDTO csvTranslationDTO = CsvTranslationDTO.builder()
+            .headers(getCsvHeaderFromResource(expectedCsvResource, "en"))
+            .enumValueTranslations(ENUM_TRANSLATIONS_EN)
+            .language("en")
+            .build();
+        String jobAsString = mockMvc.perform(post("/" + VERSION + "/results/" + RESULT_UUID + "/csv-export-jobs")
+                .param("type", ExportType.NMK_CONSTRAINTS.name())
+                .param("sort", SubjectLimitViolationEntity.Fields.subjectId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(csvTranslationDTO)))
+            .andExpectAll(
+                status().isOk(),
+                content().contentType(MediaType.APPLICATION_JSON)
+            ).andReturn().getResponse().getContentAsString();
+        UUID jobId = mapper.readValue(jobAsString, ExportJobInfos.class).id();
+
+        // wait for the end of the export
+        ExportJobInfos job;
+        long deadline = System.currentTimeMillis() + 10 * TIMEOUT;
+        do {
+            Thread.sleep(10);
+            job = mapper.readValue(mockMvc.perform(get("/" + VERSION + "/csv-export-jobs/" + jobId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(), ExportJobInfos.class);
+        } while (job.status() != ExportJobInfos.ExportJobStatus.COMPLETED && System.currentTimeMillis() < deadline);
+        assertEquals(ExportJobInfos.ExportJobStatus.COMPLETED, job.status());
+
+        byte[] resultAsByteArray = mockMvc.perform(get("/" + VERSION + "/csv-export-jobs/" + jobId + "/content"))
+            .andExpectAll(
+                status().isOk(),
+                content().contentType(APPLICATION_OCTET_STREAM_VALUE)
+            ).andReturn().getResponse().getContentAsByteArray();
+        assertEquals(job.size(), Long.valueOf(resultAsByteArray.length));
+        checkCsvResultFromBytes(expectedCsvResource, resultAsByteArray);
+
+        // the download is resumed with a byte range
+        byte[] rangeAsByteArray = mockMvc.perform(get("/" + VERSION + "/csv-export-jobs/" + jobId + "/content")
+                .header(HttpHeaders.RANGE, "bytes=10-"))
+            .andExpect(status().isPartialContent())
+            .andReturn().getResponse().getContentAsByteArray();
+        assertArrayEquals(Arrays.copyOfRange(resultAsByteArray, 10, resultAsByteArray.length), rangeAsByteArray);
+
+        // a completed export is not cancelled
+        mockMvc.perform(delete("/" + VERSION + "/csv-export-jobs/" + jobId))
+            .andExpectAll(
+                status().isOk(),
+                content().json("{\"status\":\"COMPLETED\"}")
+            );
+
+        UUID unknownJobId = UUID.randomUUID();
+        mockMvc.perform(get("/" + VERSION + "/csv-export-jobs/" + unknownJobId)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/" + VERSION + "/csv-export-jobs/" + unknownJobId + "/content")).andExpect(status().isNotFound());
+        mockMvc.perform(delete("/" + VERSION + "/csv-export-jobs/" + unknownJobId)).andExpect(status().isNotFound());
+        mockMvc.perform(post("/" + VERSION + "/results/" + OTHER_RESULT_UUID + "/csv-export-jobs")
+                .param("type", ExportType.NMK_CONSTRAINTS.name())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(csvTranslationDTO)))
+            .andExpect(status().isNotFound());
+    }
+
     @Test
     void testNoContingency() throws Exception {
         given(actionsService.getContingencyList(any(), any(), any())).willReturn(List.of());
@@ -186,7 +186,8 @@ public class SecurityAnalysisProviderMock implements SecurityAnalysisProvider {
                 r.getContingency(),
                 r.getSubjectLimitViolations().stream()
                     .filter(filterMethod::apply)
-                    .toList()
+                    .toList(),
+                r.getLimitViolationsAggregates()
             ))
             .filter(r -> !r.getSubjectLimitViolations().isEmpty())
             .toList();
@@ -199,7 +200,8 @@ public class SecurityAnalysisProviderMock implements SecurityAnalysisProvider {
                     r.getContingency(),
                     r.getSubjectLimitViolations().stream()
                         .sorted(limitViolationDTOComparator)
-                        .toList()
+                        .toList(),
+                    r.getLimitViolationsAggregates()
                 ))
             .sorted(contingencyResultDTOComparator)
             .toList();
@@ -219,7 +221,8 @@ public class SecurityAnalysisProviderMock implements SecurityAnalysisProvider {
                 r.getSubjectId(),
                 r.getContingencies().stream()
                     .filter(filterMethod::apply)
-                    .toList()
+                    .toList(),
+                r.getLimitViolationsAggregates()
             ))
             .filter(r -> !r.getContingencies().isEmpty())
             .toList();
@@ -232,7 +235,8 @@ public class SecurityAnalysisProviderMock implements SecurityAnalysisProvider {
                     r.getSubjectId(),
                     r.getContingencies().stream()
                         .sorted(limitViolationDTOComparator)
-                        .toList()
+                        .toList(),
+                    r.getLimitViolationsAggregates()
                 ))
             .sorted(subjectLimitViolationResultDTOComparator)
             .toList();
@@ -313,7 +317,8 @@ public class SecurityAnalysisProviderMock implements SecurityAnalysisProvider {
             LoadFlowResult.ComponentResult.Status status) {
         return new SubjectLimitViolationResultDTO(
             limitViolation.getSubjectId(),
-            convergedContingencies.stream().map(c -> toContingencyLimitViolationDTO(c, limitViolation, status.name())).toList());
+            convergedContingencies.stream().map(c -> toContingencyLimitViolationDTO(c, limitViolation, status.name())).toList(),
+            null);
     }
 
     private static PreContingencyLimitViolationResultDTO toPreContingencyResultDTO(LimitViolation limitViolation, LoadFlowResult.ComponentResult.Status status) {
@@ -345,7 +350,8 @@ public class SecurityAnalysisProviderMock implements SecurityAnalysisProvider {
             ),
             limitViolations.stream()
                 .map(SecurityAnalysisProviderMock::toSubjectLimitViolationDTO)
-                .toList()
+                .toList(),
+            null
         );
     }
 
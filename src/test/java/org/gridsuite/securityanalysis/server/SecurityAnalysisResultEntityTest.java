@@ -22,12 +22,16 @@ import com.powsybl.security.results.ConnectivityResult;
 import com.powsybl.security.results.NetworkResult;
 import com.powsybl.security.results.PostContingencyResult;
 import org.gridsuite.securityanalysis.server.dto.SecurityAnalysisStatus;
+import org.gridsuite.securityanalysis.server.entities.ContingencyEntity;
 import org.gridsuite.securityanalysis.server.entities.ContingencyLimitViolationEntity;
+import org.gridsuite.securityanalysis.server.entities.LimitViolationsAggregatesEmbeddable;
 import org.gridsuite.securityanalysis.server.entities.SecurityAnalysisResultEntity;
+import org.gridsuite.securityanalysis.server.entities.SubjectLimitViolationEntity;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
 
 import static com.powsybl.iidm.network.test.EurostagTutorialExample1Factory.NHV1_NHV2_1;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -85,4 +89,84 @@ class SecurityAnalysisResultEntityTest {
             .singleElement()
             .matches(ContingencyLimitViolationEntity::isWorstSide);
     }
+
+    @Test
+    void toEntityComputesLimitViolationsAggregates() {
+        SecurityAnalysisResult securityAnalysisResult = new SecurityAnalysisResult(
+            new LimitViolationsResult(List.of()),
+            LoadFlowResult.ComponentResult.Status.CONVERGED,
+            List.of(
+                new PostContingencyResult(
+                    new Contingency("contingency1", new BranchContingency(NHV1_NHV2_1)),
+                    PostContingencyComputationStatus.CONVERGED,
+                    new LimitViolationsResult(List.of(
+                        new LimitViolation("VLHV1", LimitViolationType.LOW_VOLTAGE, "permanent", 0, 380, 1, 370),
+                        new LimitViolation(NHV1_NHV2_1, LimitViolationType.CURRENT, "limitName", 60, 100, 1, 110, TwoSides.ONE)
+                    )),
+                    NetworkResult.empty(),
+                    ConnectivityResult.empty(),
+                    1.0
+                ),
+                new PostContingencyResult(
+                    new Contingency("contingency2", new BranchContingency(NHV1_NHV2_1)),
+                    PostContingencyComputationStatus.CONVERGED,
+                    new LimitViolationsResult(List.of(
+                        new LimitViolation(NHV1_NHV2_1, LimitViolationType.CURRENT, "limitName", 60, 100, 1, 130, TwoSides.ONE)
+                    )),
+                    NetworkResult.empty(),
+                    ConnectivityResult.empty(),
+                    1.0
+                ),
+                new PostContingencyResult(
+                    new Contingency("contingency3", new BranchContingency(NHV1_NHV2_1)),
+                    PostContingencyComputationStatus.FAILED,
+                    new LimitViolationsResult(List.of()),
+                    NetworkResult.empty(),
+                    ConnectivityResult.empty(),
+                    1.0
+                )
+            )
+        );
+
+        SecurityAnalysisResultEntity entity = SecurityAnalysisResultEntity.toEntity(null, UUID.randomUUID(), securityAnalysisResult, SecurityAnalysisStatus.CONVERGED);
+
+        // the worst limit type is the one of the highest loading, voltage violations having no loading
+        assertThat(entity.getContingencies()).extracting(ContingencyEntity::getLimitViolationsAggregates)
+            .usingRecursiveFieldByFieldElementComparator()
+            .containsExactly(
+                new LimitViolationsAggregatesEmbeddable(110.0, null, 2, LimitViolationType.CURRENT),
+                new LimitViolationsAggregatesEmbeddable(130.0, null, 1, LimitViolationType.CURRENT),
+                new LimitViolationsAggregatesEmbeddable(null, null, 0, null)
+            );
+        // the aggregates of a subject are computed on its violations of all the contingencies
+        assertThat(entity.getSubjectLimitViolations())
+            .filteredOn(subjectLimitViolation -> NHV1_NHV2_1.equals(subjectLimitViolation.getSubjectId()))
+            .singleElement()
+            .extracting(SubjectLimitViolationEntity::getLimitViolationsAggregates)
+            .usingRecursiveComparison()
+            .isEqualTo(new LimitViolationsAggregatesEmbeddable(130.0, null, 2, LimitViolationType.CURRENT));
+        assertThat(entity.getSubjectLimitViolations())
+            .filteredOn(subjectLimitViolation -> "VLHV1".equals(subjectLimitViolation.getSubjectId()))
+            .singleElement()
+            .extracting(SubjectLimitViolationEntity::getLimitViolationsAggregates)
+            .usingRecursiveComparison()
+            .isEqualTo(new LimitViolationsAggregatesEmbeddable(null, null, 1, LimitViolationType.LOW_VOLTAGE));
+    }
+
+    @Test
+    void parallelToEntityMatchesSequentialToEntity() {
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        UUID resultUuid = UUID.randomUUID();
+
+        SecurityAnalysisResultEntity sequentialEntity = SecurityAnalysisResultEntity.toEntity(network, resultUuid, SecurityAnalysisProviderMock.RESULT_WITH_LIMIT_VIOLATIONS_ON_BOTH_SIDES,
+            SecurityAnalysisStatus.CONVERGED);
+        SecurityAnalysisResultEntity parallelEntity;
+        try (ForkJoinPool conversionPool = new ForkJoinPool(4)) {
+            parallelEntity = SecurityAnalysisResultEntity.toEntity(network, resultUuid, SecurityAnalysisProviderMock.RESULT_WITH_LIMIT_VIOLATIONS_ON_BOTH_SIDES,
+                SecurityAnalysisStatus.CONVERGED, conversionPool);
+        }
+
+        // subject limit violations must reference their contingency limit violations in the same order
+        assertThat(parallelEntity).usingRecursiveComparison().isEqualTo(sequentialEntity);
+    }
 }
@@ -14,6 +14,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -35,4 +36,15 @@ class SupervisionControllerTest {
                 content().string("0")
             );
     }
+
+    @Test
+    void testResultsRetention() throws Exception {
+        // the retention policy is disabled in tests
+        mockMvc.perform(get("/v1/supervision/results-retention"))
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$.lastRunEvictedResults").value(0),
+                jsonPath("$.totalReclaimedRows").value(0)
+            );
+    }
 }
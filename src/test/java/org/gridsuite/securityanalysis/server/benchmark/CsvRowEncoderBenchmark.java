@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.benchmark;
+
+import com.powsybl.contingency.violations.LimitViolationType;
+import com.powsybl.iidm.network.ThreeSides;
+import org.gridsuite.securityanalysis.server.dto.ContingencyDTO;
+import org.gridsuite.securityanalysis.server.dto.ContingencyLimitViolationDTO;
+import org.gridsuite.securityanalysis.server.dto.LimitViolationDTO;
+import org.gridsuite.securityanalysis.server.dto.SubjectLimitViolationResultDTO;
+import org.gridsuite.securityanalysis.server.util.CsvRowEncoder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the encoding of 1M N-K constraints csv rows through {@link SubjectLimitViolationResultDTO#toCsvRows}, as it was done before,
+ * and through a {@link CsvRowEncoder} created once for the whole export. Both feed the rows to a blackhole, so that the zip and csv
+ * writing, identical in both cases, are not measured.
+ * Run it with the main method, it is not part of the unit tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvRowEncoderBenchmark {
+
+    private static final int ROW_COUNT = 1_000_000;
+
+    private static final int CONTINGENCIES_BY_SUBJECT = 100;
+
+    private static final Map<String, String> ENUM_TRANSLATIONS = Map.of(
+        "ONE", "Côté 1",
+        "TWO", "Côté 2",
+        "CURRENT", "Intensité",
+        "HIGH_VOLTAGE", "Tension haute",
+        "CONVERGED", "Convergence",
+        "permanent", "IST"
+    );
+
+    @Param({"fr", "en"})
+    private String language;
+
+    private List<SubjectLimitViolationResultDTO> results;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        results = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT / CONTINGENCIES_BY_SUBJECT; i++) {
+            List<ContingencyLimitViolationDTO> contingencies = new ArrayList<>(CONTINGENCIES_BY_SUBJECT);
+            for (int j = 0; j < CONTINGENCIES_BY_SUBJECT; j++) {
+                double limit = 500 + random.nextInt(1000);
+                double value = limit * (1 + random.nextDouble());
+                LimitViolationDTO limitViolation = LimitViolationDTO.builder()
+                    .limitType(LimitViolationType.CURRENT)
+                    .limitName("permanent")
+                    .side(random.nextBoolean() ? ThreeSides.ONE : ThreeSides.TWO)
+                    .acceptableDuration(Integer.MAX_VALUE)
+                    .upcomingAcceptableDuration(600)
+                    .limit(limit)
+                    .patlLimit(limit)
+                    .value(value)
+                    .loading(100 * value / limit)
+                    .patlLoading(100 * value / limit)
+                    .build();
+                contingencies.add(new ContingencyLimitViolationDTO(ContingencyDTO.builder().contingencyId("contingency" + j).status("CONVERGED").build(), limitViolation));
+            }
+            results.add(SubjectLimitViolationResultDTO.builder().subjectId("line" + i).contingencies(contingencies).build());
+        }
+    }
+
+    @Benchmark
+    public void dtoRows(Blackhole blackhole) {
+        for (SubjectLimitViolationResultDTO result : results) {
+            result.toCsvRows(ENUM_TRANSLATIONS, language).forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void encodedRows(Blackhole blackhole) {
+        CsvRowEncoder encoder = new CsvRowEncoder(ENUM_TRANSLATIONS, language);
+        for (SubjectLimitViolationResultDTO result : results) {
+            encoder.writeSubjectRows(result, blackhole::consume);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CsvRowEncoderBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,220 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.benchmark;
+
+import com.powsybl.contingency.violations.LimitViolation;
+import com.powsybl.contingency.violations.LimitViolationType;
+import com.powsybl.iidm.network.Branch;
+import com.powsybl.iidm.network.CurrentLimits;
+import com.powsybl.iidm.network.LoadingLimits;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.ThreeSides;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+import org.gridsuite.computation.utils.ComputationResultUtils;
+import org.gridsuite.securityanalysis.server.entities.ContingencyLimitViolationEntity;
+import org.gridsuite.securityanalysis.server.entities.NetworkLimitsIndex;
+import org.gridsuite.securityanalysis.server.entities.SubjectLimitViolationEntity;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the limit violations enrichment with network data done violation per violation, as it was done before
+ * (see {@link PerViolationEnrichment}), and through a {@link NetworkLimitsIndex} built once for the whole result.
+ * The violation distribution mimics a N-K result : a few branches are violated in most of the contingencies, plus some voltage violations.
+ * Run it with the main method, it is not part of the unit tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NetworkLimitsIndexBenchmark {
+
+    private static final List<String> BRANCH_IDS = List.of(EurostagTutorialExample1Factory.NHV1_NHV2_1, "NHV1_NHV2_2",
+        EurostagTutorialExample1Factory.NGEN_NHV1, "NHV2_NLOAD");
+
+    private static final List<String> VOLTAGE_LEVEL_IDS = List.of("VLHV1", "VLHV2");
+
+    @Param({"1000", "10000"})
+    private int contingencyCount;
+
+    private Network network;
+
+    private List<LimitViolation> limitViolations;
+
+    private Map<String, SubjectLimitViolationEntity> subjectLimitViolationsBySubjectId;
+
+    @Setup
+    public void setUp() {
+        network = EurostagTutorialExample1Factory.createWithFixedCurrentLimits(new NetworkFactoryImpl());
+        Random random = new Random(42);
+        limitViolations = new ArrayList<>();
+        for (int i = 0; i < contingencyCount; i++) {
+            // the first line is violated in every contingency, the others more and more rarely
+            for (int j = 0; j < BRANCH_IDS.size(); j++) {
+                if (random.nextInt(BRANCH_IDS.size() * 2) < BRANCH_IDS.size() * 2 - j * 2) {
+                    limitViolations.add(currentViolation(BRANCH_IDS.get(j), random.nextBoolean() ? TwoSides.ONE : TwoSides.TWO, random));
+                }
+            }
+            if (random.nextInt(10) == 0) {
+                String voltageLevelId = VOLTAGE_LEVEL_IDS.get(random.nextInt(VOLTAGE_LEVEL_IDS.size()));
+                limitViolations.add(new LimitViolation(voltageLevelId, LimitViolationType.HIGH_VOLTAGE, LoadingLimits.DEFAULT_PERMANENT_LIMIT_NAME, 0, 400, 1, 400 + random.nextDouble() * 20));
+            }
+        }
+        subjectLimitViolationsBySubjectId = limitViolations.stream()
+            .map(LimitViolation::getSubjectId)
+            .distinct()
+            .collect(Collectors.toMap(Function.identity(), subjectId -> new SubjectLimitViolationEntity(subjectId, subjectId)));
+    }
+
+    private static LimitViolation currentViolation(String branchId, TwoSides side, Random random) {
+        return LimitViolation.builder()
+            .subject(branchId)
+            .type(LimitViolationType.CURRENT)
+            .limitName(LoadingLimits.DEFAULT_PERMANENT_LIMIT_NAME)
+            .duration(Integer.MAX_VALUE)
+            .limit(500)
+            .reduction(1)
+            .value(500 + random.nextDouble() * 700)
+            .side(side)
+            .build();
+    }
+
+    @Benchmark
+    public void perViolationLookup(Blackhole blackhole) {
+        for (LimitViolation limitViolation : limitViolations) {
+            blackhole.consume(PerViolationEnrichment.toEntity(network, limitViolation, subjectLimitViolationsBySubjectId.get(limitViolation.getSubjectId())));
+        }
+    }
+
+    @Benchmark
+    public void indexedLookup(Blackhole blackhole) {
+        NetworkLimitsIndex networkLimitsIndex = NetworkLimitsIndex.build(network, limitViolations.stream());
+        for (LimitViolation limitViolation : limitViolations) {
+            blackhole.consume(ContingencyLimitViolationEntity.toEntity(networkLimitsIndex, limitViolation, subjectLimitViolationsBySubjectId.get(limitViolation.getSubjectId())));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearSubjectLimitViolations() {
+        // toEntity links every created violation to its subject, avoid keeping them all from one iteration to another
+        subjectLimitViolationsBySubjectId.replaceAll((subjectId, subject) -> new SubjectLimitViolationEntity(subjectId, subjectId));
+    }
+
+    /**
+     * The enrichment as it was implemented before the network limits index, kept here as the benchmark baseline :
+     * the branch and its current limits are looked up in the network for every computed value of every violation.
+     */
+    static final class PerViolationEnrichment {
+        private PerViolationEnrichment() {
+        }
+
+        static ContingencyLimitViolationEntity toEntity(Network network, LimitViolation limitViolation, SubjectLimitViolationEntity subjectLimitViolation) {
+            Double patlLimit = getPatlLimit(limitViolation, network);
+            ContingencyLimitViolationEntity contingencyLimitViolationEntity = ContingencyLimitViolationEntity.builder()
+                .limit(limitViolation.getLimit())
+                .limitName(limitViolation.getLimitName())
+                .operationalLimitsGroupId(limitViolation.getOperationalLimitsGroupId())
+                .limitType(limitViolation.getLimitType())
+                .limitReduction(limitViolation.getLimitReduction())
+                .value(limitViolation.getValue())
+                .side(limitViolation.getSide())
+                .loading(computeLoading(limitViolation, limitViolation.getLimit()))
+                .subjectLimitViolation(subjectLimitViolation)
+                .upcomingAcceptableDuration(limitViolation.getValue() < limitViolation.getLimit() ? limitViolation.getAcceptableDuration() : null)
+                .patlLimit(patlLimit)
+                .patlLoading(computeLoading(limitViolation, patlLimit))
+                .nextLimitName(getNextLimitName(limitViolation, network))
+                .locationId(ComputationResultUtils.getViolationLocationId(limitViolation, network))
+                .acceptableDuration(calculateActualOverloadDuration(limitViolation, network))
+                .build();
+            subjectLimitViolation.addContingencyLimitViolation(contingencyLimitViolationEntity);
+            return contingencyLimitViolationEntity;
+        }
+
+        private static Double computeLoading(LimitViolation limitViolation, Double limit) {
+            return LimitViolationType.CURRENT.equals(limitViolation.getLimitType()) && limit != null
+                ? 100 * limitViolation.getValue() / limit
+                : null;
+        }
+
+        private static Double getPatlLimit(LimitViolation limitViolation, Network network) {
+            Branch<?> branch = network.getBranch(limitViolation.getSubjectId());
+            ThreeSides limitViolationSide = limitViolation.getSide();
+            if (branch == null || limitViolationSide == null) {
+                return null;
+            }
+            return branch.getCurrentLimits(limitViolationSide.toTwoSides()).map(CurrentLimits::getPermanentLimit).orElse(null);
+        }
+
+        private static String getNextLimitName(LimitViolation limitViolation, Network network) {
+            Branch<?> branch = network.getBranch(limitViolation.getSubjectId());
+            if (branch == null) {
+                return null;
+            }
+            LoadingLimits.TemporaryLimit temporaryLimit = getNextTemporaryLimit(branch, limitViolation);
+            return temporaryLimit != null ? temporaryLimit.getName() : null;
+        }
+
+        private static LoadingLimits.TemporaryLimit getNextTemporaryLimit(Branch<?> branch, LimitViolation limitViolation) {
+            ThreeSides limitViolationSide = limitViolation.getSide();
+            String limitName = limitViolation.getLimitName();
+            if (limitViolationSide == null || limitName == null) {
+                return null;
+            }
+            Optional<CurrentLimits> currentLimits = branch.getCurrentLimits(limitViolationSide.toTwoSides());
+            if (currentLimits.isEmpty()) {
+                return null;
+            }
+            Collection<LoadingLimits.TemporaryLimit> temporaryLimits = currentLimits.get().getTemporaryLimits();
+            if (limitName.equals(LoadingLimits.DEFAULT_PERMANENT_LIMIT_NAME)) {
+                return temporaryLimits.stream().findFirst().orElse(null);
+            }
+            Iterator<LoadingLimits.TemporaryLimit> temporaryLimitIterator = temporaryLimits.iterator();
+            while (temporaryLimitIterator.hasNext()) {
+                if (temporaryLimitIterator.next().getName().equals(limitName)) {
+                    return temporaryLimitIterator.hasNext() ? temporaryLimitIterator.next() : null;
+                }
+            }
+            return null;
+        }
+
+        private static Integer calculateActualOverloadDuration(LimitViolation limitViolation, Network network) {
+            if (limitViolation.getValue() > limitViolation.getLimit()) {
+                return limitViolation.getAcceptableDuration();
+            }
+            Branch<?> branch = network.getBranch(limitViolation.getSubjectId());
+            if (branch == null) {
+                return null;
+            }
+            Optional<CurrentLimits> currentLimits = branch.getCurrentLimits(limitViolation.getSideAsTwoSides());
+            if (currentLimits.isEmpty() || limitViolation.getValue() < currentLimits.get().getPermanentLimit()) {
+                return null;
+            }
+            return currentLimits.get().getTemporaryLimits().stream()
+                .filter(temporaryLimit -> limitViolation.getValue() < temporaryLimit.getValue())
+                .findFirst()
+                .map(LoadingLimits.TemporaryLimit::getAcceptableDuration)
+                .orElse(null);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(NetworkLimitsIndexBenchmark.class.getSimpleName()).build()).run();
+    }
+}
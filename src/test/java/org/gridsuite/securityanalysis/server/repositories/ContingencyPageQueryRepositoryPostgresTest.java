@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.repositories;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+import org.gridsuite.computation.dto.ResourceFilterDTO;
+import org.gridsuite.computation.utils.SpecificationUtils;
+import org.gridsuite.securityanalysis.server.dto.ContingencyResultDTO;
+import org.gridsuite.securityanalysis.server.dto.SecurityAnalysisStatus;
+import org.gridsuite.securityanalysis.server.entities.AbstractLimitViolationEntity;
+import org.gridsuite.securityanalysis.server.entities.ContingencyEntity;
+import org.gridsuite.securityanalysis.server.service.SecurityAnalysisResultService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.gridsuite.securityanalysis.server.SecurityAnalysisProviderMock.RESULT;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The native contingency pages are only read on PostgreSQL : they are compared to the JPA pages on a PostgreSQL container.
+ * Skipped when docker is not available.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class ContingencyPageQueryRepositoryPostgresTest {
+    private static final String CHILD_PREFIX = ContingencyEntity.Fields.contingencyLimitViolations + SpecificationUtils.FIELD_SEPARATOR;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.jpa.database", () -> "POSTGRESQL");
+        registry.add("spring.jpa.properties.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    }
+
+    @Autowired
+    private SecurityAnalysisResultService securityAnalysisResultService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final UUID resultUuid = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        securityAnalysisResultService.insertStatus(List.of(resultUuid), SecurityAnalysisStatus.RUNNING, UUID.randomUUID());
+        securityAnalysisResultService.insert(network, resultUuid, RESULT, SecurityAnalysisStatus.CONVERGED);
+    }
+
+    @Test
+    void sortedPagesTest() throws Exception {
+        assertSamePages(List.of(), PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, ContingencyEntity.Fields.contingencyId)));
+        assertSamePages(List.of(), PageRequest.of(1, 3, Sort.by(ContingencyEntity.Fields.status).and(Sort.by(ContingencyEntity.Fields.contingencyId))));
+        assertSamePages(List.of(), PageRequest.of(0, 5, Sort.by(ContingencyEntity.Fields.contingencyId)
+            .and(Sort.by(Sort.Direction.DESC, CHILD_PREFIX + AbstractLimitViolationEntity.Fields.loading))));
+    }
+
+    @Test
+    void filteredPagesTest() throws Exception {
+        PageRequest pageRequest = PageRequest.of(0, 4, Sort.by(ContingencyEntity.Fields.contingencyId));
+        assertSamePages(List.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.STARTS_WITH, "l", ContingencyEntity.Fields.contingencyId)),
+            pageRequest);
+        assertSamePages(List.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.EQUALS, List.of("CURRENT"),
+            CHILD_PREFIX + AbstractLimitViolationEntity.Fields.limitType)), pageRequest);
+        assertSamePages(List.of(
+            new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.CONTAINS, "1", ContingencyEntity.Fields.contingencyId),
+            new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.EQUALS, List.of("HIGH_VOLTAGE", "CURRENT"),
+                CHILD_PREFIX + AbstractLimitViolationEntity.Fields.limitType)
+        ), PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, ContingencyEntity.Fields.contingencyId)));
+    }
+
+    private void assertSamePages(List<ResourceFilterDTO> filters, Pageable pageable) throws Exception {
+        // the native query is used for these filters and sorts, the sort of the limit violations being given apart as by the service
+        Sort.Order limitViolationOrder = pageable.getSort().stream().filter(order -> order.getProperty().startsWith(CHILD_PREFIX)).findFirst().orElse(null);
+        Pageable contingencyPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+            Sort.by(pageable.getSort().filter(order -> !order.getProperty().startsWith(CHILD_PREFIX)).toList()));
+        assertTrue(ContingencyPageQueryRepository.buildPageQuery(resultUuid, filters, contingencyPageable, limitViolationOrder).isPresent());
+
+        String stringFilters = URLEncoder.encode(objectMapper.writeValueAsString(filters), StandardCharsets.UTF_8);
+        Page<ContingencyResultDTO> nativePage = securityAnalysisResultService.findNmKContingenciesPaged(resultUuid, null, null, stringFilters, null, pageable);
+        Page<ContingencyResultDTO> jpaPage = new TransactionTemplate(transactionManager).execute(status ->
+            securityAnalysisResultService.findContingenciesPage(resultUuid, filters, pageable).map(ContingencyResultDTO::toDto));
+
+        assertNotNull(jpaPage);
+        assertFalse(jpaPage.isEmpty());
+        assertEquals(jpaPage.getTotalElements(), nativePage.getTotalElements());
+        assertEquals(objectMapper.valueToTree(jpaPage.getContent()), objectMapper.valueToTree(nativePage.getContent()));
+    }
+}
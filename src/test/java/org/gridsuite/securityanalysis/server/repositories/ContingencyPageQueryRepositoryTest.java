@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.repositories;
+
+import org.gridsuite.computation.dto.ResourceFilterDTO;
+import org.gridsuite.computation.utils.SpecificationUtils;
+import org.gridsuite.securityanalysis.server.entities.AbstractLimitViolationEntity;
+import org.gridsuite.securityanalysis.server.entities.ContingencyElementEmbeddable;
+import org.gridsuite.securityanalysis.server.entities.ContingencyEntity;
+import org.gridsuite.securityanalysis.server.entities.ContingencyLimitViolationEntity;
+import org.gridsuite.securityanalysis.server.entities.LimitViolationsAggregatesEmbeddable;
+import org.gridsuite.securityanalysis.server.entities.SubjectLimitViolationEntity;
+import org.gridsuite.securityanalysis.server.repositories.ContingencyPageQueryRepository.PageQuery;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContingencyPageQueryRepositoryTest {
+    private static final String CHILD_PREFIX = ContingencyEntity.Fields.contingencyLimitViolations + SpecificationUtils.FIELD_SEPARATOR;
+    private static final UUID RESULT_UUID = UUID.randomUUID();
+    private static final PageRequest PAGE = PageRequest.of(2, 10, Sort.by(Sort.Direction.DESC, ContingencyEntity.Fields.contingencyId)
+        .and(Sort.by(ContingencyEntity.Fields.uuid)));
+
+    @Test
+    void pageQueryTest() {
+        List<ResourceFilterDTO> filters = List.of(
+            new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.CONTAINS, "50%_", ContingencyEntity.Fields.contingencyId),
+            new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.EQUALS, List.of("CURRENT", "HIGH_VOLTAGE"),
+                CHILD_PREFIX + AbstractLimitViolationEntity.Fields.limitType),
+            new ResourceFilterDTO(ResourceFilterDTO.DataType.BOOLEAN, ResourceFilterDTO.Type.EQUALS, true, CHILD_PREFIX + ContingencyLimitViolationEntity.Fields.isWorstSide)
+        );
+        PageQuery pageQuery = ContingencyPageQueryRepository.buildPageQuery(RESULT_UUID, filters, PAGE,
+            Sort.Order.desc(CHILD_PREFIX + AbstractLimitViolationEntity.Fields.loading)).orElseThrow();
+
+        assertTrue(pageQuery.sql().contains("ORDER BY c.contingency_id DESC, c.uuid ASC LIMIT 10 OFFSET 20"));
+        assertTrue(pageQuery.sql().contains("ORDER BY clv.loading DESC NULLS FIRST, clv.id"));
+        assertTrue(pageQuery.sql().contains("UPPER(c.contingency_id) LIKE ?"));
+        assertTrue(pageQuery.sql().contains("EXISTS (SELECT 1 FROM contingency_limit_violation clv"));
+        // the violation parameters are bound in the contingency filter then in the aggregation of the violations
+        assertEquals(List.of(RESULT_UUID, "%50\\%\\_%", "CURRENT", "HIGH_VOLTAGE", true, "CURRENT", "HIGH_VOLTAGE", true), pageQuery.parameters());
+    }
+
+    @Test
+    void noViolationFilterTest() {
+        PageQuery pageQuery = ContingencyPageQueryRepository.buildPageQuery(RESULT_UUID, List.of(), PAGE, null).orElseThrow();
+
+        assertTrue(pageQuery.sql().contains("c.status <> 'CONVERGED' OR EXISTS"));
+        assertTrue(pageQuery.sql().contains("ORDER BY s.subject_id COLLATE \"C\" NULLS LAST, clv.id"));
+        assertEquals(List.of(RESULT_UUID), pageQuery.parameters());
+    }
+
+    @Test
+    void unsupportedQueriesTest() {
+        // number filters, not equal filters and ignore case sorts are left to the JPA queries
+        assertTrue(ContingencyPageQueryRepository.buildPageQuery(RESULT_UUID, List.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.NUMBER,
+            ResourceFilterDTO.Type.GREATER_THAN_OR_EQUAL, 100, CHILD_PREFIX + AbstractLimitViolationEntity.Fields.loading)), PAGE, null).isEmpty());
+        assertTrue(ContingencyPageQueryRepository.buildPageQuery(RESULT_UUID, List.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT,
+            ResourceFilterDTO.Type.NOT_EQUAL, "line", ContingencyEntity.Fields.contingencyId)), PAGE, null).isEmpty());
+        assertTrue(ContingencyPageQueryRepository.buildPageQuery(RESULT_UUID, List.of(), PageRequest.of(0, 10, Sort.by(Sort.Order.asc(ContingencyEntity.Fields.contingencyId).ignoreCase())),
+            null).isEmpty());
+        assertTrue(ContingencyPageQueryRepository.buildPageQuery(RESULT_UUID, List.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT,
+            ResourceFilterDTO.Type.STARTS_WITH, "line", CHILD_PREFIX + AbstractLimitViolationEntity.Fields.subjectLimitViolation + SpecificationUtils.FIELD_SEPARATOR
+                + SubjectLimitViolationEntity.Fields.subjectId)), PAGE, null).isPresent());
+    }
+
+    @Test
+    void limitViolationsAggregatesTest() {
+        String aggregatesPrefix = ContingencyEntity.Fields.limitViolationsAggregates + SpecificationUtils.FIELD_SEPARATOR;
+        PageQuery pageQuery = ContingencyPageQueryRepository.buildPageQuery(RESULT_UUID, List.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT,
+                ResourceFilterDTO.Type.EQUALS, List.of("CURRENT"), aggregatesPrefix + LimitViolationsAggregatesEmbeddable.Fields.worstLimitType)),
+            PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, aggregatesPrefix + LimitViolationsAggregatesEmbeddable.Fields.maxLoading).and(Sort.by(ContingencyEntity.Fields.uuid))),
+            null).orElseThrow();
+
+        assertTrue(pageQuery.sql().contains("ORDER BY c.max_loading DESC, c.uuid ASC LIMIT 10 OFFSET 0"));
+        assertTrue(pageQuery.sql().contains("c.worst_limit_type IN (?)"));
+        // the number filters of the aggregates are left to the JPA queries
+        assertTrue(ContingencyPageQueryRepository.buildPageQuery(RESULT_UUID, List.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.NUMBER,
+            ResourceFilterDTO.Type.GREATER_THAN_OR_EQUAL, 2, aggregatesPrefix + LimitViolationsAggregatesEmbeddable.Fields.violationCount)), PAGE, null).isEmpty());
+    }
+
+    @Test
+    void aggregationsQueryTest() {
+        List<ResourceFilterDTO> filters = List.of(
+            new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.STARTS_WITH, "line", ContingencyEntity.Fields.contingencyId),
+            new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.EQUALS, List.of("CURRENT"), CHILD_PREFIX + AbstractLimitViolationEntity.Fields.limitType)
+        );
+        PageQuery aggregationsQuery = ContingencyPageQueryRepository.buildAggregationsQuery(RESULT_UUID, filters, 10, 60).orElseThrow();
+
+        assertTrue(aggregationsQuery.sql().contains("WHERE clv.contingency_uuid = ANY (SELECT fc.uuid FROM filtered_contingency fc) AND clv.limit_type IN (?)"));
+        assertTrue(aggregationsQuery.sql().contains("floor(loading / CAST(? AS float8)) * CAST(? AS float8)"));
+        // the violation parameters are bound in the contingency filter then in the filter of the aggregated violations, before the bucket widths
+        assertEquals(List.of(RESULT_UUID, "LINE%", "CURRENT", "CURRENT", 10.0, 10.0, 60.0, 60.0), aggregationsQuery.parameters());
+        assertTrue(ContingencyPageQueryRepository.buildAggregationsQuery(RESULT_UUID, List.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.NUMBER,
+            ResourceFilterDTO.Type.GREATER_THAN_OR_EQUAL, 100, CHILD_PREFIX + AbstractLimitViolationEntity.Fields.loading)), 10, 60).isEmpty());
+    }
+
+    @Test
+    void globalFilterTest() {
+        PageQuery pageQuery = ContingencyPageQueryRepository.buildPageQuery(RESULT_UUID, List.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT,
+            ResourceFilterDTO.Type.EQUALS, List.of("line1", "line2"), ContingencyEntity.Fields.contingencyElements + SpecificationUtils.FIELD_SEPARATOR
+                + ContingencyElementEmbeddable.Fields.elementId)), PAGE, null).orElseThrow();
+
+        assertTrue(pageQuery.sql().contains("EXISTS (SELECT 1 FROM contingency_entity_contingency_elements e WHERE e.contingency_entity_uuid = c.uuid AND e.element_id IN (?, ?))"));
+        assertEquals(List.of(RESULT_UUID, "line1", "line2"), pageQuery.parameters());
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.repositories;
+
+import org.gridsuite.computation.dto.ResourceFilterDTO;
+import org.gridsuite.securityanalysis.server.dto.LimitViolationDiffDTO;
+import org.gridsuite.securityanalysis.server.repositories.ContingencyPageQueryRepository.PageQuery;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultDiffQueryRepositoryTest {
+    private static final UUID BASE_RESULT_UUID = UUID.randomUUID();
+    private static final UUID COMPARED_RESULT_UUID = UUID.randomUUID();
+
+    @Test
+    void diffQueryTest() {
+        List<ResourceFilterDTO> filters = List.of(
+            new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.STARTS_WITH, "line", LimitViolationDiffDTO.Fields.subjectId),
+            new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.EQUALS, List.of("CURRENT"), LimitViolationDiffDTO.Fields.limitType)
+        );
+        PageQuery diffQuery = ResultDiffQueryRepository.buildDiffQuery(BASE_RESULT_UUID, COMPARED_RESULT_UUID, filters).orElseThrow();
+
+        assertTrue(diffQuery.sql().contains("WHERE clv.result_id = ? AND UPPER(s.subject_id) LIKE ? AND clv.limit_type IN (?)"));
+        // the limit type is part of the key, a limit violation is matched with at most one of the other result
+        assertTrue(diffQuery.sql().contains("AND COALESCE(cp.limit_type, '') = COALESCE(b.limit_type, '')"));
+        // the unchanged limit violations are left out without filter on the status
+        assertTrue(diffQuery.sql().endsWith(") d WHERE d.diff_status <> 'UNCHANGED'"));
+        // the key filters are bound for the limit violations of each result in each branch of the union
+        assertEquals(List.of(BASE_RESULT_UUID, "LINE%", "CURRENT", COMPARED_RESULT_UUID, "LINE%", "CURRENT", COMPARED_RESULT_UUID, "LINE%", "CURRENT",
+            BASE_RESULT_UUID, "LINE%", "CURRENT"), diffQuery.parameters());
+    }
+
+    @Test
+    void statusFilterTest() {
+        PageQuery diffQuery = ResultDiffQueryRepository.buildDiffQuery(BASE_RESULT_UUID, COMPARED_RESULT_UUID, List.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT,
+            ResourceFilterDTO.Type.EQUALS, List.of("UNCHANGED"), LimitViolationDiffDTO.Fields.status))).orElseThrow();
+
+        assertTrue(diffQuery.sql().endsWith(") d WHERE d.diff_status IN (?)"));
+        assertEquals(List.of(BASE_RESULT_UUID, COMPARED_RESULT_UUID, COMPARED_RESULT_UUID, BASE_RESULT_UUID, "UNCHANGED"), diffQuery.parameters());
+    }
+
+    @Test
+    void unsupportedFilterTest() {
+        assertTrue(ResultDiffQueryRepository.buildDiffQuery(BASE_RESULT_UUID, COMPARED_RESULT_UUID, List.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.NUMBER,
+            ResourceFilterDTO.Type.GREATER_THAN_OR_EQUAL, 100, LimitViolationDiffDTO.Fields.baseLoading))).isEmpty());
+        assertTrue(ResultDiffQueryRepository.buildDiffQuery(BASE_RESULT_UUID, COMPARED_RESULT_UUID, List.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT,
+            ResourceFilterDTO.Type.CONTAINS, "vl", "locationId"))).isEmpty());
+    }
+
+    @Test
+    void orderTest() {
+        assertEquals("d.compared_loading DESC NULLS LAST, d.contingency_id, d.subject_id, d.side NULLS FIRST, d.limit_name NULLS FIRST, d.limit_type NULLS FIRST",
+            ResultDiffQueryRepository.order(Sort.by(Sort.Direction.DESC, LimitViolationDiffDTO.Fields.comparedLoading)));
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.repositories;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ResultPartitionRepositoryTest {
+    @Test
+    void partitionNamesTest() {
+        UUID resultUuid = UUID.fromString("0c8a6e4e-8d0b-4c9b-9b1e-3d2c4f5a6b7c");
+        Map<String, String> partitionNames = ResultPartitionRepository.partitionNames(resultUuid);
+
+        // same names as the ones of the migration procedure
+        assertEquals(Map.of(
+            "contingency", "contingency_0c8a6e4e8d0b4c9b9b1e3d2c4f5a6b7c",
+            "contingency_limit_violation", "clv_0c8a6e4e8d0b4c9b9b1e3d2c4f5a6b7c",
+            "pre_contingency_limit_violation", "pclv_0c8a6e4e8d0b4c9b9b1e3d2c4f5a6b7c",
+            "subject_limit_violation", "slv_0c8a6e4e8d0b4c9b9b1e3d2c4f5a6b7c"
+        ), partitionNames);
+        partitionNames.values().forEach(partitionName -> assertTrue(partitionName.length() <= 63));
+    }
+
+    @Test
+    void notPartitionedTest() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(false);
+        ResultPartitionRepository resultPartitionRepository = new ResultPartitionRepository(jdbcTemplate, mock(DataSource.class), mock(PlatformTransactionManager.class));
+        UUID resultUuid = UUID.randomUUID();
+
+        assertFalse(resultPartitionRepository.isPartitioned());
+        resultPartitionRepository.createPartitions(resultUuid);
+        assertFalse(resultPartitionRepository.hasPartitions(resultUuid));
+        assertEquals(0, resultPartitionRepository.dropPartitions(resultUuid));
+
+        // the partitioning is read once
+        verify(jdbcTemplate, times(1)).execute(any(ConnectionCallback.class));
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.repositories;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+import org.gridsuite.securityanalysis.server.dto.SecurityAnalysisStatus;
+import org.gridsuite.securityanalysis.server.entities.SecurityAnalysisResultEntity;
+import org.gridsuite.securityanalysis.server.service.SecurityAnalysisResultService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.gridsuite.securityanalysis.server.SecurityAnalysisProviderMock.RESULT;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The binary COPY of the bulk insertion is only used on PostgreSQL : the rows it writes are compared to the ones of the entity path
+ * on a PostgreSQL container, table by table and column by column, the generated ids being replaced by the natural keys they reference.
+ * A value encoded with another width than its column type fails the COPY, a shift in the column order makes the rows differ.
+ * Skipped when docker is not available.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class SecurityAnalysisResultBulkRepositoryPostgresTest {
+    // rows of each table as json, without the generated ids
+    private static final Map<String, String> ROWS_QUERIES = new LinkedHashMap<>();
+
+    static {
+        ROWS_QUERIES.put("security_analysis_result", """
+            SELECT (to_jsonb(r) - 'id' - 'creation_date')::text FROM security_analysis_result r WHERE r.id = ?
+            """);
+        ROWS_QUERIES.put("subject_limit_violation", """
+            SELECT (to_jsonb(s) - 'id' - 'result_id')::text FROM subject_limit_violation s WHERE s.result_id = ? ORDER BY 1
+            """);
+        ROWS_QUERIES.put("contingency", """
+            SELECT (to_jsonb(c) - 'uuid' - 'result_id')::text FROM contingency c WHERE c.result_id = ? ORDER BY 1
+            """);
+        ROWS_QUERIES.put("contingency_entity_contingency_elements", """
+            SELECT ((to_jsonb(e) - 'contingency_entity_uuid') || jsonb_build_object('contingency_id', c.contingency_id))::text
+            FROM contingency_entity_contingency_elements e JOIN contingency c ON c.uuid = e.contingency_entity_uuid
+            WHERE c.result_id = ? ORDER BY 1
+            """);
+        ROWS_QUERIES.put("contingency_limit_violation", """
+            SELECT ((to_jsonb(clv) - 'id' - 'subject_limit_violation_id' - 'contingency_uuid' - 'result_id')
+                || jsonb_build_object('subject_id', s.subject_id, 'contingency_id', c.contingency_id))::text
+            FROM contingency_limit_violation clv
+            JOIN contingency c ON c.uuid = clv.contingency_uuid
+            LEFT JOIN subject_limit_violation s ON s.id = clv.subject_limit_violation_id
+            WHERE clv.result_id = ? ORDER BY 1
+            """);
+        ROWS_QUERIES.put("pre_contingency_limit_violation", """
+            SELECT ((to_jsonb(pclv) - 'id' - 'subject_limit_violation_id' - 'result_id') || jsonb_build_object('subject_id', s.subject_id))::text
+            FROM pre_contingency_limit_violation pclv
+            LEFT JOIN subject_limit_violation s ON s.id = pclv.subject_limit_violation_id
+            WHERE pclv.result_id = ? ORDER BY 1
+            """);
+    }
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.jpa.database", () -> "POSTGRESQL");
+        registry.add("spring.jpa.properties.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    }
+
+    @Autowired
+    private SecurityAnalysisResultService securityAnalysisResultService;
+
+    @Autowired
+    private SecurityAnalysisResultBulkRepository securityAnalysisResultBulkRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void copyWritesSameRowsAsEntityInsertTest() {
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        UUID entityResultUuid = UUID.randomUUID();
+        UUID copyResultUuid = UUID.randomUUID();
+        securityAnalysisResultService.insert(network, entityResultUuid, RESULT, SecurityAnalysisStatus.CONVERGED);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> securityAnalysisResultBulkRepository.insert(
+            SecurityAnalysisResultEntity.toEntity(network, copyResultUuid, RESULT, SecurityAnalysisStatus.CONVERGED)));
+
+        ROWS_QUERIES.forEach((table, rowsQuery) -> {
+            List<String> entityRows = jdbcTemplate.queryForList(rowsQuery, String.class, entityResultUuid);
+            assertFalse(entityRows.isEmpty(), table);
+            assertEquals(entityRows, jdbcTemplate.queryForList(rowsQuery, String.class, copyResultUuid), table);
+        });
+    }
+}
@@ -0,0 +1,228 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import org.gridsuite.securityanalysis.server.dto.CsvTranslationDTO;
+import org.gridsuite.securityanalysis.server.dto.ExportJobInfos;
+import org.gridsuite.securityanalysis.server.dto.ExportJobInfos.ExportJobStatus;
+import org.gridsuite.securityanalysis.server.dto.ExportType;
+import org.gridsuite.securityanalysis.server.error.SecurityAnalysisException;
+import org.gridsuite.securityanalysis.server.repositories.CsvExportJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class CsvExportJobServiceTest {
+    private static final CsvTranslationDTO CSV_TRANSLATIONS = new CsvTranslationDTO(List.of("subjectId"), Map.of(), "en");
+    private static final byte[] CONTENT = "zipped csv".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path spoolDirectory;
+
+    @Autowired
+    private CsvExportJobRepository csvExportJobRepository;
+
+    private final SecurityAnalysisResultService resultService = mock(SecurityAnalysisResultService.class);
+
+    // the jobs are stored in the database shared by the tests, a result per test
+    private final UUID resultUuid = UUID.randomUUID();
+
+    private final CountDownLatch exportsStarted = new CountDownLatch(1);
+    private final CountDownLatch exportsReleased = new CountDownLatch(1);
+
+    private final List<CsvExportJobService> csvExportJobServices = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        exportsReleased.countDown();
+        csvExportJobServices.forEach(CsvExportJobService::shutdownExecutor);
+    }
+
+    @Test
+    void identicalExportsTest() throws Exception {
+        CsvExportJobService csvExportJobService = createCsvExportJobService(Duration.ofHours(1), 2, 10);
+        mockConstraintsExport();
+
+        ExportJobInfos job = submit(csvExportJobService, "{}");
+        assertEquals(job.id(), submit(csvExportJobService, "{}").id());
+        assertNotEquals(job.id(), submit(csvExportJobService, "[]").id());
+        assertTrue(csvExportJobService.getFile(job.id()).isEmpty());
+
+        exportsReleased.countDown();
+        ExportJobInfos completedJob = waitForEnd(csvExportJobService, job.id());
+        assertEquals(ExportJobStatus.COMPLETED, completedJob.status());
+        assertEquals(Long.valueOf(CONTENT.length), completedJob.size());
+        assertArrayEquals(CONTENT, Files.readAllBytes(csvExportJobService.getFile(job.id()).orElseThrow()));
+        // the export is run again once the previous one has ended
+        assertNotEquals(job.id(), submit(csvExportJobService, "{}").id());
+        verify(resultService, timeout(1000).times(3)).writeNmKConstraintsResultZippedCsv(eq(resultUuid), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void sharedJobsTest() throws Exception {
+        // two instances sharing the database and the spool directory
+        CsvExportJobService csvExportJobService = createCsvExportJobService(Duration.ofHours(1), 2, 10);
+        CsvExportJobService otherCsvExportJobService = createCsvExportJobService(Duration.ofHours(1), 2, 10);
+        mockConstraintsExport();
+
+        ExportJobInfos job = submit(csvExportJobService, "{}");
+        assertEquals(job.id(), submit(otherCsvExportJobService, "{}").id());
+
+        exportsReleased.countDown();
+        assertEquals(ExportJobStatus.COMPLETED, waitForEnd(otherCsvExportJobService, job.id()).status());
+        assertArrayEquals(CONTENT, Files.readAllBytes(otherCsvExportJobService.getFile(job.id()).orElseThrow()));
+        verify(resultService, times(1)).writeNmKConstraintsResultZippedCsv(eq(resultUuid), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void failedExportTest() throws Exception {
+        CsvExportJobService csvExportJobService = createCsvExportJobService(Duration.ofHours(1), 2, 10);
+        doAnswer(invocation -> {
+            invocation.getArgument(7, OutputStream.class).write(CONTENT);
+            throw new IllegalStateException("export error");
+        }).when(resultService).writeNmKConstraintsResultZippedCsv(any(), any(), any(), any(), any(), any(), any(), any());
+
+        ExportJobInfos job = submit(csvExportJobService, "{}");
+        assertEquals(ExportJobStatus.FAILED, waitForEnd(csvExportJobService, job.id()).status());
+        assertTrue(csvExportJobService.getFile(job.id()).isEmpty());
+        assertSpoolDirectoryEmpty();
+    }
+
+    @Test
+    void cancelTest() throws Exception {
+        CsvExportJobService csvExportJobService = createCsvExportJobService(Duration.ofHours(1), 1, 10);
+        CsvExportJobService otherCsvExportJobService = createCsvExportJobService(Duration.ofHours(1), 1, 10);
+        mockConstraintsExport();
+
+        ExportJobInfos runningJob = submit(csvExportJobService, "{}");
+        ExportJobInfos pendingJob = submit(csvExportJobService, "[]");
+        assertTrue(exportsStarted.await(10, TimeUnit.SECONDS));
+
+        // the running job is cancelled from another instance, then stopped at the heartbeat of its instance
+        assertEquals(ExportJobStatus.CANCELLED, otherCsvExportJobService.cancel(runningJob.id()).orElseThrow().status());
+        assertEquals(ExportJobStatus.CANCELLED, csvExportJobService.cancel(pendingJob.id()).orElseThrow().status());
+        csvExportJobService.cleanUp();
+        exportsReleased.countDown();
+
+        // the pending job is not run
+        verify(resultService, after(500).times(1)).writeNmKConstraintsResultZippedCsv(eq(resultUuid), any(), any(), any(), any(), any(), any(), any());
+        assertEquals(ExportJobStatus.CANCELLED, csvExportJobService.getJob(runningJob.id()).orElseThrow().status());
+        assertTrue(csvExportJobService.getFile(runningJob.id()).isEmpty());
+        assertSpoolDirectoryEmpty();
+        // an ended job is left unchanged
+        assertEquals(ExportJobStatus.CANCELLED, csvExportJobService.cancel(runningJob.id()).orElseThrow().status());
+        assertTrue(csvExportJobService.cancel(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void queueFullTest() {
+        CsvExportJobService csvExportJobService = createCsvExportJobService(Duration.ofHours(1), 1, 1);
+        mockConstraintsExport();
+
+        submit(csvExportJobService, "{}");
+        submit(csvExportJobService, "[]");
+        assertThrows(SecurityAnalysisException.class, () -> submit(csvExportJobService, "{\"filter\":1}"));
+    }
+
+    @Test
+    void cleanUpTest() throws Exception {
+        // every ended job has expired
+        CsvExportJobService csvExportJobService = createCsvExportJobService(Duration.ofMinutes(-1), 2, 10);
+        mockConstraintsExport();
+        exportsReleased.countDown();
+
+        ExportJobInfos job = submit(csvExportJobService, "{}");
+        waitForEnd(csvExportJobService, job.id());
+        Path file = csvExportJobService.getFile(job.id()).orElseThrow();
+        // left by an interrupted cleanup
+        Path orphanFile = Files.write(spoolDirectory.resolve(UUID.randomUUID() + ".zip"), CONTENT);
+        csvExportJobService.cleanUp();
+
+        assertTrue(csvExportJobService.getJob(job.id()).isEmpty());
+        assertFalse(Files.exists(file));
+        assertFalse(Files.exists(orphanFile));
+    }
+
+    @Test
+    void cleanUpRunningExportTest() throws Exception {
+        CsvExportJobService csvExportJobService = createCsvExportJobService(Duration.ofHours(1), 2, 10);
+        CsvExportJobService otherCsvExportJobService = createCsvExportJobService(Duration.ofHours(1), 2, 10);
+        mockConstraintsExport();
+
+        ExportJobInfos job = submit(csvExportJobService, "{}");
+        assertTrue(exportsStarted.await(10, TimeUnit.SECONDS));
+        // the file of a running export older than ttl is not deleted by the cleanup of another instance
+        Path partFile = spoolDirectory.resolve(job.id() + ".zip.part");
+        Files.setLastModifiedTime(partFile, FileTime.from(Instant.now().minus(2, ChronoUnit.HOURS)));
+        otherCsvExportJobService.cleanUp();
+        assertTrue(Files.exists(partFile));
+
+        exportsReleased.countDown();
+        assertEquals(ExportJobStatus.COMPLETED, waitForEnd(csvExportJobService, job.id()).status());
+    }
+
+    private CsvExportJobService createCsvExportJobService(Duration ttl, int parallelism, int queueCapacity) {
+        CsvExportJobService csvExportJobService = new CsvExportJobService(resultService, csvExportJobRepository, spoolDirectory, ttl, parallelism, queueCapacity);
+        csvExportJobServices.add(csvExportJobService);
+        return csvExportJobService;
+    }
+
+    private void mockConstraintsExport() {
+        doAnswer(invocation -> {
+            exportsStarted.countDown();
+            if (!exportsReleased.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("The export has not been released");
+            }
+            invocation.getArgument(7, OutputStream.class).write(CONTENT);
+            return null;
+        }).when(resultService).writeNmKConstraintsResultZippedCsv(any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    private ExportJobInfos submit(CsvExportJobService csvExportJobService, String filters) {
+        return csvExportJobService.submit(resultUuid, ExportType.NMK_CONSTRAINTS, null, null, filters, null, Sort.by("subjectId"), CSV_TRANSLATIONS);
+    }
+
+    private void assertSpoolDirectoryEmpty() throws Exception {
+        try (var files = Files.list(spoolDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private static ExportJobInfos waitForEnd(CsvExportJobService csvExportJobService, UUID jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        ExportJobInfos job = csvExportJobService.getJob(jobId).orElseThrow();
+        while ((job.status() == ExportJobStatus.PENDING || job.status() == ExportJobStatus.RUNNING) && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+            job = csvExportJobService.getJob(jobId).orElseThrow();
+        }
+        return job;
+    }
+}
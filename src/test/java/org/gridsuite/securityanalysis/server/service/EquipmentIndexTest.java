@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.gridsuite.computation.dto.GlobalFilter;
+import org.gridsuite.filter.utils.EquipmentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EquipmentIndexTest {
+    private static final List<EquipmentType> SUBJECT_TYPES = List.of(EquipmentType.LINE, EquipmentType.TWO_WINDINGS_TRANSFORMER, EquipmentType.VOLTAGE_LEVEL);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void globalFiltersTest() throws JsonProcessingException {
+        // P1 (FR) : VLGEN 24kV, VLHV1 380kV - P2 (BE) : VLHV2 380kV, VLLOAD 150kV
+        Network network = EurostagTutorialExample1Factory.create();
+        network.getSubstation("P1").setCountry(Country.FR);
+        network.getSubstation("P2").setCountry(Country.BE);
+        network.getSubstation("P1").setProperty("region", "north");
+        EquipmentIndex index = new EquipmentIndex(network);
+
+        assertEquals(Set.of("NHV1_NHV2_1", "NHV1_NHV2_2", "NHV2_NLOAD", "VLHV2", "VLLOAD"),
+            findIds(index, GlobalFilter.builder().countryCode(List.of(Country.BE)).build(), SUBJECT_TYPES));
+        // the criteria may be matched by different sides
+        assertEquals(Set.of("NHV1_NHV2_1", "NHV1_NHV2_2", "NHV2_NLOAD"),
+            findIds(index, GlobalFilter.builder().countryCode(List.of(Country.BE)).voltageRanges(List.of(List.of(300, 400))).build(),
+                List.of(EquipmentType.LINE, EquipmentType.TWO_WINDINGS_TRANSFORMER)));
+        assertEquals(Set.of("NGEN_NHV1", "VLGEN"),
+            findIds(index, GlobalFilter.builder().countryCode(List.of(Country.FR)).voltageRanges(List.of(List.of(0, 30), List.of(100, 200))).build(),
+                List.of(EquipmentType.TWO_WINDINGS_TRANSFORMER, EquipmentType.VOLTAGE_LEVEL)));
+        assertEquals(Set.of("GEN"), findIds(index, "{\"substationProperty\":{\"region\":[\"north\",\"south\"]}}",
+            List.of(EquipmentType.GENERATOR, EquipmentType.LOAD)));
+        assertEquals(Set.of(), findIds(index, GlobalFilter.builder().countryCode(List.of(Country.DE)).build(), SUBJECT_TYPES));
+        assertTrue(index.estimatedSize() > 0);
+    }
+
+    @Test
+    void unsupportedGlobalFiltersTest() throws JsonProcessingException {
+        assertTrue(EquipmentIndex.Criteria.of(objectMapper.valueToTree(GlobalFilter.builder().genericFilter(List.of(UUID.randomUUID()))
+            .countryCode(List.of(Country.FR)).build())).isEmpty());
+        assertTrue(EquipmentIndex.Criteria.of(objectMapper.readTree("{\"unknownCriterion\":[\"value\"]}")).isEmpty());
+        assertEquals(0, EquipmentIndex.Criteria.of(objectMapper.valueToTree(GlobalFilter.builder().genericFilter(List.of()).build())).orElseThrow().count());
+        assertTrue(EquipmentIndex.isIndexed(SUBJECT_TYPES));
+    }
+
+    private Set<String> findIds(EquipmentIndex index, GlobalFilter globalFilter, List<EquipmentType> equipmentTypes) {
+        return Set.copyOf(index.findIds(EquipmentIndex.Criteria.of(objectMapper.valueToTree(globalFilter)).orElseThrow(), equipmentTypes));
+    }
+
+    private Set<String> findIds(EquipmentIndex index, String globalFilter, List<EquipmentType> equipmentTypes) throws JsonProcessingException {
+        return Set.copyOf(index.findIds(EquipmentIndex.Criteria.of(objectMapper.readTree(globalFilter)).orElseThrow(), equipmentTypes));
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import org.gridsuite.securityanalysis.server.entities.SubjectLimitViolationEntity;
+import org.gridsuite.securityanalysis.server.repositories.ContingencyLimitViolationRepository;
+import org.gridsuite.securityanalysis.server.repositories.SubjectLimitViolationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HotResultIndexesTest {
+    private static final PageRequest PAGE_REQUEST = PageRequest.of(0, 10, Sort.by(SubjectLimitViolationEntity.Fields.id));
+
+    private final ContingencyLimitViolationRepository contingencyLimitViolationRepository = mock(ContingencyLimitViolationRepository.class);
+    private final SubjectLimitViolationRepository subjectLimitViolationRepository = mock(SubjectLimitViolationRepository.class);
+    private final UUID resultUuid = UUID.randomUUID();
+
+    @Test
+    void overBudgetResultTest() {
+        when(subjectLimitViolationRepository.findIdsByResultIdOrderById(resultUuid)).thenReturn(List.of(UUID.randomUUID()));
+        HotResultIndexes hotResultIndexes = new HotResultIndexes(contingencyLimitViolationRepository, subjectLimitViolationRepository, true, 1);
+
+        // the index exceeding the budget is used for the page which loaded it, then the result is read in SQL without loading it again
+        assertTrue(hotResultIndexes.findSubjectLimitViolationIds(resultUuid, List.of(), PAGE_REQUEST).isPresent());
+        assertTrue(hotResultIndexes.findSubjectLimitViolationIds(resultUuid, List.of(), PAGE_REQUEST).isEmpty());
+        verify(subjectLimitViolationRepository, times(1)).findIdsByResultIdOrderById(resultUuid);
+
+        // until the result changes
+        hotResultIndexes.evict(resultUuid);
+        assertTrue(hotResultIndexes.findSubjectLimitViolationIds(resultUuid, List.of(), PAGE_REQUEST).isPresent());
+        verify(subjectLimitViolationRepository, times(2)).findIdsByResultIdOrderById(resultUuid);
+    }
+
+    @Test
+    void singleLoadingTest() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch loaded = new CountDownLatch(1);
+        when(contingencyLimitViolationRepository.findIndexedLimitViolations(resultUuid)).thenAnswer(invocation -> {
+            loading.countDown();
+            loaded.await();
+            return List.of();
+        });
+        when(subjectLimitViolationRepository.findIdsByResultIdOrderById(resultUuid)).thenReturn(List.of(UUID.randomUUID()));
+        HotResultIndexes hotResultIndexes = new HotResultIndexes(contingencyLimitViolationRepository, subjectLimitViolationRepository, true, 1_000_000);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<Page<UUID>>> firstPage = executorService.submit(() -> hotResultIndexes.findSubjectLimitViolationIds(resultUuid, List.of(), PAGE_REQUEST));
+            loading.await();
+            Future<Optional<Page<UUID>>> secondPage = executorService.submit(() -> hotResultIndexes.findSubjectLimitViolationIds(resultUuid, List.of(), PAGE_REQUEST));
+            loaded.countDown();
+
+            assertEquals(firstPage.get(), secondPage.get());
+            verify(contingencyLimitViolationRepository, times(1)).findIndexedLimitViolations(resultUuid);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
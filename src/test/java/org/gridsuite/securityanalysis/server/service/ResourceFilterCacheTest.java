@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.iidm.network.Country;
+import org.gridsuite.computation.dto.GlobalFilter;
+import org.gridsuite.computation.dto.ResourceFilterDTO;
+import org.gridsuite.filter.utils.EquipmentType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResourceFilterCacheTest {
+    private static final UUID NETWORK_UUID = UUID.randomUUID();
+    private static final UUID FILTER_1 = UUID.randomUUID();
+    private static final UUID FILTER_2 = UUID.randomUUID();
+    private static final List<EquipmentType> EQUIPMENT_TYPES = List.of(EquipmentType.LINE);
+    private static final String COLUMN = "subjectId";
+
+    @Test
+    void cachedResourceFiltersTest() {
+        ResourceFilterCache cache = new ResourceFilterCache(true, 100, Duration.ofMinutes(5), new ObjectMapper());
+        AtomicInteger resolutions = new AtomicInteger();
+        GlobalFilter globalFilter = GlobalFilter.builder()
+            .genericFilter(List.of(FILTER_1, FILTER_2))
+            .voltageRanges(List.of(List.of(380, 420), List.of(63, 90)))
+            .countryCode(List.of(Country.FR, Country.BE))
+            .build();
+        // the same criteria in another order
+        GlobalFilter sameGlobalFilter = GlobalFilter.builder()
+            .genericFilter(List.of(FILTER_2, FILTER_1))
+            .voltageRanges(List.of(List.of(63, 90), List.of(380, 420)))
+            .countryCode(List.of(Country.BE, Country.FR))
+            .build();
+        // the bounds of a voltage range are not a set
+        GlobalFilter otherGlobalFilter = GlobalFilter.builder()
+            .genericFilter(List.of(FILTER_1, FILTER_2))
+            .voltageRanges(List.of(List.of(420, 380), List.of(63, 90)))
+            .countryCode(List.of(Country.FR, Country.BE))
+            .build();
+
+        assertEquals(resourceFilter("line1"), get(cache, "initialState", globalFilter, resolutions, "line1"));
+        assertEquals(resourceFilter("line1"), get(cache, "initialState", sameGlobalFilter, resolutions, "line2"));
+        assertEquals(1, resolutions.get());
+        assertEquals(resourceFilter("line3"), get(cache, "initialState", otherGlobalFilter, resolutions, "line3"));
+        assertEquals(resourceFilter("line4"), get(cache, "variant", globalFilter, resolutions, "line4"));
+        assertEquals(3, resolutions.get());
+    }
+
+    @Test
+    void disabledCacheTest() {
+        ResourceFilterCache cache = new ResourceFilterCache(false, 100, Duration.ofMinutes(5), new ObjectMapper());
+        AtomicInteger resolutions = new AtomicInteger();
+        GlobalFilter globalFilter = GlobalFilter.builder().countryCode(List.of(Country.FR)).build();
+
+        get(cache, "initialState", globalFilter, resolutions, "line1");
+        get(cache, "initialState", globalFilter, resolutions, "line1");
+        assertEquals(2, resolutions.get());
+    }
+
+    private static Optional<ResourceFilterDTO> get(ResourceFilterCache cache, String variantId, GlobalFilter globalFilter, AtomicInteger resolutions, String subjectId) {
+        return cache.get(NETWORK_UUID, variantId, globalFilter, EQUIPMENT_TYPES, COLUMN, () -> {
+            resolutions.incrementAndGet();
+            return resourceFilter(subjectId);
+        });
+    }
+
+    private static Optional<ResourceFilterDTO> resourceFilter(String subjectId) {
+        return Optional.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.EQUALS, List.of(subjectId), COLUMN));
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import org.gridsuite.computation.dto.ResourceFilterDTO;
+import org.gridsuite.securityanalysis.server.entities.ContingencyEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.gridsuite.securityanalysis.server.repositories.ResultPageQueryRepository.PagedRows.CONTINGENCIES;
+import static org.gridsuite.securityanalysis.server.repositories.ResultPageQueryRepository.PagedRows.SUBJECT_LIMIT_VIOLATIONS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResultCountCacheTest {
+    private static final ResourceFilterDTO CONTINGENCY_ID_FILTER = new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.CONTAINS, "N-1",
+        ContingencyEntity.Fields.contingencyId);
+    private static final ResourceFilterDTO STATUS_FILTER = new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.EQUALS, List.of("CONVERGED"),
+        ContingencyEntity.Fields.status);
+
+    @Test
+    void cachedCountsTest() {
+        ResultCountCache cache = new ResultCountCache(true, 100, Duration.ofHours(1));
+        AtomicInteger counts = new AtomicInteger();
+        UUID resultUuid = UUID.randomUUID();
+        UUID otherResultUuid = UUID.randomUUID();
+
+        assertEquals(3, cache.get(resultUuid, CONTINGENCIES, List.of(CONTINGENCY_ID_FILTER, STATUS_FILTER), () -> counts.incrementAndGet() + 2L));
+        // the filters order does not matter
+        assertEquals(3, cache.get(resultUuid, CONTINGENCIES, List.of(STATUS_FILTER, CONTINGENCY_ID_FILTER), () -> counts.incrementAndGet() + 2L));
+        assertEquals(1, counts.get());
+        // other filters, rows or results are counted
+        cache.get(resultUuid, CONTINGENCIES, List.of(STATUS_FILTER), counts::incrementAndGet);
+        cache.get(resultUuid, SUBJECT_LIMIT_VIOLATIONS, List.of(STATUS_FILTER), counts::incrementAndGet);
+        cache.get(otherResultUuid, CONTINGENCIES, List.of(), counts::incrementAndGet);
+        assertEquals(4, counts.get());
+
+        cache.evict(resultUuid);
+        cache.get(resultUuid, CONTINGENCIES, List.of(STATUS_FILTER), counts::incrementAndGet);
+        cache.get(otherResultUuid, CONTINGENCIES, List.of(), counts::incrementAndGet);
+        assertEquals(5, counts.get());
+
+        cache.evictAll();
+        cache.get(otherResultUuid, CONTINGENCIES, List.of(), counts::incrementAndGet);
+        assertEquals(6, counts.get());
+    }
+
+    @Test
+    void disabledCacheTest() {
+        ResultCountCache cache = new ResultCountCache(false, 100, Duration.ofHours(1));
+        AtomicInteger counts = new AtomicInteger();
+        UUID resultUuid = UUID.randomUUID();
+
+        cache.get(resultUuid, CONTINGENCIES, List.of(), counts::incrementAndGet);
+        cache.get(resultUuid, CONTINGENCIES, List.of(), counts::incrementAndGet);
+        cache.evict(resultUuid);
+        assertEquals(2, counts.get());
+    }
+}
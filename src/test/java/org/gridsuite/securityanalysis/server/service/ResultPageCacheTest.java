@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ResultPageCacheTest {
+    @Test
+    void cachedResponsesTest() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ResultPageCache cache = new ResultPageCache(true, 1_000_000, Duration.ofHours(1), new ObjectMapper(), meterRegistry);
+        AtomicInteger finds = new AtomicInteger();
+        UUID resultUuid = UUID.randomUUID();
+        UUID otherResultUuid = UUID.randomUUID();
+        ResultPageCache.Key firstPage = new ResultPageCache.Key(resultUuid, ResultPageCache.Query.NMK_CONTINGENCIES, Arrays.asList(null, null, "[]", null, PageRequest.of(0, 10)));
+        ResultPageCache.Key samePage = new ResultPageCache.Key(resultUuid, ResultPageCache.Query.NMK_CONTINGENCIES, Arrays.asList(null, null, "[]", null, PageRequest.of(0, 10)));
+        ResultPageCache.Key secondPage = new ResultPageCache.Key(resultUuid, ResultPageCache.Query.NMK_CONTINGENCIES, Arrays.asList(null, null, "[]", null, PageRequest.of(1, 10)));
+        ResultPageCache.Key otherResultPage = new ResultPageCache.Key(otherResultUuid, ResultPageCache.Query.NMK_CONTINGENCIES, Arrays.asList(null, null, "[]", null, PageRequest.of(0, 10)));
+
+        assertEquals(List.of("a"), cache.get(firstPage, () -> page(finds, "a")).getContent());
+        assertEquals(List.of("a"), cache.get(samePage, () -> page(finds, "b")).getContent());
+        assertEquals(List.of("c"), cache.get(secondPage, () -> page(finds, "c")).getContent());
+        assertEquals(List.of("d"), cache.get(otherResultPage, () -> page(finds, "d")).getContent());
+        assertEquals(3, finds.get());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", ResultPageCache.CACHE_NAME).tag("result", "hit").functionCounter().count());
+        assertEquals(3, meterRegistry.get("cache.gets").tag("cache", ResultPageCache.CACHE_NAME).tag("result", "miss").functionCounter().count());
+
+        cache.evict(resultUuid);
+        assertEquals(List.of("e"), cache.get(firstPage, () -> page(finds, "e")).getContent());
+        assertEquals(List.of("d"), cache.get(otherResultPage, () -> page(finds, "f")).getContent());
+        assertEquals(4, finds.get());
+
+        cache.evictAll();
+        assertEquals(List.of("g"), cache.get(otherResultPage, () -> page(finds, "g")).getContent());
+        assertEquals(5, finds.get());
+    }
+
+    @Test
+    void unpagedResponsesAreWeightedTest() {
+        ResultPageCache cache = new ResultPageCache(true, 1_000_000, Duration.ofHours(1), new ObjectMapper(), new SimpleMeterRegistry());
+        ResultPageCache.Key key = new ResultPageCache.Key(UUID.randomUUID(), ResultPageCache.Query.NMK_CUT_OFF_POWER, Arrays.asList(null, null, null, null, Pageable.unpaged()));
+
+        assertEquals(List.of("a"), cache.get(key, () -> new PageImpl<>(List.of("a"))).getContent());
+        assertEquals(List.of("a"), cache.get(key, () -> new PageImpl<>(List.of("b"))).getContent());
+    }
+
+    @Test
+    void cachedResponseLookupTest() {
+        ResultPageCache cache = new ResultPageCache(true, 1_000_000, Duration.ofHours(1), new ObjectMapper(), new SimpleMeterRegistry());
+        UUID resultUuid = UUID.randomUUID();
+        ResultPageCache.Key key = new ResultPageCache.Key(resultUuid, ResultPageCache.Query.NMK_CONSTRAINTS, Arrays.asList(null, null, null, null, PageRequest.of(0, 10)));
+
+        assertNull(cache.getIfPresent(key));
+        cache.get(key, () -> new PageImpl<>(List.of("a")));
+        assertEquals(List.of("a"), cache.<Page<String>>getIfPresent(key).getContent());
+        cache.evict(resultUuid);
+        assertNull(cache.getIfPresent(key));
+    }
+
+    @Test
+    void disabledCacheTest() {
+        ResultPageCache cache = new ResultPageCache(false, 1_000_000, Duration.ofHours(1), new ObjectMapper(), new SimpleMeterRegistry());
+        AtomicInteger finds = new AtomicInteger();
+        ResultPageCache.Key key = new ResultPageCache.Key(UUID.randomUUID(), ResultPageCache.Query.N_RESULT, List.of());
+
+        cache.get(key, () -> page(finds, "a"));
+        cache.get(key, () -> page(finds, "a"));
+        assertEquals(2, finds.get());
+        assertNull(cache.getIfPresent(key));
+    }
+
+    private static PageImpl<String> page(AtomicInteger finds, String content) {
+        finds.incrementAndGet();
+        return new PageImpl<>(List.of(content), PageRequest.of(0, 10), 1);
+    }
+}
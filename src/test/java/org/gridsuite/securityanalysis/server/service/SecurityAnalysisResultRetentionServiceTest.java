@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+import org.gridsuite.securityanalysis.server.dto.ResultRetentionInfos;
+import org.gridsuite.securityanalysis.server.dto.SecurityAnalysisStatus;
+import org.gridsuite.securityanalysis.server.repositories.ClusterLockRepository;
+import org.gridsuite.securityanalysis.server.repositories.ResultPageQueryRepository;
+import org.gridsuite.securityanalysis.server.repositories.SecurityAnalysisResultRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.gridsuite.securityanalysis.server.SecurityAnalysisProviderMock.RESULT;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SecurityAnalysisResultRetentionServiceTest {
+    @Autowired
+    private SecurityAnalysisResultService securityAnalysisResultService;
+
+    @Autowired
+    private SecurityAnalysisResultRepository securityAnalysisResultRepository;
+
+    @Autowired
+    private ResultPageQueryRepository resultPageQueryRepository;
+
+    @Autowired
+    private ClusterLockRepository clusterLockRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void evictResultsBeyondMaxResultsPerNetworkTest() {
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        UUID networkUuid = UUID.randomUUID();
+        UUID runningResultUuid = UUID.randomUUID();
+        UUID oldResultUuid = UUID.randomUUID();
+        UUID newResultUuid = UUID.randomUUID();
+        securityAnalysisResultService.insertStatus(List.of(runningResultUuid), SecurityAnalysisStatus.RUNNING, networkUuid);
+        List.of(oldResultUuid, newResultUuid).forEach(resultUuid -> {
+            securityAnalysisResultService.insertStatus(List.of(resultUuid), SecurityAnalysisStatus.RUNNING, networkUuid);
+            securityAnalysisResultService.insert(network, resultUuid, RESULT, SecurityAnalysisStatus.CONVERGED);
+        });
+        // explicit creation dates, the ones of results created in a row may be equal
+        Instant now = Instant.now();
+        setCreationDate(runningResultUuid, now.minus(3, ChronoUnit.HOURS));
+        setCreationDate(oldResultUuid, now.minus(2, ChronoUnit.HOURS));
+        setCreationDate(newResultUuid, now.minus(1, ChronoUnit.HOURS));
+
+        SecurityAnalysisResultRetentionService retentionService = new SecurityAnalysisResultRetentionService(securityAnalysisResultService,
+            securityAnalysisResultRepository, resultPageQueryRepository, clusterLockRepository, null, 0, 1, 0, 100);
+        retentionService.applyRetentionPolicy();
+
+        // the newest result of the network is kept, as well as the running one
+        assertTrue(securityAnalysisResultRepository.existsById(newResultUuid));
+        assertTrue(securityAnalysisResultRepository.existsById(runningResultUuid));
+        assertFalse(securityAnalysisResultRepository.existsById(oldResultUuid));
+
+        ResultRetentionInfos retentionInfos = retentionService.getRetentionInfos();
+        assertNotNull(retentionInfos.getLastRunDate());
+        assertTrue(retentionInfos.getLastRunEvictedResults() >= 1);
+        assertTrue(retentionInfos.getLastRunReclaimedRows() > 1);
+        assertEquals(retentionInfos.getLastRunReclaimedRows(), retentionInfos.getTotalReclaimedRows());
+    }
+
+    private void setCreationDate(UUID resultUuid, Instant creationDate) {
+        jdbcTemplate.update("UPDATE security_analysis_result SET creation_date = ? WHERE id = ?", Timestamp.from(creationDate), resultUuid);
+    }
+}
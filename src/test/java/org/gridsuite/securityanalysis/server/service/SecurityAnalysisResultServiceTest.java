@@ -12,6 +12,7 @@ import com.powsybl.contingency.Contingency;
 import com.powsybl.contingency.violations.LimitViolation;
 import com.powsybl.contingency.violations.LimitViolationType;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.ThreeSides;
 import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import com.powsybl.loadflow.LoadFlowResult;
@@ -23,11 +24,27 @@ import com.powsybl.security.results.ConnectivityResult;
 import com.powsybl.security.results.NetworkResult;
 import com.powsybl.security.results.PostContingencyResult;
 import com.vladmihalcea.sql.SQLStatementCountValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.gridsuite.computation.dto.ResourceFilterDTO;
+import org.gridsuite.computation.error.ComputationException;
 import org.gridsuite.securityanalysis.server.dto.ContingencyResultDTO;
+import org.gridsuite.securityanalysis.server.dto.KeysetPageDTO;
+import org.gridsuite.securityanalysis.server.dto.LimitViolationCriterion;
+import org.gridsuite.securityanalysis.server.dto.LimitViolationDTO;
+import org.gridsuite.securityanalysis.server.dto.LimitViolationDiffDTO;
+import org.gridsuite.securityanalysis.server.dto.LimitViolationDiffStatus;
+import org.gridsuite.securityanalysis.server.dto.NmKAggregationsDTO;
 import org.gridsuite.securityanalysis.server.dto.SecurityAnalysisStatus;
 import org.gridsuite.securityanalysis.server.dto.SubjectLimitViolationDTO;
 import org.gridsuite.securityanalysis.server.dto.SubjectLimitViolationResultDTO;
+import org.gridsuite.securityanalysis.server.dto.WorstLimitViolationDTO;
+import org.gridsuite.securityanalysis.server.entities.ContingencyEntity;
+import org.gridsuite.securityanalysis.server.entities.LimitViolationsAggregatesEmbeddable;
+import org.gridsuite.securityanalysis.server.entities.ResultFacetEntity;
+import org.gridsuite.securityanalysis.server.entities.SecurityAnalysisResultEntity;
+import org.gridsuite.securityanalysis.server.entities.SubjectLimitViolationEntity;
+import org.gridsuite.securityanalysis.server.error.SecurityAnalysisException;
+import org.gridsuite.securityanalysis.server.repositories.*;
 import org.gridsuite.securityanalysis.server.repositories.specifications.ContingencySpecificationBuilder;
 import org.gridsuite.securityanalysis.server.repositories.specifications.SubjectLimitViolationSpecificationBuilder;
 import org.junit.jupiter.api.AfterEach;
@@ -38,18 +55,34 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.gridsuite.securityanalysis.server.SecurityAnalysisProviderMock.*;
 import static org.gridsuite.securityanalysis.server.util.DatabaseQueryUtils.assertRequestsCount;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * @author Florent MILLOT <florent.millot at rte-france.com>
@@ -62,6 +95,33 @@ class SecurityAnalysisResultServiceTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private SecurityAnalysisResultBulkRepository securityAnalysisResultBulkRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SecurityAnalysisResultRepository securityAnalysisResultRepository;
+
+    @Autowired
+    private ResultFacetRepository resultFacetRepository;
+
+    @Autowired
+    private ClusterLockRepository clusterLockRepository;
+
+    @Autowired
+    private ContingencyRepository contingencyRepository;
+
+    @Autowired
+    private ContingencyLimitViolationRepository contingencyLimitViolationRepository;
+
+    @Autowired
+    private PreContingencyLimitViolationRepository preContingencyLimitViolationRepository;
+
+    @Autowired
+    private SubjectLimitViolationRepository subjectLimitViolationRepository;
+
     @MockitoSpyBean
     private ContingencySpecificationBuilder contingencySpecificationBuilder;
 
@@ -85,6 +145,29 @@ class SecurityAnalysisResultServiceTest {
         assertRequestsCount(5, 0, 0, 6);
     }
 
+    @Test
+    void purgeDeletedResultTest() throws Exception {
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        UUID resultUuid = UUID.randomUUID();
+        securityAnalysisResultService.insert(network, resultUuid, RESULT, SecurityAnalysisStatus.CONVERGED);
+        transactionTemplate.executeWithoutResult(status -> securityAnalysisResultRepository.markDeleted(resultUuid, Instant.now()));
+
+        // marked results are hidden, their rows are still there
+        assertNull(securityAnalysisResultService.findStatus(resultUuid));
+        assertThrows(ComputationException.class, () -> securityAnalysisResultService.assertResultExists(resultUuid));
+        assertTrue(securityAnalysisResultService.findNmKResultLimitTypes(resultUuid).isEmpty());
+        assertEquals(List.of(resultUuid), securityAnalysisResultService.findDeletedResultUuids(10));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SecurityAnalysisResultPurger purger = new SecurityAnalysisResultPurger(securityAnalysisResultService, clusterLockRepository, meterRegistry, true, 2, 0, 10);
+        purger.purgeDeletedResults();
+
+        assertTrue(securityAnalysisResultRepository.findById(resultUuid).isEmpty());
+        assertTrue(securityAnalysisResultService.findDeletedResultUuids(10).isEmpty());
+        assertEquals(1, meterRegistry.get("app.sa.results.purged").counter().count());
+        assertTrue(meterRegistry.get("app.sa.results.purged.rows").counter().count() > 0);
+    }
+
     @Test
     void insertResultWithoutNetworkTest() {
         UUID resultUuid = UUID.randomUUID();
@@ -97,6 +180,375 @@ class SecurityAnalysisResultServiceTest {
         contingencyResults.forEach(this::checkFieldBasedOnNetworkAreNullish);
     }
 
+    @Test
+    void bulkInsertWritesSameRowsAsEntityInsertTest() {
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        UUID entityResultUuid = UUID.randomUUID();
+        UUID bulkResultUuid = UUID.randomUUID();
+        securityAnalysisResultService.insert(network, entityResultUuid, RESULT, SecurityAnalysisStatus.CONVERGED);
+        transactionTemplate.executeWithoutResult(status -> securityAnalysisResultBulkRepository.insert(
+            SecurityAnalysisResultEntity.toEntity(network, bulkResultUuid, RESULT, SecurityAnalysisStatus.CONVERGED)));
+
+        assertEquals(SecurityAnalysisStatus.CONVERGED, securityAnalysisResultService.findStatus(bulkResultUuid));
+        assertThat(securityAnalysisResultService.findNResult(bulkResultUuid, null, null, null, null, Sort.unsorted()))
+            .usingRecursiveComparison().ignoringCollectionOrder()
+            .isEqualTo(securityAnalysisResultService.findNResult(entityResultUuid, null, null, null, null, Sort.unsorted()));
+        assertThat(securityAnalysisResultService.findNmKContingenciesResult(bulkResultUuid))
+            .usingRecursiveComparison().ignoringCollectionOrder()
+            .isEqualTo(securityAnalysisResultService.findNmKContingenciesResult(entityResultUuid));
+        assertThat(securityAnalysisResultService.findNmKConstraintsResult(bulkResultUuid))
+            .usingRecursiveComparison().ignoringCollectionOrder()
+            .isEqualTo(securityAnalysisResultService.findNmKConstraintsResult(entityResultUuid));
+    }
+
+    @Test
+    void streamingInsertWritesSameRowsAsEntityInsertTest() {
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        UUID entityResultUuid = UUID.randomUUID();
+        UUID streamingResultUuid = UUID.randomUUID();
+        securityAnalysisResultService.insert(network, entityResultUuid, RESULT, SecurityAnalysisStatus.CONVERGED);
+
+        securityAnalysisResultService.insertStatus(List.of(streamingResultUuid), SecurityAnalysisStatus.RUNNING);
+        StreamingResultWriter streamingResultWriter = new StreamingResultWriter(securityAnalysisResultService, network, streamingResultUuid, 2);
+        // the last post contingency result is not notified, it must be written at the end
+        RESULT.getPostContingencyResults().stream().limit(RESULT.getPostContingencyResults().size() - 1L).forEach(streamingResultWriter::add);
+        assertTrue(streamingResultWriter.hasWrittenChunks());
+        assertEquals(SecurityAnalysisStatus.RUNNING, securityAnalysisResultService.findStatus(streamingResultUuid));
+        streamingResultWriter.finish(RESULT, SecurityAnalysisStatus.CONVERGED);
+
+        assertEquals(SecurityAnalysisStatus.CONVERGED, securityAnalysisResultService.findStatus(streamingResultUuid));
+        assertThat(securityAnalysisResultService.findNResult(streamingResultUuid, null, null, null, null, Sort.unsorted()))
+            .usingRecursiveComparison().ignoringCollectionOrder()
+            .isEqualTo(securityAnalysisResultService.findNResult(entityResultUuid, null, null, null, null, Sort.unsorted()));
+        assertThat(securityAnalysisResultService.findNmKContingenciesResult(streamingResultUuid))
+            .usingRecursiveComparison().ignoringCollectionOrder()
+            .isEqualTo(securityAnalysisResultService.findNmKContingenciesResult(entityResultUuid));
+        assertThat(securityAnalysisResultService.findNmKConstraintsResult(streamingResultUuid))
+            .usingRecursiveComparison().ignoringCollectionOrder()
+            .isEqualTo(securityAnalysisResultService.findNmKConstraintsResult(entityResultUuid));
+    }
+
+    @Test
+    void streamingInsertAbortTest() {
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        UUID streamingResultUuid = UUID.randomUUID();
+        securityAnalysisResultService.insertStatus(List.of(streamingResultUuid), SecurityAnalysisStatus.RUNNING);
+        StreamingResultWriter streamingResultWriter = new StreamingResultWriter(securityAnalysisResultService, network, streamingResultUuid, 2);
+        RESULT.getPostContingencyResults().stream().limit(2).forEach(streamingResultWriter::add);
+        assertTrue(streamingResultWriter.hasWrittenChunks());
+
+        // the written chunks are not readable while the result is running
+        SecurityAnalysisResultService resultService = AopTestUtils.getTargetObject(securityAnalysisResultService);
+        ReflectionTestUtils.setField(resultService, "streamingInsertChunkSize", 2);
+        try {
+            assertThrows(ComputationException.class, () -> securityAnalysisResultService.findNmKContingenciesResult(streamingResultUuid));
+            assertTrue(securityAnalysisResultService.findNmKResultLimitTypes(streamingResultUuid).isEmpty());
+        } finally {
+            ReflectionTestUtils.setField(resultService, "streamingInsertChunkSize", 0);
+        }
+
+        // on cancellation or failure, the written chunks are removed and the next results are ignored
+        streamingResultWriter.abort();
+        RESULT.getPostContingencyResults().forEach(streamingResultWriter::add);
+        assertFalse(streamingResultWriter.hasWrittenChunks());
+        assertEquals(SecurityAnalysisStatus.RUNNING, securityAnalysisResultService.findStatus(streamingResultUuid));
+        assertTrue(contingencyRepository.findAllByResultId(streamingResultUuid).isEmpty());
+        assertTrue(resultFacetRepository.findAllByResultIdOrderByFacetValue(streamingResultUuid).isEmpty());
+    }
+
+    @Test
+    void streamingInsertFailureTest() {
+        SecurityAnalysisResultService failingResultService = mock(SecurityAnalysisResultService.class);
+        IllegalStateException chunkFailure = new IllegalStateException("Chunk failure");
+        when(failingResultService.insertContingencies(any(), any(), anyList(), any())).thenThrow(chunkFailure);
+        StreamingResultWriter streamingResultWriter = new StreamingResultWriter(failingResultService, null, UUID.randomUUID(), 2);
+        RESULT.getPostContingencyResults().forEach(streamingResultWriter::add);
+
+        // the chunks following a failed chunk are not written, the failure being raised at the end of the run instead of saving the result
+        assertSame(chunkFailure, assertThrows(IllegalStateException.class, () -> streamingResultWriter.finish(RESULT, SecurityAnalysisStatus.CONVERGED)));
+        verify(failingResultService, times(1)).insertContingencies(any(), any(), anyList(), any());
+        verify(failingResultService, never()).insert(any(), any(), any(), any(), any(), any());
+        assertFalse(streamingResultWriter.hasWrittenChunks());
+    }
+
+    @Test
+    void limitViolationsAggregatesTest() {
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        UUID entityResultUuid = UUID.randomUUID();
+        UUID streamingResultUuid = UUID.randomUUID();
+        securityAnalysisResultService.insert(network, entityResultUuid, RESULT, SecurityAnalysisStatus.CONVERGED);
+        securityAnalysisResultService.insertStatus(List.of(streamingResultUuid), SecurityAnalysisStatus.RUNNING);
+        StreamingResultWriter streamingResultWriter = new StreamingResultWriter(securityAnalysisResultService, network, streamingResultUuid, 2);
+        RESULT.getPostContingencyResults().stream().limit(RESULT.getPostContingencyResults().size() - 1L).forEach(streamingResultWriter::add);
+        streamingResultWriter.finish(RESULT, SecurityAnalysisStatus.CONVERGED);
+
+        // the aggregates of the subjects written by chunks are computed on their violations of all the chunks
+        assertThat(findLimitViolationsAggregatesBySubjectId(streamingResultUuid))
+            .usingRecursiveComparison()
+            .isEqualTo(findLimitViolationsAggregatesBySubjectId(entityResultUuid));
+
+        // the pages are sorted on the aggregates in SQL
+        Sort contingenciesSort = Sort.by(Sort.Direction.DESC, ContingencyEntity.Fields.limitViolationsAggregates + "." + LimitViolationsAggregatesEmbeddable.Fields.maxLoading);
+        List<Double> maxLoadings = securityAnalysisResultService.findNmKContingenciesPaged(entityResultUuid, null, null, null, null, PageRequest.of(0, 100, contingenciesSort))
+            .getContent().stream()
+            .map(contingencyResult -> contingencyResult.getSubjectLimitViolations().stream()
+                .map(subjectLimitViolation -> subjectLimitViolation.getLimitViolation().getLoading())
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null))
+            .filter(Objects::nonNull)
+            .toList();
+        assertFalse(maxLoadings.isEmpty());
+        assertThat(maxLoadings).isSortedAccordingTo(Comparator.reverseOrder());
+
+        Sort constraintsSort = Sort.by(Sort.Direction.DESC, SubjectLimitViolationEntity.Fields.limitViolationsAggregates + "." + LimitViolationsAggregatesEmbeddable.Fields.violationCount);
+        List<Integer> violationCounts = securityAnalysisResultService.findNmKConstraintsResultPaged(entityResultUuid, null, null, null, null, PageRequest.of(0, 100, constraintsSort))
+            .map(subjectLimitViolationResult -> subjectLimitViolationResult.getContingencies().size())
+            .getContent();
+        assertFalse(violationCounts.isEmpty());
+        assertThat(violationCounts).isSortedAccordingTo(Comparator.reverseOrder());
+
+        // the keyset cursors can't hold the aggregates
+        assertThrows(ComputationException.class, () -> securityAnalysisResultService.findNmKContingenciesKeysetPage(entityResultUuid, null, null, null, null,
+            contingenciesSort, 1, null));
+        assertThrows(ComputationException.class, () -> securityAnalysisResultService.findNmKConstraintsKeysetPage(entityResultUuid, null, null, null, null,
+            constraintsSort, 1, null));
+    }
+
+    private Map<String, LimitViolationsAggregatesEmbeddable> findLimitViolationsAggregatesBySubjectId(UUID resultUuid) {
+        return subjectLimitViolationRepository.findAllByResultId(resultUuid).stream()
+            .collect(Collectors.toMap(SubjectLimitViolationEntity::getSubjectId, SubjectLimitViolationEntity::getLimitViolationsAggregates));
+    }
+
+    @Test
+    void worstLimitViolationsTest() {
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        UUID resultUuid = UUID.randomUUID();
+        securityAnalysisResultService.insert(network, resultUuid, RESULT, SecurityAnalysisStatus.CONVERGED);
+        List<Double> loadings = securityAnalysisResultService.findNmKContingenciesResult(resultUuid).stream()
+            .flatMap(contingencyResult -> contingencyResult.getSubjectLimitViolations().stream())
+            .map(subjectLimitViolation -> subjectLimitViolation.getLimitViolation().getLoading())
+            .filter(Objects::nonNull)
+            .sorted(Comparator.reverseOrder())
+            .toList();
+        assertTrue(loadings.size() > 2);
+
+        List<WorstLimitViolationDTO> worstLimitViolations = securityAnalysisResultService.findNmKWorstLimitViolations(resultUuid, LimitViolationCriterion.LOADING, 2, false, null);
+        assertEquals(loadings.subList(0, 2), worstLimitViolations.stream().map(worstLimitViolation -> worstLimitViolation.getLimitViolation().getLoading()).toList());
+        assertThat(worstLimitViolations).allSatisfy(worstLimitViolation -> {
+            assertNotNull(worstLimitViolation.getSubjectId());
+            assertNotNull(worstLimitViolation.getContingency().getContingencyId());
+        });
+
+        // the shortest acceptable durations first
+        List<Integer> acceptableDurations = securityAnalysisResultService.findNmKWorstLimitViolations(resultUuid, LimitViolationCriterion.ACCEPTABLE_DURATION, 1000, true, null).stream()
+            .map(worstLimitViolation -> worstLimitViolation.getLimitViolation().getAcceptableDuration())
+            .toList();
+        assertThat(acceptableDurations).doesNotContainNull().isSorted();
+
+        // the violations without loading are left out
+        assertTrue(securityAnalysisResultService.findNmKWorstLimitViolations(resultUuid, LimitViolationCriterion.LOADING, 10, false,
+            List.of(LimitViolationType.HIGH_VOLTAGE, LimitViolationType.LOW_VOLTAGE)).isEmpty());
+        UUID unknownResultUuid = UUID.randomUUID();
+        assertThrows(ComputationException.class, () -> securityAnalysisResultService.findNmKWorstLimitViolations(unknownResultUuid, LimitViolationCriterion.LOADING, 10,
+            false, null));
+    }
+
+    @Test
+    void nmKAggregationsTest() throws Exception {
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        UUID resultUuid = UUID.randomUUID();
+        securityAnalysisResultService.insert(network, resultUuid, RESULT, SecurityAnalysisStatus.CONVERGED);
+        List<ContingencyResultDTO> contingencyResults = securityAnalysisResultService.findNmKContingenciesPaged(resultUuid, null, null, null, null,
+            PageRequest.of(0, 1000)).getContent();
+        List<LimitViolationDTO> limitViolations = contingencyResults.stream()
+            .flatMap(contingencyResult -> contingencyResult.getSubjectLimitViolations().stream())
+            .map(SubjectLimitViolationDTO::getLimitViolation)
+            .toList();
+
+        // the aggregations count the rows of the pages
+        NmKAggregationsDTO aggregations = securityAnalysisResultService.findNmKAggregations(resultUuid, null, null, null, null, 10, 60, 100);
+        assertEquals(contingencyResults.size(), aggregations.contingencyCount());
+        assertEquals(limitViolations.size(), aggregations.limitViolationCount());
+        assertEquals(limitViolations.stream().filter(limitViolation -> limitViolation.getLoading() != null).count(),
+            aggregations.loadingHistogram().stream().mapToLong(NmKAggregationsDTO.HistogramBucket::count).sum());
+        assertThat(aggregations.loadingHistogram()).allSatisfy(bucket -> assertEquals(10, bucket.upperBound() - bucket.lowerBound()));
+        assertEquals(limitViolations.stream().collect(Collectors.groupingBy(limitViolation -> limitViolation.getLimitType().name(), Collectors.counting())),
+            aggregations.limitTypeCounts().stream().collect(Collectors.toMap(NmKAggregationsDTO.ValueCount::value, NmKAggregationsDTO.ValueCount::count)));
+        assertThat(aggregations.statusCounts()).extracting(NmKAggregationsDTO.ValueCount::count).isSortedAccordingTo(Comparator.reverseOrder());
+        assertEquals(1, securityAnalysisResultService.findNmKAggregations(resultUuid, null, null, null, null, 10, 60, 1).limitTypeCounts().size());
+
+        // the limit violations are filtered as in the pages
+        String currentFilter = objectMapper.writeValueAsString(List.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.EQUALS,
+            List.of(LimitViolationType.CURRENT.name()), "contingencyLimitViolations.limitType")));
+        NmKAggregationsDTO currentAggregations = securityAnalysisResultService.findNmKAggregations(resultUuid, null, null, currentFilter, null, 10, 60, 100);
+        assertThat(currentAggregations.limitTypeCounts()).extracting(NmKAggregationsDTO.ValueCount::value).containsExactly(LimitViolationType.CURRENT.name());
+        assertEquals(limitViolations.stream().filter(limitViolation -> limitViolation.getLimitType() == LimitViolationType.CURRENT).count(),
+            currentAggregations.limitViolationCount());
+
+        assertThrows(SecurityAnalysisException.class, () -> securityAnalysisResultService.findNmKAggregations(resultUuid, null, null, null, null, 0, 60, 100));
+        UUID unknownResultUuid = UUID.randomUUID();
+        assertThrows(ComputationException.class, () -> securityAnalysisResultService.findNmKAggregations(unknownResultUuid, null, null, null, null, 10, 60, 100));
+    }
+
+    @Test
+    void nmKConstraintsDiffTest() throws Exception {
+        UUID baseResultUuid = UUID.randomUUID();
+        UUID comparedResultUuid = UUID.randomUUID();
+        securityAnalysisResultService.insert(null, baseResultUuid, createResult(
+            createPostContingencyResult("contingencyId",
+                new LimitViolation("branchId", LimitViolationType.CURRENT, "limitName", 60, 100, 1, 110, TwoSides.ONE),
+                new LimitViolation("branchId", LimitViolationType.CURRENT, "limitName", 60, 100, 1, 130, TwoSides.TWO),
+                new LimitViolation("branchId", LimitViolationType.CURRENT, "otherLimitName", 60, 100, 1, 105, TwoSides.ONE))),
+            SecurityAnalysisStatus.CONVERGED);
+        securityAnalysisResultService.insert(null, comparedResultUuid, createResult(
+            createPostContingencyResult("contingencyId",
+                new LimitViolation("branchId", LimitViolationType.CURRENT, "limitName", 60, 100, 1, 120, TwoSides.ONE),
+                new LimitViolation("branchId", LimitViolationType.CURRENT, "otherLimitName", 60, 100, 1, 105, TwoSides.ONE)),
+            createPostContingencyResult("otherContingencyId",
+                new LimitViolation("branchId", LimitViolationType.CURRENT, "limitName", 60, 100, 1, 101, TwoSides.ONE))),
+            SecurityAnalysisStatus.CONVERGED);
+
+        // without filter on the status, the unchanged limit violations are left out
+        Page<LimitViolationDiffDTO> diffs = securityAnalysisResultService.findNmKConstraintsDiff(baseResultUuid, comparedResultUuid, null, null, null, null,
+            PageRequest.of(0, 2));
+        assertEquals(3, diffs.getTotalElements());
+        assertThat(diffs.getContent()).extracting(LimitViolationDiffDTO::getStatus)
+            .containsExactly(LimitViolationDiffStatus.WORSENED, LimitViolationDiffStatus.RESOLVED);
+        LimitViolationDiffDTO worsened = diffs.getContent().getFirst();
+        assertEquals(ThreeSides.ONE, worsened.getSide());
+        assertEquals(110., worsened.getBaseValue());
+        assertEquals(120., worsened.getComparedValue());
+        assertNull(diffs.getContent().get(1).getComparedValue());
+        LimitViolationDiffDTO newLimitViolation = securityAnalysisResultService.findNmKConstraintsDiff(baseResultUuid, comparedResultUuid, null, null, null, null,
+            PageRequest.of(1, 2)).getContent().getFirst();
+        assertEquals(LimitViolationDiffStatus.NEW, newLimitViolation.getStatus());
+        assertEquals("otherContingencyId", newLimitViolation.getContingencyId());
+        assertNull(newLimitViolation.getBaseValue());
+        // without count, the total only tells that there is a next page
+        Page<LimitViolationDiffDTO> uncountedDiffs = securityAnalysisResultService.findNmKConstraintsDiff(baseResultUuid, comparedResultUuid, null, null, null, null,
+            PageRequest.of(0, 1), false);
+        assertThat(uncountedDiffs.getContent()).extracting(LimitViolationDiffDTO::getStatus).containsExactly(LimitViolationDiffStatus.WORSENED);
+        assertEquals(2, uncountedDiffs.getTotalElements());
+        assertTrue(uncountedDiffs.hasNext());
+        assertEquals(3, securityAnalysisResultService.findNmKConstraintsDiff(baseResultUuid, comparedResultUuid, null, null, null, null,
+            PageRequest.of(2, 1), false).getTotalElements());
+
+        String unchangedFilter = objectMapper.writeValueAsString(List.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.EQUALS,
+            List.of(LimitViolationDiffStatus.UNCHANGED.name()), LimitViolationDiffDTO.Fields.status)));
+        assertThat(securityAnalysisResultService.findNmKConstraintsDiff(baseResultUuid, comparedResultUuid, null, null, unchangedFilter, null, PageRequest.of(0, 10)).getContent())
+            .singleElement()
+            .satisfies(unchanged -> assertEquals("otherLimitName", unchanged.getLimitName()));
+        // the improved limit violations of the reversed comparison
+        assertThat(securityAnalysisResultService.findNmKConstraintsDiff(comparedResultUuid, baseResultUuid, null, null, null, null, PageRequest.of(0, 10)).getContent())
+            .extracting(LimitViolationDiffDTO::getStatus)
+            .containsExactly(LimitViolationDiffStatus.IMPROVED, LimitViolationDiffStatus.NEW, LimitViolationDiffStatus.RESOLVED);
+
+        String loadingFilter = objectMapper.writeValueAsString(List.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.NUMBER, ResourceFilterDTO.Type.GREATER_THAN_OR_EQUAL,
+            100, LimitViolationDiffDTO.Fields.baseLoading)));
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        assertThrows(SecurityAnalysisException.class, () -> securityAnalysisResultService.findNmKConstraintsDiff(baseResultUuid, comparedResultUuid, null, null,
+            loadingFilter, null, pageRequest));
+        PageRequest valueSortedPageRequest = PageRequest.of(0, 10, Sort.by(LimitViolationDiffDTO.Fields.baseValue));
+        assertThrows(ComputationException.class, () -> securityAnalysisResultService.findNmKConstraintsDiff(baseResultUuid, comparedResultUuid, null, null, null, null,
+            valueSortedPageRequest));
+        UUID unknownResultUuid = UUID.randomUUID();
+        assertThrows(ComputationException.class, () -> securityAnalysisResultService.findNmKConstraintsDiff(baseResultUuid, unknownResultUuid, null, null, null, null,
+            pageRequest));
+    }
+
+    @Test
+    void nmKConstraintsDiffLimitTypesTest() {
+        UUID baseResultUuid = UUID.randomUUID();
+        UUID comparedResultUuid = UUID.randomUUID();
+        securityAnalysisResultService.insert(null, baseResultUuid, createResult(
+            createPostContingencyResult("contingencyId",
+                new LimitViolation("branchId", LimitViolationType.CURRENT, "limitName", 60, 100, 1, 110, TwoSides.ONE),
+                new LimitViolation("branchId", LimitViolationType.ACTIVE_POWER, "limitName", 60, 100, 1, 110, TwoSides.ONE))),
+            SecurityAnalysisStatus.CONVERGED);
+        securityAnalysisResultService.insert(null, comparedResultUuid, createResult(
+            createPostContingencyResult("contingencyId",
+                new LimitViolation("branchId", LimitViolationType.CURRENT, "limitName", 60, 100, 1, 120, TwoSides.ONE),
+                new LimitViolation("branchId", LimitViolationType.ACTIVE_POWER, "limitName", 60, 100, 1, 120, TwoSides.ONE))),
+            SecurityAnalysisStatus.CONVERGED);
+
+        // the limit violations with the same limit name and side are matched by limit type, not crossed
+        Page<LimitViolationDiffDTO> diffs = securityAnalysisResultService.findNmKConstraintsDiff(baseResultUuid, comparedResultUuid, null, null, null, null,
+            PageRequest.of(0, 10));
+        assertEquals(2, diffs.getTotalElements());
+        assertThat(diffs.getContent()).extracting(LimitViolationDiffDTO::getLimitType, LimitViolationDiffDTO::getStatus).containsExactly(
+            tuple(LimitViolationType.ACTIVE_POWER, LimitViolationDiffStatus.WORSENED), tuple(LimitViolationType.CURRENT, LimitViolationDiffStatus.WORSENED));
+    }
+
+    @Test
+    void resultFacetsTest() {
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        UUID entityResultUuid = UUID.randomUUID();
+        UUID streamingResultUuid = UUID.randomUUID();
+        securityAnalysisResultService.insert(network, entityResultUuid, RESULT, SecurityAnalysisStatus.CONVERGED);
+        securityAnalysisResultService.insertStatus(List.of(streamingResultUuid), SecurityAnalysisStatus.RUNNING);
+        StreamingResultWriter streamingResultWriter = new StreamingResultWriter(securityAnalysisResultService, network, streamingResultUuid, 2);
+        RESULT.getPostContingencyResults().stream().limit(RESULT.getPostContingencyResults().size() - 1L).forEach(streamingResultWriter::add);
+        // the facets of the chunks are written once, with the last part of the result
+        assertTrue(resultFacetRepository.findAllByResultIdOrderByFacetValue(streamingResultUuid).isEmpty());
+        streamingResultWriter.finish(RESULT, SecurityAnalysisStatus.CONVERGED);
+
+        // the facets of a result written by chunks are the sum of the facets of its chunks
+        assertFalse(resultFacetRepository.findAllByResultIdOrderByFacetValue(entityResultUuid).isEmpty());
+        assertThat(resultFacetRepository.findAllByResultIdOrderByFacetValue(streamingResultUuid))
+            .usingRecursiveComparison().ignoringFields(ResultFacetEntity.Fields.id, ResultFacetEntity.Fields.resultId).ignoringCollectionOrder()
+            .isEqualTo(resultFacetRepository.findAllByResultIdOrderByFacetValue(entityResultUuid));
+
+        // the facets have the same values as the distinct queries on the result rows
+        for (UUID resultUuid : List.of(entityResultUuid, streamingResultUuid)) {
+            assertEquals(preContingencyLimitViolationRepository.findLimitTypes(resultUuid), securityAnalysisResultService.findNResultLimitTypes(resultUuid));
+            assertEquals(preContingencyLimitViolationRepository.findBranchSides(resultUuid), securityAnalysisResultService.findNResultBranchSides(resultUuid));
+            assertEquals(contingencyLimitViolationRepository.findLimitTypes(resultUuid), securityAnalysisResultService.findNmKResultLimitTypes(resultUuid));
+            assertEquals(contingencyLimitViolationRepository.findBranchSides(resultUuid), securityAnalysisResultService.findNmKResultBranchSides(resultUuid));
+            assertEquals(contingencyRepository.findComputingStatus(resultUuid), securityAnalysisResultService.findNmKComputingStatus(resultUuid));
+        }
+
+        securityAnalysisResultService.delete(entityResultUuid);
+        assertTrue(resultFacetRepository.findAllByResultIdOrderByFacetValue(entityResultUuid).isEmpty());
+    }
+
+    @Test
+    void keysetPagesReadTheSameRowsAsOffsetPagesTest() {
+        UUID resultUuid = UUID.randomUUID();
+        securityAnalysisResultService.insert(null, resultUuid, RESULT, SecurityAnalysisStatus.CONVERGED);
+        Sort contingenciesSort = Sort.by(Sort.Direction.DESC, "contingencyId");
+        Sort constraintsSort = Sort.by("subjectId");
+
+        List<String> keysetContingencyIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            KeysetPageDTO<ContingencyResultDTO> page = securityAnalysisResultService.findNmKContingenciesKeysetPage(resultUuid, null, null, null, null, contingenciesSort, 2, cursor);
+            assertTrue(page.content().size() <= 2);
+            page.content().forEach(contingencyResult -> keysetContingencyIds.add(contingencyResult.getContingency().getContingencyId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        assertEquals(securityAnalysisResultService.findNmKContingenciesPaged(resultUuid, null, null, null, null, PageRequest.of(0, 100, contingenciesSort))
+            .map(contingencyResult -> contingencyResult.getContingency().getContingencyId()).getContent(), keysetContingencyIds);
+
+        List<String> keysetSubjectIds = new ArrayList<>();
+        cursor = null;
+        do {
+            KeysetPageDTO<SubjectLimitViolationResultDTO> page = securityAnalysisResultService.findNmKConstraintsKeysetPage(resultUuid, null, null, null, null, constraintsSort, 1, cursor);
+            page.content().forEach(subjectLimitViolationResult -> keysetSubjectIds.add(subjectLimitViolationResult.getSubjectId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        assertEquals(securityAnalysisResultService.findNmKConstraintsResultPaged(resultUuid, null, null, null, null, PageRequest.of(0, 100, constraintsSort))
+            .map(SubjectLimitViolationResultDTO::getSubjectId).getContent(), keysetSubjectIds);
+
+        // a cursor is only valid with the sort of its page
+        String contingenciesCursor = securityAnalysisResultService.findNmKContingenciesKeysetPage(resultUuid, null, null, null, null, contingenciesSort, 1, null).nextCursor();
+        assertNotNull(contingenciesCursor);
+        assertThrows(SecurityAnalysisException.class, () -> securityAnalysisResultService.findNmKContingenciesKeysetPage(resultUuid, null, null, null, null,
+            Sort.by("contingencyId"), 1, contingenciesCursor));
+        assertThrows(SecurityAnalysisException.class, () -> securityAnalysisResultService.findNmKContingenciesKeysetPage(resultUuid, null, null, null, null,
+            contingenciesSort, 1, "not a cursor"));
+    }
+
     @Test
     void findNmKContingenciesPagedNormalizesWorstSideFilter() throws Exception {
         UUID resultUuid = UUID.randomUUID();
@@ -167,6 +619,15 @@ class SecurityAnalysisResultServiceTest {
             );
     }
 
+    private static SecurityAnalysisResult createResult(PostContingencyResult... postContingencyResults) {
+        return new SecurityAnalysisResult(new LimitViolationsResult(List.of()), LoadFlowResult.ComponentResult.Status.CONVERGED, List.of(postContingencyResults));
+    }
+
+    private static PostContingencyResult createPostContingencyResult(String contingencyId, LimitViolation... limitViolations) {
+        return new PostContingencyResult(new Contingency(contingencyId, new BranchContingency("branchId")), PostContingencyComputationStatus.CONVERGED,
+            new LimitViolationsResult(List.of(limitViolations)), NetworkResult.empty(), ConnectivityResult.empty(), 1.0);
+    }
+
     private SecurityAnalysisResult createSecurityAnalysisResultWithTwoSides() {
         String subjectId = "branchId";
         return new SecurityAnalysisResult(
@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.service;
+
+import com.powsybl.contingency.violations.LimitViolationType;
+import com.powsybl.iidm.network.ThreeSides;
+import org.gridsuite.computation.dto.ResourceFilterDTO;
+import org.gridsuite.computation.utils.SpecificationUtils;
+import org.gridsuite.securityanalysis.server.entities.AbstractLimitViolationEntity;
+import org.gridsuite.securityanalysis.server.entities.ContingencyEntity;
+import org.gridsuite.securityanalysis.server.entities.ContingencyLimitViolationEntity;
+import org.gridsuite.securityanalysis.server.entities.SubjectLimitViolationEntity;
+import org.gridsuite.securityanalysis.server.repositories.ContingencyLimitViolationRepository.IndexedLimitViolation;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubjectLimitViolationsIndexTest {
+    private static final String CHILD_PREFIX = SubjectLimitViolationEntity.Fields.contingencyLimitViolations + SpecificationUtils.FIELD_SEPARATOR;
+
+    private static final UUID LINE_1 = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID LINE_2 = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID LINE_2_BIS = UUID.fromString("00000000-0000-0000-0000-000000000004");
+    private static final UUID VL_1 = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    private record Violation(UUID subjectUuid, String subjectId, String limitName, LimitViolationType limitType, ThreeSides side, String locationId,
+                             String contingencyId, String status, boolean isWorstSide) implements IndexedLimitViolation {
+        @Override
+        public UUID getSubjectUuid() {
+            return subjectUuid;
+        }
+
+        @Override
+        public String getSubjectId() {
+            return subjectId;
+        }
+
+        @Override
+        public String getLimitName() {
+            return limitName;
+        }
+
+        @Override
+        public LimitViolationType getLimitType() {
+            return limitType;
+        }
+
+        @Override
+        public ThreeSides getSide() {
+            return side;
+        }
+
+        @Override
+        public String getLocationId() {
+            return locationId;
+        }
+
+        @Override
+        public String getContingencyId() {
+            return contingencyId;
+        }
+
+        @Override
+        public String getStatus() {
+            return status;
+        }
+    }
+
+    // ordered by subject id then uuid, as read from the database
+    private final SubjectLimitViolationsIndex index = new SubjectLimitViolationsIndex(List.of(
+        new Violation(LINE_1, "line1", "IST", LimitViolationType.CURRENT, ThreeSides.ONE, "vl1", "N-1 line2", "CONVERGED", true),
+        new Violation(LINE_1, "line1", "1'", LimitViolationType.CURRENT, ThreeSides.TWO, "vl2", "N-1 line3", "CONVERGED", true),
+        new Violation(LINE_2, "line2", "IST", LimitViolationType.CURRENT, ThreeSides.ONE, "vl1", "N-1 line1", "FAILED", true),
+        new Violation(LINE_2_BIS, "line2", null, LimitViolationType.CURRENT, ThreeSides.TWO, null, "N-1 line1", "FAILED", false),
+        new Violation(VL_1, "vl1", null, LimitViolationType.HIGH_VOLTAGE, null, "vl1", "N-1 line3", "CONVERGED", true)
+    ), List.of(LINE_2, VL_1, LINE_1, LINE_2_BIS));
+
+    @Test
+    void sortedSubjectsTest() {
+        assertEquals(List.of(LINE_2, VL_1, LINE_1, LINE_2_BIS), findIds(List.of(), Sort.by(SubjectLimitViolationEntity.Fields.id)).getContent());
+        assertEquals(List.of(LINE_1, LINE_2, LINE_2_BIS, VL_1), findIds(List.of(), Sort.by(SubjectLimitViolationEntity.Fields.subjectId, SubjectLimitViolationEntity.Fields.id))
+            .getContent());
+        // the subjects having the same subject id stay ordered by id
+        assertEquals(List.of(VL_1, LINE_2, LINE_2_BIS, LINE_1), findIds(List.of(), Sort.by(Sort.Order.desc(SubjectLimitViolationEntity.Fields.subjectId),
+            Sort.Order.asc(SubjectLimitViolationEntity.Fields.id))).getContent());
+    }
+
+    @Test
+    void filteredSubjectsTest() {
+        Sort sort = Sort.by(SubjectLimitViolationEntity.Fields.subjectId, SubjectLimitViolationEntity.Fields.id);
+        assertEquals(List.of(LINE_1, LINE_2, LINE_2_BIS), findIds(List.of(text(ResourceFilterDTO.Type.CONTAINS, "LINE", SubjectLimitViolationEntity.Fields.subjectId)), sort)
+            .getContent());
+        assertEquals(List.of(VL_1), findIds(List.of(text(ResourceFilterDTO.Type.EQUALS, List.of("HIGH_VOLTAGE"), CHILD_PREFIX + AbstractLimitViolationEntity.Fields.limitType)), sort)
+            .getContent());
+        assertEquals(List.of(LINE_1, LINE_2), findIds(List.of(text(ResourceFilterDTO.Type.STARTS_WITH, "is", CHILD_PREFIX + AbstractLimitViolationEntity.Fields.limitName)), sort)
+            .getContent());
+        assertEquals(List.of(LINE_2, LINE_2_BIS), findIds(List.of(text(ResourceFilterDTO.Type.EQUALS, List.of("FAILED"), CHILD_PREFIX + ContingencyLimitViolationEntity.Fields.contingency
+            + SpecificationUtils.FIELD_SEPARATOR + ContingencyEntity.Fields.status)), sort).getContent());
+        assertEquals(List.of(LINE_2_BIS), findIds(List.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.BOOLEAN, ResourceFilterDTO.Type.EQUALS, false,
+            CHILD_PREFIX + ContingencyLimitViolationEntity.Fields.isWorstSide)), sort).getContent());
+        // a single violation must match all the violation filters
+        assertEquals(List.of(), findIds(List.of(
+            text(ResourceFilterDTO.Type.EQUALS, List.of("TWO"), CHILD_PREFIX + AbstractLimitViolationEntity.Fields.side),
+            text(ResourceFilterDTO.Type.CONTAINS, "line2", CHILD_PREFIX + ContingencyLimitViolationEntity.Fields.contingency + SpecificationUtils.FIELD_SEPARATOR
+                + ContingencyEntity.Fields.contingencyId)), sort).getContent());
+    }
+
+    @Test
+    void pagedSubjectsTest() {
+        Page<UUID> page = index.findIds(List.of(), PageRequest.of(1, 2, Sort.by(SubjectLimitViolationEntity.Fields.subjectId, SubjectLimitViolationEntity.Fields.id)))
+            .orElseThrow();
+        assertEquals(List.of(LINE_2_BIS, VL_1), page.getContent());
+        assertEquals(4, page.getTotalElements());
+    }
+
+    @Test
+    void unsupportedFiltersAndSortsTest() {
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(SubjectLimitViolationEntity.Fields.id));
+        assertTrue(index.findIds(List.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.NUMBER, ResourceFilterDTO.Type.GREATER_THAN_OR_EQUAL, "10",
+            CHILD_PREFIX + AbstractLimitViolationEntity.Fields.limit)), pageRequest).isEmpty());
+        assertTrue(index.findIds(List.of(text(ResourceFilterDTO.Type.NOT_EQUAL, "line1", SubjectLimitViolationEntity.Fields.subjectId)), pageRequest).isEmpty());
+        assertTrue(index.findIds(List.of(), PageRequest.of(0, 10, Sort.by(Sort.Order.desc(SubjectLimitViolationEntity.Fields.id)))).isEmpty());
+        assertTrue(index.estimatedSize() > 0);
+    }
+
+    private Page<UUID> findIds(List<ResourceFilterDTO> resourceFilters, Sort sort) {
+        Optional<Page<UUID>> page = index.findIds(resourceFilters, PageRequest.of(0, 10, sort));
+        assertTrue(page.isPresent());
+        return page.get();
+    }
+
+    private static ResourceFilterDTO text(ResourceFilterDTO.Type type, Object value, String column) {
+        return new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, type, value, column);
+    }
+}
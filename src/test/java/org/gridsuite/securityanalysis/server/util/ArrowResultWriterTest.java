@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.util;
+
+import com.powsybl.contingency.violations.LimitViolationType;
+import com.powsybl.iidm.network.ThreeSides;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.dictionary.DictionaryEncoder;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.gridsuite.securityanalysis.server.dto.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArrowResultWriterTest {
+    private static final LimitViolationDTO CURRENT_VIOLATION = LimitViolationDTO.builder()
+        .limitType(LimitViolationType.CURRENT)
+        .limitName("permanent")
+        .side(ThreeSides.ONE)
+        .acceptableDuration(600)
+        .limit(1234.5678)
+        .value(-1500.0005)
+        .loading(123.4565)
+        .build();
+
+    private static final ContingencyDTO CONTINGENCY = ContingencyDTO.builder().contingencyId("contingency").status("CONVERGED").build();
+
+    @Test
+    void nmKConstraintsTest() throws Exception {
+        SubjectLimitViolationResultDTO result = SubjectLimitViolationResultDTO.builder()
+            .subjectId("line")
+            .contingencies(List.of(new ContingencyLimitViolationDTO(CONTINGENCY, CURRENT_VIOLATION),
+                new ContingencyLimitViolationDTO(ContingencyDTO.builder().contingencyId("other").status("FAILED").build(), CURRENT_VIOLATION)))
+            .build();
+        // a batch of 1 row to read several batches
+        List<List<Object>> rows = writeAndRead(outputStream -> ArrowResultWriter.forNmKConstraints(outputStream, List.of("contingency", "other", "unused"), List.of("line"), 1),
+            writer -> writer.writeSubjectResult(result));
+
+        assertEquals(2, rows.size());
+        assertEquals("line", rows.get(0).get(0));
+        assertEquals("contingency", rows.get(0).get(1));
+        assertEquals("CONVERGED", rows.get(0).get(2));
+        assertEquals("CURRENT", rows.get(0).get(3));
+        assertEquals(600, rows.get(0).get(8));
+        assertNull(rows.get(0).get(9));
+        assertEquals(1234.5678, rows.get(0).get(10));
+        assertEquals(-1500.0005, rows.get(0).get(13));
+        assertEquals("other", rows.get(1).get(1));
+        assertEquals("FAILED", rows.get(1).get(2));
+    }
+
+    @Test
+    void nmKContingenciesWithoutViolationTest() throws Exception {
+        ContingencyResultDTO result = ContingencyResultDTO.builder().contingency(CONTINGENCY).subjectLimitViolations(List.of()).build();
+        List<List<Object>> rows = writeAndRead(outputStream -> ArrowResultWriter.forNmKContingencies(outputStream, List.of("contingency"), List.of(), 10),
+            writer -> writer.writeContingencyResult(result));
+
+        assertEquals(1, rows.size());
+        assertEquals("contingency", rows.get(0).get(0));
+        assertEquals("CONVERGED", rows.get(0).get(1));
+        assertNull(rows.get(0).get(2));
+    }
+
+    @Test
+    void cutOffPowerTest() throws Exception {
+        List<List<Object>> rows = writeAndRead(outputStream -> ArrowResultWriter.forNmKCutOffPower(outputStream, List.of("contingency"), 10),
+            writer -> writer.writeCutOffPowerResult(new ContingencyCutOffPowerDTO("contingency", "CONVERGED", new ConnectivityResultDTO(12.345, 1234.565))));
+
+        assertEquals(List.of(List.of("contingency", "CONVERGED", 12.345, 1234.565)), rows);
+    }
+
+    @Test
+    void unknownIdTest() {
+        PreContingencyLimitViolationResultDTO result = PreContingencyLimitViolationResultDTO.builder().subjectId("unknown").limitViolation(CURRENT_VIOLATION).build();
+        try (ArrowResultWriter writer = ArrowResultWriter.forNResult(new ByteArrayOutputStream(), List.of("line"), 10)) {
+            assertThrows(IllegalStateException.class, () -> writer.writeNResult(result));
+        }
+    }
+
+    private static List<List<Object>> writeAndRead(Function<ByteArrayOutputStream, ArrowResultWriter> writerFactory,
+                                                   Consumer<ArrowResultWriter> writing) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ArrowResultWriter writer = writerFactory.apply(outputStream)) {
+            writing.accept(writer);
+            writer.finish();
+        }
+
+        // the dictionary encoded columns are decoded, the strings being read as strings
+        List<List<Object>> rows = new ArrayList<>();
+        try (BufferAllocator allocator = new RootAllocator();
+             ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(outputStream.toByteArray()), allocator)) {
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            while (reader.loadNextBatch()) {
+                List<FieldVector> vectors = new ArrayList<>();
+                for (FieldVector vector : root.getFieldVectors()) {
+                    var encoding = vector.getField().getDictionary();
+                    vectors.add(encoding != null ? (FieldVector) DictionaryEncoder.decode(vector, reader.getDictionaryVectors().get(encoding.getId())) : vector);
+                }
+                for (int row = 0; row < root.getRowCount(); row++) {
+                    List<Object> values = new ArrayList<>();
+                    for (FieldVector vector : vectors) {
+                        Object value = vector.getObject(row);
+                        values.add(value != null && !(value instanceof Number) ? value.toString() : value);
+                    }
+                    rows.add(values);
+                }
+                vectors.stream().filter(vector -> !root.getFieldVectors().contains(vector)).forEach(FieldVector::close);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.util;
+
+import com.powsybl.contingency.violations.LimitViolationType;
+import com.powsybl.iidm.network.ThreeSides;
+import org.gridsuite.securityanalysis.server.dto.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvRowEncoderTest {
+    private static final Map<String, String> ENUM_TRANSLATIONS = Map.of(
+        "ONE", "Côté 1",
+        "CURRENT", "Intensité",
+        "CONVERGED", "Convergence",
+        "permanent", "IST"
+    );
+
+    private static final LimitViolationDTO CURRENT_VIOLATION = LimitViolationDTO.builder()
+        .limitType(LimitViolationType.CURRENT)
+        .limitName("permanent")
+        .nextLimitName("10'")
+        .side(ThreeSides.ONE)
+        .acceptableDuration(600)
+        .upcomingAcceptableDuration(Integer.MAX_VALUE)
+        .limit(1234.5678)
+        .patlLimit(1000.)
+        .value(-1500.0005)
+        .loading(123.4565)
+        .patlLoading(150.)
+        .locationId("BUS")
+        .build();
+
+    private static final LimitViolationDTO VOLTAGE_VIOLATION = LimitViolationDTO.builder()
+        .limitType(LimitViolationType.HIGH_VOLTAGE)
+        .side(ThreeSides.TWO)
+        .limit(400)
+        .value(412.25)
+        .build();
+
+    private static final ContingencyDTO CONTINGENCY = ContingencyDTO.builder().contingencyId("contingency").status("CONVERGED").build();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"fr", "en"})
+    void sameRowsAsDtosTest(String language) {
+        CsvRowEncoder encoder = new CsvRowEncoder(ENUM_TRANSLATIONS, language);
+
+        PreContingencyLimitViolationResultDTO nResult = PreContingencyLimitViolationResultDTO.builder().subjectId("line").limitViolation(CURRENT_VIOLATION).build();
+        assertEquals(List.of(nResult.toCsvRow(ENUM_TRANSLATIONS, language)), encode(rowWriter -> encoder.writeNResultRow(nResult, rowWriter)));
+
+        ContingencyResultDTO contingencyResult = ContingencyResultDTO.builder()
+            .contingency(CONTINGENCY)
+            .subjectLimitViolations(List.of(new SubjectLimitViolationDTO("line", CURRENT_VIOLATION), new SubjectLimitViolationDTO("vl", VOLTAGE_VIOLATION)))
+            .build();
+        assertEquals(contingencyResult.toCsvRows(ENUM_TRANSLATIONS, language), encode(rowWriter -> encoder.writeContingencyRows(contingencyResult, rowWriter)));
+
+        ContingencyResultDTO emptyContingencyResult = ContingencyResultDTO.builder().contingency(CONTINGENCY).subjectLimitViolations(List.of()).build();
+        assertEquals(emptyContingencyResult.toCsvRows(ENUM_TRANSLATIONS, language), encode(rowWriter -> encoder.writeContingencyRows(emptyContingencyResult, rowWriter)));
+
+        SubjectLimitViolationResultDTO subjectResult = SubjectLimitViolationResultDTO.builder()
+            .subjectId("line")
+            .contingencies(List.of(new ContingencyLimitViolationDTO(CONTINGENCY, CURRENT_VIOLATION),
+                new ContingencyLimitViolationDTO(ContingencyDTO.builder().contingencyId("other").status("FAILED").build(), CURRENT_VIOLATION)))
+            .build();
+        assertEquals(subjectResult.toCsvRows(ENUM_TRANSLATIONS, language), encode(rowWriter -> encoder.writeSubjectRows(subjectResult, rowWriter)));
+
+        ContingencyCutOffPowerDTO cutOffPowerResult = new ContingencyCutOffPowerDTO("contingency", "CONVERGED", new ConnectivityResultDTO(12.345, 1234.565));
+        assertEquals(cutOffPowerResult.toCsvRows(ENUM_TRANSLATIONS, language), encode(rowWriter -> encoder.writeCutOffPowerRows(cutOffPowerResult, rowWriter)));
+    }
+
+    private static List<List<String>> encode(Consumer<Consumer<List<String>>> encoding) {
+        // the encoder reuses its row, it must be copied
+        List<List<String>> rows = new ArrayList<>();
+        encoding.accept(row -> rows.add(new ArrayList<>(row)));
+        return rows;
+    }
+}
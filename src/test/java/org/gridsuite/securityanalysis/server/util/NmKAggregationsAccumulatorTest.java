@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.securityanalysis.server.util;
+
+import com.powsybl.contingency.violations.LimitViolationType;
+import com.powsybl.iidm.network.ThreeSides;
+import org.gridsuite.securityanalysis.server.dto.*;
+import org.gridsuite.securityanalysis.server.error.SecurityAnalysisException;
+import org.gridsuite.securityanalysis.server.util.NmKAggregationsAccumulator.Aggregation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NmKAggregationsAccumulatorTest {
+    @Test
+    void contingencyResultsTest() {
+        NmKAggregationsAccumulator accumulator = new NmKAggregationsAccumulator(10, 60);
+        accumulator.count(ContingencyResultDTO.builder()
+            .contingency(ContingencyDTO.builder().contingencyId("contingency").status("CONVERGED").build())
+            .subjectLimitViolations(List.of(
+                new SubjectLimitViolationDTO("line1", limitViolation(LimitViolationType.CURRENT, ThreeSides.ONE, 105.0, 600, "vl1")),
+                new SubjectLimitViolationDTO("line2", limitViolation(LimitViolationType.CURRENT, ThreeSides.TWO, 109.9, 59, "vl1")),
+                new SubjectLimitViolationDTO("line3", limitViolation(LimitViolationType.CURRENT, null, Double.NaN, null, "vl2")),
+                new SubjectLimitViolationDTO("vl3", limitViolation(LimitViolationType.HIGH_VOLTAGE, null, null, null, null))))
+            .build());
+        accumulator.count(ContingencyResultDTO.builder()
+            .contingency(ContingencyDTO.builder().contingencyId("failed").status("FAILED").build())
+            .subjectLimitViolations(List.of())
+            .build());
+
+        NmKAggregationsDTO aggregations = accumulator.toDto(100);
+        assertEquals(2, aggregations.contingencyCount());
+        assertEquals(4, aggregations.limitViolationCount());
+        // the NaN loading and the missing values are not bucketed
+        assertEquals(List.of(new NmKAggregationsDTO.HistogramBucket(100, 110, 2)), aggregations.loadingHistogram());
+        assertEquals(List.of(new NmKAggregationsDTO.HistogramBucket(0, 60, 1), new NmKAggregationsDTO.HistogramBucket(600, 660, 1)),
+            aggregations.acceptableDurationHistogram());
+        assertEquals(List.of(new NmKAggregationsDTO.ValueCount("CURRENT", 3), new NmKAggregationsDTO.ValueCount("HIGH_VOLTAGE", 1)), aggregations.limitTypeCounts());
+        // the limit violations without side are counted too
+        assertEquals(List.of(new NmKAggregationsDTO.ValueCount(null, 2), new NmKAggregationsDTO.ValueCount("ONE", 1), new NmKAggregationsDTO.ValueCount("TWO", 1)),
+            aggregations.sideCounts());
+        assertEquals(List.of(new NmKAggregationsDTO.ValueCount("vl1", 2)), accumulator.toDto(1).locationIdCounts());
+    }
+
+    @Test
+    void aggregationRowsTest() {
+        NmKAggregationsAccumulator accumulator = new NmKAggregationsAccumulator(10, 60);
+        accumulator.count(Aggregation.STATUS, "CONVERGED", null, 3);
+        accumulator.count(Aggregation.STATUS, "FAILED", null, 5);
+        accumulator.count(Aggregation.LOADING, null, -0.0, 2);
+        accumulator.count(Aggregation.LOADING, null, 0.0, 1);
+
+        NmKAggregationsDTO aggregations = accumulator.toDto(100);
+        assertEquals(8, aggregations.contingencyCount());
+        assertEquals(List.of(new NmKAggregationsDTO.ValueCount("FAILED", 5), new NmKAggregationsDTO.ValueCount("CONVERGED", 3)), aggregations.statusCounts());
+        assertEquals(List.of(new NmKAggregationsDTO.HistogramBucket(0, 10, 3)), aggregations.loadingHistogram());
+        assertEquals(0, aggregations.limitViolationCount());
+    }
+
+    @Test
+    void permanentLimitsTest() {
+        NmKAggregationsAccumulator accumulator = new NmKAggregationsAccumulator(10, 60);
+        accumulator.count(ContingencyResultDTO.builder()
+            .contingency(ContingencyDTO.builder().contingencyId("contingency").status("CONVERGED").build())
+            .subjectLimitViolations(List.of(
+                new SubjectLimitViolationDTO("line1", limitViolation(LimitViolationType.CURRENT, ThreeSides.ONE, 105.0, Integer.MAX_VALUE, "vl1")),
+                new SubjectLimitViolationDTO("line2", limitViolation(LimitViolationType.CURRENT, ThreeSides.ONE, 105.0, 600, "vl1"))))
+            .build());
+
+        // the acceptable duration of the permanent limit does not widen the histogram
+        assertEquals(List.of(new NmKAggregationsDTO.HistogramBucket(600, 660, 1)), accumulator.toDto(100).acceptableDurationHistogram());
+    }
+
+    @Test
+    void tooManyBucketsTest() {
+        NmKAggregationsAccumulator accumulator = new NmKAggregationsAccumulator(0.001, 60);
+        accumulator.count(Aggregation.LOADING, null, 0.0, 1);
+        accumulator.count(Aggregation.LOADING, null, 0.998, 1);
+        assertEquals(2, accumulator.toDto(100).loadingHistogram().size());
+
+        // 1000 buckets of 0.001 from 0 to 1, a histogram wider than the maximum
+        assertThrows(SecurityAnalysisException.class, () -> accumulator.count(Aggregation.LOADING, null, 1.0, 1));
+    }
+
+    private static LimitViolationDTO limitViolation(LimitViolationType limitType, ThreeSides side, Double loading, Integer acceptableDuration, String locationId) {
+        return LimitViolationDTO.builder()
+            .limitType(limitType)
+            .side(side)
+            .loading(loading)
+            .acceptableDuration(acceptableDuration)
+            .locationId(locationId)
+            .build();
+    }
+}